@@ -28,8 +28,8 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
-import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Generated;
@@ -37,7 +37,6 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.codegen.lite.PoetClass;
 import software.amazon.awssdk.codegen.lite.Utils;
 import software.amazon.awssdk.codegen.lite.regions.model.Partitions;
-import software.amazon.awssdk.utils.ImmutableMap;
 
 public class RegionMetadataProviderGenerator implements PoetClass {
 
@@ -55,9 +54,10 @@ public class RegionMetadataProviderGenerator implements PoetClass {
 
     @Override
     public TypeSpec poetClass() {
-        TypeName mapOfRegionMetadata = ParameterizedTypeName.get(ClassName.get(Map.class),
+        ClassName regionMetadata = ClassName.get(regionBasePackage, "RegionMetadata");
+        TypeName mapOfRegionMetadata = ParameterizedTypeName.get(ClassName.get(ConcurrentMap.class),
                                                                  ClassName.get(regionBasePackage, "Region"),
-                                                                 ClassName.get(regionBasePackage, "RegionMetadata"));
+                                                                 regionMetadata);
         return TypeSpec.classBuilder(className())
                        .addModifiers(PUBLIC)
                        .addSuperinterface(ClassName.get(regionBasePackage, "RegionMetadataProvider"))
@@ -66,11 +66,14 @@ public class RegionMetadataProviderGenerator implements PoetClass {
                                                     .build())
                        .addAnnotation(SdkPublicApi.class)
                        .addModifiers(FINAL)
+                       .addJavadoc("Creates the metadata of a region the first time it is requested, so that only the metadata "
+                                   + "classes\nof the regions that are used are loaded.\n")
                        .addField(FieldSpec.builder(mapOfRegionMetadata, "REGION_METADATA")
                                           .addModifiers(PRIVATE, FINAL, STATIC)
-                                          .initializer(regions(partitions))
+                                          .initializer("new $T<>()", ConcurrentHashMap.class)
                                           .build())
                        .addMethod(getter())
+                       .addMethod(createRegionMetadata(partitions, regionMetadata))
                        .build();
     }
 
@@ -79,19 +82,29 @@ public class RegionMetadataProviderGenerator implements PoetClass {
         return ClassName.get(regionBasePackage, "GeneratedRegionMetadataProvider");
     }
 
-    private CodeBlock regions(Partitions partitions) {
-        CodeBlock.Builder builder = CodeBlock.builder().add("$T.<Region, RegionMetadata>builder()", ImmutableMap.class);
+    private MethodSpec createRegionMetadata(Partitions partitions, ClassName regionMetadata) {
+        CodeBlock.Builder switchBlock = CodeBlock.builder().beginControlFlow("switch (region.id())");
 
         partitions.getPartitions()
                   .forEach(p -> p.getRegions()
                                  .keySet()
-                                 .forEach(r -> builder.add(".put(Region.$L, new $T())", regionClass(r), regionMetadataClass(r))));
+                                 .forEach(r -> switchBlock.add("case $S:\n", r)
+                                                          .indent()
+                                                          .addStatement("return new $T()", regionMetadataClass(r))
+                                                          .unindent()));
 
-        return builder.add(".build()").build();
-    }
+        switchBlock.add("default:\n")
+                   .indent()
+                   .addStatement("return null")
+                   .unindent()
+                   .endControlFlow();
 
-    private String regionClass(String region) {
-        return region.replace("-", "_").toUpperCase(Locale.US);
+        return MethodSpec.methodBuilder("createRegionMetadata")
+                         .addModifiers(PRIVATE, STATIC)
+                         .addParameter(ClassName.get(regionBasePackage, "Region"), "region")
+                         .returns(regionMetadata)
+                         .addCode(switchBlock.build())
+                         .build();
     }
 
     private ClassName regionMetadataClass(String region) {
@@ -103,7 +116,10 @@ public class RegionMetadataProviderGenerator implements PoetClass {
                          .addModifiers(PUBLIC)
                          .addParameter(ClassName.get(regionBasePackage, "Region"), "region")
                          .returns(ClassName.get(regionBasePackage, "RegionMetadata"))
-                         .addStatement("return $L.get($L)", "REGION_METADATA", "region")
+                         .beginControlFlow("if (region == null)")
+                         .addStatement("return null")
+                         .endControlFlow()
+                         .addStatement("return REGION_METADATA.computeIfAbsent(region, $T::createRegionMetadata)", className())
                          .build();
     }
 }
@@ -29,8 +29,9 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Generated;
@@ -38,7 +39,6 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.codegen.lite.PoetClass;
 import software.amazon.awssdk.codegen.lite.Utils;
 import software.amazon.awssdk.codegen.lite.regions.model.Partitions;
-import software.amazon.awssdk.utils.ImmutableMap;
 
 public class ServiceMetadataProviderGenerator implements PoetClass {
 
@@ -56,9 +56,10 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
 
     @Override
     public TypeSpec poetClass() {
-        TypeName mapOfServiceMetadata = ParameterizedTypeName.get(ClassName.get(Map.class),
+        ClassName serviceMetadata = ClassName.get(regionBasePackage, "ServiceMetadata");
+        TypeName mapOfServiceMetadata = ParameterizedTypeName.get(ClassName.get(ConcurrentMap.class),
                                                                  ClassName.get(String.class),
-                                                                 ClassName.get(regionBasePackage, "ServiceMetadata"));
+                                                                 serviceMetadata);
         return TypeSpec.classBuilder(className())
                        .addModifiers(PUBLIC)
                        .addSuperinterface(ClassName.get(regionBasePackage, "ServiceMetadataProvider"))
@@ -67,11 +68,14 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
                                                     .build())
                        .addAnnotation(SdkPublicApi.class)
                        .addModifiers(FINAL)
+                       .addJavadoc("Creates the metadata of a service the first time it is requested, so that only the metadata "
+                                   + "classes\nof the services that are used are loaded.\n")
                        .addField(FieldSpec.builder(mapOfServiceMetadata, "SERVICE_METADATA")
                                           .addModifiers(PRIVATE, FINAL, STATIC)
-                                          .initializer(regions(partitions))
+                                          .initializer("new $T<>()", ConcurrentHashMap.class)
                                           .build())
                        .addMethod(getter())
+                       .addMethod(createServiceMetadata(partitions, serviceMetadata))
                        .build();
     }
 
@@ -80,8 +84,8 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
         return ClassName.get(regionBasePackage, "GeneratedServiceMetadataProvider");
     }
 
-    private CodeBlock regions(Partitions partitions) {
-        CodeBlock.Builder builder = CodeBlock.builder().add("$T.<String, ServiceMetadata>builder()", ImmutableMap.class);
+    private MethodSpec createServiceMetadata(Partitions partitions, ClassName serviceMetadata) {
+        CodeBlock.Builder switchBlock = CodeBlock.builder().beginControlFlow("switch (endpointPrefix)");
 
         Set<String> seenServices = new HashSet<>();
 
@@ -89,13 +93,26 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
                   .forEach(p -> p.getServices()
                                  .keySet()
                                  .forEach(s -> {
-                                     if (!seenServices.contains(s)) {
-                                         builder.add(".put($S, new $T())", s, serviceMetadataClass(s));
-                                         seenServices.add(s);
+                                     if (seenServices.add(s)) {
+                                         switchBlock.add("case $S:\n", s)
+                                                    .indent()
+                                                    .addStatement("return new $T()", serviceMetadataClass(s))
+                                                    .unindent();
                                      }
                                  }));
 
-        return builder.add(".build()").build();
+        switchBlock.add("default:\n")
+                   .indent()
+                   .addStatement("return null")
+                   .unindent()
+                   .endControlFlow();
+
+        return MethodSpec.methodBuilder("createServiceMetadata")
+                         .addModifiers(PRIVATE, STATIC)
+                         .addParameter(String.class, "endpointPrefix")
+                         .returns(serviceMetadata)
+                         .addCode(switchBlock.build())
+                         .build();
     }
 
     private ClassName serviceMetadataClass(String service) {
@@ -114,7 +131,11 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
                          .addModifiers(PUBLIC)
                          .addParameter(String.class, "endpointPrefix")
                          .returns(ClassName.get(regionBasePackage, "ServiceMetadata"))
-                         .addStatement("return $L.get($L)", "SERVICE_METADATA", "endpointPrefix")
+                         .beginControlFlow("if (endpointPrefix == null)")
+                         .addStatement("return null")
+                         .endControlFlow()
+                         .addStatement("return SERVICE_METADATA.computeIfAbsent(endpointPrefix, $T::createServiceMetadata)",
+                                       className())
                          .build();
     }
 }
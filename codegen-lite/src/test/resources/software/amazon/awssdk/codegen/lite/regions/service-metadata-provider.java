@@ -1,5 +1,7 @@
 package software.amazon.awssdk.regions;
-import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.regions.servicemetadata.A4bServiceMetadata;
@@ -134,85 +136,291 @@ import software.amazon.awssdk.regions.servicemetadata.WorkdocsServiceMetadata;
 import software.amazon.awssdk.regions.servicemetadata.WorkmailServiceMetadata;
 import software.amazon.awssdk.regions.servicemetadata.WorkspacesServiceMetadata;
 import software.amazon.awssdk.regions.servicemetadata.XrayServiceMetadata;
-import software.amazon.awssdk.utils.ImmutableMap;
 
+/**
+ * Creates the metadata of a service the first time it is requested, so that only the metadata classes of the services
+ * that are used are loaded.
+ */
 @Generated("software.amazon.awssdk:codegen")
 @SdkPublicApi
 public final class GeneratedServiceMetadataProvider implements ServiceMetadataProvider {
-    private static final Map<String, ServiceMetadata> SERVICE_METADATA = ImmutableMap.<String, ServiceMetadata> builder()
-            .put("a4b", new A4bServiceMetadata()).put("acm", new AcmServiceMetadata())
-            .put("acm-pca", new AcmPcaServiceMetadata()).put("api.mediatailor", new ApiMediatailorServiceMetadata())
-            .put("api.pricing", new ApiPricingServiceMetadata()).put("apigateway", new ApigatewayServiceMetadata())
-            .put("application-autoscaling", new ApplicationAutoscalingServiceMetadata())
-            .put("appstream2", new Appstream2ServiceMetadata()).put("athena", new AthenaServiceMetadata())
-            .put("autoscaling", new AutoscalingServiceMetadata()).put("autoscaling-plans", new AutoscalingPlansServiceMetadata())
-            .put("batch", new BatchServiceMetadata()).put("budgets", new BudgetsServiceMetadata())
-            .put("ce", new CeServiceMetadata()).put("cloud9", new Cloud9ServiceMetadata())
-            .put("clouddirectory", new ClouddirectoryServiceMetadata())
-            .put("cloudformation", new CloudformationServiceMetadata()).put("cloudfront", new CloudfrontServiceMetadata())
-            .put("cloudhsm", new CloudhsmServiceMetadata()).put("cloudhsmv2", new Cloudhsmv2ServiceMetadata())
-            .put("cloudsearch", new CloudsearchServiceMetadata()).put("cloudtrail", new CloudtrailServiceMetadata())
-            .put("codebuild", new CodebuildServiceMetadata()).put("codecommit", new CodecommitServiceMetadata())
-            .put("codedeploy", new CodedeployServiceMetadata()).put("codepipeline", new CodepipelineServiceMetadata())
-            .put("codestar", new CodestarServiceMetadata()).put("cognito-identity", new CognitoIdentityServiceMetadata())
-            .put("cognito-idp", new CognitoIdpServiceMetadata()).put("cognito-sync", new CognitoSyncServiceMetadata())
-            .put("comprehend", new ComprehendServiceMetadata()).put("config", new ConfigServiceMetadata())
-            .put("cur", new CurServiceMetadata()).put("data.iot", new DataIotServiceMetadata())
-            .put("datapipeline", new DatapipelineServiceMetadata()).put("dax", new DaxServiceMetadata())
-            .put("devicefarm", new DevicefarmServiceMetadata()).put("directconnect", new DirectconnectServiceMetadata())
-            .put("discovery", new DiscoveryServiceMetadata()).put("dlm", new DlmServiceMetadata())
-            .put("dms", new DmsServiceMetadata()).put("ds", new DsServiceMetadata())
-            .put("dynamodb", new DynamodbServiceMetadata()).put("ec2", new Ec2ServiceMetadata())
-            .put("ecr", new EcrServiceMetadata()).put("ecs", new EcsServiceMetadata())
-            .put("elasticache", new ElasticacheServiceMetadata()).put("elasticbeanstalk", new ElasticbeanstalkServiceMetadata())
-            .put("elasticfilesystem", new ElasticfilesystemServiceMetadata())
-            .put("elasticloadbalancing", new ElasticloadbalancingServiceMetadata())
-            .put("elasticmapreduce", new ElasticmapreduceServiceMetadata())
-            .put("elastictranscoder", new ElastictranscoderServiceMetadata()).put("email", new EmailServiceMetadata())
-            .put("entitlement.marketplace", new EntitlementMarketplaceServiceMetadata()).put("es", new EsServiceMetadata())
-            .put("events", new EventsServiceMetadata()).put("firehose", new FirehoseServiceMetadata())
-            .put("fms", new FmsServiceMetadata()).put("gamelift", new GameliftServiceMetadata())
-            .put("glacier", new GlacierServiceMetadata()).put("glue", new GlueServiceMetadata())
-            .put("greengrass", new GreengrassServiceMetadata()).put("guardduty", new GuarddutyServiceMetadata())
-            .put("health", new HealthServiceMetadata()).put("iam", new IamServiceMetadata())
-            .put("importexport", new ImportexportServiceMetadata()).put("inspector", new InspectorServiceMetadata())
-            .put("iot", new IotServiceMetadata()).put("iotanalytics", new IotanalyticsServiceMetadata())
-            .put("kinesis", new KinesisServiceMetadata()).put("kinesisanalytics", new KinesisanalyticsServiceMetadata())
-            .put("kinesisvideo", new KinesisvideoServiceMetadata()).put("kms", new KmsServiceMetadata())
-            .put("lambda", new LambdaServiceMetadata()).put("lightsail", new LightsailServiceMetadata())
-            .put("logs", new LogsServiceMetadata()).put("machinelearning", new MachinelearningServiceMetadata())
-            .put("macie", new MacieServiceMetadata())
-            .put("marketplacecommerceanalytics", new MarketplacecommerceanalyticsServiceMetadata())
-            .put("mediaconvert", new MediaconvertServiceMetadata()).put("medialive", new MedialiveServiceMetadata())
-            .put("mediapackage", new MediapackageServiceMetadata()).put("mediastore", new MediastoreServiceMetadata())
-            .put("metering.marketplace", new MeteringMarketplaceServiceMetadata()).put("mgh", new MghServiceMetadata())
-            .put("mobileanalytics", new MobileanalyticsServiceMetadata()).put("models.lex", new ModelsLexServiceMetadata())
-            .put("monitoring", new MonitoringServiceMetadata()).put("mq", new MqServiceMetadata())
-            .put("mturk-requester", new MturkRequesterServiceMetadata()).put("neptune", new NeptuneServiceMetadata())
-            .put("opsworks", new OpsworksServiceMetadata()).put("opsworks-cm", new OpsworksCmServiceMetadata())
-            .put("organizations", new OrganizationsServiceMetadata()).put("pinpoint", new PinpointServiceMetadata())
-            .put("polly", new PollyServiceMetadata()).put("rds", new RdsServiceMetadata())
-            .put("redshift", new RedshiftServiceMetadata()).put("rekognition", new RekognitionServiceMetadata())
-            .put("resource-groups", new ResourceGroupsServiceMetadata()).put("route53", new Route53ServiceMetadata())
-            .put("route53domains", new Route53domainsServiceMetadata()).put("runtime.lex", new RuntimeLexServiceMetadata())
-            .put("runtime.sagemaker", new RuntimeSagemakerServiceMetadata()).put("s3", new EnhancedS3ServiceMetadata())
-            .put("sagemaker", new SagemakerServiceMetadata()).put("sdb", new SdbServiceMetadata())
-            .put("secretsmanager", new SecretsmanagerServiceMetadata())
-            .put("serverlessrepo", new ServerlessrepoServiceMetadata())
-            .put("servicecatalog", new ServicecatalogServiceMetadata())
-            .put("servicediscovery", new ServicediscoveryServiceMetadata()).put("shield", new ShieldServiceMetadata())
-            .put("sms", new SmsServiceMetadata()).put("snowball", new SnowballServiceMetadata())
-            .put("sns", new SnsServiceMetadata()).put("sqs", new SqsServiceMetadata()).put("ssm", new SsmServiceMetadata())
-            .put("states", new StatesServiceMetadata()).put("storagegateway", new StoragegatewayServiceMetadata())
-            .put("streams.dynamodb", new StreamsDynamodbServiceMetadata()).put("sts", new StsServiceMetadata())
-            .put("support", new SupportServiceMetadata()).put("swf", new SwfServiceMetadata())
-            .put("tagging", new TaggingServiceMetadata()).put("transcribe", new TranscribeServiceMetadata())
-            .put("translate", new TranslateServiceMetadata()).put("waf", new WafServiceMetadata())
-            .put("waf-regional", new WafRegionalServiceMetadata()).put("workdocs", new WorkdocsServiceMetadata())
-            .put("workmail", new WorkmailServiceMetadata()).put("workspaces", new WorkspacesServiceMetadata())
-            .put("xray", new XrayServiceMetadata()).build();
+    private static final ConcurrentMap<String, ServiceMetadata> SERVICE_METADATA = new ConcurrentHashMap<>();
 
     public ServiceMetadata serviceMetadata(String endpointPrefix) {
-        return SERVICE_METADATA.get(endpointPrefix);
+        if (endpointPrefix == null) {
+            return null;
+        }
+        return SERVICE_METADATA.computeIfAbsent(endpointPrefix, GeneratedServiceMetadataProvider::createServiceMetadata);
+    }
+
+    private static ServiceMetadata createServiceMetadata(String endpointPrefix) {
+        switch (endpointPrefix) {
+        case "a4b":
+            return new A4bServiceMetadata();
+        case "acm":
+            return new AcmServiceMetadata();
+        case "acm-pca":
+            return new AcmPcaServiceMetadata();
+        case "api.mediatailor":
+            return new ApiMediatailorServiceMetadata();
+        case "api.pricing":
+            return new ApiPricingServiceMetadata();
+        case "apigateway":
+            return new ApigatewayServiceMetadata();
+        case "application-autoscaling":
+            return new ApplicationAutoscalingServiceMetadata();
+        case "appstream2":
+            return new Appstream2ServiceMetadata();
+        case "athena":
+            return new AthenaServiceMetadata();
+        case "autoscaling":
+            return new AutoscalingServiceMetadata();
+        case "autoscaling-plans":
+            return new AutoscalingPlansServiceMetadata();
+        case "batch":
+            return new BatchServiceMetadata();
+        case "budgets":
+            return new BudgetsServiceMetadata();
+        case "ce":
+            return new CeServiceMetadata();
+        case "cloud9":
+            return new Cloud9ServiceMetadata();
+        case "clouddirectory":
+            return new ClouddirectoryServiceMetadata();
+        case "cloudformation":
+            return new CloudformationServiceMetadata();
+        case "cloudfront":
+            return new CloudfrontServiceMetadata();
+        case "cloudhsm":
+            return new CloudhsmServiceMetadata();
+        case "cloudhsmv2":
+            return new Cloudhsmv2ServiceMetadata();
+        case "cloudsearch":
+            return new CloudsearchServiceMetadata();
+        case "cloudtrail":
+            return new CloudtrailServiceMetadata();
+        case "codebuild":
+            return new CodebuildServiceMetadata();
+        case "codecommit":
+            return new CodecommitServiceMetadata();
+        case "codedeploy":
+            return new CodedeployServiceMetadata();
+        case "codepipeline":
+            return new CodepipelineServiceMetadata();
+        case "codestar":
+            return new CodestarServiceMetadata();
+        case "cognito-identity":
+            return new CognitoIdentityServiceMetadata();
+        case "cognito-idp":
+            return new CognitoIdpServiceMetadata();
+        case "cognito-sync":
+            return new CognitoSyncServiceMetadata();
+        case "comprehend":
+            return new ComprehendServiceMetadata();
+        case "config":
+            return new ConfigServiceMetadata();
+        case "cur":
+            return new CurServiceMetadata();
+        case "data.iot":
+            return new DataIotServiceMetadata();
+        case "datapipeline":
+            return new DatapipelineServiceMetadata();
+        case "dax":
+            return new DaxServiceMetadata();
+        case "devicefarm":
+            return new DevicefarmServiceMetadata();
+        case "directconnect":
+            return new DirectconnectServiceMetadata();
+        case "discovery":
+            return new DiscoveryServiceMetadata();
+        case "dlm":
+            return new DlmServiceMetadata();
+        case "dms":
+            return new DmsServiceMetadata();
+        case "ds":
+            return new DsServiceMetadata();
+        case "dynamodb":
+            return new DynamodbServiceMetadata();
+        case "ec2":
+            return new Ec2ServiceMetadata();
+        case "ecr":
+            return new EcrServiceMetadata();
+        case "ecs":
+            return new EcsServiceMetadata();
+        case "elasticache":
+            return new ElasticacheServiceMetadata();
+        case "elasticbeanstalk":
+            return new ElasticbeanstalkServiceMetadata();
+        case "elasticfilesystem":
+            return new ElasticfilesystemServiceMetadata();
+        case "elasticloadbalancing":
+            return new ElasticloadbalancingServiceMetadata();
+        case "elasticmapreduce":
+            return new ElasticmapreduceServiceMetadata();
+        case "elastictranscoder":
+            return new ElastictranscoderServiceMetadata();
+        case "email":
+            return new EmailServiceMetadata();
+        case "entitlement.marketplace":
+            return new EntitlementMarketplaceServiceMetadata();
+        case "es":
+            return new EsServiceMetadata();
+        case "events":
+            return new EventsServiceMetadata();
+        case "firehose":
+            return new FirehoseServiceMetadata();
+        case "fms":
+            return new FmsServiceMetadata();
+        case "gamelift":
+            return new GameliftServiceMetadata();
+        case "glacier":
+            return new GlacierServiceMetadata();
+        case "glue":
+            return new GlueServiceMetadata();
+        case "greengrass":
+            return new GreengrassServiceMetadata();
+        case "guardduty":
+            return new GuarddutyServiceMetadata();
+        case "health":
+            return new HealthServiceMetadata();
+        case "iam":
+            return new IamServiceMetadata();
+        case "importexport":
+            return new ImportexportServiceMetadata();
+        case "inspector":
+            return new InspectorServiceMetadata();
+        case "iot":
+            return new IotServiceMetadata();
+        case "iotanalytics":
+            return new IotanalyticsServiceMetadata();
+        case "kinesis":
+            return new KinesisServiceMetadata();
+        case "kinesisanalytics":
+            return new KinesisanalyticsServiceMetadata();
+        case "kinesisvideo":
+            return new KinesisvideoServiceMetadata();
+        case "kms":
+            return new KmsServiceMetadata();
+        case "lambda":
+            return new LambdaServiceMetadata();
+        case "lightsail":
+            return new LightsailServiceMetadata();
+        case "logs":
+            return new LogsServiceMetadata();
+        case "machinelearning":
+            return new MachinelearningServiceMetadata();
+        case "macie":
+            return new MacieServiceMetadata();
+        case "marketplacecommerceanalytics":
+            return new MarketplacecommerceanalyticsServiceMetadata();
+        case "mediaconvert":
+            return new MediaconvertServiceMetadata();
+        case "medialive":
+            return new MedialiveServiceMetadata();
+        case "mediapackage":
+            return new MediapackageServiceMetadata();
+        case "mediastore":
+            return new MediastoreServiceMetadata();
+        case "metering.marketplace":
+            return new MeteringMarketplaceServiceMetadata();
+        case "mgh":
+            return new MghServiceMetadata();
+        case "mobileanalytics":
+            return new MobileanalyticsServiceMetadata();
+        case "models.lex":
+            return new ModelsLexServiceMetadata();
+        case "monitoring":
+            return new MonitoringServiceMetadata();
+        case "mq":
+            return new MqServiceMetadata();
+        case "mturk-requester":
+            return new MturkRequesterServiceMetadata();
+        case "neptune":
+            return new NeptuneServiceMetadata();
+        case "opsworks":
+            return new OpsworksServiceMetadata();
+        case "opsworks-cm":
+            return new OpsworksCmServiceMetadata();
+        case "organizations":
+            return new OrganizationsServiceMetadata();
+        case "pinpoint":
+            return new PinpointServiceMetadata();
+        case "polly":
+            return new PollyServiceMetadata();
+        case "rds":
+            return new RdsServiceMetadata();
+        case "redshift":
+            return new RedshiftServiceMetadata();
+        case "rekognition":
+            return new RekognitionServiceMetadata();
+        case "resource-groups":
+            return new ResourceGroupsServiceMetadata();
+        case "route53":
+            return new Route53ServiceMetadata();
+        case "route53domains":
+            return new Route53domainsServiceMetadata();
+        case "runtime.lex":
+            return new RuntimeLexServiceMetadata();
+        case "runtime.sagemaker":
+            return new RuntimeSagemakerServiceMetadata();
+        case "s3":
+            return new EnhancedS3ServiceMetadata();
+        case "sagemaker":
+            return new SagemakerServiceMetadata();
+        case "sdb":
+            return new SdbServiceMetadata();
+        case "secretsmanager":
+            return new SecretsmanagerServiceMetadata();
+        case "serverlessrepo":
+            return new ServerlessrepoServiceMetadata();
+        case "servicecatalog":
+            return new ServicecatalogServiceMetadata();
+        case "servicediscovery":
+            return new ServicediscoveryServiceMetadata();
+        case "shield":
+            return new ShieldServiceMetadata();
+        case "sms":
+            return new SmsServiceMetadata();
+        case "snowball":
+            return new SnowballServiceMetadata();
+        case "sns":
+            return new SnsServiceMetadata();
+        case "sqs":
+            return new SqsServiceMetadata();
+        case "ssm":
+            return new SsmServiceMetadata();
+        case "states":
+            return new StatesServiceMetadata();
+        case "storagegateway":
+            return new StoragegatewayServiceMetadata();
+        case "streams.dynamodb":
+            return new StreamsDynamodbServiceMetadata();
+        case "sts":
+            return new StsServiceMetadata();
+        case "support":
+            return new SupportServiceMetadata();
+        case "swf":
+            return new SwfServiceMetadata();
+        case "tagging":
+            return new TaggingServiceMetadata();
+        case "transcribe":
+            return new TranscribeServiceMetadata();
+        case "translate":
+            return new TranslateServiceMetadata();
+        case "waf":
+            return new WafServiceMetadata();
+        case "waf-regional":
+            return new WafRegionalServiceMetadata();
+        case "workdocs":
+            return new WorkdocsServiceMetadata();
+        case "workmail":
+            return new WorkmailServiceMetadata();
+        case "workspaces":
+            return new WorkspacesServiceMetadata();
+        case "xray":
+            return new XrayServiceMetadata();
+        default:
+            return null;
+        }
     }
 }
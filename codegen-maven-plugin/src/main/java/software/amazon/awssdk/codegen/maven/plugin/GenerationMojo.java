@@ -21,8 +21,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -62,10 +65,14 @@ public class GenerationMojo extends AbstractMojo {
 
     private Path sourcesDirectory;
     private Path testsDirectory;
+    private Path resourcesDirectory;
+    private List<Path> sourceResourcesDirectories;
 
     public void execute() throws MojoExecutionException {
         this.sourcesDirectory = Paths.get(outputDirectory).resolve("generated-sources").resolve("sdk");
         this.testsDirectory = Paths.get(outputDirectory).resolve("generated-test-sources").resolve("sdk-tests");
+        this.resourcesDirectory = Paths.get(outputDirectory).resolve("generated-resources").resolve("sdk-resources");
+        this.sourceResourcesDirectories = sourceResourcesDirectories();
 
         findModelRoots().forEach(p -> {
             Path modelRootPath = p.modelRoot;
@@ -79,6 +86,20 @@ public class GenerationMojo extends AbstractMojo {
         });
         project.addCompileSourceRoot(sourcesDirectory.toFile().getAbsolutePath());
         project.addTestCompileSourceRoot(testsDirectory.toFile().getAbsolutePath());
+        project.addResource(generatedResource());
+    }
+
+    private List<Path> sourceResourcesDirectories() {
+        return ((List<?>) project.getResources()).stream()
+                                                 .map(Resource.class::cast)
+                                                 .map(r -> Paths.get(r.getDirectory()))
+                                                 .collect(Collectors.toList());
+    }
+
+    private Resource generatedResource() {
+        Resource resource = new Resource();
+        resource.setDirectory(resourcesDirectory.toFile().getAbsolutePath());
+        return resource;
     }
 
     private Stream<ModelRoot> findModelRoots() throws MojoExecutionException {
@@ -105,6 +126,8 @@ public class GenerationMojo extends AbstractMojo {
                      .models(models)
                      .sourcesDirectory(sourcesDirectory.toFile().getAbsolutePath())
                      .testsDirectory(testsDirectory.toFile().getAbsolutePath())
+                     .resourcesDirectory(resourcesDirectory.toFile().getAbsolutePath())
+                     .sourceResourcesDirectories(sourceResourcesDirectories)
                      .intermediateModelFileNamePrefix(intermediateModelFileNamePrefix(models))
                      .build()
                      .execute();
@@ -19,9 +19,15 @@ import com.squareup.javapoet.ClassName;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ForkJoinTask;
 import software.amazon.awssdk.codegen.emitters.GeneratorTask;
 import software.amazon.awssdk.codegen.emitters.GeneratorTaskParams;
+import software.amazon.awssdk.codegen.emitters.NativeImageMetadataWriter;
 import software.amazon.awssdk.codegen.emitters.tasks.AwsGeneratorTasks;
 import software.amazon.awssdk.codegen.internal.Jackson;
 import software.amazon.awssdk.codegen.internal.Utils;
@@ -35,6 +41,8 @@ public class CodeGenerator {
     private final C2jModels models;
     private final String sourcesDirectory;
     private final String testsDirectory;
+    private final String resourcesDirectory;
+    private final List<Path> sourceResourcesDirectories;
 
     /**
      * The prefix for the file name that contains the intermediate model.
@@ -52,6 +60,8 @@ public class CodeGenerator {
         this.models = builder.models;
         this.sourcesDirectory = builder.sourcesDirectory;
         this.testsDirectory = builder.testsDirectory;
+        this.resourcesDirectory = builder.resourcesDirectory;
+        this.sourceResourcesDirectories = Collections.unmodifiableList(new ArrayList<>(builder.sourceResourcesDirectories));
         this.fileNamePrefix = builder.fileNamePrefix;
     }
 
@@ -82,6 +92,11 @@ public class CodeGenerator {
 
             emitCode(intermediateModel);
 
+            if (resourcesDirectory != null) {
+                new NativeImageMetadataWriter(intermediateModel, Paths.get(resourcesDirectory), sourceResourcesDirectories)
+                    .write();
+            }
+
         } catch (Exception e) {
             throw new RuntimeException(
                     "Failed to generate code. Exception message : " + e.getMessage(), e);
@@ -143,6 +158,8 @@ public class CodeGenerator {
         private C2jModels models;
         private String sourcesDirectory;
         private String testsDirectory;
+        private String resourcesDirectory;
+        private List<Path> sourceResourcesDirectories = Collections.emptyList();
         private String fileNamePrefix;
 
         private Builder() {
@@ -163,6 +180,23 @@ public class CodeGenerator {
             return this;
         }
 
+        /**
+         * The directory to write the generated resources to, which include the native-image configuration of the client. No
+         * resources are generated if this is not set.
+         */
+        public Builder resourcesDirectory(String resourcesDirectory) {
+            this.resourcesDirectory = resourcesDirectory;
+            return this;
+        }
+
+        /**
+         * The hand-written resources directories of the client module, from which the generated resources are derived.
+         */
+        public Builder sourceResourcesDirectories(List<Path> sourceResourcesDirectories) {
+            this.sourceResourcesDirectories = sourceResourcesDirectories;
+            return this;
+        }
+
         public Builder intermediateModelFileNamePrefix(String fileNamePrefix) {
             this.fileNamePrefix = fileNamePrefix;
             return this;
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.emitters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.codegen.internal.Jackson;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+
+/**
+ * Writes the GraalVM native-image configuration of a generated client, so that native executables can find what the client
+ * loads reflectively at runtime: the {@code execution.interceptors} resource of the service, and the interceptors it lists,
+ * which are created through their no-argument constructor.
+ *
+ * <p>The configuration is written under {@code META-INF/native-image/software.amazon.awssdk/<client package>}, where
+ * native-image picks it up from the class path without any option.</p>
+ */
+public final class NativeImageMetadataWriter {
+    private static final String INTERCEPTORS_FILE = "execution.interceptors";
+    private static final String METADATA_DIRECTORY = "META-INF/native-image/software.amazon.awssdk";
+
+    private final IntermediateModel model;
+    private final Path outputDirectory;
+    private final List<Path> resourceDirectories;
+
+    /**
+     * @param model The model of the generated client.
+     * @param outputDirectory The resources directory to write the configuration to.
+     * @param resourceDirectories The resources directories of the client module, which are searched for the
+     * {@code execution.interceptors} file of the service.
+     */
+    public NativeImageMetadataWriter(IntermediateModel model, Path outputDirectory, List<Path> resourceDirectories) {
+        this.model = model;
+        this.outputDirectory = outputDirectory;
+        this.resourceDirectories = Collections.unmodifiableList(new ArrayList<>(resourceDirectories));
+    }
+
+    public void write() {
+        String interceptorsResource = Utils.packageToDirectory(model.getMetadata().getFullClientPackageName()) + "/"
+                                      + INTERCEPTORS_FILE;
+        Path metadataDirectory = outputDirectory.resolve(METADATA_DIRECTORY)
+                                                .resolve(model.getMetadata().getClientPackageName());
+        try {
+            Files.createDirectories(metadataDirectory);
+            writeJson(metadataDirectory.resolve("resource-config.json"), resourceConfig(interceptorsResource));
+            writeJson(metadataDirectory.resolve("reflect-config.json"),
+                      reflectConfig(interceptorClassNames(interceptorsResource)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the native-image configuration to " + metadataDirectory, e);
+        }
+    }
+
+    private static Map<String, Object> resourceConfig(String resource) {
+        Map<String, Object> include = Collections.singletonMap("pattern", "\\Q" + resource + "\\E");
+        Map<String, Object> resources = Collections.singletonMap("includes", Collections.singletonList(include));
+        return Collections.singletonMap("resources", resources);
+    }
+
+    private static List<Map<String, Object>> reflectConfig(Set<String> classNames) {
+        Map<String, Object> constructor = new LinkedHashMap<>();
+        constructor.put("name", "<init>");
+        constructor.put("parameterTypes", Collections.emptyList());
+
+        List<Map<String, Object>> config = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", className);
+            entry.put("methods", Collections.singletonList(constructor));
+            config.add(entry);
+        }
+        return config;
+    }
+
+    /**
+     * Read the interceptor class names of the service, following the same rules as the class path interceptor chain
+     * factory of the SDK: one class name per line, blank lines ignored.
+     */
+    private Set<String> interceptorClassNames(String interceptorsResource) throws IOException {
+        Set<String> classNames = new LinkedHashSet<>();
+        for (Path resourceDirectory : resourceDirectories) {
+            Path interceptorsFile = resourceDirectory.resolve(interceptorsResource);
+            if (!Files.isRegularFile(interceptorsFile)) {
+                continue;
+            }
+            for (String line : Files.readAllLines(interceptorsFile, StandardCharsets.UTF_8)) {
+                String className = line.trim();
+                if (!className.isEmpty()) {
+                    classNames.add(className);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static void writeJson(Path file, Object value) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            Jackson.writeWithObjectMapper(value, writer);
+        }
+    }
+}
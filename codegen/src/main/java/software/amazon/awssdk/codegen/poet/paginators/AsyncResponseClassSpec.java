@@ -66,6 +66,7 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                                .addMethod(publicConstructor())
                                                .addMethod(privateConstructor())
                                                .addMethod(subscribeMethod())
+                                               .addMethod(prefetchMethod())
                                                .addMethods(getMethodSpecsForResultKeyList())
                                                .addJavadoc(paginationDocs.getDocsForAsyncResponseClass(
                                                    getAsyncClientInterfaceName()))
@@ -97,7 +98,8 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
         return Stream.of(asyncClientInterfaceField(),
                          requestClassField(),
                          asyncPageFetcherField(),
-                         lastPageField());
+                         lastPageField(),
+                         maxPrefetchedPagesField());
     }
 
     protected FieldSpec asyncClientInterfaceField() {
@@ -117,7 +119,7 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                          .addModifiers(Modifier.PUBLIC)
                          .addParameter(getAsyncClientInterfaceName(), CLIENT_MEMBER)
                          .addParameter(requestType(), REQUEST_MEMBER)
-                         .addStatement("this($L, $L, false)", CLIENT_MEMBER, REQUEST_MEMBER)
+                         .addStatement("this($L, $L, false, 0)", CLIENT_MEMBER, REQUEST_MEMBER)
                          .build();
     }
 
@@ -127,9 +129,11 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                          .addParameter(getAsyncClientInterfaceName(), CLIENT_MEMBER)
                          .addParameter(requestType(), REQUEST_MEMBER)
                          .addParameter(boolean.class, LAST_PAGE_FIELD)
+                         .addParameter(int.class, MAX_PREFETCHED_PAGES_MEMBER)
                          .addStatement("this.$L = $L", CLIENT_MEMBER, CLIENT_MEMBER)
                          .addStatement("this.$L = $L", REQUEST_MEMBER, REQUEST_MEMBER)
                          .addStatement("this.$L = $L", LAST_PAGE_FIELD, LAST_PAGE_FIELD)
+                         .addStatement("this.$L = $L", MAX_PREFETCHED_PAGES_MEMBER, MAX_PREFETCHED_PAGES_MEMBER)
                          .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
                          .build();
     }
@@ -144,9 +148,35 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                          .addParameter(ParameterizedTypeName.get(ClassName.get(Subscriber.class),
                                                                  WildcardTypeName.supertypeOf(responseType())),
                                        SUBSCRIBER)
-                         .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).build())",
+                         .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).$5L($5L).build())",
                                        SUBSCRIBER, ResponsesSubscription.class,
-                                       NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                                       NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument(), MAX_PREFETCHED_PAGES_MEMBER)
+                         .build();
+    }
+
+    /**
+     * A {@link MethodSpec} for the prefetch() method, which returns a copy of the publisher that fetches response pages
+     * ahead of the subscriber's demand.
+     */
+    private MethodSpec prefetchMethod() {
+        return MethodSpec.methodBuilder(PREFETCH_METHOD)
+                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                         .addParameter(int.class, MAX_PREFETCHED_PAGES_MEMBER)
+                         .returns(className())
+                         .addStatement("return new $T($L, $L, $L, $L)", className(), CLIENT_MEMBER, REQUEST_MEMBER,
+                                       LAST_PAGE_FIELD, MAX_PREFETCHED_PAGES_MEMBER)
+                         .addJavadoc(CodeBlock.builder()
+                                              .add("Returns a publisher that requests the next response page as soon as the "
+                                                   + "previous one is received, instead of waiting for the subscriber to "
+                                                   + "request it, until {@code $1L} pages are waiting to be consumed. This "
+                                                   + "overlaps the latency of the service calls with the processing of the "
+                                                   + "pages, while bounding the number of pages held in memory.\n",
+                                                   MAX_PREFETCHED_PAGES_MEMBER)
+                                              .add("\n@param $1L the maximum number of pages to fetch ahead of the subscriber, "
+                                                   + "or 0 to only fetch pages on demand\n", MAX_PREFETCHED_PAGES_MEMBER)
+                                              .add("@return a publisher of the same response pages that prefetches up to "
+                                                   + "{@code $L} pages", MAX_PREFETCHED_PAGES_MEMBER)
+                                              .build())
                          .build();
     }
 
@@ -186,6 +216,7 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
      *      return PaginatedItemsPublisher.builder().nextPageFetcher(new DescribeFolderContentsResponseFetcher())
                                                     .iteratorFunction(getIterator)
                                                     .isLastPage(isLastPage)
+                                                    .maxPrefetchedPages(maxPrefetchedPages)
                                                     .build();
      *  }
      */
@@ -209,9 +240,10 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                                                                       resultKeyType)))
                          .addCode(getIteratorLambdaBlock(resultKey, resultKeyModel))
                          .addCode("\n")
-                         .addStatement("return $1T.builder().$2L(new $3L()).iteratorFunction(getIterator).$4L($4L).build()",
+                         .addStatement("return $1T.builder().$2L(new $3L()).iteratorFunction(getIterator).$4L($4L)"
+                                       + ".$5L($5L).build()",
                                        PaginatedItemsPublisher.class, NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName(),
-                                       LAST_PAGE_FIELD)
+                                       LAST_PAGE_FIELD, MAX_PREFETCHED_PAGES_MEMBER)
                          .addJavadoc(CodeBlock.builder()
                                               .add("Returns a publisher that can be used to get a stream of data. You need to "
                                                    + "subscribe to the publisher to request the stream of data. The publisher "
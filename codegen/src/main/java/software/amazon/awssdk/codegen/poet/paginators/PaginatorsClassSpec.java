@@ -47,6 +47,8 @@ public abstract class PaginatorsClassSpec implements ClassSpec {
     protected static final String PREVIOUS_PAGE_METHOD_ARGUMENT = "previousPage";
     protected static final String RESPONSE_LITERAL = "response";
     protected static final String LAST_SUCCESSFUL_PAGE_LITERAL = "lastSuccessfulPage";
+    protected static final String MAX_PREFETCHED_PAGES_MEMBER = "maxPrefetchedPages";
+    protected static final String PREFETCH_METHOD = "prefetch";
 
     protected final IntermediateModel model;
     protected final String c2jOperationName;
@@ -90,6 +92,12 @@ public abstract class PaginatorsClassSpec implements ClassSpec {
         return FieldSpec.builder(requestType(), REQUEST_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
     }
 
+    // Generates
+    // private final int maxPrefetchedPages;
+    protected FieldSpec maxPrefetchedPagesField() {
+        return FieldSpec.builder(int.class, MAX_PREFETCHED_PAGES_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
+    }
+
     protected String nextPageFetcherClassName() {
         return operationModel.getReturnType().getReturnType() + "Fetcher";
     }
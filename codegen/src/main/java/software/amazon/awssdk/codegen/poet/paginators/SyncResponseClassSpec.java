@@ -25,6 +25,7 @@ import com.squareup.javapoet.TypeSpec;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +46,7 @@ import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
 public class SyncResponseClassSpec extends PaginatorsClassSpec {
 
     protected static final String ITERATOR_METHOD = "iterator";
+    protected static final String PREFETCH_EXECUTOR_MEMBER = "prefetchExecutor";
 
     public SyncResponseClassSpec(IntermediateModel model, String c2jOperationName, PaginatorDefinition paginatorDefinition) {
         super(model, c2jOperationName, paginatorDefinition);
@@ -58,7 +60,9 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                                                .addSuperinterface(getSyncResponseInterface())
                                                .addFields(fields().collect(Collectors.toList()))
                                                .addMethod(constructor())
+                                               .addMethod(privateConstructor())
                                                .addMethod(iteratorMethod())
+                                               .addMethod(prefetchMethod())
                                                .addMethods(getMethodSpecsForResultKeyList())
                                                .addJavadoc(paginationDocs.getDocsForSyncResponseClass(
                                                    getClientInterfaceName()))
@@ -87,7 +91,8 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
     }
 
     protected Stream<FieldSpec> fields() {
-        return Stream.of(syncClientInterfaceField(), requestClassField(), syncPageFetcherField());
+        return Stream.of(syncClientInterfaceField(), requestClassField(), syncPageFetcherField(), maxPrefetchedPagesField(),
+                         prefetchExecutorField());
     }
 
     protected FieldSpec syncClientInterfaceField() {
@@ -98,15 +103,32 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
         return FieldSpec.builder(SyncPageFetcher.class, NEXT_PAGE_FETCHER_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
     }
 
+    protected FieldSpec prefetchExecutorField() {
+        return FieldSpec.builder(Executor.class, PREFETCH_EXECUTOR_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
+    }
+
     protected MethodSpec constructor() {
         return MethodSpec.constructorBuilder()
                          .addModifiers(Modifier.PUBLIC)
                          .addParameter(getClientInterfaceName(), CLIENT_MEMBER)
                          .addParameter(requestType(), REQUEST_MEMBER)
+                         .addStatement("this($L, $L, 0, null)", CLIENT_MEMBER, REQUEST_MEMBER)
+                         .build();
+    }
+
+    protected MethodSpec privateConstructor() {
+        return MethodSpec.constructorBuilder()
+                         .addModifiers(Modifier.PRIVATE)
+                         .addParameter(getClientInterfaceName(), CLIENT_MEMBER)
+                         .addParameter(requestType(), REQUEST_MEMBER)
+                         .addParameter(int.class, MAX_PREFETCHED_PAGES_MEMBER)
+                         .addParameter(Executor.class, PREFETCH_EXECUTOR_MEMBER)
                          .addStatement("this.$L = $L", CLIENT_MEMBER, CLIENT_MEMBER)
                          .addStatement("this.$L = $L", REQUEST_MEMBER, REQUEST_MEMBER)
                          .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
-                .build();
+                         .addStatement("this.$L = $L", MAX_PREFETCHED_PAGES_MEMBER, MAX_PREFETCHED_PAGES_MEMBER)
+                         .addStatement("this.$L = $L", PREFETCH_EXECUTOR_MEMBER, PREFETCH_EXECUTOR_MEMBER)
+                         .build();
     }
 
     /**
@@ -118,11 +140,41 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
                 .returns(ParameterizedTypeName.get(ClassName.get(Iterator.class), responseType()))
-                .addStatement("return $1T.builder().$2L($3L).build()", PaginatedResponsesIterator.class,
-                              NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                .addStatement("return $1T.builder().$2L($3L).$4L($4L).$5L($5L).build()", PaginatedResponsesIterator.class,
+                              NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument(), MAX_PREFETCHED_PAGES_MEMBER,
+                              PREFETCH_EXECUTOR_MEMBER)
                 .build();
     }
 
+    /**
+     * A {@link MethodSpec} for the prefetch() method, which returns a copy of the iterable that fetches response pages
+     * ahead of the iteration.
+     */
+    private MethodSpec prefetchMethod() {
+        return MethodSpec.methodBuilder(PREFETCH_METHOD)
+                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                         .addParameter(int.class, MAX_PREFETCHED_PAGES_MEMBER)
+                         .addParameter(Executor.class, PREFETCH_EXECUTOR_MEMBER)
+                         .returns(className())
+                         .addStatement("return new $T($L, $L, $L, $L)", className(), CLIENT_MEMBER, REQUEST_MEMBER,
+                                       MAX_PREFETCHED_PAGES_MEMBER, PREFETCH_EXECUTOR_MEMBER)
+                         .addJavadoc(CodeBlock.builder()
+                                              .add("Returns an iterable that requests the next response page on the provided "
+                                                   + "executor as soon as the previous one is received, instead of waiting for "
+                                                   + "the iteration to reach it, until {@code $1L} pages are waiting to be "
+                                                   + "consumed. This overlaps the latency of the service calls with the "
+                                                   + "processing of the pages, while bounding the number of pages held in "
+                                                   + "memory.\n", MAX_PREFETCHED_PAGES_MEMBER)
+                                              .add("\n@param $1L the maximum number of pages to fetch ahead of the iteration, "
+                                                   + "or 0 to only fetch pages on demand\n", MAX_PREFETCHED_PAGES_MEMBER)
+                                              .add("@param $1L the executor used to fetch pages ahead of the iteration\n",
+                                                   PREFETCH_EXECUTOR_MEMBER)
+                                              .add("@return an iterable of the same response pages that prefetches up to "
+                                                   + "{@code $L} pages", MAX_PREFETCHED_PAGES_MEMBER)
+                                              .build())
+                         .build();
+    }
+
     protected String nextPageFetcherArgument() {
         return NEXT_PAGE_FETCHER_MEMBER;
     }
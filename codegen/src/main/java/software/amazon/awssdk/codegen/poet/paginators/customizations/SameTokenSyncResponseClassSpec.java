@@ -19,6 +19,7 @@ import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
@@ -44,17 +45,21 @@ public class SameTokenSyncResponseClassSpec extends SyncResponseClassSpec {
 
     @Override
     protected Stream<FieldSpec> fields() {
-        return Stream.of(syncClientInterfaceField(), requestClassField());
+        return Stream.of(syncClientInterfaceField(), requestClassField(), maxPrefetchedPagesField(), prefetchExecutorField());
     }
 
     @Override
-    protected MethodSpec constructor() {
+    protected MethodSpec privateConstructor() {
         return MethodSpec.constructorBuilder()
-                         .addModifiers(Modifier.PUBLIC)
+                         .addModifiers(Modifier.PRIVATE)
                          .addParameter(getClientInterfaceName(), CLIENT_MEMBER)
                          .addParameter(requestType(), REQUEST_MEMBER)
+                         .addParameter(int.class, MAX_PREFETCHED_PAGES_MEMBER)
+                         .addParameter(Executor.class, PREFETCH_EXECUTOR_MEMBER)
                          .addStatement("this.$L = $L", CLIENT_MEMBER, CLIENT_MEMBER)
                          .addStatement("this.$L = $L", REQUEST_MEMBER, REQUEST_MEMBER)
+                         .addStatement("this.$L = $L", MAX_PREFETCHED_PAGES_MEMBER, MAX_PREFETCHED_PAGES_MEMBER)
+                         .addStatement("this.$L = $L", PREFETCH_EXECUTOR_MEMBER, PREFETCH_EXECUTOR_MEMBER)
                          .build();
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.emitters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.ClientTestModels;
+
+public class NativeImageMetadataWriterTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private IntermediateModel model;
+    private Path outputDirectory;
+    private Path metadataDirectory;
+    private String interceptorsResource;
+
+    @Before
+    public void setup() throws IOException {
+        model = ClientTestModels.jsonServiceModels();
+        outputDirectory = temporaryFolder.newFolder("generated-resources").toPath();
+        metadataDirectory = outputDirectory.resolve("META-INF/native-image/software.amazon.awssdk")
+                                           .resolve(model.getMetadata().getClientPackageName());
+        interceptorsResource = model.getMetadata().getFullClientPackageName().replace('.', '/') + "/execution.interceptors";
+    }
+
+    @Test
+    public void write_includesInterceptorsResourceOfService() throws IOException {
+        new NativeImageMetadataWriter(model, outputDirectory, Collections.emptyList()).write();
+
+        assertThat(read("resource-config.json")).contains("\"pattern\" : \"\\\\Q" + interceptorsResource + "\\\\E\"");
+    }
+
+    @Test
+    public void write_noInterceptorsFile_writesEmptyReflectConfig() throws IOException {
+        new NativeImageMetadataWriter(model, outputDirectory, Collections.emptyList()).write();
+
+        assertThat(read("reflect-config.json").trim()).isEqualTo("[ ]");
+    }
+
+    @Test
+    public void write_registersConstructorsOfListedInterceptors() throws IOException {
+        Path resources = temporaryFolder.newFolder("resources").toPath();
+        Path interceptorsFile = resources.resolve(interceptorsResource);
+        Files.createDirectories(interceptorsFile.getParent());
+        Files.write(interceptorsFile,
+                    Arrays.asList(" com.example.FirstInterceptor ", "", "com.example.SecondInterceptor"),
+                    StandardCharsets.UTF_8);
+
+        new NativeImageMetadataWriter(model, outputDirectory, Collections.singletonList(resources)).write();
+
+        String reflectConfig = read("reflect-config.json");
+        assertThat(reflectConfig).contains("\"name\" : \"com.example.FirstInterceptor\"",
+                                           "\"name\" : \"com.example.SecondInterceptor\"",
+                                           "\"name\" : \"<init>\"");
+        assertThat(reflectConfig.indexOf("FirstInterceptor")).isLessThan(reflectConfig.indexOf("SecondInterceptor"));
+    }
+
+    private String read(String fileName) throws IOException {
+        return new String(Files.readAllBytes(metadataDirectory.resolve(fileName)), StandardCharsets.UTF_8);
+    }
+}
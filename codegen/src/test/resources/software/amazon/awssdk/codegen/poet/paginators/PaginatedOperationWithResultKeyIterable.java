@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedItemsIterable;
@@ -80,16 +81,44 @@ public class PaginatedOperationWithResultKeyIterable implements SdkIterable<Pagi
 
     private final SyncPageFetcher nextPageFetcher;
 
+    private final int maxPrefetchedPages;
+
+    private final Executor prefetchExecutor;
+
     public PaginatedOperationWithResultKeyIterable(JsonProtocolTestsClient client,
                                                    PaginatedOperationWithResultKeyRequest firstRequest) {
+        this(client, firstRequest, 0, null);
+    }
+
+    private PaginatedOperationWithResultKeyIterable(JsonProtocolTestsClient client,
+            PaginatedOperationWithResultKeyRequest firstRequest, int maxPrefetchedPages, Executor prefetchExecutor) {
         this.client = client;
         this.firstRequest = firstRequest;
         this.nextPageFetcher = new PaginatedOperationWithResultKeyResponseFetcher();
+        this.maxPrefetchedPages = maxPrefetchedPages;
+        this.prefetchExecutor = prefetchExecutor;
     }
 
     @Override
     public Iterator<PaginatedOperationWithResultKeyResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).maxPrefetchedPages(maxPrefetchedPages)
+                .prefetchExecutor(prefetchExecutor).build();
+    }
+
+    /**
+     * Returns an iterable that requests the next response page on the provided executor as soon as the previous one is
+     * received, instead of waiting for the iteration to reach it, until {@code maxPrefetchedPages} pages are waiting to
+     * be consumed. This overlaps the latency of the service calls with the processing of the pages, while bounding the
+     * number of pages held in memory.
+     *
+     * @param maxPrefetchedPages
+     *        the maximum number of pages to fetch ahead of the iteration, or 0 to only fetch pages on demand
+     * @param prefetchExecutor
+     *        the executor used to fetch pages ahead of the iteration
+     * @return an iterable of the same response pages that prefetches up to {@code maxPrefetchedPages} pages
+     */
+    public final PaginatedOperationWithResultKeyIterable prefetch(int maxPrefetchedPages, Executor prefetchExecutor) {
+        return new PaginatedOperationWithResultKeyIterable(client, firstRequest, maxPrefetchedPages, prefetchExecutor);
     }
 
     /**
@@ -82,22 +82,40 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
 
     private boolean isLastPage;
 
+    private final int maxPrefetchedPages;
+
     public PaginatedOperationWithResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                     PaginatedOperationWithResultKeyRequest firstRequest) {
-        this(client, firstRequest, false);
+        this(client, firstRequest, false, 0);
     }
 
     private PaginatedOperationWithResultKeyPublisher(JsonProtocolTestsAsyncClient client,
-                                                     PaginatedOperationWithResultKeyRequest firstRequest, boolean isLastPage) {
+            PaginatedOperationWithResultKeyRequest firstRequest, boolean isLastPage, int maxPrefetchedPages) {
         this.client = client;
         this.firstRequest = firstRequest;
         this.isLastPage = isLastPage;
+        this.maxPrefetchedPages = maxPrefetchedPages;
         this.nextPageFetcher = new PaginatedOperationWithResultKeyResponseFetcher();
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                .maxPrefetchedPages(maxPrefetchedPages).build());
+    }
+
+    /**
+     * Returns a publisher that requests the next response page as soon as the previous one is received, instead of
+     * waiting for the subscriber to request it, until {@code maxPrefetchedPages} pages are waiting to be consumed. This
+     * overlaps the latency of the service calls with the processing of the pages, while bounding the number of pages
+     * held in memory.
+     *
+     * @param maxPrefetchedPages
+     *        the maximum number of pages to fetch ahead of the subscriber, or 0 to only fetch pages on demand
+     * @return a publisher of the same response pages that prefetches up to {@code maxPrefetchedPages} pages
+     */
+    public final PaginatedOperationWithResultKeyPublisher prefetch(int maxPrefetchedPages) {
+        return new PaginatedOperationWithResultKeyPublisher(client, firstRequest, isLastPage, maxPrefetchedPages);
     }
 
     /**
@@ -113,7 +131,7 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
             return Collections.emptyIterator();
         };
         return PaginatedItemsPublisher.builder().nextPageFetcher(new PaginatedOperationWithResultKeyResponseFetcher())
-                                      .iteratorFunction(getIterator).isLastPage(isLastPage).build();
+                .iteratorFunction(getIterator).isLastPage(isLastPage).maxPrefetchedPages(maxPrefetchedPages).build();
     }
 
     private class PaginatedOperationWithResultKeyResponseFetcher implements
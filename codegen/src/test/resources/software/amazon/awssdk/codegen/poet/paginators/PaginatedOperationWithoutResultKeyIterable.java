@@ -1,6 +1,7 @@
 package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedResponsesIterator;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
@@ -76,16 +77,44 @@ public class PaginatedOperationWithoutResultKeyIterable implements SdkIterable<P
 
     private final SyncPageFetcher nextPageFetcher;
 
+    private final int maxPrefetchedPages;
+
+    private final Executor prefetchExecutor;
+
     public PaginatedOperationWithoutResultKeyIterable(JsonProtocolTestsClient client,
                                                       PaginatedOperationWithoutResultKeyRequest firstRequest) {
+        this(client, firstRequest, 0, null);
+    }
+
+    private PaginatedOperationWithoutResultKeyIterable(JsonProtocolTestsClient client,
+            PaginatedOperationWithoutResultKeyRequest firstRequest, int maxPrefetchedPages, Executor prefetchExecutor) {
         this.client = client;
         this.firstRequest = firstRequest;
         this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
+        this.maxPrefetchedPages = maxPrefetchedPages;
+        this.prefetchExecutor = prefetchExecutor;
     }
 
     @Override
     public Iterator<PaginatedOperationWithoutResultKeyResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).maxPrefetchedPages(maxPrefetchedPages)
+                .prefetchExecutor(prefetchExecutor).build();
+    }
+
+    /**
+     * Returns an iterable that requests the next response page on the provided executor as soon as the previous one is
+     * received, instead of waiting for the iteration to reach it, until {@code maxPrefetchedPages} pages are waiting to
+     * be consumed. This overlaps the latency of the service calls with the processing of the pages, while bounding the
+     * number of pages held in memory.
+     *
+     * @param maxPrefetchedPages
+     *        the maximum number of pages to fetch ahead of the iteration, or 0 to only fetch pages on demand
+     * @param prefetchExecutor
+     *        the executor used to fetch pages ahead of the iteration
+     * @return an iterable of the same response pages that prefetches up to {@code maxPrefetchedPages} pages
+     */
+    public final PaginatedOperationWithoutResultKeyIterable prefetch(int maxPrefetchedPages, Executor prefetchExecutor) {
+        return new PaginatedOperationWithoutResultKeyIterable(client, firstRequest, maxPrefetchedPages, prefetchExecutor);
     }
 
     private class PaginatedOperationWithoutResultKeyResponseFetcher implements
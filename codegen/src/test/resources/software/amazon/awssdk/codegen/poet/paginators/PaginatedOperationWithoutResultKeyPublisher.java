@@ -77,22 +77,40 @@ public class PaginatedOperationWithoutResultKeyPublisher implements SdkPublisher
 
     private boolean isLastPage;
 
+    private final int maxPrefetchedPages;
+
     public PaginatedOperationWithoutResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                        PaginatedOperationWithoutResultKeyRequest firstRequest) {
-        this(client, firstRequest, false);
+        this(client, firstRequest, false, 0);
     }
 
     private PaginatedOperationWithoutResultKeyPublisher(JsonProtocolTestsAsyncClient client,
-                                                        PaginatedOperationWithoutResultKeyRequest firstRequest, boolean isLastPage) {
+            PaginatedOperationWithoutResultKeyRequest firstRequest, boolean isLastPage, int maxPrefetchedPages) {
         this.client = client;
         this.firstRequest = firstRequest;
         this.isLastPage = isLastPage;
+        this.maxPrefetchedPages = maxPrefetchedPages;
         this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithoutResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                .maxPrefetchedPages(maxPrefetchedPages).build());
+    }
+
+    /**
+     * Returns a publisher that requests the next response page as soon as the previous one is received, instead of
+     * waiting for the subscriber to request it, until {@code maxPrefetchedPages} pages are waiting to be consumed. This
+     * overlaps the latency of the service calls with the processing of the pages, while bounding the number of pages
+     * held in memory.
+     *
+     * @param maxPrefetchedPages
+     *        the maximum number of pages to fetch ahead of the subscriber, or 0 to only fetch pages on demand
+     * @return a publisher of the same response pages that prefetches up to {@code maxPrefetchedPages} pages
+     */
+    public final PaginatedOperationWithoutResultKeyPublisher prefetch(int maxPrefetchedPages) {
+        return new PaginatedOperationWithoutResultKeyPublisher(client, firstRequest, isLastPage, maxPrefetchedPages);
     }
 
     private class PaginatedOperationWithoutResultKeyResponseFetcher implements
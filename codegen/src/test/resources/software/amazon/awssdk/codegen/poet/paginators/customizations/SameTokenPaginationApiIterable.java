@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedItemsIterable;
@@ -78,14 +79,42 @@ public class SameTokenPaginationApiIterable implements SdkIterable<SameTokenPagi
 
     private final SameTokenPaginationApiRequest firstRequest;
 
+    private final int maxPrefetchedPages;
+
+    private final Executor prefetchExecutor;
+
     public SameTokenPaginationApiIterable(JsonProtocolTestsClient client, SameTokenPaginationApiRequest firstRequest) {
+        this(client, firstRequest, 0, null);
+    }
+
+    private SameTokenPaginationApiIterable(JsonProtocolTestsClient client, SameTokenPaginationApiRequest firstRequest,
+            int maxPrefetchedPages, Executor prefetchExecutor) {
         this.client = client;
         this.firstRequest = firstRequest;
+        this.maxPrefetchedPages = maxPrefetchedPages;
+        this.prefetchExecutor = prefetchExecutor;
     }
 
     @Override
     public Iterator<SameTokenPaginationApiResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(new SameTokenPaginationApiResponseFetcher())
+                .maxPrefetchedPages(maxPrefetchedPages).prefetchExecutor(prefetchExecutor).build();
+    }
+
+    /**
+     * Returns an iterable that requests the next response page on the provided executor as soon as the previous one is
+     * received, instead of waiting for the iteration to reach it, until {@code maxPrefetchedPages} pages are waiting to
+     * be consumed. This overlaps the latency of the service calls with the processing of the pages, while bounding the
+     * number of pages held in memory.
+     *
+     * @param maxPrefetchedPages
+     *        the maximum number of pages to fetch ahead of the iteration, or 0 to only fetch pages on demand
+     * @param prefetchExecutor
+     *        the executor used to fetch pages ahead of the iteration
+     * @return an iterable of the same response pages that prefetches up to {@code maxPrefetchedPages} pages
+     */
+    public final SameTokenPaginationApiIterable prefetch(int maxPrefetchedPages, Executor prefetchExecutor) {
+        return new SameTokenPaginationApiIterable(client, firstRequest, maxPrefetchedPages, prefetchExecutor);
     }
 
     /**
@@ -80,21 +80,38 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
 
     private boolean isLastPage;
 
+    private final int maxPrefetchedPages;
+
     public SameTokenPaginationApiPublisher(JsonProtocolTestsAsyncClient client, SameTokenPaginationApiRequest firstRequest) {
-        this(client, firstRequest, false);
+        this(client, firstRequest, false, 0);
     }
 
     private SameTokenPaginationApiPublisher(JsonProtocolTestsAsyncClient client, SameTokenPaginationApiRequest firstRequest,
-            boolean isLastPage) {
+            boolean isLastPage, int maxPrefetchedPages) {
         this.client = client;
         this.firstRequest = firstRequest;
         this.isLastPage = isLastPage;
+        this.maxPrefetchedPages = maxPrefetchedPages;
     }
 
     @Override
     public void subscribe(Subscriber<? super SameTokenPaginationApiResponse> subscriber) {
         subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber)
-                .nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).build());
+                .nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).maxPrefetchedPages(maxPrefetchedPages).build());
+    }
+
+    /**
+     * Returns a publisher that requests the next response page as soon as the previous one is received, instead of
+     * waiting for the subscriber to request it, until {@code maxPrefetchedPages} pages are waiting to be consumed. This
+     * overlaps the latency of the service calls with the processing of the pages, while bounding the number of pages
+     * held in memory.
+     *
+     * @param maxPrefetchedPages
+     *        the maximum number of pages to fetch ahead of the subscriber, or 0 to only fetch pages on demand
+     * @return a publisher of the same response pages that prefetches up to {@code maxPrefetchedPages} pages
+     */
+    public final SameTokenPaginationApiPublisher prefetch(int maxPrefetchedPages) {
+        return new SameTokenPaginationApiPublisher(client, firstRequest, isLastPage, maxPrefetchedPages);
     }
 
     /**
@@ -110,7 +127,7 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
             return Collections.emptyIterator();
         };
         return PaginatedItemsPublisher.builder().nextPageFetcher(new SameTokenPaginationApiResponseFetcher())
-                .iteratorFunction(getIterator).isLastPage(isLastPage).build();
+                .iteratorFunction(getIterator).isLastPage(isLastPage).maxPrefetchedPages(maxPrefetchedPages).build();
     }
 
     private class SameTokenPaginationApiResponseFetcher implements AsyncPageFetcher<SameTokenPaginationApiResponse> {
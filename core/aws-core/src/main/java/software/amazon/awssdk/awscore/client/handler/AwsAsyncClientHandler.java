@@ -62,7 +62,8 @@ public final class AwsAsyncClientHandler extends SdkAsyncClientHandler implement
     @Override
     protected <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
         ClientExecutionParams<InputT, OutputT> executionParams, ExecutionAttributes executionAttributes) {
-        return AwsClientHandlerUtils.createExecutionContext(executionParams, clientConfiguration, executionAttributes);
+        return AwsClientHandlerUtils.createExecutionContext(executionParams, clientConfiguration, interceptorChain(),
+                                                           executionAttributes);
     }
 
 }
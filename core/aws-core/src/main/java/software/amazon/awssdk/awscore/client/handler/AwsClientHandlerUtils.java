@@ -62,6 +62,7 @@ public final class AwsClientHandlerUtils {
     static <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
         ClientExecutionParams<InputT, OutputT> executionParams,
         SdkClientConfiguration clientConfig,
+        ExecutionInterceptorChain executionInterceptorChain,
         ExecutionAttributes executionAttributes) {
 
         SdkRequest originalRequest = executionParams.getInput();
@@ -95,8 +96,6 @@ public final class AwsClientHandlerUtils {
             .putAttribute(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN,
                           clientConfig.option(SdkClientOption.ENDPOINT_OVERRIDDEN));
 
-        ExecutionInterceptorChain executionInterceptorChain =
-                new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS));
         return ExecutionContext.builder()
                                .interceptorChain(executionInterceptorChain)
                                .interceptorContext(InterceptorContext.builder()
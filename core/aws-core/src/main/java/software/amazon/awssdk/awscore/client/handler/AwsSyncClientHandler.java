@@ -65,7 +65,8 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
     @Override
     protected <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
         ClientExecutionParams<InputT, OutputT> executionParams, ExecutionAttributes executionAttributes) {
-        return AwsClientHandlerUtils.createExecutionContext(executionParams, clientConfiguration, executionAttributes);
+        return AwsClientHandlerUtils.createExecutionContext(executionParams, clientConfiguration, interceptorChain(),
+                                                           executionAttributes);
     }
 
     private <InputT extends SdkRequest, OutputT> ClientExecutionParams<InputT, OutputT> addCrc32Validation(
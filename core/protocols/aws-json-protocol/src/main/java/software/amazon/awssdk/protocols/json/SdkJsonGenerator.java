@@ -25,7 +25,7 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.ByteBufferInputStream;
 import software.amazon.awssdk.utils.DateUtils;
 
 /**
@@ -189,7 +189,12 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
     @Override
     public StructuredJsonGenerator writeValue(ByteBuffer bytes) {
         try {
-            generator.writeBinary(BinaryUtils.copyBytesFrom(bytes));
+            // Write the buffer in place, streaming it if its array is not accessible (direct, read-only or mapped buffers).
+            if (bytes.hasArray()) {
+                generator.writeBinary(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            } else {
+                generator.writeBinary(new ByteBufferInputStream(bytes), bytes.remaining());
+            }
         } catch (IOException e) {
             throw new JsonGenerationException(e);
         }
@@ -124,7 +124,7 @@ public final class SimpleTypeJsonMarshaller {
     public static final JsonMarshaller<SdkBytes> SDK_BYTES = new BaseJsonMarshaller<SdkBytes>() {
         @Override
         public void marshall(SdkBytes val, StructuredJsonGenerator jsonGenerator, JsonMarshallerContext context) {
-            jsonGenerator.writeValue(val.asByteBuffer());
+            jsonGenerator.writeValue(val.asByteBufferUnsafe());
         }
     };
 
@@ -26,8 +26,10 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.time.Instant;
+import java.util.Random;
 import org.junit.Before;
 import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 public class SdkJsonGeneratorTest {
@@ -81,6 +83,47 @@ public class SdkJsonGeneratorTest {
         assertEquals(BinaryUtils.toBase64(data), node.get("binaryProp").textValue());
     }
 
+    @Test
+    public void simpleObject_WithBinaryDataInBufferSlice_WritesRemainingBytesAsBase64() throws IOException {
+        byte[] data = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        ByteBuffer slice = ByteBuffer.wrap(data, 2, 5).slice();
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("binaryProp").writeValue(slice);
+        jsonGenerator.writeEndObject();
+        JsonNode node = toJsonNode();
+        assertEquals(BinaryUtils.toBase64(new byte[] {3, 4, 5, 6, 7}), node.get("binaryProp").textValue());
+        assertEquals(5, slice.remaining());
+    }
+
+    @Test
+    public void simpleObject_WithBinaryDataInDirectOrReadOnlyBuffer_WritesAsBase64() throws IOException {
+        byte[] data = new byte[10_000];
+        new Random(0).nextBytes(data);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("direct").writeValue(direct);
+        jsonGenerator.writeFieldName("readOnly").writeValue(ByteBuffer.wrap(data).asReadOnlyBuffer());
+        jsonGenerator.writeEndObject();
+        JsonNode node = toJsonNode();
+        assertEquals(BinaryUtils.toBase64(data), node.get("direct").textValue());
+        assertEquals(BinaryUtils.toBase64(data), node.get("readOnly").textValue());
+        assertEquals(data.length, direct.remaining());
+    }
+
+    @Test
+    public void simpleObject_WithSdkBytes_WritesBackingArrayInPlace() throws IOException {
+        byte[] data = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        ByteBuffer bytes = SdkBytes.fromByteArrayUnsafe(data).asByteBufferUnsafe();
+        assertTrue(bytes.hasArray());
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("binaryProp").writeValue(bytes);
+        jsonGenerator.writeEndObject();
+        JsonNode node = toJsonNode();
+        assertEquals(BinaryUtils.toBase64(data), node.get("binaryProp").textValue());
+        assertEquals(data.length, bytes.remaining());
+    }
+
     @Test
     public void simpleObject_WithServiceDate() throws IOException {
         Instant instant = Instant.ofEpochMilli(123456);
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import software.amazon.awssdk.regions.servicemetadata.EnhancedS3ServiceMetadata;
+
+public class GeneratedMetadataProviderTest {
+    private final ServiceMetadataProvider serviceMetadataProvider = new GeneratedServiceMetadataProvider();
+    private final RegionMetadataProvider regionMetadataProvider = new GeneratedRegionMetadataProvider();
+
+    @Test
+    public void serviceMetadata_knownService_isCreatedOnce() {
+        ServiceMetadata metadata = serviceMetadataProvider.serviceMetadata("sts");
+
+        assertThat(metadata).isNotNull();
+        assertThat(serviceMetadataProvider.serviceMetadata("sts")).isSameAs(metadata);
+        assertThat(MetadataLoader.serviceMetadata("sts")).isSameAs(metadata);
+    }
+
+    @Test
+    public void serviceMetadata_s3_isEnhanced() {
+        assertThat(serviceMetadataProvider.serviceMetadata("s3")).isInstanceOf(EnhancedS3ServiceMetadata.class);
+    }
+
+    @Test
+    public void serviceMetadata_unknownOrNullService_isNull() {
+        assertThat(serviceMetadataProvider.serviceMetadata("not-a-service")).isNull();
+        assertThat(serviceMetadataProvider.serviceMetadata(null)).isNull();
+    }
+
+    @Test
+    public void regionMetadata_knownRegion_isCreatedOnce() {
+        RegionMetadata metadata = regionMetadataProvider.regionMetadata(Region.US_WEST_2);
+
+        assertThat(metadata.id()).isEqualTo("us-west-2");
+        assertThat(regionMetadataProvider.regionMetadata(Region.of("us-west-2"))).isSameAs(metadata);
+    }
+
+    @Test
+    public void regionMetadata_unknownOrNullRegion_isNull() {
+        assertThat(regionMetadataProvider.regionMetadata(Region.of("not-a-region"))).isNull();
+        assertThat(regionMetadataProvider.regionMetadata(null)).isNull();
+    }
+}
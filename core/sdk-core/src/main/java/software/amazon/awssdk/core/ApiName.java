@@ -42,6 +42,24 @@ public final class ApiName {
         return version;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ApiName apiName = (ApiName) o;
+        return name.equals(apiName.name) && version.equals(apiName.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + version.hashCode();
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -25,18 +25,27 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.ByteBufferInputStream;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * A base class for {@link SdkBytes} and {@link ResponseBytes} that enables retrieving an underlying byte array as multiple
  * different types, like a byte buffer (via {@link #asByteBuffer()}, or a string (via {@link #asUtf8String()}.
+ * <p>
+ * The content is held either in a byte array or in a {@link ByteBuffer}, which may be a direct buffer, a slice of
+ * a larger buffer or a memory-mapped file region. A buffer is only copied into a byte array if one is requested with
+ * {@link #asByteArray()} or {@link #asByteArrayUnsafe()}.
  */
 @SdkPublicApi
 public abstract class BytesWrapper {
     private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private volatile byte[] materializedBytes;
 
     // Needed for serialization
     @SdkInternalApi
@@ -47,13 +56,43 @@ public abstract class BytesWrapper {
     @SdkInternalApi
     BytesWrapper(byte[] bytes) {
         this.bytes = Validate.paramNotNull(bytes, "bytes");
+        this.buffer = null;
+    }
+
+    /**
+     * Wrap the remaining bytes of the given buffer, without copying them. The position and limit of the given buffer are not
+     * modified.
+     */
+    @SdkInternalApi
+    BytesWrapper(ByteBuffer buffer) {
+        this.bytes = null;
+        this.buffer = Validate.paramNotNull(buffer, "buffer").slice();
     }
 
     /**
      * @return The output as a read-only byte buffer.
      */
     public final ByteBuffer asByteBuffer() {
-        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        if (bytes != null) {
+            return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        }
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return The output as a byte buffer that is backed by the underlying byte array, if there is one, so that its array can
+     * be read in place. This <b>does not</b> create a copy of the underlying content, and the returned buffer is only
+     * read-only if the content is held in a read-only buffer.
+     *
+     * <p>This is intended for the SDK's marshallers, which write the content without modifying it. Use {@link #asByteBuffer()}
+     * instead.
+     */
+    @SdkProtectedApi
+    public final ByteBuffer asByteBufferUnsafe() {
+        if (bytes != null) {
+            return ByteBuffer.wrap(bytes);
+        }
+        return buffer.duplicate();
     }
 
     /**
@@ -61,7 +100,10 @@ public abstract class BytesWrapper {
      * @see #asByteBuffer() to prevent creating an additional array copy.
      */
     public final byte[] asByteArray() {
-        return Arrays.copyOf(bytes, bytes.length);
+        if (bytes != null) {
+            return Arrays.copyOf(bytes, bytes.length);
+        }
+        return BinaryUtils.copyAllBytesFrom(buffer);
     }
 
     /**
@@ -69,6 +111,9 @@ public abstract class BytesWrapper {
      * concurrency risks, allowing: (1) the caller to modify the byte array stored in this object implementation AND
      * (2) the original creator of this object, if they created it using the unsafe method.
      *
+     * <p>If this object wraps a byte buffer, the buffer is copied into a byte array the first time this is called, and the same
+     * array is returned afterwards.
+     *
      * <p>Consider using {@link #asByteBuffer()}, which is a safer method to avoid an additional array copy because it does not
      * provide a way to modify the underlying buffer. As the method name implies, this is unsafe. If you're not sure, don't use
      * this. The only guarantees given to the user of this method is that the SDK itself won't modify the underlying byte
@@ -77,7 +122,15 @@ public abstract class BytesWrapper {
      * @see #asByteBuffer() to prevent creating an additional array copy safely.
      */
     public final byte[] asByteArrayUnsafe() {
-        return bytes;
+        if (bytes != null) {
+            return bytes;
+        }
+        byte[] result = materializedBytes;
+        if (result == null) {
+            result = BinaryUtils.copyAllBytesFrom(buffer);
+            materializedBytes = result;
+        }
+        return result;
     }
 
     /**
@@ -89,7 +142,14 @@ public abstract class BytesWrapper {
      * provided charset
      */
     public final String asString(Charset charset) throws UncheckedIOException {
-        return StringUtils.fromBytes(bytes, charset);
+        if (bytes != null) {
+            return StringUtils.fromBytes(bytes, charset);
+        }
+        try {
+            return charset.newDecoder().decode(buffer.duplicate()).toString();
+        } catch (CharacterCodingException e) {
+            throw new UncheckedIOException("Cannot encode string.", e);
+        }
     }
 
     /**
@@ -104,7 +164,10 @@ public abstract class BytesWrapper {
      * @return The output as an input stream. This stream will not need to be closed.
      */
     public final InputStream asInputStream() {
-        return new ByteArrayInputStream(bytes);
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        return new ByteBufferInputStream(buffer);
     }
 
     /**
@@ -125,11 +188,22 @@ public abstract class BytesWrapper {
 
         BytesWrapper sdkBytes = (BytesWrapper) o;
 
-        return Arrays.equals(bytes, sdkBytes.bytes);
+        if (bytes != null && sdkBytes.bytes != null) {
+            return Arrays.equals(bytes, sdkBytes.bytes);
+        }
+        return asByteBuffer().equals(sdkBytes.asByteBuffer());
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(bytes);
+        if (bytes != null) {
+            return Arrays.hashCode(bytes);
+        }
+        // Same as Arrays.hashCode, so that equal content has the same hash code whatever holds it.
+        int result = 1;
+        for (int i = 0; i < buffer.limit(); i++) {
+            result = 31 * result + buffer.get(i);
+        }
+        return result;
     }
 }
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
@@ -41,6 +42,11 @@ public final class ResponseBytes<ResponseT> extends BytesWrapper {
         this.response = Validate.paramNotNull(response, "response");
     }
 
+    private ResponseBytes(ResponseT response, ByteBuffer buffer) {
+        super(buffer);
+        this.response = Validate.paramNotNull(response, "response");
+    }
+
     /**
      * Create {@link ResponseBytes} from a Byte array. This will copy the contents of the byte array.
      */
@@ -68,6 +74,18 @@ public final class ResponseBytes<ResponseT> extends BytesWrapper {
         return new ResponseBytes<>(response, bytes);
     }
 
+    /**
+     * Create {@link ResponseBytes} from a Byte buffer <b>without</b> copying the remaining contents of the byte buffer. The
+     * position and limit of the given buffer are not modified, but the caller must not modify its contents, or release it back
+     * to a pool, while this {@code ResponseBytes} is in use.
+     *
+     * <p>As the method name implies, this is unsafe. Use {@link #fromByteArray(Object, byte[])} unless you're sure you know the
+     * risks.
+     */
+    public static <ResponseT> ResponseBytes<ResponseT> fromByteBufferUnsafe(ResponseT response, ByteBuffer buffer) {
+        return new ResponseBytes<>(response, buffer);
+    }
+
     /**
      * @return the unmarshalled response object from the service.
      */
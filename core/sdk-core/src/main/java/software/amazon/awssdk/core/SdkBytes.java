@@ -19,9 +19,14 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.InputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -56,6 +61,14 @@ public final class SdkBytes extends BytesWrapper implements Serializable {
         super(bytes);
     }
 
+    /**
+     * @see #fromByteBufferUnsafe(ByteBuffer)
+     * @see #fromFile(Path)
+     */
+    private SdkBytes(ByteBuffer buffer) {
+        super(buffer);
+    }
+
     /**
      * Create {@link SdkBytes} from a Byte buffer. This will read the remaining contents of the byte buffer.
      */
@@ -64,6 +77,20 @@ public final class SdkBytes extends BytesWrapper implements Serializable {
         return new SdkBytes(BinaryUtils.copyBytesFrom(byteBuffer));
     }
 
+    /**
+     * Create {@link SdkBytes} from a Byte buffer <b>without</b> copying the remaining contents of the byte buffer. The buffer may
+     * be a heap or direct buffer, including a slice of a larger or pooled buffer. The position and limit of the given buffer are
+     * not modified, but the caller must not modify its contents, or release it back to a pool, while this {@code SdkBytes}
+     * is in use, including while a request that contains it is being sent.
+     *
+     * <p>As the method name implies, this is unsafe. Use {@link #fromByteBuffer(ByteBuffer)} unless you're sure you know the
+     * risks.
+     */
+    public static SdkBytes fromByteBufferUnsafe(ByteBuffer byteBuffer) {
+        Validate.paramNotNull(byteBuffer, "byteBuffer");
+        return new SdkBytes(byteBuffer);
+    }
+
     /**
      * Create {@link SdkBytes} from a Byte array. This will copy the contents of the byte array.
      */
@@ -109,6 +136,45 @@ public final class SdkBytes extends BytesWrapper implements Serializable {
         return new SdkBytes(invokeSafely(() -> IoUtils.toByteArray(inputStream)));
     }
 
+    /**
+     * Create {@link SdkBytes} from the contents of a file, by mapping the file into memory. The file is read lazily by the
+     * operating system as the bytes are accessed, and is not copied onto the heap unless a byte array is requested with
+     * {@link #asByteArray()} or {@link #asByteArrayUnsafe()}.
+     *
+     * <p>Unlike the {@code SdkBytes} created by the other methods, the returned bytes are not immutable: they are a live view
+     * of the file, so they change if the file is modified, including by other processes, and accessing them may fail if the
+     * file is truncated. The file must not be modified while this {@code SdkBytes} is in use. The mapping is released when
+     * this object is garbage collected. Files of 2 GiB or more cannot be mapped.
+     *
+     * @throws UncheckedIOException if the file cannot be opened or mapped.
+     */
+    public static SdkBytes fromFile(Path path) {
+        Validate.paramNotNull(path, "path");
+        return fromFile(path, 0, invokeSafely(() -> Files.size(path)));
+    }
+
+    /**
+     * Create {@link SdkBytes} from a region of a file, by mapping it into memory. See {@link #fromFile(Path)}.
+     *
+     * @param path The file to read.
+     * @param position The position in the file at which the region starts.
+     * @param size The size of the region, which must be less than 2 GiB.
+     * @throws UncheckedIOException if the file cannot be opened or mapped.
+     */
+    public static SdkBytes fromFile(Path path, long position, long size) {
+        Validate.paramNotNull(path, "path");
+        Validate.isTrue(position >= 0, "position must not be negative, but was %s.", position);
+        Validate.isTrue(size >= 0 && size <= Integer.MAX_VALUE, "size must be between 0 and %s, but was %s.",
+                        Integer.MAX_VALUE, size);
+        FileChannel channel = invokeSafely(() -> FileChannel.open(path, StandardOpenOption.READ));
+        try {
+            // The mapping stays valid once the channel is closed
+            return new SdkBytes(invokeSafely(() -> channel.map(FileChannel.MapMode.READ_ONLY, position, size)));
+        } finally {
+            IoUtils.closeQuietly(channel, null);
+        }
+    }
+
     @Override
     public String toString() {
         return ToString.builder("SdkBytes")
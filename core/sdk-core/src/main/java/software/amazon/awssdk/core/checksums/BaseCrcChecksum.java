@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.checksums.CrcCombiner;
+
+/**
+ * Base class for 32-bit CRC {@link SdkChecksum}s.
+ * <p>
+ * CRC implementations cannot be cloned, so {@link #mark(int)} remembers the value computed so far and restarts the
+ * underlying CRC. The two values are combined when the checksum is read, which makes {@link #reset()} after a mark
+ * possible without keeping the marked data.
+ */
+@SdkInternalApi
+abstract class BaseCrcChecksum implements SdkChecksum {
+
+    private final Checksum crc;
+
+    private final int polynomial;
+
+    private long valueAtMark;
+
+    private long lengthSinceMark;
+
+    BaseCrcChecksum(Checksum crc, int polynomial) {
+        this.crc = crc;
+        this.polynomial = polynomial;
+    }
+
+    /**
+     * Update the given underlying CRC with the remaining bytes of the buffer, leaving the buffer's position at its limit.
+     */
+    abstract void updateCrc(Checksum crc, ByteBuffer buffer);
+
+    @Override
+    public void update(int b) {
+        crc.update(b);
+        lengthSinceMark++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc.update(b, off, len);
+        lengthSinceMark += len;
+    }
+
+    @Override
+    public void update(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        updateCrc(crc, buffer);
+        lengthSinceMark += length;
+    }
+
+    @Override
+    public long getValue() {
+        if (valueAtMark == 0) {
+            // Shifting a zero CRC is a no-op, so there is nothing to combine.
+            return crc.getValue();
+        }
+        return CrcCombiner.combine(valueAtMark, crc.getValue(), lengthSinceMark, polynomial);
+    }
+
+    @Override
+    public byte[] getChecksumBytes() {
+        long value = getValue();
+        return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        valueAtMark = getValue();
+        crc.reset();
+        lengthSinceMark = 0;
+    }
+
+    @Override
+    public void reset() {
+        crc.reset();
+        lengthSinceMark = 0;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.checksums.SdkCrc32C;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC32C (Castagnoli) checksum.
+ * <p>
+ * On Java 9 and later the calculation is delegated to {@code java.util.zip.CRC32C}, which the JVM implements with
+ * hardware instructions where available and which reads direct {@link ByteBuffer}s in place. On Java 8 a pure Java
+ * implementation is used instead.
+ */
+@SdkInternalApi
+public class Crc32CChecksum extends BaseCrcChecksum {
+
+    private static final MethodHandle JDK_CRC32C_CONSTRUCTOR;
+
+    private static final MethodHandle CHECKSUM_UPDATE_BYTE_BUFFER;
+
+    static {
+        MethodHandle constructor = null;
+        MethodHandle update = null;
+        try {
+            Class<?> crc32c = Class.forName("java.util.zip.CRC32C");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            constructor = lookup.findConstructor(crc32c, MethodType.methodType(void.class))
+                                .asType(MethodType.methodType(Checksum.class));
+            update = lookup.findVirtual(Checksum.class, "update", MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException e) {
+            // Running on Java 8, fall back to the SDK's implementation.
+            constructor = null;
+            update = null;
+        }
+        JDK_CRC32C_CONSTRUCTOR = constructor;
+        CHECKSUM_UPDATE_BYTE_BUFFER = update;
+    }
+
+    public Crc32CChecksum() {
+        super(newCrc32C(), SdkCrc32C.POLYNOMIAL);
+    }
+
+    private static Checksum newCrc32C() {
+        if (JDK_CRC32C_CONSTRUCTOR == null) {
+            return new SdkCrc32C();
+        }
+        try {
+            return (Checksum) JDK_CRC32C_CONSTRUCTOR.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unexpected error creating CRC32C checksum", t);
+        }
+    }
+
+    @Override
+    void updateCrc(Checksum crc, ByteBuffer buffer) {
+        if (crc instanceof SdkCrc32C) {
+            ((SdkCrc32C) crc).update(buffer);
+            return;
+        }
+        try {
+            CHECKSUM_UPDATE_BYTE_BUFFER.invokeExact(crc, buffer);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unexpected error updating CRC32C checksum", t);
+        }
+    }
+}
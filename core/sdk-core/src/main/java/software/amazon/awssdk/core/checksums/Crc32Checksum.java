@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC32 checksum.
+ * <p>
+ * The calculation is delegated to {@link CRC32}, which reads both heap and direct {@link ByteBuffer}s in place using the
+ * JVM's intrinsic implementation.
+ */
+@SdkInternalApi
+public class Crc32Checksum extends BaseCrcChecksum {
+
+    /**
+     * The CRC32 polynomial in reversed (LSB-first) bit order.
+     */
+    private static final int POLYNOMIAL = 0xEDB88320;
+
+    public Crc32Checksum() {
+        super(new CRC32(), POLYNOMIAL);
+    }
+
+    @Override
+    void updateCrc(Checksum crc, ByteBuffer buffer) {
+        ((CRC32) crc).update(buffer);
+    }
+}
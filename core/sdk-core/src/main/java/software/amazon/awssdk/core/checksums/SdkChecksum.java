@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.checksums;
 
+import java.nio.ByteBuffer;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
@@ -39,4 +40,31 @@ public interface SdkChecksum extends Checksum {
      * @param readLimit the maximum limit of bytes that can be read before the mark position becomes invalid.
      */
     void mark(int readLimit);
+
+    /**
+     * Updates the checksum with the remaining bytes of the given buffer, from its position up to its limit. Upon return
+     * the buffer's position is equal to its limit.
+     * <p>
+     * Heap buffers are read in place. Implementations that can read direct buffers without copying them should override
+     * this method; the default implementation copies direct buffers through a small intermediate array.
+     *
+     * @param buffer the buffer whose remaining bytes are used to update the checksum
+     */
+    default void update(ByteBuffer buffer) {
+        int position = buffer.position();
+        int limit = buffer.limit();
+
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + position, limit - position);
+            buffer.position(limit);
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(limit - position, 8192)];
+        while (buffer.hasRemaining()) {
+            int length = Math.min(buffer.remaining(), chunk.length);
+            buffer.get(chunk, 0, length);
+            update(chunk, 0, length);
+        }
+    }
 }
@@ -22,6 +22,7 @@ import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.WARM_UP_CONNECTIONS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_TIMEOUT;
@@ -56,6 +57,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
@@ -70,11 +72,15 @@ import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -98,6 +104,8 @@ import software.amazon.awssdk.utils.Validate;
 @SdkProtectedApi
 public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>, C> implements SdkClientBuilder<B, C> {
 
+    private static final Logger log = Logger.loggerFor(SdkDefaultClientBuilder.class);
+
     private static final SdkHttpClient.Builder DEFAULT_HTTP_CLIENT_BUILDER = new DefaultSdkHttpClientBuilder();
     private static final SdkAsyncHttpClient.Builder DEFAULT_ASYNC_HTTP_CLIENT_BUILDER = new DefaultSdkAsyncHttpClientBuilder();
 
@@ -158,6 +166,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         configuration = finalizeSyncConfiguration(configuration);
         configuration = finalizeConfiguration(configuration);
 
+        warmUpConnections(configuration, configuration.option(SdkClientOption.SYNC_HTTP_CLIENT)::warmUp);
+
         return configuration;
     }
 
@@ -181,6 +191,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         configuration = finalizeAsyncConfiguration(configuration);
         configuration = finalizeConfiguration(configuration);
 
+        warmUpConnections(configuration, configuration.option(ASYNC_HTTP_CLIENT)::warmUp);
+
         return configuration;
     }
 
@@ -249,6 +261,33 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                      .build();
     }
 
+    /**
+     * Start opening the connections requested with {@link SdkAdvancedClientOption#WARM_UP_CONNECTIONS}, without waiting for
+     * them, and publish the warm-up metrics to the metric publishers of the client once it is done.
+     */
+    private void warmUpConnections(SdkClientConfiguration config, ConnectionWarmer connectionWarmer) {
+        Integer connections = config.option(WARM_UP_CONNECTIONS);
+        URI endpoint = config.option(SdkClientOption.ENDPOINT);
+        if (connections == null || connections <= 0 || endpoint == null) {
+            return;
+        }
+
+        List<MetricPublisher> metricPublishers = config.option(METRIC_PUBLISHERS);
+        boolean publishMetrics = metricPublishers != null && !metricPublishers.isEmpty();
+        MetricCollector metricCollector = publishMetrics ? MetricCollector.create("ConnectionWarmUp")
+                                                         : NoOpMetricCollector.create();
+
+        connectionWarmer.warmUp(endpoint, connections, metricCollector).whenComplete((r, t) -> {
+            if (t != null) {
+                log.warn(() -> "Failed to warm up connections to " + endpoint, t);
+            }
+            if (publishMetrics) {
+                MetricCollection metrics = metricCollector.collect();
+                metricPublishers.forEach(p -> p.publish(metrics));
+            }
+        });
+    }
+
     private RetryPolicy resolveRetryPolicy(SdkClientConfiguration config) {
         RetryPolicy policy = config.option(SdkClientOption.RETRY_POLICY);
         if (policy != null) {
@@ -367,6 +406,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         clientConfiguration.option(API_CALL_ATTEMPT_TIMEOUT, overrideConfig.apiCallAttemptTimeout().orElse(null));
         clientConfiguration.option(DISABLE_HOST_PREFIX_INJECTION,
                                    overrideConfig.advancedOption(DISABLE_HOST_PREFIX_INJECTION).orElse(null));
+        clientConfiguration.option(WARM_UP_CONNECTIONS, overrideConfig.advancedOption(WARM_UP_CONNECTIONS).orElse(null));
         clientConfiguration.option(PROFILE_FILE, overrideConfig.defaultProfileFile().orElse(null));
         clientConfiguration.option(PROFILE_NAME, overrideConfig.defaultProfileName().orElse(null));
         clientConfiguration.option(METRIC_PUBLISHERS, overrideConfig.metricPublishers());
@@ -437,6 +477,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             // Do nothing, this client is managed by the customer.
         }
 
+        @Override
+        public CompletableFuture<Void> warmUp(URI endpoint, int connections, MetricCollector metricCollector) {
+            return delegate.warmUp(endpoint, connections, metricCollector);
+        }
+
         @Override
         public String clientName() {
             return delegate.clientName();
@@ -461,11 +506,22 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return delegate.execute(request);
         }
 
+        @Override
+        public CompletableFuture<Void> warmUp(URI endpoint, int connections, MetricCollector metricCollector) {
+            return delegate.warmUp(endpoint, connections, metricCollector);
+        }
+
         @Override
         public void close() {
             // Do nothing, this client is managed by the customer.
         }
     }
 
-
+    /**
+     * The {@code warmUp} method of the sync or async HTTP client of the client being built.
+     */
+    @FunctionalInterface
+    private interface ConnectionWarmer {
+        CompletableFuture<Void> warmUp(URI endpoint, int connections, MetricCollector metricCollector);
+    }
 }
@@ -54,6 +54,16 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * The number of connections to the endpoint of the client that are opened in parallel when the client is built, so that
+     * the first requests do not pay for the TCP and TLS handshakes. The connections are opened in the background and
+     * {@code build()} does not wait for them. If metric publishers are configured, the warm-up reports the number of
+     * connections it opened and the time it took in a separate metric collection.
+     *
+     * @see software.amazon.awssdk.http.SdkHttpClient#warmUp(java.net.URI, int)
+     */
+    public static final SdkAdvancedClientOption<Integer> WARM_UP_CONNECTIONS = new SdkAdvancedClientOption<>(Integer.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -25,9 +25,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.util.ClassLoaderHelper;
@@ -41,6 +43,12 @@ public final class ClasspathInterceptorChainFactory {
 
     private static final String GLOBAL_INTERCEPTOR_PATH = "software/amazon/awssdk/global/handlers/execution.interceptors";
 
+    /**
+     * The interceptor class names listed by each resource path, by class loader. The class loaders are weakly referenced so
+     * that they can still be unloaded.
+     */
+    private static final Map<ClassLoader, Map<String, List<String>>> INTERCEPTOR_CLASS_NAMES = new WeakHashMap<>();
+
     /**
      * Constructs a new request handler chain by analyzing the specified classpath resource.
      *
@@ -59,48 +67,43 @@ public final class ClasspathInterceptorChainFactory {
     }
 
     private Collection<ExecutionInterceptor> createExecutionInterceptorsFromClasspath(String path) {
-        try {
-            return createExecutionInterceptorsFromResources(classLoader().getResources(path))
-                .collect(Collectors.toMap(p -> p.getClass().getSimpleName(), p -> p, (p1, p2) -> p1)).values();
-        } catch (IOException e) {
-            throw SdkClientException.builder()
-                                    .message("Unable to instantiate execution interceptor chain.")
-                                    .cause(e)
-                                    .build();
-        }
+        return interceptorClassNames(classLoader(), path)
+            .stream()
+            .map(this::createExecutionInterceptor)
+            .collect(Collectors.toMap(p -> p.getClass().getSimpleName(), p -> p, (p1, p2) -> p1)).values();
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorsFromResources(Enumeration<URL> resources) {
-        if (resources == null) {
-            return Stream.empty();
+    /**
+     * Returns the names of the interceptor classes listed by the resources at the given path. The resources are only read
+     * the first time for each class loader, as every client reads the same ones when it is created.
+     */
+    private static List<String> interceptorClassNames(ClassLoader classLoader, String path) {
+        synchronized (INTERCEPTOR_CLASS_NAMES) {
+            List<String> classNames = INTERCEPTOR_CLASS_NAMES.computeIfAbsent(classLoader, c -> new HashMap<>()).get(path);
+            if (classNames != null) {
+                return classNames;
+            }
+        }
+
+        List<String> classNames = Collections.unmodifiableList(readInterceptorClassNames(classLoader, path));
+
+        synchronized (INTERCEPTOR_CLASS_NAMES) {
+            INTERCEPTOR_CLASS_NAMES.computeIfAbsent(classLoader, c -> new HashMap<>()).put(path, classNames);
         }
 
-        return Collections.list(resources).stream().flatMap(this::createExecutionInterceptorFromResource);
+        return classNames;
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorFromResource(URL resource) {
+    private static List<String> readInterceptorClassNames(ClassLoader classLoader, String path) {
         try {
-            if (resource == null) {
-                return Stream.empty();
-            }
+            List<String> classNames = new ArrayList<>();
+            Enumeration<URL> resources = classLoader.getResources(path);
 
-            List<ExecutionInterceptor> interceptors = new ArrayList<>();
-
-            try (InputStream stream = resource.openStream();
-                 InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
-                 BufferedReader fileReader = new BufferedReader(streamReader)) {
-
-                String interceptorClassName = fileReader.readLine();
-                while (interceptorClassName != null) {
-                    ExecutionInterceptor interceptor = createExecutionInterceptor(interceptorClassName);
-                    if (interceptor != null) {
-                        interceptors.add(interceptor);
-                    }
-                    interceptorClassName = fileReader.readLine();
-                }
+            for (URL resource : Collections.list(resources)) {
+                readInterceptorClassNames(resource, classNames);
             }
 
-            return interceptors.stream();
+            return classNames;
         } catch (IOException e) {
             throw SdkClientException.builder()
                                     .message("Unable to instantiate execution interceptor chain.")
@@ -109,16 +112,27 @@ public final class ClasspathInterceptorChainFactory {
         }
     }
 
-    private ExecutionInterceptor createExecutionInterceptor(String interceptorClassName) {
-        if (interceptorClassName == null) {
-            return null;
+    private static void readInterceptorClassNames(URL resource, List<String> classNames) throws IOException {
+        if (resource == null) {
+            return;
         }
 
-        interceptorClassName = interceptorClassName.trim();
-        if (interceptorClassName.equals("")) {
-            return null;
+        try (InputStream stream = resource.openStream();
+             InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+             BufferedReader fileReader = new BufferedReader(streamReader)) {
+
+            String interceptorClassName = fileReader.readLine();
+            while (interceptorClassName != null) {
+                interceptorClassName = interceptorClassName.trim();
+                if (!interceptorClassName.isEmpty()) {
+                    classNames.add(interceptorClassName);
+                }
+                interceptorClassName = fileReader.readLine();
+            }
         }
+    }
 
+    private ExecutionInterceptor createExecutionInterceptor(String interceptorClassName) {
         try {
             Class<?> executionInterceptorClass = ClassLoaderHelper.loadClass(interceptorClassName,
                                                                              ExecutionInterceptor.class, getClass());
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
 /**
@@ -41,9 +42,16 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
  */
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
 
     private final String name;
 
+    /**
+     * A dense identifier of this attribute, in the order attributes are created, which {@link ExecutionAttributes} uses as
+     * the index of the value of this attribute.
+     */
+    private final int id;
+
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
      *
@@ -51,6 +59,18 @@ public final class ExecutionAttribute<T> {
      */
     public ExecutionAttribute(String name) {
         this.name = name;
+        this.id = NEXT_ID.getAndIncrement();
+    }
+
+    int id() {
+        return id;
+    }
+
+    /**
+     * The number of attributes that have been created so far.
+     */
+    static int createdAttributes() {
+        return NEXT_ID.get();
     }
 
     @Override
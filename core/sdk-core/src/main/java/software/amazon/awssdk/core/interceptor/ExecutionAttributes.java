@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -29,7 +30,14 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 @NotThreadSafe
 public final class ExecutionAttributes {
-    private final Map<ExecutionAttribute<?>, Object> attributes = new HashMap<>();
+    /**
+     * Attributes with an identifier at least this large, which should only exist if attributes are created for every
+     * execution instead of being declared as constants, are stored in a map instead of the array of values.
+     */
+    private static final int MAX_INDEXED_ATTRIBUTES = 1024;
+
+    private Object[] attributes;
+    private Map<ExecutionAttribute<?>, Object> unindexedAttributes;
 
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
@@ -37,14 +45,27 @@ public final class ExecutionAttributes {
      */
     @SuppressWarnings("unchecked") // Cast is safe due to implementation of {@link #putAttribute}
     public <U> U getAttribute(ExecutionAttribute<U> attribute) {
-        return (U) attributes.get(attribute);
+        int id = attribute.id();
+        if (id >= MAX_INDEXED_ATTRIBUTES) {
+            return unindexedAttributes == null ? null : (U) unindexedAttributes.get(attribute);
+        }
+        return attributes == null || id >= attributes.length ? null : (U) attributes[id];
     }
 
     /**
      * Update or set the provided attribute in this collection of attributes.
      */
     public <U> ExecutionAttributes putAttribute(ExecutionAttribute<U> attribute, U value) {
-        this.attributes.put(attribute, value);
+        int id = attribute.id();
+        if (id >= MAX_INDEXED_ATTRIBUTES) {
+            if (unindexedAttributes == null) {
+                unindexedAttributes = new HashMap<>();
+            }
+            unindexedAttributes.put(attribute, value);
+        } else {
+            ensureCapacity(id);
+            attributes[id] = value;
+        }
         return this;
     }
 
@@ -52,7 +73,22 @@ public final class ExecutionAttributes {
      * Set the provided attribute in this collection of attributes if it does not already exist in the collection.
      */
     public <U> ExecutionAttributes putAttributeIfAbsent(ExecutionAttribute<U> attribute, U value) {
-        attributes.putIfAbsent(attribute, value);
+        if (getAttribute(attribute) == null) {
+            putAttribute(attribute, value);
+        }
         return this;
     }
+
+    /**
+     * Make the array of values large enough for the provided identifier. The array is sized for all the attributes created
+     * so far, so it only grows again if an attribute is created after this collection of attributes.
+     */
+    private void ensureCapacity(int id) {
+        if (attributes != null && id < attributes.length) {
+            return;
+        }
+
+        int length = Math.min(Math.max(id + 1, ExecutionAttribute.createdAttributes()), MAX_INDEXED_ATTRIBUTES);
+        attributes = attributes == null ? new Object[length] : Arrays.copyOf(attributes, length);
+    }
 }
@@ -46,46 +46,95 @@ import software.amazon.awssdk.utils.Validate;
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
+    /**
+     * The hooks that each class of interceptor overrides, as a bit set of {@link Hook} ordinals.
+     */
+    private static final ClassValue<Integer> OVERRIDDEN_HOOKS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> interceptorClass) {
+            int overriddenHooks = 0;
+            for (Hook hook : Hook.values()) {
+                if (hook.isOverriddenBy(interceptorClass)) {
+                    overriddenHooks |= 1 << hook.ordinal();
+                }
+            }
+            return overriddenHooks;
+        }
+    };
+
     private final List<ExecutionInterceptor> interceptors;
 
+    /**
+     * The hooks overridden by each interceptor, in the order of {@link #interceptors}.
+     */
+    private final int[] overriddenHooks;
+
+    /**
+     * The interceptors that override each hook, in the order they are provided and indexed by {@link Hook} ordinal. The
+     * default methods of {@link ExecutionInterceptor} do nothing, so the interceptors that do not override a hook are skipped.
+     */
+    private final ExecutionInterceptor[][] interceptorsByHook;
+
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
         this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        this.overriddenHooks = new int[this.interceptors.size()];
+        for (int i = 0; i < overriddenHooks.length; i++) {
+            overriddenHooks[i] = OVERRIDDEN_HOOKS.get(this.interceptors.get(i).getClass());
+        }
+
+        Hook[] hooks = Hook.values();
+        this.interceptorsByHook = new ExecutionInterceptor[hooks.length][];
+        for (Hook hook : hooks) {
+            List<ExecutionInterceptor> hookInterceptors = new ArrayList<>();
+            for (int i = 0; i < overriddenHooks.length; i++) {
+                if (overrides(i, hook)) {
+                    hookInterceptors.add(this.interceptors.get(i));
+                }
+            }
+            interceptorsByHook[hook.ordinal()] = hookInterceptors.toArray(new ExecutionInterceptor[0]);
+        }
+
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_EXECUTION)) {
+            interceptor.beforeExecution(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : interceptors(Hook.MODIFY_REQUEST)) {
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
             validateInterceptorResult(result.request(), interceptorResult, interceptor, "modifyRequest");
 
-            result = result.copy(b -> b.request(interceptorResult));
+            if (interceptorResult != result.request()) {
+                result = result.copy(b -> b.request(interceptorResult));
+            }
         }
         return result;
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_MARSHALLING)) {
+            interceptor.beforeMarshalling(context, executionAttributes);
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.AFTER_MARSHALLING)) {
+            interceptor.afterMarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpRequestAndHttpContent(InterceptorContext context,
                                                               ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
-
-            AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
-
+        for (int i = 0; i < interceptors.size(); i++) {
             SdkHttpFullRequest sdkHttpFullRequest = (SdkHttpFullRequest) context.httpRequest();
             if (!result.requestBody().isPresent() && sdkHttpFullRequest.contentStreamProvider().isPresent()) {
                 long contentLength = Long.parseLong(sdkHttpFullRequest.firstMatchingHeader("Content-Length").orElse("0"));
@@ -96,38 +145,54 @@ public class ExecutionInterceptorChain {
                 result = result.toBuilder().requestBody(requestBody).build();
             }
 
+            if (!overrides(i, Hook.MODIFY_HTTP_REQUEST)) {
+                continue;
+            }
+
+            ExecutionInterceptor interceptor = interceptors.get(i);
+
+            AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
+
             RequestBody requestBody = interceptor.modifyHttpContent(result, executionAttributes).orElse(null);
 
             SdkHttpRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
             validateInterceptorResult(result.httpRequest(), interceptorResult, interceptor, "modifyHttpRequest");
 
-            result = result.copy(b -> b.httpRequest(interceptorResult)
-                                       .asyncRequestBody(asyncRequestBody)
-                                       .requestBody(requestBody));
+            if (interceptorResult != result.httpRequest()
+                || asyncRequestBody != result.asyncRequestBody().orElse(null)
+                || requestBody != result.requestBody().orElse(null)) {
+                result = result.copy(b -> b.httpRequest(interceptorResult)
+                                           .asyncRequestBody(asyncRequestBody)
+                                           .requestBody(requestBody));
+            }
         }
         return result;
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_TRANSMISSION)) {
+            interceptor.beforeTransmission(context, executionAttributes);
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        reverseForEach(Hook.AFTER_TRANSMISSION, i -> i.afterTransmission(context, executionAttributes));
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkHttpResponse interceptorResult =
-                interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_HTTP_RESPONSE);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            SdkHttpResponse interceptorResult = hookInterceptors[i].modifyHttpResponse(result, executionAttributes);
+            validateInterceptorResult(result.httpResponse(), interceptorResult, hookInterceptors[i], "modifyHttpResponse");
 
-            InputStream response = interceptors.get(i).modifyHttpResponseContent(result, executionAttributes).orElse(null);
+            InputStream response = hookInterceptors[i].modifyHttpResponseContent(result, executionAttributes).orElse(null);
 
-            result = result.toBuilder().httpResponse(interceptorResult).responseBody(response).build();
+            if (interceptorResult != result.httpResponse() || response != result.responseBody().orElse(null)) {
+                result = result.toBuilder().httpResponse(interceptorResult).responseBody(response).build();
+            }
         }
 
         return result;
@@ -137,58 +202,78 @@ public class ExecutionInterceptorChain {
                                                       ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            ExecutionInterceptor interceptor = interceptors.get(i);
-
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_ASYNC_HTTP_RESPONSE);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
             Publisher<ByteBuffer> newResponsePublisher =
-                interceptor.modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
+                hookInterceptors[i].modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
 
-            result = result.toBuilder()
-                           .responsePublisher(newResponsePublisher)
-                           .build();
+            if (newResponsePublisher != result.responsePublisher().orElse(null)) {
+                result = result.toBuilder()
+                               .responsePublisher(newResponsePublisher)
+                               .build();
+            }
         }
 
         return result;
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        reverseForEach(Hook.BEFORE_UNMARSHALLING, i -> i.beforeUnmarshalling(context, executionAttributes));
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        reverseForEach(Hook.AFTER_UNMARSHALLING, i -> i.afterUnmarshalling(context, executionAttributes));
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
-            validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
 
-            result = result.copy(b -> b.response(interceptorResult));
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_RESPONSE);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            SdkResponse interceptorResult = hookInterceptors[i].modifyResponse(result, executionAttributes);
+            validateInterceptorResult(result.response(), interceptorResult, hookInterceptors[i], "modifyResponse");
+
+            if (interceptorResult != result.response()) {
+                result = result.copy(b -> b.response(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        reverseForEach(Hook.AFTER_EXECUTION, i -> i.afterExecution(context, executionAttributes));
     }
 
     public DefaultFailedExecutionContext modifyException(DefaultFailedExecutionContext context,
                                                          ExecutionAttributes executionAttributes) {
         DefaultFailedExecutionContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            Throwable interceptorResult = interceptors.get(i).modifyException(result, executionAttributes);
-            validateInterceptorResult(result.exception(), interceptorResult, interceptors.get(i), "modifyException");
-            result = result.copy(b -> b.exception(interceptorResult));
+
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_EXCEPTION);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            Throwable interceptorResult = hookInterceptors[i].modifyException(result, executionAttributes);
+            validateInterceptorResult(result.exception(), interceptorResult, hookInterceptors[i], "modifyException");
+
+            if (interceptorResult != result.exception()) {
+                result = result.copy(b -> b.exception(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.ON_EXECUTION_FAILURE)) {
+            interceptor.onExecutionFailure(context, executionAttributes);
+        }
+    }
+
+    private ExecutionInterceptor[] interceptors(Hook hook) {
+        return interceptorsByHook[hook.ordinal()];
+    }
+
+    private boolean overrides(int interceptorIndex, Hook hook) {
+        return (overriddenHooks[interceptorIndex] & (1 << hook.ordinal())) != 0;
     }
 
     /**
@@ -210,11 +295,82 @@ public class ExecutionInterceptorChain {
     }
 
     /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
+     * Execute the provided action against the interceptors in this chain that override the provided hook, in the reverse order
+     * they are configured.
+     */
+    private void reverseForEach(Hook hook, Consumer<ExecutionInterceptor> action) {
+        ExecutionInterceptor[] hookInterceptors = interceptors(hook);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            action.accept(hookInterceptors[i]);
+        }
+    }
+
+    /**
+     * The groups of {@link ExecutionInterceptor} methods that the chain invokes together. An interceptor is invoked for a hook
+     * if it overrides any of the methods of the hook.
      */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
+    private enum Hook {
+        BEFORE_EXECUTION(Context.BeforeExecution.class, "beforeExecution"),
+        MODIFY_REQUEST(Context.ModifyRequest.class, "modifyRequest"),
+        BEFORE_MARSHALLING(Context.BeforeMarshalling.class, "beforeMarshalling"),
+        AFTER_MARSHALLING(Context.AfterMarshalling.class, "afterMarshalling"),
+        MODIFY_HTTP_REQUEST(Context.ModifyHttpRequest.class, "modifyHttpRequest", "modifyHttpContent", "modifyAsyncHttpContent"),
+        BEFORE_TRANSMISSION(Context.BeforeTransmission.class, "beforeTransmission"),
+        AFTER_TRANSMISSION(Context.AfterTransmission.class, "afterTransmission"),
+        MODIFY_HTTP_RESPONSE(Context.ModifyHttpResponse.class, "modifyHttpResponse", "modifyHttpResponseContent"),
+        MODIFY_ASYNC_HTTP_RESPONSE(Context.ModifyHttpResponse.class, "modifyAsyncHttpResponseContent"),
+        BEFORE_UNMARSHALLING(Context.BeforeUnmarshalling.class, "beforeUnmarshalling"),
+        AFTER_UNMARSHALLING(Context.AfterUnmarshalling.class, "afterUnmarshalling"),
+        MODIFY_RESPONSE(Context.ModifyResponse.class, "modifyResponse"),
+        AFTER_EXECUTION(Context.AfterExecution.class, "afterExecution"),
+        MODIFY_EXCEPTION(Context.FailedExecution.class, "modifyException"),
+        ON_EXECUTION_FAILURE(Context.FailedExecution.class, "onExecutionFailure");
+
+        private final Class<?> contextClass;
+        private final String[] methodNames;
+
+        Hook(Class<?> contextClass, String... methodNames) {
+            this.contextClass = contextClass;
+            this.methodNames = methodNames;
+        }
+
+        /**
+         * Whether the provided type, one of its superclasses or one of the interfaces they implement, other than
+         * {@link ExecutionInterceptor}, declares one of the methods of this hook.
+         */
+        private boolean isOverriddenBy(Class<?> type) {
+            if (type == null || type == ExecutionInterceptor.class) {
+                return false;
+            }
+
+            for (String methodName : methodNames) {
+                if (declares(type, methodName)) {
+                    return true;
+                }
+            }
+
+            if (isOverriddenBy(type.getSuperclass())) {
+                return true;
+            }
+            for (Class<?> implementedInterface : type.getInterfaces()) {
+                if (isOverriddenBy(implementedInterface)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean declares(Class<?> type, String methodName) {
+            try {
+                type.getDeclaredMethod(methodName, contextClass, ExecutionAttributes.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            } catch (SecurityException e) {
+                LOG.debug(() -> "Unable to determine whether " + type + " overrides " + methodName
+                                + ", so it will always be invoked.", e);
+                return true;
+            }
         }
     }
 }
@@ -36,7 +36,19 @@ public final class ByteArrayAsyncRequestBody implements AsyncRequestBody {
     private final byte[] bytes;
 
     public ByteArrayAsyncRequestBody(byte[] bytes) {
-        this.bytes = bytes.clone();
+        this(bytes, true);
+    }
+
+    private ByteArrayAsyncRequestBody(byte[] bytes, boolean copy) {
+        this.bytes = copy ? bytes.clone() : bytes;
+    }
+
+    /**
+     * Create a request body that reads the provided array without copying it. The caller must not modify the array
+     * while the body may still be read.
+     */
+    public static ByteArrayAsyncRequestBody wrap(byte[] bytes) {
+        return new ByteArrayAsyncRequestBody(bytes, false);
     }
 
     @Override
@@ -15,22 +15,30 @@
 
 package software.amazon.awssdk.core.internal.async;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
-
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
-import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpResponse;
 
 /**
  * Implementation of {@link AsyncResponseTransformer} that dumps content into a byte array and supports further
  * conversions into types, like strings.
+ * <p>
+ * When the response declares a {@code Content-Length}, every chunk of content is copied directly into a byte array that is
+ * handed to {@link ResponseBytes} as is. Up to {@value #MAX_PREALLOCATED_LENGTH} bytes of the array are allocated up front,
+ * so that a wrong or hostile {@code Content-Length} cannot allocate a large array before any content arrives. Larger content
+ * grows the array as it arrives, never beyond the declared length. Otherwise each chunk is copied once as it arrives and the
+ * chunks are joined when the stream completes.
  *
  * This can be created with static methods on {@link AsyncResponseTransformer}.
  *
@@ -41,13 +49,24 @@ import software.amazon.awssdk.utils.BinaryUtils;
 public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         AsyncResponseTransformer<ResponseT, ResponseBytes<ResponseT>> {
 
+    /**
+     * The most that is allocated for the content of a response before it is received.
+     */
+    static final int MAX_PREALLOCATED_LENGTH = 4 * 1024 * 1024;
+
+    /**
+     * The largest array size that can be allocated on common JVMs.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
     private volatile CompletableFuture<byte[]> cf;
     private volatile ResponseT response;
 
     @Override
     public CompletableFuture<ResponseBytes<ResponseT>> prepare() {
         cf = new CompletableFuture<>();
-        return cf.thenApply(arr -> ResponseBytes.fromByteArray(response, arr));
+        // The array is owned by the subscriber that filled it, so it does not need to be copied again.
+        return cf.thenApply(arr -> ResponseBytes.fromByteArrayUnsafe(response, arr));
     }
 
     @Override
@@ -57,7 +76,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
     @Override
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(cf));
+        publisher.subscribe(new BaosSubscriber(cf, contentLength(response)));
     }
 
     @Override
@@ -65,15 +84,64 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         cf.completeExceptionally(throwable);
     }
 
+    /**
+     * Returns the {@code Content-Length} declared by the HTTP response, or -1 if it is not known.
+     */
+    private static long contentLength(Object response) {
+        if (!(response instanceof SdkResponse)) {
+            return -1;
+        }
+        SdkHttpResponse httpResponse = ((SdkResponse) response).sdkHttpResponse();
+        if (httpResponse == null) {
+            return -1;
+        }
+        return httpResponse.firstMatchingHeader("Content-Length")
+                           .map(ByteArrayAsyncResponseTransformer::parseContentLength)
+                           .orElse(-1L);
+    }
+
+    private static long parseContentLength(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     static class BaosSubscriber implements Subscriber<ByteBuffer> {
         private final CompletableFuture<byte[]> resultFuture;
 
-        private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        /**
+         * The expected content length, or -1 if it is not known.
+         */
+        private final int expectedLength;
+
+        /**
+         * The array that grows up to the expected content length, or null if the length is not known.
+         */
+        private byte[] content;
+        private int position;
+
+        /**
+         * Chunks that did not fit in {@link #content}, or all chunks if the content length is not known.
+         */
+        private List<byte[]> chunks;
+        private long chunksLength;
 
         private Subscription subscription;
 
         BaosSubscriber(CompletableFuture<byte[]> resultFuture) {
+            this(resultFuture, -1);
+        }
+
+        BaosSubscriber(CompletableFuture<byte[]> resultFuture, long expectedLength) {
             this.resultFuture = resultFuture;
+            if (expectedLength >= 0 && expectedLength <= MAX_ARRAY_SIZE) {
+                this.expectedLength = (int) expectedLength;
+                this.content = new byte[Math.min(this.expectedLength, MAX_PREALLOCATED_LENGTH)];
+            } else {
+                this.expectedLength = -1;
+            }
         }
 
         @Override
@@ -88,19 +156,72 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            int length = byteBuffer.remaining();
+            if (chunks == null && content != null && length <= expectedLength - position) {
+                ensureCapacity(position + length);
+                byteBuffer.duplicate().get(content, position, length);
+                position += length;
+            } else {
+                // More content than declared, or no declared length: keep the chunks in order and join them at the end.
+                byte[] chunk = new byte[length];
+                byteBuffer.duplicate().get(chunk);
+                if (chunks == null) {
+                    chunks = new ArrayList<>();
+                }
+                chunks.add(chunk);
+                chunksLength += length;
+            }
             subscription.request(1);
         }
 
+        /**
+         * Grows the content array to hold at least the given number of bytes, doubling its size so that the content is copied
+         * a bounded number of times, but never beyond the expected content length.
+         */
+        private void ensureCapacity(int capacity) {
+            if (capacity > content.length) {
+                int newLength = (int) Math.min(expectedLength, Math.max(capacity, 2L * content.length));
+                content = Arrays.copyOf(content, newLength);
+            }
+        }
+
         @Override
         public void onError(Throwable throwable) {
-            baos = null;
+            content = null;
+            chunks = null;
             resultFuture.completeExceptionally(throwable);
         }
 
         @Override
         public void onComplete() {
-            resultFuture.complete(baos.toByteArray());
+            if (chunks == null) {
+                if (content == null) {
+                    resultFuture.complete(new byte[0]);
+                } else {
+                    resultFuture.complete(position == content.length ? content : Arrays.copyOf(content, position));
+                }
+                return;
+            }
+
+            long totalLength = position + chunksLength;
+            if (totalLength > MAX_ARRAY_SIZE) {
+                resultFuture.completeExceptionally(
+                    SdkClientException.create("The content is too large to be held in a byte array: " + totalLength
+                                              + " bytes."));
+                return;
+            }
+
+            byte[] result = new byte[(int) totalLength];
+            int offset = 0;
+            if (content != null) {
+                System.arraycopy(content, 0, result, 0, position);
+                offset = position;
+            }
+            for (byte[] chunk : chunks) {
+                System.arraycopy(chunk, 0, result, offset, chunk.length);
+                offset += chunk.length;
+            }
+            resultFuture.complete(result);
         }
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksums;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Combines two 32-bit CRCs computed over consecutive blocks of data into the CRC of the concatenated data, without access
+ * to the data itself. This is the algorithm used by zlib's {@code crc32_combine}, generalised to any reflected
+ * polynomial.
+ */
+@SdkInternalApi
+public final class CrcCombiner {
+
+    private static final int GF2_DIM = 32;
+
+    private CrcCombiner() {
+    }
+
+    /**
+     * @param crc1 The CRC of the first block.
+     * @param crc2 The CRC of the second block.
+     * @param length2 The length in bytes of the second block.
+     * @param polynomial The polynomial of the CRC, in reversed (LSB-first) bit order.
+     * @return The CRC of the first block followed by the second block.
+     */
+    public static long combine(long crc1, long crc2, long length2, int polynomial) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[GF2_DIM];
+        long[] odd = new long[GF2_DIM];
+
+        // The operator for a single zero bit.
+        odd[0] = polynomial & 0xFFFFFFFFL;
+        long row = 1;
+        for (int n = 1; n < GF2_DIM; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        // Two zero bits, then four zero bits.
+        square(even, odd);
+        square(odd, even);
+
+        long result = crc1;
+        long remaining = length2;
+        do {
+            // Apply a zero byte for each one bit of the remaining length, squaring the operator every time.
+            square(even, odd);
+            if ((remaining & 1) != 0) {
+                result = times(even, result);
+            }
+            remaining >>= 1;
+
+            if (remaining == 0) {
+                break;
+            }
+
+            square(odd, even);
+            if ((remaining & 1) != 0) {
+                result = times(odd, result);
+            }
+            remaining >>= 1;
+        } while (remaining != 0);
+
+        return result ^ crc2;
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        long remaining = vector;
+        for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix) {
+        for (int n = 0; n < GF2_DIM; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+}
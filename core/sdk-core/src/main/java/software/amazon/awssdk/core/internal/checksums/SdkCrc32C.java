@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksums;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A pure Java implementation of the CRC32C (Castagnoli) checksum, used when the JDK does not provide
+ * {@code java.util.zip.CRC32C} (before Java 9).
+ * <p>
+ * The implementation uses the "slicing-by-8" technique, processing eight bytes per table lookup round.
+ */
+@SdkInternalApi
+public final class SdkCrc32C implements Checksum {
+
+    /**
+     * The CRC32C polynomial in reversed (LSB-first) bit order.
+     */
+    public static final int POLYNOMIAL = 0x82F63B78;
+
+    private static final int[] T0 = new int[256];
+    private static final int[] T1 = new int[256];
+    private static final int[] T2 = new int[256];
+    private static final int[] T3 = new int[256];
+    private static final int[] T4 = new int[256];
+    private static final int[] T5 = new int[256];
+    private static final int[] T6 = new int[256];
+    private static final int[] T7 = new int[256];
+
+    static {
+        int[][] tables = {T0, T1, T2, T3, T4, T5, T6, T7};
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            }
+            T0[i] = crc;
+        }
+        for (int t = 1; t < tables.length; t++) {
+            for (int i = 0; i < 256; i++) {
+                int previous = tables[t - 1][i];
+                tables[t][i] = (previous >>> 8) ^ T0[previous & 0xFF];
+            }
+        }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ T0[(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        int localCrc = crc;
+        int index = off;
+        int end = off + len;
+
+        while (end - index >= 8) {
+            int low = localCrc ^ ((b[index] & 0xFF)
+                                  | (b[index + 1] & 0xFF) << 8
+                                  | (b[index + 2] & 0xFF) << 16
+                                  | (b[index + 3] & 0xFF) << 24);
+            int high = (b[index + 4] & 0xFF)
+                       | (b[index + 5] & 0xFF) << 8
+                       | (b[index + 6] & 0xFF) << 16
+                       | (b[index + 7] & 0xFF) << 24;
+            localCrc = slice(low, high);
+            index += 8;
+        }
+
+        while (index < end) {
+            localCrc = (localCrc >>> 8) ^ T0[(localCrc ^ b[index++]) & 0xFF];
+        }
+
+        crc = localCrc;
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the given buffer, reading direct buffers in place. Upon return the
+     * buffer's position is equal to its limit.
+     */
+    public void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            int position = buffer.position();
+            update(buffer.array(), buffer.arrayOffset() + position, buffer.limit() - position);
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        ByteBuffer littleEndian = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int localCrc = crc;
+
+        while (littleEndian.remaining() >= 8) {
+            localCrc = slice(localCrc ^ littleEndian.getInt(), littleEndian.getInt());
+        }
+
+        while (littleEndian.hasRemaining()) {
+            localCrc = (localCrc >>> 8) ^ T0[(localCrc ^ littleEndian.get()) & 0xFF];
+        }
+
+        crc = localCrc;
+        buffer.position(buffer.limit());
+    }
+
+    private static int slice(int low, int high) {
+        return T7[low & 0xFF]
+               ^ T6[(low >>> 8) & 0xFF]
+               ^ T5[(low >>> 16) & 0xFF]
+               ^ T4[low >>> 24]
+               ^ T3[high & 0xFF]
+               ^ T2[(high >>> 8) & 0xFF]
+               ^ T1[(high >>> 16) & 0xFF]
+               ^ T0[high >>> 24];
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFF;
+    }
+}
@@ -44,9 +44,11 @@ import software.amazon.awssdk.utils.StringUtils;
 @SdkInternalApi
 public abstract class BaseClientHandler {
     private SdkClientConfiguration clientConfiguration;
+    private final ExecutionInterceptorChain interceptorChain;
 
     protected BaseClientHandler(SdkClientConfiguration clientConfiguration) {
         this.clientConfiguration = clientConfiguration;
+        this.interceptorChain = new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
     }
 
     /**
@@ -186,9 +188,6 @@ public abstract class BaseClientHandler {
                           clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION))
             .putAttribute(SdkExecutionAttribute.SERVICE_NAME, clientConfiguration.option(SdkClientOption.SERVICE_NAME));
 
-        ExecutionInterceptorChain interceptorChain =
-                new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
-
         MetricCollector metricCollector = resolveMetricCollector(params);
 
         return ExecutionContext.builder()
@@ -202,6 +201,13 @@ public abstract class BaseClientHandler {
                                .build();
     }
 
+    /**
+     * The interceptor chain created for this client from its configured execution interceptors.
+     */
+    protected final ExecutionInterceptorChain interceptorChain() {
+        return interceptorChain;
+    }
+
     protected boolean isCalculateCrc32FromCompressedData() {
         return clientConfiguration.option(SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED);
     }
@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.util.ClientUserAgent;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -34,6 +35,7 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
+    private final ClientUserAgent clientUserAgent;
 
     /**
      * Time offset may be mutated by {@link RequestPipeline} implementations if a clock skew is detected.
@@ -43,6 +45,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private HttpClientDependencies(Builder builder) {
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
+        this.clientUserAgent = ClientUserAgent.create(clientConfiguration);
     }
 
     public static Builder builder() {
@@ -60,6 +63,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The User-Agent of the requests of this client.
+     */
+    public ClientUserAgent clientUserAgent() {
+        return clientUserAgent;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
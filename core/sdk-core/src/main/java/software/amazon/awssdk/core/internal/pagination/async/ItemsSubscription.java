@@ -85,7 +85,9 @@ public final class ItemsSubscription<ResponseT, ItemT> extends PaginationSubscri
                                singlePageItemsIterator = getIteratorFunction.apply(response);
                                sendNextElement();
                            }
-                           if (error != null) {
+                           // Fetches still outstanding when the subscription is cancelled fail with a cancellation, which is
+                           // not signalled to the subscriber
+                           if (error != null && !isTerminated()) {
                                subscriber.onError(error);
                                cleanup();
                            }
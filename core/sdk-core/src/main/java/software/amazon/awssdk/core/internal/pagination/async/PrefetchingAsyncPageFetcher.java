@@ -0,0 +1,227 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.async;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link AsyncPageFetcher} that fetches pages ahead of the consumer.
+ * <p>
+ * Pages of a paginated operation are chained: the request for a page can only be built from the page before it. This
+ * fetcher therefore requests the next page as soon as the previous one arrives, instead of waiting for the consumer to
+ * ask for it, until {@code maxPrefetchedPages} pages are waiting to be consumed. Fetching resumes as soon as the consumer
+ * takes a page, so at most {@code maxPrefetchedPages} pages are held in memory.
+ * <p>
+ * Whether a page has a successor is evaluated once, when the page arrives, and remembered. This keeps fetchers that track
+ * state between calls (for example, the last token seen) consistent even though the wrapped fetcher is called ahead of
+ * the consumer.
+ * <p>
+ * An instance must only be used for a single iteration over the pages, starting with {@code nextPage(null)}. It must be
+ * closed when the iteration is abandoned, which cancels the page that is being fetched and stops fetching ahead.
+ *
+ * @param <ResponseT> The type of a single response page
+ */
+@SdkInternalApi
+public final class PrefetchingAsyncPageFetcher<ResponseT> implements AsyncPageFetcher<ResponseT>, SdkAutoCloseable {
+    private final AsyncPageFetcher<ResponseT> delegate;
+    private final int maxPrefetchedPages;
+
+    private final Object lock = new Object();
+
+    /**
+     * Pages that are being fetched or have been fetched, but have not been handed out to the consumer yet.
+     */
+    private final Deque<CompletableFuture<PrefetchedPage<ResponseT>>> prefetchedPages = new ArrayDeque<>();
+
+    /**
+     * The page after which fetching stopped because the buffer was full, or null if fetching is not paused.
+     */
+    private ResponseT pausedAfterPage;
+
+    /**
+     * The response of the wrapped fetcher that is currently being fetched, or null if no fetch is in flight.
+     */
+    private CompletableFuture<ResponseT> inFlightFetch;
+
+    private boolean started;
+
+    private boolean closed;
+
+    private volatile PrefetchedPage<ResponseT> lastDeliveredPage;
+
+    public PrefetchingAsyncPageFetcher(AsyncPageFetcher<ResponseT> delegate, int maxPrefetchedPages) {
+        this.delegate = Validate.paramNotNull(delegate, "delegate");
+        this.maxPrefetchedPages = Validate.isPositive(maxPrefetchedPages, "maxPrefetchedPages");
+    }
+
+    @Override
+    public boolean hasNextPage(ResponseT oldPage) {
+        PrefetchedPage<ResponseT> lastDelivered = lastDeliveredPage;
+        if (lastDelivered != null && lastDelivered.response == oldPage) {
+            return lastDelivered.hasNextPage;
+        }
+        return delegate.hasNextPage(oldPage);
+    }
+
+    @Override
+    public CompletableFuture<ResponseT> nextPage(ResponseT oldPage) {
+        CompletableFuture<PrefetchedPage<ResponseT>> page;
+        CompletableFuture<PrefetchedPage<ResponseT>> toFetch = null;
+        ResponseT fetchAfter = null;
+
+        synchronized (lock) {
+            if (closed) {
+                CompletableFuture<ResponseT> cancelled = new CompletableFuture<>();
+                cancelled.cancel(false);
+                return cancelled;
+            }
+
+            if (!started) {
+                started = true;
+                toFetch = reserve();
+                fetchAfter = oldPage;
+            }
+
+            page = prefetchedPages.poll();
+
+            if (page == null) {
+                // Only reachable if the consumer asks for a page we have no record of, e.g. after the last page.
+                return delegate.nextPage(oldPage);
+            }
+
+            if (pausedAfterPage != null && prefetchedPages.size() < maxPrefetchedPages) {
+                toFetch = reserve();
+                fetchAfter = pausedAfterPage;
+                pausedAfterPage = null;
+            }
+        }
+
+        if (toFetch != null) {
+            fetch(fetchAfter, toFetch);
+        }
+
+        return page.thenApply(p -> {
+            lastDeliveredPage = p;
+            return p.response;
+        });
+    }
+
+    @Override
+    public void close() {
+        CompletableFuture<ResponseT> fetch;
+        List<CompletableFuture<PrefetchedPage<ResponseT>>> pages;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pausedAfterPage = null;
+            fetch = inFlightFetch;
+            inFlightFetch = null;
+            pages = new ArrayList<>(prefetchedPages);
+            prefetchedPages.clear();
+        }
+
+        if (fetch != null) {
+            fetch.cancel(true);
+        }
+        pages.forEach(page -> page.cancel(true));
+    }
+
+    private CompletableFuture<PrefetchedPage<ResponseT>> reserve() {
+        CompletableFuture<PrefetchedPage<ResponseT>> future = new CompletableFuture<>();
+        prefetchedPages.add(future);
+        return future;
+    }
+
+    private void fetch(ResponseT previousPage, CompletableFuture<PrefetchedPage<ResponseT>> result) {
+        CompletableFuture<ResponseT> response;
+        try {
+            response = delegate.nextPage(previousPage);
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+            return;
+        }
+
+        synchronized (lock) {
+            if (closed) {
+                response.cancel(true);
+                return;
+            }
+            inFlightFetch = response;
+        }
+
+        response.whenComplete((r, error) -> {
+            synchronized (lock) {
+                if (inFlightFetch == response) {
+                    inFlightFetch = null;
+                }
+            }
+
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+
+            boolean hasNextPage;
+            try {
+                hasNextPage = delegate.hasNextPage(r);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+
+            if (hasNextPage) {
+                fetchAfter(r);
+            }
+
+            result.complete(new PrefetchedPage<>(r, hasNextPage));
+        });
+    }
+
+    private void fetchAfter(ResponseT page) {
+        CompletableFuture<PrefetchedPage<ResponseT>> next;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            if (prefetchedPages.size() >= maxPrefetchedPages) {
+                pausedAfterPage = page;
+                return;
+            }
+            next = reserve();
+        }
+        fetch(page, next);
+    }
+
+    private static final class PrefetchedPage<ResponseT> {
+        private final ResponseT response;
+        private final boolean hasNextPage;
+
+        private PrefetchedPage(ResponseT response, boolean hasNextPage) {
+            this.response = response;
+            this.hasNextPage = hasNextPage;
+        }
+    }
+}
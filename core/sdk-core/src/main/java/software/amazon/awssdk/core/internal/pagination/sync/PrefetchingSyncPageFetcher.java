@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.sync;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.pagination.async.PrefetchingAsyncPageFetcher;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link SyncPageFetcher} that fetches pages ahead of the consumer on the provided {@link Executor}. Closing it
+ * cancels the page that is being fetched and stops fetching ahead.
+ *
+ * @see PrefetchingAsyncPageFetcher
+ * @param <ResponseT> The type of a single response page
+ */
+@SdkInternalApi
+public final class PrefetchingSyncPageFetcher<ResponseT> implements SyncPageFetcher<ResponseT>, SdkAutoCloseable {
+    private final PrefetchingAsyncPageFetcher<ResponseT> prefetchingFetcher;
+
+    public PrefetchingSyncPageFetcher(SyncPageFetcher<ResponseT> delegate, int maxPrefetchedPages, Executor executor) {
+        Validate.paramNotNull(delegate, "delegate");
+        Validate.paramNotNull(executor, "executor");
+        this.prefetchingFetcher = new PrefetchingAsyncPageFetcher<>(new AsyncPageFetcher<ResponseT>() {
+            @Override
+            public boolean hasNextPage(ResponseT oldPage) {
+                return delegate.hasNextPage(oldPage);
+            }
+
+            @Override
+            public CompletableFuture<ResponseT> nextPage(ResponseT oldPage) {
+                return CompletableFuture.supplyAsync(() -> delegate.nextPage(oldPage), executor);
+            }
+        }, maxPrefetchedPages);
+    }
+
+    @Override
+    public boolean hasNextPage(ResponseT oldPage) {
+        return prefetchingFetcher.hasNextPage(oldPage);
+    }
+
+    @Override
+    public ResponseT nextPage(ResponseT oldPage) {
+        try {
+            return prefetchingFetcher.nextPage(oldPage).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        prefetchingFetcher.close();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * The User-Agent header of the requests of a client. Everything but the API names of a request only depends on the
+ * configuration of the client, so it is resolved once per client. The User-Agent of the most common combinations of API
+ * names, like the ones added by paginators and high level libraries, is cached.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ClientUserAgent {
+    private static final String COMMA = ", ";
+    private static final String SPACE = " ";
+
+    private static final String IO = "io";
+    private static final String HTTP = "http";
+
+    private static final String AWS_EXECUTION_ENV_PREFIX = "exec-env/";
+
+    /**
+     * The maximum number of combinations of API names to cache the User-Agent of, so that API names that differ for every
+     * request do not grow the cache forever.
+     */
+    private static final int MAX_CACHED_API_NAMES = 64;
+
+    private final String prefix;
+    private final String suffix;
+    private final String userAgent;
+    private final Map<List<ApiName>, String> userAgentByApiNames = new ConcurrentHashMap<>();
+
+    private ClientUserAgent(SdkClientConfiguration config) {
+        this.prefix = prefix(config);
+        this.suffix = suffix(config);
+        this.userAgent = prefix + suffix;
+    }
+
+    public static ClientUserAgent create(SdkClientConfiguration config) {
+        return new ClientUserAgent(config);
+    }
+
+    /**
+     * Return the User-Agent of a request with the provided API names.
+     */
+    public String userAgent(List<ApiName> requestApiNames) {
+        if (requestApiNames.isEmpty()) {
+            return userAgent;
+        }
+
+        String cachedUserAgent = userAgentByApiNames.get(requestApiNames);
+        if (cachedUserAgent != null) {
+            return cachedUserAgent;
+        }
+
+        String requestUserAgent = userAgentWithApiNames(requestApiNames);
+        if (userAgentByApiNames.size() < MAX_CACHED_API_NAMES) {
+            userAgentByApiNames.put(new ArrayList<>(requestApiNames), requestUserAgent);
+        }
+        return requestUserAgent;
+    }
+
+    private String userAgentWithApiNames(List<ApiName> requestApiNames) {
+        StringBuilder userAgent = new StringBuilder(prefix);
+        for (ApiName apiName : requestApiNames) {
+            userAgent.append(SPACE).append(apiName.name()).append('/').append(apiName.version());
+        }
+        return userAgent.append(suffix).toString();
+    }
+
+    private static String prefix(SdkClientConfiguration config) {
+        String userDefinedPrefix = config.option(SdkAdvancedClientOption.USER_AGENT_PREFIX);
+        String awsExecutionEnvironment = SdkSystemSetting.AWS_EXECUTION_ENV.getStringValue().orElse(null);
+
+        StringBuilder userAgent = new StringBuilder(StringUtils.trimToEmpty(userDefinedPrefix));
+
+        String systemUserAgent = UserAgentUtils.getUserAgent();
+        if (!systemUserAgent.equals(userDefinedPrefix)) {
+            userAgent.append(COMMA).append(systemUserAgent);
+        }
+
+        if (!StringUtils.isEmpty(awsExecutionEnvironment)) {
+            userAgent.append(SPACE).append(AWS_EXECUTION_ENV_PREFIX).append(awsExecutionEnvironment.trim());
+        }
+
+        ClientType clientType = config.option(SdkClientOption.CLIENT_TYPE);
+
+        if (clientType == null) {
+            clientType = ClientType.UNKNOWN;
+        }
+
+        userAgent.append(SPACE)
+                 .append(IO)
+                 .append("/")
+                 .append(StringUtils.lowerCase(clientType.name()));
+
+        String clientName = clientName(config, clientType);
+
+        userAgent.append(SPACE)
+                 .append(HTTP)
+                 .append("/")
+                 .append(SdkHttpUtils.urlEncode(clientName));
+
+        return userAgent.toString();
+    }
+
+    private static String suffix(SdkClientConfiguration config) {
+        String userDefinedSuffix = config.option(SdkAdvancedClientOption.USER_AGENT_SUFFIX);
+
+        if (!StringUtils.isEmpty(userDefinedSuffix)) {
+            return COMMA + userDefinedSuffix.trim();
+        }
+
+        return "";
+    }
+
+    /**
+     * The name of the HTTP client of the client type. This is resolved when the client is created rather than for each
+     * request, so a configuration that does not have the HTTP client of its type yet falls back to {@code UNKNOWN}.
+     */
+    private static String clientName(SdkClientConfiguration config, ClientType clientType) {
+        if (clientType.equals(ClientType.SYNC)) {
+            SdkHttpClient httpClient = config.option(SdkClientOption.SYNC_HTTP_CLIENT);
+            if (httpClient != null) {
+                return httpClient.clientName();
+            }
+        }
+
+        if (clientType.equals(ClientType.ASYNC)) {
+            SdkAsyncHttpClient httpClient = config.option(SdkClientOption.ASYNC_HTTP_CLIENT);
+            if (httpClient != null) {
+                return httpClient.clientName();
+            }
+        }
+
+        return ClientType.UNKNOWN.name();
+    }
+}
@@ -17,8 +17,9 @@ package software.amazon.awssdk.core.internal.util;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.CRC32;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.checksums.Crc32Checksum;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.io.SdkFilterInputStream;
 
 /**
@@ -29,11 +30,11 @@ import software.amazon.awssdk.core.io.SdkFilterInputStream;
 public class Crc32ChecksumCalculatingInputStream extends SdkFilterInputStream {
 
     /** The CRC32 being calculated by this input stream. */
-    private CRC32 crc32;
+    private final SdkChecksum crc32;
 
     public Crc32ChecksumCalculatingInputStream(InputStream in) {
         super(in);
-        crc32 = new CRC32();
+        crc32 = new Crc32Checksum();
     }
 
     public long getCrc32Checksum() {
@@ -41,7 +42,19 @@ public class Crc32ChecksumCalculatingInputStream extends SdkFilterInputStream {
     }
 
     /**
-     * Resets the wrapped input stream and the CRC32 computation.
+     * Marks the wrapped input stream and the CRC32 computation.
+     *
+     * @see java.io.InputStream#mark(int)
+     */
+    @Override
+    public synchronized void mark(int readlimit) {
+        abortIfNeeded();
+        crc32.mark(readlimit);
+        in.mark(readlimit);
+    }
+
+    /**
+     * Resets the wrapped input stream and the CRC32 computation to the last mark.
      *
      * @see java.io.InputStream#reset()
      */
@@ -38,10 +38,13 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
 
     private final boolean isLastPage;
 
+    private final int maxPrefetchedPages;
+
     private PaginatedItemsPublisher(BuilderImpl builder) {
         this.nextPageFetcher = builder.nextPageFetcher;
         this.getIteratorFunction = builder.iteratorFunction;
         this.isLastPage = builder.isLastPage;
+        this.maxPrefetchedPages = builder.maxPrefetchedPages;
     }
 
     public static Builder builder() {
@@ -55,6 +58,7 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
                                                              .subscriber(subscriber)
                                                              .nextPageFetcher(nextPageFetcher)
                                                              .iteratorFunction(getIteratorFunction)
+                                                             .maxPrefetchedPages(maxPrefetchedPages)
                                                              .build());
     }
 
@@ -65,6 +69,12 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
 
         Builder isLastPage(boolean isLastPage);
 
+        /**
+         * The maximum number of pages to fetch ahead of the subscriber's demand. When this is zero, the default, a page is
+         * only fetched once the items of the previous page have been requested.
+         */
+        Builder maxPrefetchedPages(int maxPrefetchedPages);
+
         PaginatedItemsPublisher build();
     }
 
@@ -72,6 +82,7 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
         private AsyncPageFetcher nextPageFetcher;
         private Function iteratorFunction;
         private boolean isLastPage;
+        private int maxPrefetchedPages;
 
         @Override
         public Builder nextPageFetcher(AsyncPageFetcher nextPageFetcher) {
@@ -91,6 +102,12 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
             return this;
         }
 
+        @Override
+        public Builder maxPrefetchedPages(int maxPrefetchedPages) {
+            this.maxPrefetchedPages = maxPrefetchedPages;
+            return this;
+        }
+
         @Override
         public PaginatedItemsPublisher build() {
             return new PaginatedItemsPublisher(this);
@@ -20,6 +20,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.internal.pagination.async.PrefetchingAsyncPageFetcher;
 
 @SdkProtectedApi
 public abstract class PaginationSubscription<ResponseT> implements Subscription {
@@ -29,6 +30,9 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     protected final AsyncPageFetcher<ResponseT> nextPageFetcher;
     protected volatile ResponseT currentPage;
 
+    // the fetcher wrapping nextPageFetcher when pages are fetched ahead of the demand, null otherwise
+    private final PrefetchingAsyncPageFetcher<ResponseT> prefetchingFetcher;
+
     // boolean indicating whether subscription is terminated
     private AtomicBoolean isTerminated = new AtomicBoolean(false);
 
@@ -37,7 +41,10 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
 
     protected PaginationSubscription(BuilderImpl builder) {
         this.subscriber = builder.subscriber;
-        this.nextPageFetcher = builder.nextPageFetcher;
+        this.prefetchingFetcher = builder.maxPrefetchedPages > 0
+                                  ? new PrefetchingAsyncPageFetcher<>(builder.nextPageFetcher, builder.maxPrefetchedPages)
+                                  : null;
+        this.nextPageFetcher = prefetchingFetcher != null ? prefetchingFetcher : builder.nextPageFetcher;
     }
 
     @Override
@@ -102,6 +109,9 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     protected synchronized void cleanup() {
         terminate();
         stopTask();
+        if (prefetchingFetcher != null) {
+            prefetchingFetcher.close();
+        }
     }
 
     public interface Builder<TypeToBuildT extends PaginationSubscription, BuilderT extends Builder> {
@@ -109,6 +119,12 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
 
         BuilderT nextPageFetcher(AsyncPageFetcher nextPageFetcher);
 
+        /**
+         * The maximum number of pages to fetch ahead of the subscriber's demand. When this is zero, the default, a page is
+         * only fetched once the subscriber has requested it.
+         */
+        BuilderT maxPrefetchedPages(int maxPrefetchedPages);
+
         TypeToBuildT build();
     }
 
@@ -116,6 +132,7 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
         implements Builder<TypeToBuildT, BuilderT> {
         private Subscriber subscriber;
         private AsyncPageFetcher nextPageFetcher;
+        private int maxPrefetchedPages;
 
         @Override
         public BuilderT subscriber(Subscriber subscriber) {
@@ -128,6 +145,12 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
             this.nextPageFetcher = nextPageFetcher;
             return (BuilderT) this;
         }
+
+        @Override
+        public BuilderT maxPrefetchedPages(int maxPrefetchedPages) {
+            this.maxPrefetchedPages = maxPrefetchedPages;
+            return (BuilderT) this;
+        }
     }
 
 }
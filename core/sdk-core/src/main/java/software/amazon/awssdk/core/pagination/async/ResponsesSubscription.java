@@ -61,7 +61,9 @@ public final class ResponsesSubscription<ResponseT> extends PaginationSubscripti
                                    subscriber.onNext(response);
                                    handleRequests();
                                }
-                               if (error != null) {
+                               // Fetches still outstanding when the subscription is cancelled fail with a cancellation, which is
+                               // not signalled to the subscriber
+                               if (error != null && !isTerminated()) {
                                    subscriber.onError(error);
                                    cleanup();
                                }
@@ -17,7 +17,10 @@ package software.amazon.awssdk.core.pagination.sync;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.internal.pagination.sync.PrefetchingSyncPageFetcher;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * Iterator for all response pages in a paginated operation.
@@ -28,16 +31,23 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
  * @param <ResponseT> The type of a single response page
  */
 @SdkProtectedApi
-public final class PaginatedResponsesIterator<ResponseT> implements Iterator<ResponseT> {
+public final class PaginatedResponsesIterator<ResponseT> implements Iterator<ResponseT>, SdkAutoCloseable {
 
     private final SyncPageFetcher<ResponseT> nextPageFetcher;
 
+    // The fetcher wrapping the builder's fetcher when pages are fetched ahead of the iteration, null otherwise
+    private final PrefetchingSyncPageFetcher<ResponseT> prefetchingFetcher;
+
     // This is null when the object is created. It gets initialized in next() method
     // where SDK make service calls.
     private ResponseT oldResponse;
 
     private PaginatedResponsesIterator(BuilderImpl builder) {
-        this.nextPageFetcher = builder.nextPageFetcher;
+        this.prefetchingFetcher = builder.maxPrefetchedPages > 0
+                                  ? new PrefetchingSyncPageFetcher<>(builder.nextPageFetcher, builder.maxPrefetchedPages,
+                                                                     builder.prefetchExecutor)
+                                  : null;
+        this.nextPageFetcher = prefetchingFetcher != null ? prefetchingFetcher : builder.nextPageFetcher;
     }
 
     public static Builder builder() {
@@ -60,14 +70,40 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
         return oldResponse;
     }
 
+    /**
+     * Stop fetching pages ahead of the iteration, cancelling the page that is being fetched. This only needs to be called
+     * when the iteration is abandoned before the last page and {@link Builder#maxPrefetchedPages(int)} is greater than zero.
+     */
+    @Override
+    public void close() {
+        if (prefetchingFetcher != null) {
+            prefetchingFetcher.close();
+        }
+    }
+
     public interface Builder {
         Builder nextPageFetcher(SyncPageFetcher nextPageFetcher);
 
+        /**
+         * The maximum number of pages to fetch ahead of the iteration, using the {@link #prefetchExecutor(Executor)}. When
+         * this is zero, the default, a page is only fetched when
+         * {@link PaginatedResponsesIterator#next()} is called.
+         */
+        Builder maxPrefetchedPages(int maxPrefetchedPages);
+
+        /**
+         * The executor used to fetch pages ahead of the iteration. This is required when
+         * {@link #maxPrefetchedPages(int)} is greater than zero.
+         */
+        Builder prefetchExecutor(Executor prefetchExecutor);
+
         PaginatedResponsesIterator build();
     }
 
     private static final class BuilderImpl implements Builder {
         private SyncPageFetcher nextPageFetcher;
+        private int maxPrefetchedPages;
+        private Executor prefetchExecutor;
 
         protected BuilderImpl() {
         }
@@ -78,6 +114,18 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
             return this;
         }
 
+        @Override
+        public Builder maxPrefetchedPages(int maxPrefetchedPages) {
+            this.maxPrefetchedPages = maxPrefetchedPages;
+            return this;
+        }
+
+        @Override
+        public Builder prefetchExecutor(Executor prefetchExecutor) {
+            this.prefetchExecutor = prefetchExecutor;
+            return this;
+        }
+
         @Override
         public PaginatedResponsesIterator build() {
             return new PaginatedResponsesIterator(this);
@@ -17,7 +17,13 @@ package software.amazon.awssdk.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
 
 public class SdkBytesTest {
     @Test
@@ -45,4 +51,84 @@ public class SdkBytesTest {
 
         assertThat(output).isSameAs(input);
     }
+
+    @Test
+    public void fromByteBufferUnsafeDoesNotCopy() {
+        ByteBuffer input = ByteBuffer.wrap(new byte[] { 'a', 'b', 'c' });
+        input.position(1);
+        SdkBytes bytes = SdkBytes.fromByteBufferUnsafe(input);
+
+        input.put(2, (byte) 'd');
+        assertThat(bytes.asUtf8String()).isEqualTo("bd");
+        assertThat(input.position()).isEqualTo(1);
+    }
+
+    @Test
+    public void fromByteBufferUnsafe_asByteArrayUnsafeMaterializesOnce() {
+        SdkBytes bytes = SdkBytes.fromByteBufferUnsafe(directBuffer("abc"));
+
+        byte[] output = bytes.asByteArrayUnsafe();
+        assertThat(output).isEqualTo("abc".getBytes(StandardCharsets.UTF_8));
+        assertThat(bytes.asByteArrayUnsafe()).isSameAs(output);
+        assertThat(bytes.asByteArray()).isNotSameAs(output).isEqualTo(output);
+    }
+
+    @Test
+    public void fromByteBufferUnsafe_readsBufferWithoutMaterializing() throws IOException {
+        SdkBytes bytes = SdkBytes.fromByteBufferUnsafe(directBuffer("abc"));
+
+        assertThat(bytes.asUtf8String()).isEqualTo("abc");
+        assertThat(IoUtils.toUtf8String(bytes.asInputStream())).isEqualTo("abc");
+        assertThat(bytes.asByteBuffer().isDirect()).isTrue();
+        assertThat(bytes.asByteBuffer().isReadOnly()).isTrue();
+        assertThat(bytes.asByteBuffer().remaining()).isEqualTo(3);
+    }
+
+    @Test
+    public void asByteBufferUnsafe_exposesBackingArray() {
+        byte[] input = "abc".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer arrayBacked = SdkBytes.fromByteArrayUnsafe(input).asByteBufferUnsafe();
+        ByteBuffer heapBufferBacked =
+            SdkBytes.fromByteBufferUnsafe(ByteBuffer.wrap("xabc".getBytes(StandardCharsets.UTF_8), 1, 3)).asByteBufferUnsafe();
+
+        assertThat(arrayBacked.hasArray()).isTrue();
+        assertThat(arrayBacked.array()).isSameAs(input);
+        assertThat(heapBufferBacked.hasArray()).isTrue();
+        assertThat(heapBufferBacked.arrayOffset()).isEqualTo(1);
+        assertThat(heapBufferBacked.remaining()).isEqualTo(3);
+        assertThat(SdkBytes.fromByteArrayUnsafe(input).asByteBuffer().isReadOnly()).isTrue();
+    }
+
+    @Test
+    public void equalsAndHashCode_doNotDependOnBacking() {
+        SdkBytes array = SdkBytes.fromUtf8String("abc");
+        SdkBytes heapBuffer = SdkBytes.fromByteBufferUnsafe(ByteBuffer.wrap("xabc".getBytes(StandardCharsets.UTF_8), 1, 3));
+        SdkBytes directBuffer = SdkBytes.fromByteBufferUnsafe(directBuffer("abc"));
+
+        assertThat(heapBuffer).isEqualTo(array).isEqualTo(directBuffer);
+        assertThat(array).isEqualTo(heapBuffer);
+        assertThat(heapBuffer.hashCode()).isEqualTo(array.hashCode()).isEqualTo(directBuffer.hashCode());
+        assertThat(directBuffer).isNotEqualTo(SdkBytes.fromByteBufferUnsafe(directBuffer("abd")));
+    }
+
+    @Test
+    public void fromFileMapsFile() throws IOException {
+        Path file = Files.createTempFile(SdkBytesTest.class.getSimpleName(), ".txt");
+        try {
+            Files.write(file, "Hello, file".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(SdkBytes.fromFile(file).asUtf8String()).isEqualTo("Hello, file");
+            assertThat(SdkBytes.fromFile(file, 7, 4).asUtf8String()).isEqualTo("file");
+            assertThat(SdkBytes.fromFile(file)).isEqualTo(SdkBytes.fromUtf8String("Hello, file"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static ByteBuffer directBuffer(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
 }
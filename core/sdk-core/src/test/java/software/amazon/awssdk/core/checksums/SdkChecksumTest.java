@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import software.amazon.awssdk.core.internal.checksums.SdkCrc32C;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+@RunWith(Parameterized.class)
+public class SdkChecksumTest {
+
+    private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @Parameterized.Parameter
+    public String algorithm;
+
+    @Parameterized.Parameter(1)
+    public Supplier<SdkChecksum> checksumSupplier;
+
+    @Parameterized.Parameter(2)
+    public String expectedCheckValue;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> checksums() {
+        Supplier<SdkChecksum> crc32 = Crc32Checksum::new;
+        Supplier<SdkChecksum> crc32c = Crc32CChecksum::new;
+        Supplier<SdkChecksum> sdkCrc32c = SdkCrc32CChecksum::new;
+        Supplier<SdkChecksum> sha1 = Sha1Checksum::new;
+        Supplier<SdkChecksum> sha256 = Sha256Checksum::new;
+        Supplier<SdkChecksum> md5 = Md5Checksum::new;
+        return Arrays.asList(new Object[][] {
+            {"CRC32", crc32, "cbf43926"},
+            {"CRC32C", crc32c, "e3069283"},
+            {"CRC32C (SDK)", sdkCrc32c, "e3069283"},
+            {"SHA-1", sha1, "f7c3bc1d808e04732adf679965ccc34ca7ae3441"},
+            {"SHA-256", sha256, "15e2b0d3c33891ebb0f1ef609ec419420c20e320ce94c65fbc8c3312448eb225"},
+            {"MD5", md5, "25f9e794323b453885f5181f1b624d0b"}
+        });
+    }
+
+    @Test
+    public void byteArray_producesKnownCheckValue() {
+        SdkChecksum checksum = checksumSupplier.get();
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+        assertThat(BinaryUtils.toHex(checksum.getChecksumBytes())).isEqualTo(expectedCheckValue);
+    }
+
+    @Test
+    public void singleBytes_producesKnownCheckValue() {
+        SdkChecksum checksum = checksumSupplier.get();
+        for (byte b : CHECK_INPUT) {
+            checksum.update(b);
+        }
+        assertThat(BinaryUtils.toHex(checksum.getChecksumBytes())).isEqualTo(expectedCheckValue);
+    }
+
+    @Test
+    public void heapByteBuffer_readsRemainingBytesAndConsumesBuffer() {
+        byte[] padded = new byte[CHECK_INPUT.length + 6];
+        System.arraycopy(CHECK_INPUT, 0, padded, 3, CHECK_INPUT.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 1, padded.length - 2).slice();
+        buffer.position(2);
+        buffer.limit(2 + CHECK_INPUT.length);
+
+        SdkChecksum checksum = checksumSupplier.get();
+        checksum.update(buffer);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(BinaryUtils.toHex(checksum.getChecksumBytes())).isEqualTo(expectedCheckValue);
+    }
+
+    @Test
+    public void directByteBuffer_matchesByteArray() {
+        byte[] data = randomBytes(100_003);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data);
+        direct.flip();
+
+        SdkChecksum fromArray = checksumSupplier.get();
+        fromArray.update(data, 0, data.length);
+
+        SdkChecksum fromBuffer = checksumSupplier.get();
+        fromBuffer.update(direct);
+
+        assertThat(direct.hasRemaining()).isFalse();
+        assertThat(fromBuffer.getChecksumBytes()).isEqualTo(fromArray.getChecksumBytes());
+    }
+
+    @Test
+    public void reset_afterMark_discardsOnlyDataAfterMark() {
+        byte[] data = randomBytes(1000);
+
+        SdkChecksum expected = checksumSupplier.get();
+        expected.update(data, 0, data.length);
+
+        SdkChecksum checksum = checksumSupplier.get();
+        checksum.update(data, 0, 400);
+        checksum.mark(Integer.MAX_VALUE);
+        checksum.update(data, 400, 100);
+        checksum.reset();
+        checksum.update(ByteBuffer.wrap(data, 400, 600));
+
+        assertThat(checksum.getChecksumBytes()).isEqualTo(expected.getChecksumBytes());
+    }
+
+    @Test
+    public void reset_withoutMark_startsOver() {
+        SdkChecksum checksum = checksumSupplier.get();
+        checksum.update(new byte[] {1, 2, 3}, 0, 3);
+        checksum.reset();
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+        assertThat(BinaryUtils.toHex(checksum.getChecksumBytes())).isEqualTo(expectedCheckValue);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * Exercises the pure Java CRC32C implementation regardless of the JDK the tests run on.
+     */
+    private static final class SdkCrc32CChecksum extends BaseCrcChecksum {
+        private SdkCrc32CChecksum() {
+            super(new SdkCrc32C(), SdkCrc32C.POLYNOMIAL);
+        }
+
+        @Override
+        void updateCrc(Checksum crc, ByteBuffer buffer) {
+            ((SdkCrc32C) crc).update(buffer);
+        }
+    }
+}
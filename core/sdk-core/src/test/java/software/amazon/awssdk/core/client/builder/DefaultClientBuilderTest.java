@@ -18,6 +18,8 @@ package software.amazon.awssdk.core.client.builder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -33,10 +35,12 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
@@ -47,6 +51,10 @@ import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -160,6 +168,44 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void warmUpConnectionsConfigured_warmsUpEndpointWithHttpClient() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        when(httpClient.warmUp(any(), anyInt(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        testClientBuilder().overrideConfiguration(c -> c.putAdvancedOption(SdkAdvancedClientOption.WARM_UP_CONNECTIONS, 4))
+                           .httpClient(httpClient)
+                           .build();
+
+        verify(httpClient).warmUp(eq(DEFAULT_ENDPOINT), eq(4), any(NoOpMetricCollector.class));
+    }
+
+    @Test
+    public void warmUpConnectionsConfiguredWithMetricPublisher_publishesWarmUpMetrics() {
+        SdkAsyncHttpClient httpClient = mock(SdkAsyncHttpClient.class);
+        when(httpClient.warmUp(any(), anyInt(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        MetricPublisher metricPublisher = mock(MetricPublisher.class);
+
+        testAsyncClientBuilder().overrideConfiguration(c -> c.putAdvancedOption(SdkAdvancedClientOption.WARM_UP_CONNECTIONS, 2)
+                                                            .addMetricPublisher(metricPublisher))
+                                .httpClient(httpClient)
+                                .build();
+
+        verify(httpClient).warmUp(eq(DEFAULT_ENDPOINT), eq(2), any(MetricCollector.class));
+        ArgumentCaptor<MetricCollection> metrics = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(metricPublisher).publish(metrics.capture());
+        assertThat(metrics.getValue().name()).isEqualTo("ConnectionWarmUp");
+    }
+
+    @Test
+    public void warmUpConnectionsNotConfigured_doesNotWarmUp() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+
+        testClientBuilder().httpClient(httpClient).build();
+
+        verify(httpClient, never()).warmUp(any(), anyInt(), any());
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         SdkClientBuilder<TestClientBuilder, TestClient> builder = testClientBuilder();
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ClasspathInterceptorChainFactoryTest {
+    private static final String RESOURCE = "software/amazon/awssdk/core/interceptor/test.execution.interceptors";
+
+    @Test
+    public void getInterceptors_createsListedInterceptors() {
+        List<ExecutionInterceptor> interceptors = new ClasspathInterceptorChainFactory().getInterceptors(RESOURCE);
+
+        assertThat(interceptors).hasSize(2);
+        assertThat(interceptors).hasAtLeastOneElementOfType(FirstInterceptor.class);
+        assertThat(interceptors).hasAtLeastOneElementOfType(SecondInterceptor.class);
+    }
+
+    @Test
+    public void getInterceptors_calledTwice_createsNewInterceptors() {
+        List<ExecutionInterceptor> first = new ClasspathInterceptorChainFactory().getInterceptors(RESOURCE);
+        List<ExecutionInterceptor> second = new ClasspathInterceptorChainFactory().getInterceptors(RESOURCE);
+
+        assertThat(second).hasSameSizeAs(first);
+        assertThat(second).doesNotContainAnyElementsOf(first);
+    }
+
+    @Test
+    public void getInterceptors_readsResourcesOncePerClassLoader() throws Exception {
+        CountingClassLoader firstLoader = new CountingClassLoader();
+        CountingClassLoader secondLoader = new CountingClassLoader();
+
+        assertThat(getInterceptors(firstLoader)).hasSize(2);
+        assertThat(getInterceptors(firstLoader)).hasSize(2);
+        assertThat(getInterceptors(secondLoader)).hasSize(2);
+
+        assertThat(firstLoader.resourceReads).containsEntry(RESOURCE, 1);
+        assertThat(secondLoader.resourceReads).containsEntry(RESOURCE, 1);
+    }
+
+    @Test
+    public void getInterceptors_missingResource_isEmpty() {
+        assertThat(new ClasspathInterceptorChainFactory().getInterceptors("does/not/exist.interceptors")).isEmpty();
+    }
+
+    /**
+     * Creates a factory whose class, and so the class loader it reads the resources with, is defined by the given loader.
+     */
+    private static List<?> getInterceptors(CountingClassLoader loader) throws Exception {
+        Class<?> factoryClass = loader.loadClass(ClasspathInterceptorChainFactory.class.getName());
+        assertThat(factoryClass.getClassLoader()).isSameAs(loader);
+
+        Object factory = factoryClass.newInstance();
+        return (List<?>) factoryClass.getMethod("getInterceptors", String.class).invoke(factory, RESOURCE);
+    }
+
+    /**
+     * A class loader that defines its own copy of {@link ClasspathInterceptorChainFactory}, delegates everything else to the
+     * loader of this test, and counts how often the resources at each path are looked up.
+     */
+    private static final class CountingClassLoader extends ClassLoader {
+        private final Map<String, Integer> resourceReads = new ConcurrentHashMap<>();
+
+        private CountingClassLoader() {
+            super(ClasspathInterceptorChainFactoryTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(ClasspathInterceptorChainFactory.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    try (InputStream classFile = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = IoUtils.toByteArray(classFile);
+                        loadedClass = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loadedClass;
+            }
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            resourceReads.merge(name, 1, Integer::sum);
+            return super.getResources(name);
+        }
+    }
+
+    public static class FirstInterceptor implements ExecutionInterceptor {
+    }
+
+    public static class SecondInterceptor implements ExecutionInterceptor {
+    }
+}
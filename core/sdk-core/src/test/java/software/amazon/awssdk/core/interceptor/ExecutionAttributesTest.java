@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ExecutionAttributesTest {
+    private static final ExecutionAttribute<String> FIRST = new ExecutionAttribute<>("First");
+    private static final ExecutionAttribute<Integer> SECOND = new ExecutionAttribute<>("Second");
+
+    @Test
+    public void getAttribute_notSet_isNull() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+
+        assertThat(attributes.getAttribute(FIRST)).isNull();
+        assertThat(attributes.putAttribute(SECOND, 1).getAttribute(FIRST)).isNull();
+    }
+
+    @Test
+    public void putAttribute_replacesValue() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(FIRST, "a").putAttribute(SECOND, 1);
+
+        attributes.putAttribute(FIRST, "b");
+
+        assertThat(attributes.getAttribute(FIRST)).isEqualTo("b");
+        assertThat(attributes.getAttribute(SECOND)).isEqualTo(1);
+    }
+
+    @Test
+    public void putAttributeIfAbsent_onlySetsMissingOrNullValues() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(FIRST, "a").putAttribute(SECOND, null);
+
+        attributes.putAttributeIfAbsent(FIRST, "b").putAttributeIfAbsent(SECOND, 2);
+
+        assertThat(attributes.getAttribute(FIRST)).isEqualTo("a");
+        assertThat(attributes.getAttribute(SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    public void attributeCreatedAfterAttributes_canBeStored() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(FIRST, "a");
+        ExecutionAttribute<String> later = new ExecutionAttribute<>("Later");
+
+        attributes.putAttribute(later, "b");
+
+        assertThat(attributes.getAttribute(FIRST)).isEqualTo("a");
+        assertThat(attributes.getAttribute(later)).isEqualTo("b");
+    }
+
+    @Test
+    public void manyAttributes_areAllStored() {
+        List<ExecutionAttribute<Integer>> created = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            created.add(new ExecutionAttribute<>("Attribute" + i));
+        }
+
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        for (int i = 0; i < created.size(); i++) {
+            attributes.putAttribute(created.get(i), i);
+        }
+
+        for (int i = 0; i < created.size(); i++) {
+            assertThat(attributes.getAttribute(created.get(i))).isEqualTo(i);
+        }
+        assertThat(new ExecutionAttributes().getAttribute(created.get(created.size() - 1))).isNull();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+public class ExecutionInterceptorChainTest {
+    private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+
+    @Test
+    public void hooksOnlyInvokeInterceptorsThatOverrideThem_inOrder() {
+        List<String> invocations = new ArrayList<>();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(
+            new RecordingInterceptor("first", invocations),
+            new ExecutionInterceptor() {
+            },
+            new RecordingInterceptor("second", invocations)));
+
+        InterceptorContext context = InterceptorContext.builder().request(mock(SdkRequest.class)).build();
+        chain.beforeExecution(context, executionAttributes);
+        chain.afterExecution(context, executionAttributes);
+
+        assertThat(invocations).containsExactly("first.beforeExecution", "second.beforeExecution",
+                                                "second.afterExecution", "first.afterExecution");
+    }
+
+    @Test
+    public void hookOverriddenInSubInterface_isInvoked() {
+        List<String> invocations = new ArrayList<>();
+        ExecutionInterceptorChain chain =
+            new ExecutionInterceptorChain(Collections.singletonList(new SubInterfaceInterceptor(invocations)));
+
+        chain.beforeExecution(InterceptorContext.builder().request(mock(SdkRequest.class)).build(), executionAttributes);
+
+        assertThat(invocations).containsExactly("subInterface.beforeExecution");
+    }
+
+    @Test
+    public void unmodifiedContext_isNotCopied() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(
+            new ExecutionInterceptor() {
+            },
+            new ExecutionInterceptor() {
+                @Override
+                public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+                    return context.request();
+                }
+
+                @Override
+                public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context,
+                                                        ExecutionAttributes executionAttributes) {
+                    return context.httpRequest();
+                }
+            }));
+
+        InterceptorContext context = InterceptorContext.builder()
+                                                       .request(mock(SdkRequest.class))
+                                                       .httpRequest(httpRequest().build())
+                                                       .build();
+
+        assertThat(chain.modifyRequest(context, executionAttributes)).isSameAs(context);
+        assertThat(chain.modifyHttpRequestAndHttpContent(context, executionAttributes)).isSameAs(context);
+    }
+
+    @Test
+    public void modifiedContext_isCopied() {
+        SdkRequest modifiedRequest = mock(SdkRequest.class);
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Collections.singletonList(
+            new ExecutionInterceptor() {
+                @Override
+                public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+                    return modifiedRequest;
+                }
+            }));
+
+        InterceptorContext context = InterceptorContext.builder().request(mock(SdkRequest.class)).build();
+
+        assertThat(chain.modifyRequest(context, executionAttributes).request()).isSameAs(modifiedRequest);
+    }
+
+    @Test
+    public void modifyHttpRequestAndHttpContent_noInterceptorOverridesIt_stillCreatesRequestBody() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Collections.singletonList(new ExecutionInterceptor() {
+        }));
+
+        InterceptorContext context = InterceptorContext.builder()
+                                                       .request(mock(SdkRequest.class))
+                                                       .httpRequest(httpRequest().contentStreamProvider(() -> null)
+                                                                                 .putHeader("Content-Length", "5")
+                                                                                 .build())
+                                                       .build();
+
+        InterceptorContext result = chain.modifyHttpRequestAndHttpContent(context, executionAttributes);
+
+        assertThat(result.requestBody()).hasValueSatisfying(b -> assertThat(b.contentLength()).isEqualTo(5));
+    }
+
+    @Test
+    public void modifyHttpRequestAndHttpContent_interceptorModifiesContent_usesModifiedContent() {
+        RequestBody modifiedBody = RequestBody.fromString("modified");
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Collections.singletonList(new ExecutionInterceptor() {
+            @Override
+            public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                           ExecutionAttributes executionAttributes) {
+                return Optional.of(modifiedBody);
+            }
+        }));
+
+        InterceptorContext context = InterceptorContext.builder()
+                                                       .request(mock(SdkRequest.class))
+                                                       .httpRequest(httpRequest().build())
+                                                       .build();
+
+        assertThat(chain.modifyHttpRequestAndHttpContent(context, executionAttributes).requestBody()).hasValue(modifiedBody);
+    }
+
+    private static SdkHttpFullRequest.Builder httpRequest() {
+        return SdkHttpFullRequest.builder().method(SdkHttpMethod.PUT).protocol("https").host("localhost");
+    }
+
+    private static class RecordingInterceptor implements ExecutionInterceptor {
+        private final String name;
+        private final List<String> invocations;
+
+        private RecordingInterceptor(String name, List<String> invocations) {
+            this.name = name;
+            this.invocations = invocations;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".beforeExecution");
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".afterExecution");
+        }
+    }
+
+    private interface RecordingExecutionInterceptor extends ExecutionInterceptor {
+        List<String> invocations();
+
+        @Override
+        default void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            invocations().add("subInterface.beforeExecution");
+        }
+    }
+
+    private static class SubInterfaceInterceptor implements ExecutionInterceptor, RecordingExecutionInterceptor {
+        private final List<String> invocations;
+
+        private SubInterfaceInterceptor(List<String> invocations) {
+            this.invocations = invocations;
+        }
+
+        @Override
+        public List<String> invocations() {
+            return invocations;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Tests for {@link ByteArrayAsyncResponseTransformer}.
+ */
+public class ByteArrayAsyncResponseTransformerTest {
+    private static final byte[] CONTENT = randomBytes(10_000);
+
+    @Test
+    public void contentLengthKnown_returnsContent() {
+        ResponseBytes<SdkResponse> result = transform(responseWithContentLength(CONTENT.length), chunks(CONTENT, 1000));
+
+        assertThat(result.asByteArrayUnsafe()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void contentLengthUnknown_returnsContent() {
+        ResponseBytes<SdkResponse> result = transform(responseWithoutContentLength(), chunks(CONTENT, 1000));
+
+        assertThat(result.asByteArrayUnsafe()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void responseIsNotAnSdkResponse_returnsContent() {
+        ByteArrayAsyncResponseTransformer<String> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<String>> future = transformer.prepare();
+        transformer.onResponse("response");
+        transformer.onStream(new ListPublisher(chunks(CONTENT, 3000)));
+
+        assertThat(future.join().asByteArrayUnsafe()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void moreContentThanDeclared_returnsAllContent() {
+        ResponseBytes<SdkResponse> result = transform(responseWithContentLength(CONTENT.length - 1500),
+                                                      chunks(CONTENT, 1000));
+
+        assertThat(result.asByteArrayUnsafe()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void lessContentThanDeclared_returnsReceivedContent() {
+        ResponseBytes<SdkResponse> result = transform(responseWithContentLength(CONTENT.length + 10), chunks(CONTENT, 1000));
+
+        assertThat(result.asByteArrayUnsafe()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void hugeDeclaredContentLength_doesNotPreallocateIt_andReturnsReceivedContent() {
+        ResponseBytes<SdkResponse> result = transform(responseWithContentLength(Integer.MAX_VALUE - 8), chunks(CONTENT, 1000));
+
+        assertThat(result.asByteArrayUnsafe()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void contentLengthLargerThanPreallocated_growsArrayAsContentArrives() {
+        byte[] content = randomBytes(2 * ByteArrayAsyncResponseTransformer.MAX_PREALLOCATED_LENGTH + 1000);
+
+        ResponseBytes<SdkResponse> result = transform(responseWithContentLength(content.length), chunks(content, 64 * 1024));
+
+        assertThat(result.asByteArrayUnsafe()).isEqualTo(content);
+    }
+
+    @Test
+    public void emptyContent_returnsEmptyArray() {
+        assertThat(transform(responseWithContentLength(0), new ArrayList<>()).asByteArrayUnsafe()).isEmpty();
+        assertThat(transform(responseWithoutContentLength(), new ArrayList<>()).asByteArrayUnsafe()).isEmpty();
+    }
+
+    @Test
+    public void buffersWithOffsets_onlyRemainingBytesAreRead_andBuffersAreNotConsumed() {
+        ByteBuffer first = ByteBuffer.allocate(20);
+        first.position(5);
+        first.put(CONTENT, 0, 10);
+        first.flip();
+        first.position(5);
+        ByteBuffer second = ByteBuffer.allocateDirect(10);
+        second.put(CONTENT, 10, 10);
+        second.flip();
+
+        ResponseBytes<SdkResponse> result = transform(responseWithContentLength(20), Arrays.asList(first, second));
+
+        assertThat(result.asByteArrayUnsafe()).isEqualTo(Arrays.copyOf(CONTENT, 20));
+        assertThat(first.remaining()).isEqualTo(10);
+        assertThat(second.remaining()).isEqualTo(10);
+    }
+
+    @Test
+    public void errorInStream_completesFutureExceptionally() {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(responseWithContentLength(CONTENT.length));
+        RuntimeException error = new RuntimeException("boom");
+        transformer.onStream(subscriber -> {
+            subscriber.onSubscribe(new NoopSubscription());
+            subscriber.onNext(ByteBuffer.wrap(CONTENT, 0, 100));
+            subscriber.onError(error);
+        });
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCause(error);
+    }
+
+    private static ResponseBytes<SdkResponse> transform(SdkResponse response, List<ByteBuffer> chunks) {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response);
+        transformer.onStream(new ListPublisher(chunks));
+        return future.join();
+    }
+
+    private static SdkResponse responseWithContentLength(long contentLength) {
+        return response(SdkHttpResponse.builder()
+                                       .statusCode(200)
+                                       .putHeader("Content-Length", Long.toString(contentLength))
+                                       .build());
+    }
+
+    private static SdkResponse responseWithoutContentLength() {
+        return response(SdkHttpResponse.builder().statusCode(200).build());
+    }
+
+    private static SdkResponse response(SdkHttpResponse httpResponse) {
+        SdkResponse response = mock(SdkResponse.class);
+        when(response.sdkHttpResponse()).thenReturn(httpResponse);
+        return response;
+    }
+
+    private static List<ByteBuffer> chunks(byte[] content, int chunkSize) {
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < content.length; offset += chunkSize) {
+            chunks.add(ByteBuffer.wrap(content, offset, Math.min(chunkSize, content.length - offset)));
+        }
+        return chunks;
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(0).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class ListPublisher implements SdkPublisher<ByteBuffer> {
+        private final List<ByteBuffer> chunks;
+
+        private ListPublisher(List<ByteBuffer> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new NoopSubscription());
+            chunks.forEach(subscriber::onNext);
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class NoopSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+
+public class HttpClientDependenciesTest {
+    @After
+    public void clearExecutionEnvironment() {
+        System.clearProperty(SdkSystemSetting.AWS_EXECUTION_ENV.property());
+    }
+
+    @Test
+    public void build_resolvesClientUserAgentEagerly() {
+        System.setProperty(SdkSystemSetting.AWS_EXECUTION_ENV.property(), "AtBuild");
+
+        HttpClientDependencies dependencies = HttpClientDependencies.builder()
+                                                                    .clientConfiguration(c -> { })
+                                                                    .build();
+
+        System.setProperty(SdkSystemSetting.AWS_EXECUTION_ENV.property(), "AtRequest");
+
+        assertThat(userAgent(dependencies)).contains(" exec-env/AtBuild ")
+                                           .doesNotContain("AtRequest")
+                                           .contains(" io/unknown http/UNKNOWN");
+    }
+
+    @Test
+    public void build_syncClientTypeWithoutHttpClient_usesUnknownHttpClientName() {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(c -> c.option(SdkClientOption.CLIENT_TYPE, ClientType.SYNC))
+                                  .build();
+
+        assertThat(userAgent(dependencies)).contains(" io/sync http/UNKNOWN");
+    }
+
+    @Test
+    public void build_asyncClientTypeWithoutHttpClient_usesUnknownHttpClientName() {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(c -> c.option(SdkClientOption.CLIENT_TYPE, ClientType.ASYNC))
+                                  .build();
+
+        assertThat(userAgent(dependencies)).contains(" io/async http/UNKNOWN");
+    }
+
+    private static String userAgent(HttpClientDependencies dependencies) {
+        return dependencies.clientUserAgent().userAgent(Collections.emptyList());
+    }
+}
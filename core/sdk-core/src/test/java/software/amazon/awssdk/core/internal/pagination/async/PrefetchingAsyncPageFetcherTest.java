@@ -0,0 +1,303 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+import software.amazon.awssdk.core.pagination.async.ResponsesSubscription;
+import software.amazon.awssdk.core.pagination.sync.PaginatedResponsesIterator;
+import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
+
+public class PrefetchingAsyncPageFetcherTest {
+
+    @Test
+    public void nextPage_firstPageArrives_secondPageIsFetchedWithoutBeingRequested() {
+        ControlledPageFetcher delegate = new ControlledPageFetcher(5);
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 1);
+
+        CompletableFuture<Integer> first = fetcher.nextPage(null);
+        assertThat(delegate.requestedPages).containsExactly((Integer) null);
+
+        delegate.complete(0);
+
+        assertThat(first.join()).isEqualTo(1);
+        assertThat(delegate.requestedPages).containsExactly(null, 1);
+    }
+
+    @Test
+    public void nextPage_consumerDoesNotKeepUp_prefetchingIsBounded() {
+        ControlledPageFetcher delegate = new ControlledPageFetcher(10);
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 2);
+
+        CompletableFuture<Integer> first = fetcher.nextPage(null);
+        for (int i = 0; i < 5; i++) {
+            delegate.completeAll();
+        }
+
+        // The first page was handed out, so two more may be fetched ahead of the consumer.
+        assertThat(first.join()).isEqualTo(1);
+        assertThat(delegate.requestedPages).containsExactly(null, 1, 2);
+
+        Integer second = fetcher.nextPage(1).join();
+        delegate.completeAll();
+
+        assertThat(second).isEqualTo(2);
+        assertThat(delegate.requestedPages).containsExactly(null, 1, 2, 3);
+    }
+
+    @Test
+    public void nextPage_iteratesAllPagesInOrder() {
+        ControlledPageFetcher delegate = new ControlledPageFetcher(7).completeImmediately();
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 3);
+
+        List<Integer> pages = new ArrayList<>();
+        Integer page = null;
+        do {
+            page = fetcher.nextPage(page).join();
+            pages.add(page);
+        } while (fetcher.hasNextPage(page));
+
+        assertThat(pages).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(delegate.requestedPages).containsExactly(null, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void hasNextPage_evaluatedWhenPageArrives() {
+        ControlledPageFetcher delegate = new ControlledPageFetcher(3).completeImmediately();
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 2);
+
+        Integer first = fetcher.nextPage(null).join();
+        int hasNextPageCalls = delegate.hasNextPageCalls;
+
+        assertThat(fetcher.hasNextPage(first)).isTrue();
+        assertThat(delegate.hasNextPageCalls).isEqualTo(hasNextPageCalls);
+    }
+
+    @Test
+    public void nextPage_delegateFails_failureIsPropagated() {
+        ControlledPageFetcher delegate = new ControlledPageFetcher(3);
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 2);
+
+        CompletableFuture<Integer> first = fetcher.nextPage(null);
+        delegate.fail(0, new IllegalStateException("boom"));
+
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class)
+                                       .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(delegate.requestedPages).containsExactly((Integer) null);
+    }
+
+    @Test
+    public void close_cancelsOutstandingFetchAndStopsPrefetching() {
+        ControlledPageFetcher delegate = new ControlledPageFetcher(5);
+        PrefetchingAsyncPageFetcher<Integer> fetcher = new PrefetchingAsyncPageFetcher<>(delegate, 2);
+
+        assertThat(fetcher.nextPage(null)).isNotDone();
+        delegate.complete(0);
+        CompletableFuture<Integer> second = fetcher.nextPage(1);
+
+        fetcher.close();
+
+        assertThat(delegate.responses.get(1)).isCancelled();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(fetcher.nextPage(2)).isCancelled();
+        assertThat(delegate.requestedPages).containsExactly(null, 1);
+    }
+
+    @Test
+    public void responsesSubscription_cancelled_cancelsOutstandingFetch() {
+        ControlledPageFetcher delegate = new ControlledPageFetcher(5);
+        List<Object> signals = new ArrayList<>();
+        Subscriber<Integer> subscriber = new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+            }
+
+            @Override
+            public void onNext(Integer page) {
+                signals.add(page);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                signals.add(t);
+            }
+
+            @Override
+            public void onComplete() {
+                signals.add("complete");
+            }
+        };
+
+        ResponsesSubscription subscription = ResponsesSubscription.builder()
+                                                                  .subscriber(subscriber)
+                                                                  .nextPageFetcher(delegate)
+                                                                  .maxPrefetchedPages(2)
+                                                                  .build();
+        subscription.request(1);
+        delegate.complete(0);
+
+        // The second page is being fetched ahead of the demand.
+        assertThat(delegate.requestedPages).containsExactly(null, 1);
+
+        subscription.cancel();
+
+        assertThat(delegate.responses.get(1)).isCancelled();
+        assertThat(signals).containsExactly(1);
+    }
+
+    @Test
+    public void paginatedResponsesIterator_closed_cancelsOutstandingFetch() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CompletableFuture<Void> secondFetchStarted = new CompletableFuture<>();
+        CompletableFuture<Void> blockFetch = new CompletableFuture<>();
+        List<Integer> fetchedPages = new ArrayList<>();
+        try {
+            SyncPageFetcher<Integer> fetcher = new SyncPageFetcher<Integer>() {
+                @Override
+                public boolean hasNextPage(Integer oldPage) {
+                    return oldPage < 10;
+                }
+
+                @Override
+                public Integer nextPage(Integer oldPage) {
+                    int page = oldPage == null ? 1 : oldPage + 1;
+                    if (page == 2) {
+                        secondFetchStarted.complete(null);
+                        blockFetch.join();
+                    }
+                    fetchedPages.add(page);
+                    return page;
+                }
+            };
+
+            PaginatedResponsesIterator<Integer> iterator = PaginatedResponsesIterator.builder()
+                                                                                     .nextPageFetcher(fetcher)
+                                                                                     .maxPrefetchedPages(2)
+                                                                                     .prefetchExecutor(executor)
+                                                                                     .build();
+
+            assertThat(iterator.next()).isEqualTo(1);
+            secondFetchStarted.join();
+            iterator.close();
+            blockFetch.complete(null);
+            executor.submit(() -> { }).get();
+
+            // The fetch of the second page was running when the iterator was closed, no page is fetched after it.
+            assertThat(fetchedPages).containsExactly(1, 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void paginatedResponsesIterator_withPrefetch_returnsAllPages() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SyncPageFetcher<Integer> fetcher = new SyncPageFetcher<Integer>() {
+                @Override
+                public boolean hasNextPage(Integer oldPage) {
+                    return oldPage < 10;
+                }
+
+                @Override
+                public Integer nextPage(Integer oldPage) {
+                    return oldPage == null ? 1 : oldPage + 1;
+                }
+            };
+
+            Iterator<Integer> iterator = PaginatedResponsesIterator.builder()
+                                                                   .nextPageFetcher(fetcher)
+                                                                   .maxPrefetchedPages(2)
+                                                                   .prefetchExecutor(executor)
+                                                                   .build();
+
+            List<Integer> pages = new ArrayList<>();
+            iterator.forEachRemaining(pages::add);
+
+            assertThat(pages).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * An {@link AsyncPageFetcher} whose pages are the integers 1 to {@code lastPage}, and whose responses are completed by
+     * the test.
+     */
+    private static final class ControlledPageFetcher implements AsyncPageFetcher<Integer> {
+        private final int lastPage;
+        private final List<Integer> requestedPages = new ArrayList<>();
+        private final List<CompletableFuture<Integer>> responses = new ArrayList<>();
+        private boolean completeImmediately;
+        private int hasNextPageCalls;
+
+        private ControlledPageFetcher(int lastPage) {
+            this.lastPage = lastPage;
+        }
+
+        private ControlledPageFetcher completeImmediately() {
+            this.completeImmediately = true;
+            return this;
+        }
+
+        @Override
+        public boolean hasNextPage(Integer oldPage) {
+            hasNextPageCalls++;
+            return oldPage < lastPage;
+        }
+
+        @Override
+        public CompletableFuture<Integer> nextPage(Integer oldPage) {
+            requestedPages.add(oldPage);
+            int page = oldPage == null ? 1 : oldPage + 1;
+            if (completeImmediately) {
+                return CompletableFuture.completedFuture(page);
+            }
+            CompletableFuture<Integer> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        }
+
+        private void complete(int index) {
+            Integer previous = requestedPages.get(index);
+            responses.get(index).complete(previous == null ? 1 : previous + 1);
+        }
+
+        private void completeAll() {
+            for (int i = 0; i < responses.size(); i++) {
+                if (!responses.get(i).isDone()) {
+                    complete(i);
+                }
+            }
+        }
+
+        private void fail(int index, Throwable t) {
+            responses.get(index).completeExceptionally(t);
+        }
+    }
+}
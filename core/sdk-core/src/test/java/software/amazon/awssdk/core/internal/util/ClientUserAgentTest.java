@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+public class ClientUserAgentTest {
+    private static final ApiName PAGINATED = apiName("PAGINATED", "2.0");
+    private static final ApiName HLL = apiName("hll", "ddb-enh");
+
+    @Test
+    public void userAgent_noApiNames_containsClientInformationPrefixAndSuffix() {
+        ClientUserAgent clientUserAgent = ClientUserAgent.create(syncConfiguration());
+
+        String userAgent = clientUserAgent.userAgent(Collections.emptyList());
+
+        assertThat(userAgent).startsWith("prefix, " + UserAgentUtils.getUserAgent())
+                             .contains(" io/sync http/MockClient")
+                             .endsWith(", suffix");
+    }
+
+    @Test
+    public void userAgent_apiNames_areAddedInOrderBeforeSuffix() {
+        ClientUserAgent clientUserAgent = ClientUserAgent.create(syncConfiguration());
+
+        String userAgent = clientUserAgent.userAgent(Arrays.asList(HLL, PAGINATED));
+
+        assertThat(userAgent).endsWith(" http/MockClient hll/ddb-enh PAGINATED/2.0, suffix");
+    }
+
+    @Test
+    public void userAgent_equalApiNames_reusesCachedUserAgent() {
+        ClientUserAgent clientUserAgent = ClientUserAgent.create(syncConfiguration());
+
+        String userAgent = clientUserAgent.userAgent(Collections.singletonList(PAGINATED));
+
+        assertThat(clientUserAgent.userAgent(Collections.singletonList(apiName("PAGINATED", "2.0")))).isSameAs(userAgent);
+        assertThat(clientUserAgent.userAgent(Collections.singletonList(apiName("PAGINATED", "2.1"))))
+            .endsWith(" PAGINATED/2.1, suffix");
+    }
+
+    @Test
+    public void userAgent_cachedApiNamesModifiedByCaller_isNotAffected() {
+        ClientUserAgent clientUserAgent = ClientUserAgent.create(syncConfiguration());
+        List<ApiName> apiNames = new ArrayList<>(Collections.singletonList(PAGINATED));
+
+        clientUserAgent.userAgent(apiNames);
+        apiNames.add(HLL);
+
+        assertThat(clientUserAgent.userAgent(Collections.singletonList(PAGINATED))).endsWith(" PAGINATED/2.0, suffix");
+    }
+
+    @Test
+    public void userAgent_manyDifferentApiNames_areAllCorrect() {
+        ClientUserAgent clientUserAgent = ClientUserAgent.create(syncConfiguration());
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(clientUserAgent.userAgent(Collections.singletonList(apiName("name", Integer.toString(i)))))
+                .endsWith(" name/" + i + ", suffix");
+        }
+    }
+
+    @Test
+    public void userAgent_defaultPrefix_isNotRepeated() {
+        SdkClientConfiguration config = SdkClientConfiguration.builder()
+                                                              .option(SdkAdvancedClientOption.USER_AGENT_PREFIX,
+                                                                      UserAgentUtils.getUserAgent())
+                                                              .build();
+
+        String userAgent = ClientUserAgent.create(config).userAgent(Collections.emptyList());
+
+        assertThat(userAgent).isEqualTo(UserAgentUtils.getUserAgent() + " io/unknown http/UNKNOWN");
+    }
+
+    private static SdkClientConfiguration syncConfiguration() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        when(httpClient.clientName()).thenReturn("MockClient");
+        return SdkClientConfiguration.builder()
+                                     .option(SdkAdvancedClientOption.USER_AGENT_PREFIX, "prefix")
+                                     .option(SdkAdvancedClientOption.USER_AGENT_SUFFIX, "suffix")
+                                     .option(SdkClientOption.CLIENT_TYPE, ClientType.SYNC)
+                                     .option(SdkClientOption.SYNC_HTTP_CLIENT, httpClient)
+                                     .build();
+    }
+
+    private static ApiName apiName(String name, String version) {
+        return ApiName.builder().name(name).version(version).build();
+    }
+}
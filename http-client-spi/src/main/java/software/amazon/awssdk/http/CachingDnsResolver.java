@@ -0,0 +1,366 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link SdkDnsResolver} that caches all the addresses of a host and spreads the new connections to the host across
+ * them, instead of connecting every time to the first address returned by the JVM. This raises the aggregate throughput
+ * to hosts like Amazon S3 that return several addresses for the same name.
+ *
+ * <p>The addresses that a connection recently failed to are tried last until the {@link Builder#failedAddressTimeout
+ * failed address timeout} is over. The record TTLs of the resolved addresses are not visible through
+ * {@link InetAddress}, so the addresses of a host are cached for a configurable {@link Builder#timeToLive time to live}.
+ *
+ * <pre>{@code
+ * CachingDnsResolver resolver = CachingDnsResolver.builder()
+ *                                                 .selectionStrategy(SelectionStrategy.LEAST_CONNECTIONS)
+ *                                                 .build();
+ * }</pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class CachingDnsResolver implements SdkDnsResolver {
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_FAILED_ADDRESS_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * The number of cached hosts above which hosts whose addresses expired and that have no open connection are removed
+     * from the cache, so that clients connecting to many hosts, like S3 virtual-hosted buckets, do not grow it forever.
+     */
+    private static final int MAX_CACHED_HOSTS = 1024;
+
+    private final SdkDnsResolver delegate;
+    private final long timeToLiveNanos;
+    private final long failedAddressTimeoutNanos;
+    private final SelectionStrategy selectionStrategy;
+    private final LongSupplier nanoTime;
+    private final Map<String, HostAddresses> hosts = new ConcurrentHashMap<>();
+
+    private CachingDnsResolver(BuilderImpl builder, LongSupplier nanoTime) {
+        this.delegate = builder.delegate;
+        this.timeToLiveNanos = Validate.isPositive(builder.timeToLive, "timeToLive").toNanos();
+        this.failedAddressTimeoutNanos = Validate.isNotNegative(builder.failedAddressTimeout, "failedAddressTimeout")
+                                                 .toNanos();
+        this.selectionStrategy = builder.selectionStrategy;
+        this.nanoTime = nanoTime;
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * @return A resolver with the default configuration.
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    @SdkTestInternalApi
+    static CachingDnsResolver create(Builder builder, LongSupplier nanoTime) {
+        return new CachingDnsResolver((BuilderImpl) builder, nanoTime);
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        long now = nanoTime.getAsLong();
+        HostAddresses hostAddresses = hostAddresses(host, now);
+        return hostAddresses.orderedAddresses(resolution(host, hostAddresses, now).addresses, now);
+    }
+
+    @Override
+    public void connectionFailed(String host, InetAddress address) {
+        HostAddresses hostAddresses = hosts.get(host);
+        if (hostAddresses != null) {
+            hostAddresses.state(address).failed(nanoTime.getAsLong() + failedAddressTimeoutNanos);
+        }
+    }
+
+    @Override
+    public void connectionOpened(String host, InetAddress address) {
+        HostAddresses hostAddresses = hosts.get(host);
+        if (hostAddresses != null) {
+            hostAddresses.state(address).opened();
+        }
+    }
+
+    @Override
+    public void connectionClosed(String host, InetAddress address) {
+        HostAddresses hostAddresses = hosts.get(host);
+        if (hostAddresses != null) {
+            AddressState state = hostAddresses.states.get(address);
+            if (state != null) {
+                state.closed();
+            }
+        }
+    }
+
+    private HostAddresses hostAddresses(String host, long now) {
+        HostAddresses hostAddresses = hosts.get(host);
+        if (hostAddresses != null) {
+            return hostAddresses;
+        }
+
+        if (hosts.size() >= MAX_CACHED_HOSTS) {
+            hosts.values().removeIf(h -> h.isUnused(now));
+        }
+        return hosts.computeIfAbsent(host, h -> new HostAddresses());
+    }
+
+    private Resolution resolution(String host, HostAddresses hostAddresses, long now) throws UnknownHostException {
+        Resolution resolution = hostAddresses.resolution;
+        if (resolution != null && !resolution.isExpired(now)) {
+            return resolution;
+        }
+
+        synchronized (hostAddresses) {
+            resolution = hostAddresses.resolution;
+            if (resolution == null || resolution.isExpired(now)) {
+                InetAddress[] addresses = delegate.resolve(host);
+                if (addresses == null || addresses.length == 0) {
+                    throw new UnknownHostException(host);
+                }
+                resolution = new Resolution(addresses.clone(), now + timeToLiveNanos);
+                hostAddresses.resolution = resolution;
+                hostAddresses.removeUnusedStates(resolution.addresses);
+            }
+            return resolution;
+        }
+    }
+
+    /**
+     * How to order the addresses of a host for a new connection.
+     */
+    public enum SelectionStrategy {
+        /**
+         * Start each new connection with the address that follows the one the previous connection started with.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Start each new connection with the address that has the fewest open connections, in round-robin order between
+         * the addresses that have the same number of open connections.
+         */
+        LEAST_CONNECTIONS
+    }
+
+    public interface Builder {
+        /**
+         * Configure the resolver used to resolve the addresses of a host when they are not cached.
+         *
+         * <p>By default, this is {@link SdkDnsResolver#system()}.</p>
+         */
+        Builder delegate(SdkDnsResolver delegate);
+
+        /**
+         * Configure how long the addresses of a host are cached.
+         *
+         * <p>By default, this is 30 seconds, like the JVM's default {@code networkaddress.cache.ttl}.</p>
+         */
+        Builder timeToLive(Duration timeToLive);
+
+        /**
+         * Configure how long an address that a connection failed to is tried after the other addresses of its host.
+         *
+         * <p>By default, this is 10 seconds.</p>
+         */
+        Builder failedAddressTimeout(Duration failedAddressTimeout);
+
+        /**
+         * Configure how to order the addresses of a host for a new connection.
+         *
+         * <p>By default, this is {@link SelectionStrategy#ROUND_ROBIN}.</p>
+         */
+        Builder selectionStrategy(SelectionStrategy selectionStrategy);
+
+        CachingDnsResolver build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private SdkDnsResolver delegate = SdkDnsResolver.system();
+        private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+        private Duration failedAddressTimeout = DEFAULT_FAILED_ADDRESS_TIMEOUT;
+        private SelectionStrategy selectionStrategy = SelectionStrategy.ROUND_ROBIN;
+
+        @Override
+        public Builder delegate(SdkDnsResolver delegate) {
+            this.delegate = Validate.paramNotNull(delegate, "delegate");
+            return this;
+        }
+
+        @Override
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = Validate.paramNotNull(timeToLive, "timeToLive");
+            return this;
+        }
+
+        @Override
+        public Builder failedAddressTimeout(Duration failedAddressTimeout) {
+            this.failedAddressTimeout = Validate.paramNotNull(failedAddressTimeout, "failedAddressTimeout");
+            return this;
+        }
+
+        @Override
+        public Builder selectionStrategy(SelectionStrategy selectionStrategy) {
+            this.selectionStrategy = Validate.paramNotNull(selectionStrategy, "selectionStrategy");
+            return this;
+        }
+
+        @Override
+        public CachingDnsResolver build() {
+            return new CachingDnsResolver(this, System::nanoTime);
+        }
+    }
+
+    private static final class Resolution {
+        private final InetAddress[] addresses;
+        private final long expiresAt;
+
+        private Resolution(InetAddress[] addresses, long expiresAt) {
+            this.addresses = addresses;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private final class HostAddresses {
+        private final AtomicInteger nextAddress = new AtomicInteger();
+        private final Map<InetAddress, AddressState> states = new ConcurrentHashMap<>();
+        private volatile Resolution resolution;
+
+        private AddressState state(InetAddress address) {
+            return states.computeIfAbsent(address, a -> new AddressState());
+        }
+
+        /**
+         * Order the addresses starting with the next one in round-robin order, moving the ones that recently failed to the
+         * end and, with {@link SelectionStrategy#LEAST_CONNECTIONS}, sorting the others by number of open connections.
+         */
+        private InetAddress[] orderedAddresses(InetAddress[] addresses, long now) {
+            int count = addresses.length;
+            if (count == 1) {
+                return addresses.clone();
+            }
+
+            int first = Math.floorMod(nextAddress.getAndIncrement(), count);
+            InetAddress[] ordered = new InetAddress[count];
+            int[] openConnections = new int[count];
+            InetAddress[] failed = null;
+            int available = 0;
+            int failedCount = 0;
+            for (int i = 0; i < count; i++) {
+                InetAddress address = addresses[(first + i) % count];
+                AddressState state = states.get(address);
+                if (state != null && state.isFailed(now)) {
+                    if (failed == null) {
+                        failed = new InetAddress[count];
+                    }
+                    failed[failedCount++] = address;
+                } else {
+                    openConnections[available] = state == null ? 0 : state.openConnections.get();
+                    ordered[available++] = address;
+                }
+            }
+
+            if (failed != null) {
+                System.arraycopy(failed, 0, ordered, available, failedCount);
+            }
+
+            if (selectionStrategy == SelectionStrategy.LEAST_CONNECTIONS) {
+                sortByOpenConnections(ordered, openConnections, available);
+            }
+            return ordered;
+        }
+
+        private void removeUnusedStates(InetAddress[] resolvedAddresses) {
+            states.entrySet().removeIf(e -> e.getValue().openConnections.get() == 0 &&
+                                            !contains(resolvedAddresses, resolvedAddresses.length, e.getKey()));
+        }
+
+        private boolean isUnused(long now) {
+            Resolution currentResolution = resolution;
+            return (currentResolution == null || currentResolution.isExpired(now)) &&
+                   states.values().stream().allMatch(s -> s.openConnections.get() == 0);
+        }
+    }
+
+    private static final class AddressState {
+        private final AtomicInteger openConnections = new AtomicInteger();
+        private volatile boolean failed;
+        private volatile long failedUntil;
+
+        private void failed(long until) {
+            failedUntil = until;
+            failed = true;
+        }
+
+        private boolean isFailed(long now) {
+            return failed && failedUntil - now > 0;
+        }
+
+        private void opened() {
+            failed = false;
+            openConnections.incrementAndGet();
+        }
+
+        private void closed() {
+            openConnections.updateAndGet(c -> Math.max(c - 1, 0));
+        }
+    }
+
+    /**
+     * Stable insertion sort of the first addresses by number of open connections. There are only a few addresses per
+     * host, and sorting a snapshot of the counts keeps the order consistent while connections are opened and closed.
+     */
+    private static void sortByOpenConnections(InetAddress[] addresses, int[] openConnections, int length) {
+        for (int i = 1; i < length; i++) {
+            InetAddress address = addresses[i];
+            int connections = openConnections[i];
+            int j = i - 1;
+            while (j >= 0 && openConnections[j] > connections) {
+                addresses[j + 1] = addresses[j];
+                openConnections[j + 1] = openConnections[j];
+                j--;
+            }
+            addresses[j + 1] = address;
+            openConnections[j + 1] = connections;
+        }
+    }
+
+    private static boolean contains(InetAddress[] addresses, int length, InetAddress address) {
+        for (int i = 0; i < length; i++) {
+            if (addresses[i].equals(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
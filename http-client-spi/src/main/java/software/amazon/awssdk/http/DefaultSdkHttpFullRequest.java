@@ -15,19 +15,16 @@
 
 package software.amazon.awssdk.http;
 
-import static software.amazon.awssdk.utils.CollectionUtils.deepCopyMap;
-import static software.amazon.awssdk.utils.CollectionUtils.deepUnmodifiableMap;
-
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.internal.http.HeaderMap;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -46,7 +43,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
     private final String path;
     private final Map<String, List<String>> queryParameters;
     private final SdkHttpMethod httpMethod;
-    private final Map<String, List<String>> headers;
+    private final HeaderMap headers;
     private final ContentStreamProvider contentStreamProvider;
 
     private DefaultSdkHttpFullRequest(Builder builder) {
@@ -57,12 +54,8 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         this.httpMethod = Validate.paramNotNull(builder.httpMethod, "method");
         this.contentStreamProvider = builder.contentStreamProvider;
 
-        this.queryParameters = builder.queryParametersAreFromToBuilder
-                               ? builder.queryParameters
-                               : deepUnmodifiableMap(builder.queryParameters, () -> new LinkedHashMap<>());
-        this.headers = builder.headersAreFromToBuilder
-                       ? builder.headers
-                       : deepUnmodifiableMap(builder.headers, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        this.queryParameters = builder.shareQueryParameters();
+        this.headers = builder.headers;
     }
 
     private String standardizeProtocol(String protocol) {
@@ -163,6 +156,10 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
     /**
      * Builder for a {@link DefaultSdkHttpFullRequest}.
+     *
+     * <p>The lists of values of the headers and query parameters are never modified once they are added, so they are shared
+     * between the builder and the requests it builds. The headers are stored in an immutable {@link HeaderMap} and the map of
+     * query parameters is only copied when it is modified after being shared with a request.</p>
      */
     static final class Builder implements SdkHttpFullRequest.Builder {
         private String protocol;
@@ -170,28 +167,25 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         private Integer port;
         private String path;
 
-        private boolean queryParametersAreFromToBuilder;
+        private boolean queryParametersAreShared;
         private Map<String, List<String>> queryParameters;
 
         private SdkHttpMethod httpMethod;
 
-        private boolean headersAreFromToBuilder;
-        private Map<String, List<String>> headers;
+        private HeaderMap headers;
 
         private ContentStreamProvider contentStreamProvider;
 
         Builder() {
             queryParameters = new LinkedHashMap<>();
-            queryParametersAreFromToBuilder = false;
-            headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            queryParametersAreShared = false;
+            headers = HeaderMap.empty();
         }
 
         Builder(DefaultSdkHttpFullRequest request) {
             queryParameters = request.queryParameters;
-            queryParametersAreFromToBuilder = true;
+            queryParametersAreShared = true;
             headers = request.headers;
-            headersAreFromToBuilder = true;
             protocol = request.protocol;
             host = request.host;
             port = request.port;
@@ -247,21 +241,26 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         @Override
         public DefaultSdkHttpFullRequest.Builder putRawQueryParameter(String paramName, List<String> paramValues) {
             copyQueryParamsIfNeeded();
-            this.queryParameters.put(paramName, new ArrayList<>(paramValues));
+            this.queryParameters.put(paramName, Collections.unmodifiableList(new ArrayList<>(paramValues)));
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder appendRawQueryParameter(String paramName, String paramValue) {
             copyQueryParamsIfNeeded();
-            this.queryParameters.computeIfAbsent(paramName, k -> new ArrayList<>()).add(paramValue);
+            List<String> existingValues = this.queryParameters.getOrDefault(paramName, Collections.emptyList());
+            List<String> newValues = new ArrayList<>(existingValues.size() + 1);
+            newValues.addAll(existingValues);
+            newValues.add(paramValue);
+            this.queryParameters.put(paramName, Collections.unmodifiableList(newValues));
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder rawQueryParameters(Map<String, List<String>> queryParameters) {
-            this.queryParameters = CollectionUtils.deepCopyMap(queryParameters, () -> new LinkedHashMap<>());
-            queryParametersAreFromToBuilder = false;
+            this.queryParameters = new LinkedHashMap<>();
+            queryParameters.forEach((k, v) -> this.queryParameters.put(k, Collections.unmodifiableList(new ArrayList<>(v))));
+            queryParametersAreShared = false;
             return this;
         }
 
@@ -275,20 +274,32 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         @Override
         public Builder clearQueryParameters() {
             this.queryParameters = new LinkedHashMap<>();
-            queryParametersAreFromToBuilder = false;
+            queryParametersAreShared = false;
             return this;
         }
 
         private void copyQueryParamsIfNeeded() {
-            if (queryParametersAreFromToBuilder) {
-                queryParametersAreFromToBuilder = false;
-                this.queryParameters = deepCopyMap(queryParameters);
+            if (queryParametersAreShared) {
+                queryParametersAreShared = false;
+                this.queryParameters = new LinkedHashMap<>(queryParameters);
+            }
+        }
+
+        /**
+         * Return an unmodifiable view of the query parameters to be used by a request. The builder copies them the next time
+         * it modifies them.
+         */
+        private Map<String, List<String>> shareQueryParameters() {
+            if (!queryParametersAreShared) {
+                queryParametersAreShared = true;
+                this.queryParameters = Collections.unmodifiableMap(queryParameters);
             }
+            return queryParameters;
         }
 
         @Override
         public Map<String, List<String>> rawQueryParameters() {
-            return CollectionUtils.unmodifiableMapOfLists(queryParameters);
+            return queryParametersAreShared ? queryParameters : Collections.unmodifiableMap(queryParameters);
         }
 
         @Override
@@ -304,49 +315,37 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public DefaultSdkHttpFullRequest.Builder putHeader(String headerName, List<String> headerValues) {
-            copyHeadersIfNeeded();
-            this.headers.put(headerName, new ArrayList<>(headerValues));
+            this.headers = headers.with(headerName, headerValues);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder appendHeader(String headerName, String headerValue) {
-            copyHeadersIfNeeded();
-            this.headers.computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            this.headers = headers.withAppended(headerName, headerValue);
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder headers(Map<String, List<String>> headers) {
-            this.headers = CollectionUtils.deepCopyMap(headers);
-            headersAreFromToBuilder = false;
+            this.headers = HeaderMap.copyOf(headers);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder removeHeader(String headerName) {
-            copyHeadersIfNeeded();
-            this.headers.remove(headerName);
+            this.headers = headers.without(headerName);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder clearHeaders() {
-            this.headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            this.headers = HeaderMap.empty();
             return this;
         }
 
         @Override
         public Map<String, List<String>> headers() {
-            return CollectionUtils.unmodifiableMapOfLists(this.headers);
-        }
-
-        private void copyHeadersIfNeeded() {
-            if (headersAreFromToBuilder) {
-                headersAreFromToBuilder = false;
-                this.headers = deepCopyMap(headers);
-            }
+            return headers;
         }
 
         @Override
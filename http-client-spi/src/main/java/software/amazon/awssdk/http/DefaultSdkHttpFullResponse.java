@@ -15,19 +15,13 @@
 
 package software.amazon.awssdk.http;
 
-import static software.amazon.awssdk.utils.CollectionUtils.deepCopyMap;
-import static software.amazon.awssdk.utils.CollectionUtils.deepUnmodifiableMap;
-
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.internal.http.HeaderMap;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -42,15 +36,13 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
 
     private final String statusText;
     private final int statusCode;
-    private final Map<String, List<String>> headers;
+    private final HeaderMap headers;
     private final transient AbortableInputStream content;
 
     private DefaultSdkHttpFullResponse(Builder builder) {
         this.statusCode = Validate.isNotNegative(builder.statusCode, "Status code must not be negative.");
         this.statusText = builder.statusText;
-        this.headers = builder.headersAreFromToBuilder
-                       ? builder.headers
-                       : deepUnmodifiableMap(builder.headers, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        this.headers = builder.headers;
         this.content = builder.content;
     }
 
@@ -87,19 +79,16 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         private int statusCode;
         private AbortableInputStream content;
 
-        private boolean headersAreFromToBuilder;
-        private Map<String, List<String>> headers;
+        private HeaderMap headers;
 
         Builder() {
-            headersAreFromToBuilder = false;
-            headers = new LinkedHashMap<>();
+            headers = HeaderMap.empty();
         }
 
         private Builder(DefaultSdkHttpFullResponse defaultSdkHttpFullResponse) {
             statusText = defaultSdkHttpFullResponse.statusText;
             statusCode = defaultSdkHttpFullResponse.statusCode;
             content = defaultSdkHttpFullResponse.content;
-            headersAreFromToBuilder = true;
             headers = defaultSdkHttpFullResponse.headers;
         }
 
@@ -140,8 +129,7 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         public Builder putHeader(String headerName, List<String> headerValues) {
             Validate.paramNotNull(headerName, "headerName");
             Validate.paramNotNull(headerValues, "headerValues");
-            copyHeadersIfNeeded();
-            this.headers.put(headerName, new ArrayList<>(headerValues));
+            this.headers = headers.with(headerName, headerValues);
             return this;
         }
 
@@ -149,43 +137,32 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         public SdkHttpFullResponse.Builder appendHeader(String headerName, String headerValue) {
             Validate.paramNotNull(headerName, "headerName");
             Validate.paramNotNull(headerValue, "headerValue");
-            copyHeadersIfNeeded();
-            this.headers.computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            this.headers = headers.withAppended(headerName, headerValue);
             return this;
         }
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
             Validate.paramNotNull(headers, "headers");
-            this.headers = CollectionUtils.deepCopyMap(headers);
-            headersAreFromToBuilder = false;
+            this.headers = HeaderMap.copyOf(headers);
             return this;
         }
 
         @Override
         public Builder removeHeader(String headerName) {
-            copyHeadersIfNeeded();
-            this.headers.remove(headerName);
+            this.headers = headers.without(headerName);
             return this;
         }
 
         @Override
         public Builder clearHeaders() {
-            this.headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            this.headers = HeaderMap.empty();
             return this;
         }
 
         @Override
         public Map<String, List<String>> headers() {
-            return CollectionUtils.unmodifiableMapOfLists(this.headers);
-        }
-
-        private void copyHeadersIfNeeded() {
-            if (headersAreFromToBuilder) {
-                headersAreFromToBuilder = false;
-                this.headers = deepCopyMap(headers);
-            }
+            return headers;
         }
 
         /**
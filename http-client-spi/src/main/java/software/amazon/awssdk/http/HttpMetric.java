@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricLevel;
@@ -96,6 +97,20 @@ public final class HttpMetric {
     public static final SdkMetric<Integer> PENDING_CONCURRENCY_ACQUIRES =
         metric("PendingConcurrencyAcquires", Integer.class, MetricLevel.INFO);
 
+    /**
+     * The number of connections the HTTP client has closed because they were idle for longer than the maximum idle time, or
+     * because they reached their time to live. Connections in use when they reach their time to live are counted when they are
+     * marked to be closed once they are released.
+     *
+     * <p>Note: Depending on the HTTP client, this is either a value for all endpoints served by the HTTP client, or a value
+     * that applies only to the specific endpoint/host used in the request. For 'apache-http-client', this value is
+     * for the entire HTTP client. For 'netty-nio-client', this value is per-endpoint, and only counts HTTP/1.1 connections.
+     * In all cases, this value is scoped to an individual HTTP client instance, and counts every connection closed since the
+     * HTTP client was created.
+     */
+    public static final SdkMetric<Integer> REAPED_CONNECTIONS =
+        metric("ReapedConnections", Integer.class, MetricLevel.INFO);
+
     /**
      * The status code of the HTTP response.
      *
@@ -104,6 +119,33 @@ public final class HttpMetric {
     public static final SdkMetric<Integer> HTTP_STATUS_CODE =
         metric("HttpStatusCode", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The duration of the TLS handshake of the connection that was opened to execute the request. This is not reported when
+     * the request reuses a pooled connection, so the number of values of this metric is the number of TLS handshakes.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_TIME =
+        metric("TlsHandshakeTime", Duration.class, MetricLevel.INFO);
+
+    /**
+     * Whether the TLS handshake of the connection that was opened to execute the request resumed a cached TLS session,
+     * instead of negotiating a new one. This is reported along with {@link #TLS_HANDSHAKE_TIME}.
+     */
+    public static final SdkMetric<Boolean> TLS_SESSION_RESUMED =
+        metric("TlsSessionResumed", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * The number of connections that were opened by {@link SdkHttpClient#warmUp(java.net.URI, int)} or
+     * {@link software.amazon.awssdk.http.async.SdkAsyncHttpClient#warmUp(java.net.URI, int)}.
+     */
+    public static final SdkMetric<Integer> WARMED_UP_CONNECTIONS =
+        metric("WarmedUpConnections", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The time it took to open all the connections of a warm-up, including the TLS handshakes.
+     */
+    public static final SdkMetric<Duration> CONNECTION_WARM_UP_TIME =
+        metric("ConnectionWarmUpTime", Duration.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.internal.http.SystemDnsResolver;
+
+/**
+ * Resolves the addresses that an HTTP client connects to. HTTP clients that support a custom resolver try the resolved
+ * addresses in order, and report the outcome of each connection so that a resolver can spread new connections across
+ * the addresses of a host and avoid the ones that recently failed.
+ *
+ * @see CachingDnsResolver
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface SdkDnsResolver {
+
+    /**
+     * Resolve all the addresses of a host, in the order in which new connections to the host should try them.
+     *
+     * @param host The name of the host to resolve.
+     * @return The addresses of the host, never empty.
+     * @throws UnknownHostException If the host could not be resolved.
+     */
+    InetAddress[] resolve(String host) throws UnknownHostException;
+
+    /**
+     * Called when a connection to an address of a host could not be established.
+     */
+    default void connectionFailed(String host, InetAddress address) {
+    }
+
+    /**
+     * Called when a connection to an address of a host was established.
+     */
+    default void connectionOpened(String host, InetAddress address) {
+    }
+
+    /**
+     * Called when a connection previously reported to {@link #connectionOpened(String, InetAddress)} was closed.
+     */
+    default void connectionClosed(String host, InetAddress address) {
+    }
+
+    /**
+     * @return A resolver that returns the addresses resolved by {@link InetAddress#getAllByName(String)}, which are cached
+     * by the JVM according to the {@code networkaddress.cache.ttl} security property.
+     */
+    static SdkDnsResolver system() {
+        return SystemDnsResolver.getInstance();
+    }
+}
@@ -111,6 +111,21 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final SdkHttpConfigurationOption<TlsTrustManagersProvider> TLS_TRUST_MANAGERS_PROVIDER =
         new SdkHttpConfigurationOption<>("TlsTrustManagersProvider", TlsTrustManagersProvider.class);
 
+    /**
+     * The maximum number of TLS sessions that are cached to resume the TLS sessions of new connections to the same endpoint
+     * instead of negotiating new ones. Clients that use the default TLS key and trust managers share the cache with the other
+     * clients of the JVM that use the same cache settings.
+     */
+    public static final SdkHttpConfigurationOption<Integer> TLS_SESSION_CACHE_SIZE =
+        new SdkHttpConfigurationOption<>("TlsSessionCacheSize", Integer.class);
+
+    /**
+     * How long a cached TLS session can be resumed after it was negotiated. Servers may stop accepting the resumption of a
+     * session earlier.
+     */
+    public static final SdkHttpConfigurationOption<Duration> TLS_SESSION_TIMEOUT =
+        new SdkHttpConfigurationOption<>("TlsSessionTimeout", Duration.class);
+
     private static final Duration DEFAULT_SOCKET_READ_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_SOCKET_WRITE_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
@@ -121,6 +136,8 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     private static final int DEFAULT_MAX_CONNECTIONS = 50;
     private static final int DEFAULT_MAX_CONNECTION_ACQUIRES = 10_000;
     private static final Boolean DEFAULT_TRUST_ALL_CERTIFICATES = Boolean.FALSE;
+    private static final int DEFAULT_TLS_SESSION_CACHE_SIZE = 1024;
+    private static final Duration DEFAULT_TLS_SESSION_TIMEOUT = Duration.ofHours(1);
 
     private static final Protocol DEFAULT_PROTOCOL = Protocol.HTTP1_1;
 
@@ -142,6 +159,8 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
             .put(REAP_IDLE_CONNECTIONS, DEFAULT_REAP_IDLE_CONNECTIONS)
             .put(TLS_KEY_MANAGERS_PROVIDER, DEFAULT_TLS_KEY_MANAGERS_PROVIDER)
             .put(TLS_TRUST_MANAGERS_PROVIDER, DEFAULT_TLS_TRUST_MANAGERS_PROVIDER)
+            .put(TLS_SESSION_CACHE_SIZE, DEFAULT_TLS_SESSION_CACHE_SIZE)
+            .put(TLS_SESSION_TIMEOUT, DEFAULT_TLS_SESSION_TIMEOUT)
             .build();
 
     private final String name;
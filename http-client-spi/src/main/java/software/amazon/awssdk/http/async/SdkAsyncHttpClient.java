@@ -15,10 +15,13 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.net.URI;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
@@ -58,6 +61,39 @@ public interface SdkAsyncHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Open connections to an endpoint ahead of the first requests to it, so that these requests do not pay for the TCP and
+     * TLS handshakes. The connections are opened in parallel and returned to the connection pool of the client once they
+     * are all established.
+     *
+     * <p>Clients that do not pool connections do nothing. Clients that multiplex requests over a connection may open fewer
+     * connections than requested, and no client opens more connections than its maximum number of connections.</p>
+     *
+     * @param endpoint The endpoint to connect to, e.g. {@code https://s3.us-west-2.amazonaws.com}.
+     * @param connections The number of connections to open.
+     * @return A future that is completed when the connections are established and pooled, or completed exceptionally if
+     * one of them could not be established.
+     */
+    default CompletableFuture<Void> warmUp(URI endpoint, int connections) {
+        return warmUp(endpoint, connections, NoOpMetricCollector.create());
+    }
+
+    /**
+     * Open connections to an endpoint ahead of the first requests to it, and report how long it took to the provided
+     * metric collector.
+     *
+     * @param endpoint The endpoint to connect to, e.g. {@code https://s3.us-west-2.amazonaws.com}.
+     * @param connections The number of connections to open.
+     * @param metricCollector The collector to report the {@link software.amazon.awssdk.http.HttpMetric#WARMED_UP_CONNECTIONS} and
+     * {@link software.amazon.awssdk.http.HttpMetric#CONNECTION_WARM_UP_TIME} metrics to.
+     * @return A future that is completed when the connections are established and pooled, or completed exceptionally if
+     * one of them could not be established.
+     * @see #warmUp(URI, int)
+     */
+    default CompletableFuture<Void> warmUp(URI endpoint, int connections, MetricCollector metricCollector) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     @FunctionalInterface
     interface Builder<T extends SdkAsyncHttpClient.Builder<T>> extends SdkBuilder<T, SdkAsyncHttpClient> {
         /**
@@ -0,0 +1,293 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An immutable map of HTTP headers, with the same case-insensitive lookup and ordering as a {@link java.util.TreeMap} using
+ * {@link String#CASE_INSENSITIVE_ORDER}.
+ *
+ * <p>The headers are stored in flat arrays sorted by name, with the case-insensitive hash of each name computed once, and
+ * lists of values that are never modified. Modifying the headers creates a new map that shares the lists of values of this
+ * one, so a request can be rebuilt with an additional header without copying the other headers.</p>
+ */
+@SdkInternalApi
+@Immutable
+public final class HeaderMap extends AbstractMap<String, List<String>> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final HeaderMap EMPTY = new HeaderMap(new String[0], new int[0], newValuesArray(0));
+
+    private final String[] names;
+    private final int[] hashes;
+    private final List<String>[] values;
+
+    private HeaderMap(String[] names, int[] hashes, List<String>[] values) {
+        this.names = names;
+        this.hashes = hashes;
+        this.values = values;
+    }
+
+    public static HeaderMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a map with a copy of the provided headers. If several names of the provided headers only differ by their case,
+     * the values of the last one are kept, like {@link java.util.TreeMap#putAll(Map)} would.
+     */
+    public static HeaderMap copyOf(Map<String, ? extends List<String>> headers) {
+        if (headers instanceof HeaderMap) {
+            return (HeaderMap) headers;
+        }
+
+        HeaderMap result = EMPTY;
+        for (Entry<String, ? extends List<String>> header : headers.entrySet()) {
+            result = result.with(header.getKey(), header.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Return a map with the values of the given header replaced by the provided values.
+     */
+    public HeaderMap with(String name, List<String> headerValues) {
+        return withValues(name, immutableCopy(headerValues));
+    }
+
+    /**
+     * Return a map with the provided value added to the values of the given header.
+     */
+    public HeaderMap withAppended(String name, String value) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return withValues(name, Collections.singletonList(value));
+        }
+
+        List<String> existingValues = values[index];
+        List<String> newValues = new ArrayList<>(existingValues.size() + 1);
+        newValues.addAll(existingValues);
+        newValues.add(value);
+        return withValues(name, Collections.unmodifiableList(newValues));
+    }
+
+    /**
+     * Return a map without the given header.
+     */
+    public HeaderMap without(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return this;
+        }
+
+        int size = names.length;
+        String[] newNames = new String[size - 1];
+        int[] newHashes = new int[size - 1];
+        List<String>[] newValues = newValuesArray(size - 1);
+        copyWithout(names, newNames, index);
+        copyWithout(values, newValues, index);
+        System.arraycopy(hashes, 0, newHashes, 0, index);
+        System.arraycopy(hashes, index + 1, newHashes, index, size - index - 1);
+        return new HeaderMap(newNames, newHashes, newValues);
+    }
+
+    private HeaderMap withValues(String name, List<String> headerValues) {
+        int hash = caseInsensitiveHash(name);
+        int index = indexOf(name, hash);
+        int size = names.length;
+
+        if (index >= 0) {
+            List<String>[] newValues = Arrays.copyOf(values, size);
+            newValues[index] = headerValues;
+            return new HeaderMap(names, hashes, newValues);
+        }
+
+        int insertionPoint = insertionPoint(name);
+        String[] newNames = new String[size + 1];
+        int[] newHashes = new int[size + 1];
+        List<String>[] newValues = newValuesArray(size + 1);
+        copyWith(names, newNames, insertionPoint, name);
+        copyWith(values, newValues, insertionPoint, headerValues);
+        System.arraycopy(hashes, 0, newHashes, 0, insertionPoint);
+        newHashes[insertionPoint] = hash;
+        System.arraycopy(hashes, insertionPoint, newHashes, insertionPoint + 1, size - insertionPoint);
+        return new HeaderMap(newNames, newHashes, newValues);
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int index = indexOf((String) key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super List<String>> action) {
+        for (int i = 0; i < names.length; i++) {
+            action.accept(names[i], values[i]);
+        }
+    }
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends List<String>> m) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return new EntrySet();
+    }
+
+    private int indexOf(String name) {
+        return indexOf(name, caseInsensitiveHash(name));
+    }
+
+    private int indexOf(String name, int hash) {
+        for (int i = 0; i < names.length; i++) {
+            if (hashes[i] == hash && String.CASE_INSENSITIVE_ORDER.compare(names[i], name) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int insertionPoint(String name) {
+        int low = 0;
+        int high = names.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(names[middle], name) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A hash of the name that is the same for all the names that {@link String#CASE_INSENSITIVE_ORDER} considers equal.
+     */
+    private static int caseInsensitiveHash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return hash;
+    }
+
+    private static List<String> immutableCopy(List<String> headerValues) {
+        switch (headerValues.size()) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.singletonList(headerValues.get(0));
+            default:
+                return Collections.unmodifiableList(new ArrayList<>(headerValues));
+        }
+    }
+
+    private static <T> void copyWith(T[] source, T[] destination, int index, T element) {
+        System.arraycopy(source, 0, destination, 0, index);
+        destination[index] = element;
+        System.arraycopy(source, index, destination, index + 1, source.length - index);
+    }
+
+    private static <T> void copyWithout(T[] source, T[] destination, int index) {
+        System.arraycopy(source, 0, destination, 0, index);
+        System.arraycopy(source, index + 1, destination, index, source.length - index - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newValuesArray(int size) {
+        return (List<String>[]) new List<?>[size];
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, List<String>>> {
+        @Override
+        public Iterator<Entry<String, List<String>>> iterator() {
+            return new Iterator<Entry<String, List<String>>>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < names.length;
+                }
+
+                @Override
+                public Entry<String, List<String>> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, List<String>> entry = new SimpleImmutableEntry<>(names[index], values[index]);
+                    index++;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Implementation of {@link SdkDnsResolver} that resolves addresses with the JVM's {@link InetAddress} name service.
+ */
+@SdkInternalApi
+public final class SystemDnsResolver implements SdkDnsResolver {
+    private static final SystemDnsResolver INSTANCE = new SystemDnsResolver();
+
+    private SystemDnsResolver() {
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        return InetAddress.getAllByName(host);
+    }
+
+    public static SystemDnsResolver getInstance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.internal.http;
+
+import static software.amazon.awssdk.utils.JavaSystemSetting.SSL_KEY_STORE;
+import static software.amazon.awssdk.utils.JavaSystemSetting.SSL_KEY_STORE_PASSWORD;
+import static software.amazon.awssdk.utils.JavaSystemSetting.SSL_KEY_STORE_TYPE;
+import static software.amazon.awssdk.utils.JavaSystemSetting.SSL_TRUST_STORE;
+import static software.amazon.awssdk.utils.JavaSystemSetting.SSL_TRUST_STORE_PASSWORD;
+import static software.amazon.awssdk.utils.JavaSystemSetting.SSL_TRUST_STORE_TYPE;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.JavaSystemSetting;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The settings of a TLS context that HTTP clients share with the other clients of the JVM that use the default TLS key and
+ * trust managers. Clients can share a TLS context if they use the same session cache size and timeout, and were created
+ * with the same key and trust store system properties, which the default key and trust managers are loaded from.
+ */
+@SdkInternalApi
+public final class TlsContextSettings {
+    private final int sessionCacheSize;
+    private final Duration sessionTimeout;
+    private final List<String> tlsSystemProperties;
+
+    private TlsContextSettings(int sessionCacheSize, Duration sessionTimeout) {
+        this.sessionCacheSize = sessionCacheSize;
+        this.sessionTimeout = Validate.paramNotNull(sessionTimeout, "sessionTimeout");
+        this.tlsSystemProperties = tlsSystemProperties();
+    }
+
+    /**
+     * Create the settings of a TLS context with the given session cache settings and the current values of the key and trust
+     * store system properties.
+     */
+    public static TlsContextSettings create(int sessionCacheSize, Duration sessionTimeout) {
+        return new TlsContextSettings(sessionCacheSize, sessionTimeout);
+    }
+
+    private static List<String> tlsSystemProperties() {
+        return Stream.of(SSL_KEY_STORE, SSL_KEY_STORE_TYPE, SSL_KEY_STORE_PASSWORD,
+                         SSL_TRUST_STORE, SSL_TRUST_STORE_TYPE, SSL_TRUST_STORE_PASSWORD)
+                     .map(JavaSystemSetting::getStringValue)
+                     .map(value -> value.orElse(null))
+                     .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TlsContextSettings that = (TlsContextSettings) o;
+        return sessionCacheSize == that.sessionCacheSize
+               && sessionTimeout.equals(that.sessionTimeout)
+               && tlsSystemProperties.equals(that.tlsSystemProperties);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sessionCacheSize;
+        result = 31 * result + sessionTimeout.hashCode();
+        result = 31 * result + tlsSystemProperties.hashCode();
+        return result;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.CachingDnsResolver.SelectionStrategy;
+
+public class CachingDnsResolverTest {
+    private static final String HOST = "bucket.s3.amazonaws.com";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final StandInResolver standInResolver = new StandInResolver();
+    private InetAddress first;
+    private InetAddress second;
+    private InetAddress third;
+
+    @Before
+    public void setup() throws UnknownHostException {
+        first = address(1);
+        second = address(2);
+        third = address(3);
+        standInResolver.addresses.put(HOST, new InetAddress[] {first, second, third});
+    }
+
+    @Test
+    public void resolve_withinTimeToLive_resolvesOnce() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+
+        resolver.resolve(HOST);
+        nanoTime.addAndGet(Duration.ofSeconds(29).toNanos());
+        resolver.resolve(HOST);
+
+        assertThat(standInResolver.resolutions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_afterTimeToLive_resolvesAgain() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+
+        resolver.resolve(HOST);
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        standInResolver.addresses.put(HOST, new InetAddress[] {third});
+
+        assertThat(resolver.resolve(HOST)).containsExactly(third);
+        assertThat(standInResolver.resolutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolve_unknownHost_throwsAndIsNotCached() {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+
+        assertThatThrownBy(() -> resolver.resolve("unknown.example.com")).isInstanceOf(UnknownHostException.class);
+        assertThatThrownBy(() -> resolver.resolve("unknown.example.com")).isInstanceOf(UnknownHostException.class);
+        assertThat(standInResolver.resolutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolve_roundRobin_rotatesAddresses() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(first, second, third);
+        assertThat(resolver.resolve(HOST)).containsExactly(second, third, first);
+        assertThat(resolver.resolve(HOST)).containsExactly(third, first, second);
+        assertThat(resolver.resolve(HOST)).containsExactly(first, second, third);
+    }
+
+    @Test
+    public void resolve_failedAddress_isTriedLastUntilTimeout() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+        resolver.resolve(HOST);
+
+        resolver.connectionFailed(HOST, third);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(second, first, third);
+        assertThat(resolver.resolve(HOST)).containsExactly(first, second, third);
+
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(resolver.resolve(HOST)).containsExactly(first, second, third);
+        assertThat(resolver.resolve(HOST)).containsExactly(second, third, first);
+    }
+
+    @Test
+    public void resolve_allAddressesFailed_returnsAllAddresses() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+        resolver.resolve(HOST);
+
+        resolver.connectionFailed(HOST, first);
+        resolver.connectionFailed(HOST, second);
+        resolver.connectionFailed(HOST, third);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(second, third, first);
+    }
+
+    @Test
+    public void resolve_failedAddressConnectedAgain_isNoLongerTriedLast() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+        resolver.resolve(HOST);
+
+        resolver.connectionFailed(HOST, second);
+        resolver.connectionOpened(HOST, second);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(second, third, first);
+    }
+
+    @Test
+    public void resolve_leastConnections_prefersAddressesWithFewestOpenConnections() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.LEAST_CONNECTIONS);
+        resolver.resolve(HOST);
+
+        resolver.connectionOpened(HOST, first);
+        resolver.connectionOpened(HOST, first);
+        resolver.connectionOpened(HOST, second);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(third, second, first);
+
+        resolver.connectionClosed(HOST, first);
+        resolver.connectionClosed(HOST, first);
+        resolver.connectionOpened(HOST, third);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(first, third, second);
+    }
+
+    @Test
+    public void resolve_leastConnectionsTie_rotatesAddresses() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.LEAST_CONNECTIONS);
+
+        assertThat(resolver.resolve(HOST)[0]).isEqualTo(first);
+        assertThat(resolver.resolve(HOST)[0]).isEqualTo(second);
+        assertThat(resolver.resolve(HOST)[0]).isEqualTo(third);
+    }
+
+    @Test
+    public void resolve_returnedAddressesModified_cacheIsNotAffected() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.ROUND_ROBIN);
+        standInResolver.addresses.put(HOST, new InetAddress[] {first});
+
+        resolver.resolve(HOST)[0] = second;
+
+        assertThat(resolver.resolve(HOST)).containsExactly(first);
+    }
+
+    @Test
+    public void connectionEvents_unknownHost_areIgnored() throws UnknownHostException {
+        CachingDnsResolver resolver = resolver(SelectionStrategy.LEAST_CONNECTIONS);
+
+        resolver.connectionOpened("other.example.com", first);
+        resolver.connectionFailed("other.example.com", first);
+        resolver.connectionClosed("other.example.com", first);
+
+        assertThat(resolver.resolve(HOST)).containsExactly(first, second, third);
+    }
+
+    private CachingDnsResolver resolver(SelectionStrategy selectionStrategy) {
+        return CachingDnsResolver.create(CachingDnsResolver.builder()
+                                                           .delegate(standInResolver)
+                                                           .selectionStrategy(selectionStrategy),
+                                         nanoTime::get);
+    }
+
+    private static InetAddress address(int lastByte) throws UnknownHostException {
+        return InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, (byte) lastByte});
+    }
+
+    private static final class StandInResolver implements SdkDnsResolver {
+        private final Map<String, InetAddress[]> addresses = new HashMap<>();
+        private final AtomicInteger resolutions = new AtomicInteger();
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            resolutions.incrementAndGet();
+            InetAddress[] hostAddresses = addresses.get(host);
+            if (hostAddresses == null) {
+                throw new UnknownHostException(host);
+            }
+            return hostAddresses;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.util.AbstractMap;
 import java.util.Arrays;
@@ -86,6 +87,54 @@ public class SdkHttpRequestResponseTest {
         assertResponseHeaderMapsAreCopied(b -> b.removeHeader("Accept"));
     }
 
+    @Test
+    public void requestBuilderModifiedAfterBuild_doesNotModifyBuiltRequest() {
+        SdkHttpFullRequest.Builder builder = validRequestBuilder().putHeader("foo", "bar")
+                                                                  .putRawQueryParameter("foo", "bar");
+        SdkHttpFullRequest request = builder.build();
+
+        builder.appendHeader("foo", "baz")
+               .appendRawQueryParameter("foo", "baz")
+               .putHeader("Accept", "*/*")
+               .putRawQueryParameter("Accept", "*/*");
+        SdkHttpFullRequest request2 = builder.build();
+
+        assertThat(request.headers()).containsOnly(entry("foo", singletonList("bar")));
+        assertThat(request.rawQueryParameters()).containsOnly(entry("foo", singletonList("bar")));
+        assertThat(request2.headers()).containsOnly(entry("Accept", singletonList("*/*")),
+                                                    entry("foo", Arrays.asList("bar", "baz")));
+        assertThat(request2.rawQueryParameters()).containsOnly(entry("foo", Arrays.asList("bar", "baz")),
+                                                               entry("Accept", singletonList("*/*")));
+    }
+
+    @Test
+    public void responseBuilderModifiedAfterBuild_doesNotModifyBuiltResponse() {
+        SdkHttpFullResponse.Builder builder = validResponseBuilder().putHeader("foo", "bar");
+        SdkHttpFullResponse response = builder.build();
+
+        builder.appendHeader("foo", "baz");
+
+        assertThat(response.headers()).containsOnly(entry("foo", singletonList("bar")));
+        assertThat(builder.build().headers()).containsOnly(entry("foo", Arrays.asList("bar", "baz")));
+    }
+
+    @Test
+    public void modifiedRequest_sharesValuesOfUnmodifiedHeadersAndQueryParameters() {
+        SdkHttpFullRequest request = validRequestWithMaps();
+        SdkHttpFullRequest request2 = request.toBuilder().putHeader("foo", "bar").putRawQueryParameter("foo", "bar").build();
+
+        assertThat(request2.headers().get("Accept")).isSameAs(request.headers().get("Accept"));
+        assertThat(request2.rawQueryParameters().get("Accept")).isSameAs(request.rawQueryParameters().get("Accept"));
+    }
+
+    @Test
+    public void builderHeaders_areCaseInsensitive() {
+        SdkHttpFullRequest.Builder builder = validRequestBuilder().putHeader("Content-Type", "text/plain");
+
+        assertThat(builder.headers()).containsKey("content-type");
+        assertThat(builder.firstMatchingHeader("CONTENT-TYPE")).hasValue("text/plain");
+    }
+
     private void assertRequestHeaderMapsAreCopied(Consumer<SdkHttpRequest.Builder> mutation) {
         SdkHttpFullRequest request = validRequestWithMaps();
         Map<String, List<String>> originalQuery = new LinkedHashMap<>(request.headers());
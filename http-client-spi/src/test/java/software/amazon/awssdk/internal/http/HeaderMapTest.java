@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.Test;
+
+public class HeaderMapTest {
+    private static final String[] NAMES = {"Accept", "accept", "ACCEPT", "Host", "host", "X-Amz-Date", "x-amz-date",
+                                           "Content-Type", "Content-Length", "été", "ÉTÉ", "a", "A", "b"};
+
+    @Test
+    public void lookup_isCaseInsensitive() {
+        HeaderMap headers = HeaderMap.empty().with("Content-Type", singletonList("text/plain"));
+
+        assertThat(headers.get("content-type")).containsExactly("text/plain");
+        assertThat(headers.containsKey("CONTENT-TYPE")).isTrue();
+        assertThat(headers.get("Content-Length")).isNull();
+        assertThat(headers.get(null)).isNull();
+        assertThat(headers.get(1)).isNull();
+    }
+
+    @Test
+    public void put_existingHeaderWithDifferentCase_keepsOriginalNameAndReplacesValues() {
+        HeaderMap headers = HeaderMap.empty()
+                                     .with("Content-Type", singletonList("text/plain"))
+                                     .with("content-type", singletonList("text/html"));
+
+        assertThat(headers).hasSize(1);
+        assertThat(headers.keySet()).containsExactly("Content-Type");
+        assertThat(headers.get("Content-Type")).containsExactly("text/html");
+    }
+
+    @Test
+    public void modifications_doNotModifyOriginalMap() {
+        HeaderMap original = HeaderMap.empty().with("Accept", singletonList("*/*"));
+
+        HeaderMap appended = original.withAppended("Accept", "text/plain");
+        HeaderMap added = original.with("Host", singletonList("localhost"));
+        HeaderMap removed = original.without("accept");
+
+        assertThat(original).containsOnlyKeys("Accept");
+        assertThat(original.get("Accept")).containsExactly("*/*");
+        assertThat(appended.get("Accept")).containsExactly("*/*", "text/plain");
+        assertThat(added.get("Accept")).isSameAs(original.get("Accept"));
+        assertThat(removed).isEmpty();
+        assertThat(original.without("Host")).isSameAs(original);
+    }
+
+    @Test
+    public void put_copiesValues() {
+        List<String> values = new ArrayList<>(Arrays.asList("a", "b"));
+        HeaderMap headers = HeaderMap.empty().with("Accept", values);
+
+        values.add("c");
+
+        assertThat(headers.get("Accept")).containsExactly("a", "b");
+    }
+
+    @Test
+    public void mapAndValues_areUnmodifiable() {
+        HeaderMap headers = HeaderMap.empty().with("Accept", Arrays.asList("a", "b")).withAppended("Host", "localhost");
+
+        assertThatThrownBy(headers::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.put("Host", singletonList("b"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.entrySet().iterator().next().setValue(null))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.get("Accept").add("c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headers.get("Host").add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void copyOf_returnsHeaderMapsAsIs() {
+        HeaderMap headers = HeaderMap.empty().with("Accept", singletonList("*/*"));
+
+        assertThat(HeaderMap.copyOf(headers)).isSameAs(headers);
+    }
+
+    @Test
+    public void randomModifications_behaveLikeCaseInsensitiveTreeMap() {
+        Random random = new Random(42);
+        for (int run = 0; run < 100; run++) {
+            Map<String, List<String>> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            HeaderMap actual = HeaderMap.empty();
+
+            for (int i = 0; i < 50; i++) {
+                String name = NAMES[random.nextInt(NAMES.length)];
+                String value = Integer.toString(i);
+                switch (random.nextInt(3)) {
+                    case 0:
+                        expected.put(name, new ArrayList<>(singletonList(value)));
+                        actual = actual.with(name, singletonList(value));
+                        break;
+                    case 1:
+                        expected.computeIfAbsent(name, n -> new ArrayList<>()).add(value);
+                        actual = actual.withAppended(name, value);
+                        break;
+                    default:
+                        expected.remove(name);
+                        actual = actual.without(name);
+                        break;
+                }
+
+                assertThat(actual).isEqualTo(expected);
+                assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+                assertThat(new ArrayList<>(actual.keySet())).isEqualTo(new ArrayList<>(expected.keySet()));
+                for (String n : NAMES) {
+                    assertThat(actual.get(n)).isEqualTo(expected.get(n));
+                }
+            }
+
+            Map<String, List<String>> insertionOrdered = new LinkedHashMap<>(expected);
+            assertThat(HeaderMap.copyOf(insertionOrdered)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void serialization_roundTrips() throws IOException, ClassNotFoundException {
+        HeaderMap headers = HeaderMap.empty().with("Accept", Arrays.asList("a", "b")).withAppended("Host", "localhost");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(headers);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            HeaderMap deserialized = (HeaderMap) in.readObject();
+            assertThat(deserialized).isEqualTo(headers);
+            assertThat(deserialized.get("accept")).containsExactly("a", "b");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.utils.JavaSystemSetting;
+
+public class TlsContextSettingsTest {
+    @After
+    public void clearTrustStore() {
+        System.clearProperty(JavaSystemSetting.SSL_TRUST_STORE.property());
+    }
+
+    @Test
+    public void equals_sameSettings_isEqual() {
+        TlsContextSettings first = TlsContextSettings.create(10, Duration.ofMinutes(10));
+        TlsContextSettings second = TlsContextSettings.create(10, Duration.ofMinutes(10));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.hashCode()).isEqualTo(first.hashCode());
+    }
+
+    @Test
+    public void equals_differentSessionCacheSettings_isNotEqual() {
+        TlsContextSettings settings = TlsContextSettings.create(10, Duration.ofMinutes(10));
+
+        assertThat(TlsContextSettings.create(11, Duration.ofMinutes(10))).isNotEqualTo(settings);
+        assertThat(TlsContextSettings.create(10, Duration.ofMinutes(11))).isNotEqualTo(settings);
+    }
+
+    @Test
+    public void equals_trustStoreChanged_isNotEqual() {
+        TlsContextSettings before = TlsContextSettings.create(10, Duration.ofMinutes(10));
+        System.setProperty(JavaSystemSetting.SSL_TRUST_STORE.property(), "/path/to/truststore");
+
+        assertThat(TlsContextSettings.create(10, Duration.ofMinutes(10))).isNotEqualTo(before);
+    }
+}
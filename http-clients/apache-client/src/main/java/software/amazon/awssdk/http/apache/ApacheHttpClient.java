@@ -23,10 +23,14 @@ import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
 import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+import static software.amazon.awssdk.http.HttpMetric.REAPED_CONNECTIONS;
+import static software.amazon.awssdk.http.HttpMetric.TLS_HANDSHAKE_TIME;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -35,7 +39,9 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
@@ -43,6 +49,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.methods.HttpRequestBase;
@@ -60,6 +67,7 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
@@ -70,6 +78,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -80,9 +89,13 @@ import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPoolWarmer;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
+import software.amazon.awssdk.http.apache.internal.conn.SdkDnsResolverAdapter;
+import software.amazon.awssdk.http.apache.internal.conn.SdkPlainSocketFactory;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
+import software.amazon.awssdk.http.apache.internal.conn.SharedSslContexts;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
@@ -109,10 +122,13 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
     private static final Logger log = Logger.loggerFor(ApacheHttpClient.class);
 
+    private static final HttpRoutePlanner DEFAULT_ROUTE_PLANNER = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+
     private final ApacheHttpRequestFactory apacheHttpRequestFactory = new ApacheHttpRequestFactory();
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final ConnectionPoolWarmer connectionPoolWarmer;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -121,12 +137,15 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.connectionPoolWarmer = createConnectionPoolWarmer(DEFAULT_ROUTE_PLANNER);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
-        this.httpClient = createClient(builder, resolvedOptions);
+        HttpRoutePlanner routePlanner = resolveRoutePlanner(builder);
+        this.httpClient = createClient(builder, routePlanner, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        this.connectionPoolWarmer = createConnectionPoolWarmer(routePlanner);
     }
 
     public static Builder builder() {
@@ -143,6 +162,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
     }
 
     private ConnectionManagerAwareHttpClient createClient(ApacheHttpClient.DefaultBuilder configuration,
+                                                          HttpRoutePlanner routePlanner,
                                                           AttributeMap standardOptions) {
         ApacheConnectionManagerFactory cmFactory = new ApacheConnectionManagerFactory();
 
@@ -161,7 +181,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
                .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
 
-        addProxyConfig(builder, configuration);
+        builder.setRoutePlanner(routePlanner);
+        addProxyCredentials(builder, configuration);
 
         if (useIdleConnectionReaper(standardOptions)) {
             IdleConnectionReaper.getInstance().registerConnectionManager(
@@ -171,38 +192,53 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ApacheSdkHttpClient(builder.build(), cm);
     }
 
-    private void addProxyConfig(HttpClientBuilder builder,
-                                DefaultBuilder configuration) {
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
 
         Validate.isTrue(configuration.httpRoutePlanner == null || !isProxyEnabled(proxyConfiguration),
                         "The httpRoutePlanner and proxyConfiguration can't both be configured.");
-        Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
-                        "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
         }
 
+        return configuration.httpRoutePlanner != null ? configuration.httpRoutePlanner : DEFAULT_ROUTE_PLANNER;
+    }
+
+    private void addProxyCredentials(HttpClientBuilder builder,
+                                     DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+
+        Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
+                        "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
+
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
             credentialsProvider = ApacheUtils.newProxyCredentialsProvider(proxyConfiguration);
         }
 
-        if (routePlanner != null) {
-            builder.setRoutePlanner(routePlanner);
-        }
-
         if (credentialsProvider != null) {
             builder.setDefaultCredentialsProvider(credentialsProvider);
         }
     }
 
+    private ConnectionPoolWarmer createConnectionPoolWarmer(HttpRoutePlanner routePlanner) {
+        AttributeMap options = resolvedOptions.merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+        return ConnectionPoolWarmer.builder()
+                                   .connectionManager(httpClient.getHttpClientConnectionManager())
+                                   .routePlanner(routePlanner)
+                                   .localAddress(requestConfig.localAddress())
+                                   .connectionTimeout(options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT))
+                                   .connectionAcquireTimeout(options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT))
+                                   .connectionMaxIdleTime(options.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT))
+                                   .maxConnections(options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS))
+                                   .build();
+    }
+
     private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
         return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
@@ -229,7 +265,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ExecutableHttpRequest() {
             @Override
             public HttpExecuteResponse call() throws IOException {
-                HttpExecuteResponse executeResponse = execute(apacheRequest);
+                HttpExecuteResponse executeResponse = execute(apacheRequest, metricCollector);
                 collectPoolMetric(metricCollector);
                 return executeResponse;
             }
@@ -241,6 +277,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The connections are opened on threads created for the warm-up. Connections to endpoints that are reached through a
+     * proxy tunnel are not warmed up.</p>
+     */
+    @Override
+    public CompletableFuture<Void> warmUp(URI endpoint, int connections, MetricCollector metricCollector) {
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+        HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+        return connectionPoolWarmer.warmUp(target, connections, metricCollector);
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -248,12 +297,22 @@ public final class ApacheHttpClient implements SdkHttpClient {
         cm.shutdown();
     }
 
-    private HttpExecuteResponse execute(HttpRequestBase apacheRequest) throws IOException {
+    private HttpExecuteResponse execute(HttpRequestBase apacheRequest, MetricCollector metricCollector) throws IOException {
         HttpClientContext localRequestContext = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
         HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
+        collectTlsHandshakeMetrics(localRequestContext, metricCollector);
         return createResponse(httpResponse, apacheRequest);
     }
 
+    private void collectTlsHandshakeMetrics(HttpClientContext context, MetricCollector metricCollector) {
+        Duration handshakeTime = context.getAttribute(SdkTlsSocketFactory.TLS_HANDSHAKE_TIME_ATTRIBUTE, Duration.class);
+        if (handshakeTime != null) {
+            metricCollector.reportMetric(TLS_HANDSHAKE_TIME, handshakeTime);
+            metricCollector.reportMetric(TLS_SESSION_RESUMED,
+                                         context.getAttribute(SdkTlsSocketFactory.TLS_SESSION_RESUMED_ATTRIBUTE, Boolean.class));
+        }
+    }
+
     private HttpRequestBase toApacheRequest(HttpExecuteRequest request) {
         return apacheHttpRequestFactory.create(request, requestConfig);
     }
@@ -313,6 +372,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
             metricCollector.reportMetric(AVAILABLE_CONCURRENCY, totalStats.getAvailable());
             metricCollector.reportMetric(LEASED_CONCURRENCY, totalStats.getLeased());
             metricCollector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, totalStats.getPending());
+            metricCollector.reportMetric(REAPED_CONNECTIONS, IdleConnectionReaper.getInstance().reapedConnections(cm));
         }
     }
 
@@ -420,6 +480,32 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions that are cached, so that new connections to an endpoint can resume a
+         * TLS session instead of negotiating a new one. When the client uses the default TLS key and trust managers, the cache
+         * is shared with the other clients of the JVM that use the same cache settings.
+         * <p>
+         * By default, 1024 sessions are cached.
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure how long a cached TLS session can be resumed after it was negotiated.
+         * <p>
+         * By default, TLS sessions can be resumed for an hour.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure the {@link SdkDnsResolver} that resolves the addresses of the hosts the client connects to. New
+         * connections try the resolved addresses in order, and the resolver is told about each connection that is opened,
+         * closed or that failed, so that {@link software.amazon.awssdk.http.CachingDnsResolver} can spread the connections
+         * to a host across all its addresses.
+         * <p>
+         * By default, addresses are resolved by the JVM and not reported to any resolver.
+         */
+        Builder dnsResolver(SdkDnsResolver dnsResolver);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -429,6 +515,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private Boolean expectContinueEnabled;
         private HttpRoutePlanner httpRoutePlanner;
         private CredentialsProvider credentialsProvider;
+        private SdkDnsResolver dnsResolver;
 
         private DefaultBuilder() {
         }
@@ -579,6 +666,37 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositive(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder dnsResolver(SdkDnsResolver dnsResolver) {
+            this.dnsResolver = dnsResolver;
+            return this;
+        }
+
+        public void setDnsResolver(SdkDnsResolver dnsResolver) {
+            dnsResolver(dnsResolver);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -591,14 +709,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
                                                   AttributeMap standardOptions) {
-            ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+            SdkDnsResolverAdapter dnsResolver = configuration.dnsResolver == null
+                                                ? null
+                                                : new SdkDnsResolverAdapter(configuration.dnsResolver);
+            ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions, dnsResolver);
 
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
-                    createSocketFactoryRegistry(sslsf),
+                    createSocketFactoryRegistry(sslsf, dnsResolver),
                     null,
                     DefaultSchemePortResolver.INSTANCE,
-                    null,
+                    dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
@@ -610,10 +731,12 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
 
         private ConnectionSocketFactory getPreferredSocketFactory(ApacheHttpClient.DefaultBuilder configuration,
-                                                                  AttributeMap standardOptions) {
+                                                                  AttributeMap standardOptions,
+                                                                  SdkDnsResolverAdapter dnsResolver) {
             // TODO v2 custom socket factory
             return new SdkTlsSocketFactory(getSslContext(standardOptions),
-                                           getHostNameVerifier(standardOptions));
+                                           getHostNameVerifier(standardOptions),
+                                           dnsResolver);
         }
 
         private HostnameVerifier getHostNameVerifier(AttributeMap standardOptions) {
@@ -639,8 +762,21 @@ public final class ApacheHttpClient implements SdkHttpClient {
             }
 
             TlsKeyManagersProvider provider = standardOptions.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
-            KeyManager[] keyManagers = provider.keyManagers();
+            int sessionCacheSize = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+            Duration sessionTimeout = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+
+            // Clients with the default key and trust managers share their TLS sessions with the other clients of the JVM
+            if (trustManagers == null && provider instanceof SystemPropertyTlsKeyManagersProvider) {
+                Supplier<SSLContext> sslContextFactory = () -> createSslContext(provider.keyManagers(), null);
+                return SharedSslContexts.get(sessionCacheSize, sessionTimeout, sslContextFactory);
+            }
+
+            SSLContext sslContext = createSslContext(provider.keyManagers(), trustManagers);
+            SharedSslContexts.configureSessionCache(sslContext, sessionCacheSize, sessionTimeout);
+            return sslContext;
+        }
 
+        private SSLContext createSslContext(KeyManager[] keyManagers, TrustManager[] trustManagers) {
             try {
                 SSLContext sslcontext = SSLContext.getInstance("TLS");
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
@@ -686,9 +822,13 @@ public final class ApacheHttpClient implements SdkHttpClient {
                                .build();
         }
 
-        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory) {
+        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory,
+                                                                             SdkDnsResolverAdapter dnsResolver) {
+            ConnectionSocketFactory plainSocketFactory = dnsResolver == null
+                                                         ? PlainConnectionSocketFactory.getSocketFactory()
+                                                         : new SdkPlainSocketFactory(dnsResolver);
             return RegistryBuilder.<ConnectionSocketFactory>create()
-                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("http", plainSocketFactory)
                     .register("https", sslSocketFactory)
                     .build();
         }
@@ -0,0 +1,241 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_WARM_UP_TIME;
+import static software.amazon.awssdk.http.HttpMetric.WARMED_UP_CONNECTIONS;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Opens connections to an endpoint in parallel and returns them to the connection pool once they are all established, so
+ * that the first requests to the endpoint find open connections in the pool. The connections of all clients are opened
+ * by one executor that opens at most {@value #MAX_CONCURRENT_CONNECTS} connections at the same time.
+ *
+ * <p>The connections are held until all of them are established, otherwise the connection manager would hand the same
+ * pooled connection to each of the warm-up threads. Routes that tunnel through a proxy are not warmed up because the tunnel
+ * is only created when a request is executed.</p>
+ */
+@SdkInternalApi
+public final class ConnectionPoolWarmer {
+    private static final Logger log = Logger.loggerFor(ConnectionPoolWarmer.class);
+
+    private static final int MAX_CONCURRENT_CONNECTS = 8;
+
+    /**
+     * The threads of the executor are daemon threads that stop once they are idle, so it does not need to be shut down.
+     */
+    private static final ExecutorService CONNECT_EXECUTOR = createConnectExecutor();
+
+    private final HttpClientConnectionManager connectionManager;
+    private final HttpRoutePlanner routePlanner;
+    private final InetAddress localAddress;
+    private final Duration connectionTimeout;
+    private final Duration connectionAcquireTimeout;
+    private final Duration connectionMaxIdleTime;
+    private final int maxConnections;
+
+    private ConnectionPoolWarmer(Builder builder) {
+        this.connectionManager = builder.connectionManager;
+        this.routePlanner = builder.routePlanner;
+        this.localAddress = builder.localAddress;
+        this.connectionTimeout = builder.connectionTimeout;
+        this.connectionAcquireTimeout = builder.connectionAcquireTimeout;
+        this.connectionMaxIdleTime = builder.connectionMaxIdleTime;
+        this.maxConnections = builder.maxConnections;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Open up to the requested number of connections to the endpoint, capped at the maximum number of connections of the
+     * pool, and report the number of connections and the time it took to the metric collector.
+     */
+    public CompletableFuture<Void> warmUp(HttpHost endpoint, int connections, MetricCollector metricCollector) {
+        int connectionCount = Math.min(connections, maxConnections);
+        if (connectionCount <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpClientContext context = newContext();
+        HttpRoute route;
+        try {
+            route = routePlanner.determineRoute(endpoint, new HttpGet("/"), context);
+        } catch (HttpException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+
+        if (route.isTunnelled()) {
+            log.debug(() -> "Not warming up connections to " + endpoint + " because they are tunnelled through a proxy.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long start = System.nanoTime();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<HttpClientConnection>[] connectionFutures = new CompletableFuture[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            connectionFutures[i] = CompletableFuture.supplyAsync(() -> connect(route), CONNECT_EXECUTOR);
+        }
+
+        return CompletableFuture.allOf(connectionFutures).whenComplete((r, t) -> {
+            int warmedUpConnections = 0;
+            for (CompletableFuture<HttpClientConnection> connectionFuture : connectionFutures) {
+                if (!connectionFuture.isCompletedExceptionally()) {
+                    HttpClientConnection connection = connectionFuture.join();
+                    connectionManager.releaseConnection(connection, null,
+                                                        connectionMaxIdleTime.toMillis(), TimeUnit.MILLISECONDS);
+                    warmedUpConnections++;
+                }
+            }
+            metricCollector.reportMetric(WARMED_UP_CONNECTIONS, warmedUpConnections);
+            metricCollector.reportMetric(CONNECTION_WARM_UP_TIME, Duration.ofNanos(System.nanoTime() - start));
+        });
+    }
+
+    private HttpClientConnection connect(HttpRoute route) {
+        HttpClientConnection connection = lease(route);
+        try {
+            if (!connection.isOpen()) {
+                HttpClientContext context = newContext();
+                connectionManager.connect(connection, route, saturatedMillis(connectionTimeout), context);
+                connectionManager.routeComplete(connection, route, context);
+            }
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            try {
+                connection.shutdown();
+            } catch (IOException shutdownException) {
+                log.debug(() -> "Failed to shut down a connection that could not be warmed up.", shutdownException);
+            }
+            connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+            throw new CompletionException(e);
+        }
+    }
+
+    private HttpClientConnection lease(HttpRoute route) {
+        ConnectionRequest request = connectionManager.requestConnection(route, null);
+        try {
+            return request.get(connectionAcquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            request.cancel();
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException | ConnectionPoolTimeoutException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private HttpClientContext newContext() {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom().setLocalAddress(localAddress).build());
+        return context;
+    }
+
+    private static ExecutorService createConnectExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_CONNECTS, MAX_CONCURRENT_CONNECTS,
+                                                             60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder().threadNamePrefix("sdk-connection-warm-up")
+                                                                                       .daemonThreads(true)
+                                                                                       .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static int saturatedMillis(Duration duration) {
+        return (int) Math.min(duration.toMillis(), Integer.MAX_VALUE);
+    }
+
+    public static final class Builder {
+        private HttpClientConnectionManager connectionManager;
+        private HttpRoutePlanner routePlanner;
+        private InetAddress localAddress;
+        private Duration connectionTimeout;
+        private Duration connectionAcquireTimeout;
+        private Duration connectionMaxIdleTime;
+        private int maxConnections;
+
+        private Builder() {
+        }
+
+        public Builder connectionManager(HttpClientConnectionManager connectionManager) {
+            this.connectionManager = connectionManager;
+            return this;
+        }
+
+        public Builder routePlanner(HttpRoutePlanner routePlanner) {
+            this.routePlanner = routePlanner;
+            return this;
+        }
+
+        public Builder localAddress(InetAddress localAddress) {
+            this.localAddress = localAddress;
+            return this;
+        }
+
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+            return this;
+        }
+
+        public Builder connectionAcquireTimeout(Duration connectionAcquireTimeout) {
+            this.connectionAcquireTimeout = connectionAcquireTimeout;
+            return this;
+        }
+
+        public Builder connectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            this.connectionMaxIdleTime = connectionMaxIdleTime;
+            return this;
+        }
+
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public ConnectionPoolWarmer build() {
+            return new ConnectionPoolWarmer(this);
+        }
+    }
+}
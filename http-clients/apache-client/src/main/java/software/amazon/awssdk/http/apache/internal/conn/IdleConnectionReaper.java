@@ -18,18 +18,25 @@ package software.amazon.awssdk.http.apache.internal.conn;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 
 /**
- * Manages the reaping of idle connections.
+ * Manages the reaping of idle and expired connections.
+ * <p>
+ * Each registered connection manager is reaped in one batch by a task scheduled on a shared scheduler, as often as its
+ * maximum idle time, but at most once a second and at least once a minute. The scheduler only wakes up when the next of
+ * these tasks is due.
  */
 @SdkInternalApi
 public final class IdleConnectionReaper {
@@ -37,39 +44,35 @@ public final class IdleConnectionReaper {
 
     private static final IdleConnectionReaper INSTANCE = new IdleConnectionReaper();
 
-    private final Map<HttpClientConnectionManager, Long> connectionManagers;
+    private final Map<HttpClientConnectionManager, ReaperTask> connectionManagers;
 
-    private final Supplier<ExecutorService> executorServiceSupplier;
+    private final Supplier<ScheduledExecutorService> executorServiceSupplier;
 
-    private final long sleepPeriod;
+    private final long minReapPeriod;
 
-    private volatile ExecutorService exec;
+    private final long maxReapPeriod;
 
-    private volatile ReaperTask reaperTask;
+    private volatile ScheduledExecutorService exec;
 
     private IdleConnectionReaper() {
-        this.connectionManagers =  new ConcurrentHashMap<>();
-
-        this.executorServiceSupplier = () -> {
-            ExecutorService e = Executors.newSingleThreadExecutor(r -> {
-                Thread t = new Thread(r, "idle-connection-reaper");
-                t.setDaemon(true);
-                return t;
-            });
-            return e;
-        };
-
-        this.sleepPeriod = Duration.ofMinutes(1).toMillis();
+        this.connectionManagers = new ConcurrentHashMap<>();
+
+        this.executorServiceSupplier = () -> Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "idle-connection-reaper");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.minReapPeriod = Duration.ofSeconds(1).toMillis();
+        this.maxReapPeriod = Duration.ofMinutes(1).toMillis();
     }
 
     @SdkTestInternalApi
-    IdleConnectionReaper(Map<HttpClientConnectionManager, Long> connectionManagers,
-                         Supplier<ExecutorService> executorServiceSupplier,
-                         long sleepPeriod) {
-
-        this.connectionManagers = connectionManagers;
+    IdleConnectionReaper(Supplier<ScheduledExecutorService> executorServiceSupplier, long minReapPeriod, long maxReapPeriod) {
+        this.connectionManagers = new ConcurrentHashMap<>();
         this.executorServiceSupplier = executorServiceSupplier;
-        this.sleepPeriod = sleepPeriod;
+        this.minReapPeriod = minReapPeriod;
+        this.maxReapPeriod = maxReapPeriod;
     }
 
     /**
@@ -81,9 +84,18 @@ public final class IdleConnectionReaper {
      * otherwise.
      */
     public synchronized boolean registerConnectionManager(HttpClientConnectionManager manager, long maxIdleTime) {
-        boolean notPreviouslyRegistered = connectionManagers.put(manager, maxIdleTime) == null;
         setupExecutorIfNecessary();
-        return notPreviouslyRegistered;
+
+        ReaperTask reaperTask = new ReaperTask(manager, maxIdleTime);
+        ReaperTask previousTask = connectionManagers.put(manager, reaperTask);
+        if (previousTask != null) {
+            previousTask.stop();
+        }
+
+        // Reap as often as connections may stay idle, but not so often that a very short idle time keeps the reaper busy
+        long reapPeriod = Math.max(minReapPeriod, Math.min(maxIdleTime, maxReapPeriod));
+        reaperTask.schedule(exec, reapPeriod);
+        return previousTask == null;
     }
 
     /**
@@ -94,9 +106,21 @@ public final class IdleConnectionReaper {
      * false} otherwise.
      */
     public synchronized boolean deregisterConnectionManager(HttpClientConnectionManager manager) {
-        boolean wasRemoved = connectionManagers.remove(manager) != null;
+        ReaperTask reaperTask = connectionManagers.remove(manager);
+        if (reaperTask != null) {
+            reaperTask.stop();
+        }
         cleanupExecutorIfNecessary();
-        return wasRemoved;
+        return reaperTask != null;
+    }
+
+    /**
+     * @return The number of connections of the connection manager this reaper has closed, or 0 if the connection manager is
+     * not registered with this reaper.
+     */
+    public int reapedConnections(HttpClientConnectionManager manager) {
+        ReaperTask reaperTask = connectionManagers.get(manager);
+        return reaperTask == null ? 0 : reaperTask.reapedConnections.get();
     }
 
     /**
@@ -111,13 +135,7 @@ public final class IdleConnectionReaper {
             return;
         }
 
-        ExecutorService e = executorServiceSupplier.get();
-
-        this.reaperTask = new ReaperTask(connectionManagers, sleepPeriod);
-
-        e.execute(this.reaperTask);
-
-        exec = e;
+        exec = executorServiceSupplier.get();
     }
 
     private void cleanupExecutorIfNecessary() {
@@ -125,46 +143,55 @@ public final class IdleConnectionReaper {
             return;
         }
 
-        reaperTask.stop();
-        reaperTask = null;
         exec.shutdownNow();
         exec = null;
     }
 
     private static final class ReaperTask implements Runnable {
-        private final Map<HttpClientConnectionManager, Long> connectionManagers;
-        private final long sleepPeriod;
+        private final HttpClientConnectionManager connectionManager;
+        private final long maxIdleTime;
+        private final AtomicInteger reapedConnections = new AtomicInteger();
+
+        private volatile ScheduledFuture<?> future;
 
-        private volatile boolean stopping = false;
+        private ReaperTask(HttpClientConnectionManager connectionManager, long maxIdleTime) {
+            this.connectionManager = connectionManager;
+            this.maxIdleTime = maxIdleTime;
+        }
 
-        private ReaperTask(Map<HttpClientConnectionManager, Long> connectionManagers,
-                           long sleepPeriod) {
-            this.connectionManagers = connectionManagers;
-            this.sleepPeriod = sleepPeriod;
+        private void schedule(ScheduledExecutorService executor, long reapPeriod) {
+            future = executor.scheduleWithFixedDelay(this, reapPeriod, reapPeriod, TimeUnit.MILLISECONDS);
         }
 
         @Override
         public void run() {
-            while (!stopping) {
-                try {
-                    Thread.sleep(sleepPeriod);
-
-                    for (Map.Entry<HttpClientConnectionManager, Long> entry : connectionManagers.entrySet()) {
-                        try {
-                            entry.getKey().closeIdleConnections(entry.getValue(), TimeUnit.MILLISECONDS);
-                        } catch (Exception t) {
-                            log.warn("Unable to close idle connections", t);
-                        }
-                    }
-                } catch (Throwable t) {
-                    log.debug("Reaper thread: ", t);
+            try {
+                int availableConnections = availableConnections();
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+
+                // Connections released while reaping are not counted, so this is a lower bound
+                int reaped = availableConnections - availableConnections();
+                if (reaped > 0) {
+                    reapedConnections.addAndGet(reaped);
+                    log.debug("Reaped {} connections.", reaped);
                 }
+            } catch (Exception t) {
+                log.warn("Unable to close idle connections", t);
             }
-            log.debug("Shutting down reaper thread.");
+        }
+
+        private int availableConnections() {
+            if (connectionManager instanceof ConnPoolControl) {
+                return ((ConnPoolControl<?>) connectionManager).getTotalStats().getAvailable();
+            }
+            return 0;
         }
 
         private void stop() {
-            stopping = true;
+            if (future != null) {
+                future.cancel(false);
+            }
         }
     }
 }
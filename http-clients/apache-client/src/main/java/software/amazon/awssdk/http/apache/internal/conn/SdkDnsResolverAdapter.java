@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.DnsResolver;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Adapts a {@link SdkDnsResolver} to the Apache {@link DnsResolver}, and reports the connections that the socket factories
+ * open to the resolved addresses back to it.
+ */
+@SdkInternalApi
+public final class SdkDnsResolverAdapter implements DnsResolver {
+    private final SdkDnsResolver dnsResolver;
+
+    public SdkDnsResolverAdapter(SdkDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        return dnsResolver.resolve(host);
+    }
+
+    /**
+     * Report that a connection to the provided address of a host could not be established.
+     */
+    public void connectionFailed(HttpHost host, InetSocketAddress remoteAddress) {
+        dnsResolver.connectionFailed(host.getHostName(), remoteAddress.getAddress());
+    }
+
+    /**
+     * Report that a connection to the provided address of a host was established.
+     *
+     * @return The listener to call when the socket of the connection is closed.
+     */
+    public Runnable connectionOpened(HttpHost host, InetSocketAddress remoteAddress) {
+        String hostName = host.getHostName();
+        InetAddress address = remoteAddress.getAddress();
+        dnsResolver.connectionOpened(hostName, address);
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                dnsResolver.connectionClosed(hostName, address);
+            }
+        };
+    }
+}
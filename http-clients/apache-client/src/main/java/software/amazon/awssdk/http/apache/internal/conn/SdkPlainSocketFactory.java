@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
+
+/**
+ * Plain socket factory that reports the connections it opens to a custom DNS resolver.
+ */
+@SdkInternalApi
+public class SdkPlainSocketFactory extends PlainConnectionSocketFactory {
+    private final SdkDnsResolverAdapter dnsResolver;
+
+    public SdkPlainSocketFactory(SdkDnsResolverAdapter dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout,
+                                Socket socket,
+                                HttpHost host,
+                                InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress,
+                                HttpContext context) throws IOException {
+        Socket connectedSocket;
+        try {
+            connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+        } catch (IOException e) {
+            dnsResolver.connectionFailed(host, remoteAddress);
+            throw e;
+        }
+
+        return new SdkSocket(connectedSocket, dnsResolver.connectionOpened(host, remoteAddress));
+    }
+}
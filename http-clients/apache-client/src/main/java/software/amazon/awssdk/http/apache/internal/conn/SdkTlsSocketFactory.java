@@ -18,11 +18,13 @@ package software.amazon.awssdk.http.apache.internal.conn;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
@@ -38,16 +40,38 @@ import software.amazon.awssdk.utils.Logger;
 @SdkInternalApi
 public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
+    /**
+     * The {@link HttpContext} attribute set to the {@link Duration} of the TLS handshake when a connection is opened while
+     * executing a request.
+     */
+    public static final String TLS_HANDSHAKE_TIME_ATTRIBUTE = "aws.http.apache.tlsHandshakeTime";
+
+    /**
+     * The {@link HttpContext} attribute set to whether the TLS handshake of a connection opened while executing a request
+     * resumed a cached TLS session.
+     */
+    public static final String TLS_SESSION_RESUMED_ATTRIBUTE = "aws.http.apache.tlsSessionResumed";
+
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
     private final SSLContext sslContext;
+    private final SdkDnsResolverAdapter dnsResolver;
 
     public SdkTlsSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
+        this(sslContext, hostnameVerifier, null);
+    }
+
+    /**
+     * @param dnsResolver The custom DNS resolver to report the opened connections to, or {@code null}.
+     */
+    public SdkTlsSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier,
+                               final SdkDnsResolverAdapter dnsResolver) {
         super(sslContext, hostnameVerifier);
         if (sslContext == null) {
             throw new IllegalArgumentException(
                     "sslContext must not be null. " + "Use SSLContext.getDefault() if you are unsure.");
         }
         this.sslContext = sslContext;
+        this.dnsResolver = dnsResolver;
     }
 
     /**
@@ -100,6 +124,28 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
         return false;
     }
 
+    /**
+     * {@inheritDoc} Records the duration of the TLS handshake, and whether it resumed a cached session, in the context.
+     */
+    @Override
+    public Socket createLayeredSocket(final Socket socket,
+                                      final String target,
+                                      final int port,
+                                      final HttpContext context) throws IOException {
+        long startTimeMillis = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+        Duration handshakeTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+        if (context != null && layeredSocket instanceof SSLSocket) {
+            SSLSession session = ((SSLSocket) layeredSocket).getSession();
+            context.setAttribute(TLS_HANDSHAKE_TIME_ATTRIBUTE, handshakeTime);
+            // A resumed session was created by the handshake of an earlier connection
+            context.setAttribute(TLS_SESSION_RESUMED_ATTRIBUTE, session.getCreationTime() < startTimeMillis);
+        }
+        return layeredSocket;
+    }
+
     @Override
     public Socket connectSocket(
             final int connectTimeout,
@@ -110,13 +156,22 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
             final HttpContext context) throws IOException {
         log.trace(() -> String.format("Connecting to %s:%s", remoteAddress.getAddress(), remoteAddress.getPort()));
 
-        Socket connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+        Socket connectedSocket;
+        try {
+            connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+        } catch (IOException e) {
+            if (dnsResolver != null) {
+                dnsResolver.connectionFailed(host, remoteAddress);
+            }
+            throw e;
+        }
 
+        Runnable closeListener = dnsResolver == null ? null : dnsResolver.connectionOpened(host, remoteAddress);
         if (connectedSocket instanceof SSLSocket) {
-            return new SdkSslSocket((SSLSocket) connectedSocket);
+            return new SdkSslSocket((SSLSocket) connectedSocket, closeListener);
         }
 
-        return new SdkSocket(connectedSocket);
+        return new SdkSocket(connectedSocket, closeListener);
     }
 
 }
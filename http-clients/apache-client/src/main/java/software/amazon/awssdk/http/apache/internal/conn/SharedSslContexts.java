@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.internal.http.TlsContextSettings;
+import software.amazon.awssdk.utils.NumericUtils;
+
+/**
+ * The {@link SSLContext}s shared by the clients of the JVM that use the default TLS key and trust managers, so that a new
+ * connection can resume a TLS session negotiated by any connection to the same endpoint, even one of another client. The JDK
+ * caches the client TLS sessions of an {@link SSLContext} by host and port.
+ */
+@SdkInternalApi
+public final class SharedSslContexts {
+    private static final Map<TlsContextSettings, SSLContext> SSL_CONTEXTS = new ConcurrentHashMap<>();
+
+    private SharedSslContexts() {
+    }
+
+    /**
+     * Return the shared {@link SSLContext} with the given session cache settings, creating it with the given factory if no
+     * client uses these settings yet.
+     */
+    public static SSLContext get(int sessionCacheSize, Duration sessionTimeout, Supplier<SSLContext> sslContextFactory) {
+        return SSL_CONTEXTS.computeIfAbsent(TlsContextSettings.create(sessionCacheSize, sessionTimeout), settings -> {
+            SSLContext sslContext = sslContextFactory.get();
+            configureSessionCache(sslContext, sessionCacheSize, sessionTimeout);
+            return sslContext;
+        });
+    }
+
+    /**
+     * Apply the session cache settings to the client sessions of the given {@link SSLContext}.
+     */
+    public static void configureSessionCache(SSLContext sslContext, int sessionCacheSize, Duration sessionTimeout) {
+        SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+        if (sessionContext != null) {
+            sessionContext.setSessionCacheSize(sessionCacheSize);
+            sessionContext.setSessionTimeout(NumericUtils.saturatedCast(sessionTimeout.getSeconds()));
+        }
+    }
+}
@@ -25,8 +25,18 @@ import software.amazon.awssdk.utils.Logger;
 public class SdkSocket extends DelegateSocket {
     private static final Logger log = Logger.loggerFor(SdkSocket.class);
 
+    private final Runnable closeListener;
+
     public SdkSocket(Socket sock) {
+        this(sock, null);
+    }
+
+    /**
+     * @param closeListener Called when the socket is closed, or {@code null}.
+     */
+    public SdkSocket(Socket sock, Runnable closeListener) {
         super(sock);
+        this.closeListener = closeListener;
         log.debug(() -> "created: " + endpoint());
     }
 
@@ -54,7 +64,13 @@ public class SdkSocket extends DelegateSocket {
     @Override
     public void close() throws IOException {
         log.debug(() -> "closing " + endpoint());
-        sock.close();
+        try {
+            sock.close();
+        } finally {
+            if (closeListener != null) {
+                closeListener.run();
+            }
+        }
     }
 
     @Override
@@ -25,8 +25,18 @@ import software.amazon.awssdk.utils.Logger;
 public class SdkSslSocket extends DelegateSslSocket {
     private static final Logger log = Logger.loggerFor(SdkSslSocket.class);
 
+    private final Runnable closeListener;
+
     public SdkSslSocket(SSLSocket sock) {
+        this(sock, null);
+    }
+
+    /**
+     * @param closeListener Called when the socket is closed, or {@code null}.
+     */
+    public SdkSslSocket(SSLSocket sock, Runnable closeListener) {
         super(sock);
+        this.closeListener = closeListener;
         log.debug(() -> "created: " + endpoint());
     }
 
@@ -54,7 +64,13 @@ public class SdkSslSocket extends DelegateSslSocket {
     @Override
     public void close() throws IOException {
         log.debug(() -> "closing " + endpoint());
-        sock.close();
+        try {
+            sock.close();
+        } finally {
+            if (closeListener != null) {
+                closeListener.run();
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class ApacheHttpClientDnsResolverTest {
+    private static final String HOST = "dns-resolver-test.example.com";
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    private final StandInResolver resolver = new StandInResolver();
+
+    @Before
+    public void setup() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+    }
+
+    @Test
+    public void http_resolvesHostWithResolverAndReportsConnection() throws IOException {
+        SdkHttpClient client = ApacheHttpClient.builder().dnsResolver(resolver).build();
+
+        assertThat(execute(client, "http", mockServer.port())).isEqualTo(200);
+        assertThat(resolver.events()).containsExactly("resolve " + HOST, "opened " + HOST + "/127.0.0.1");
+
+        client.close();
+        assertThat(resolver.events()).endsWith("closed " + HOST + "/127.0.0.1");
+    }
+
+    @Test
+    public void https_resolvesHostWithResolverAndReportsConnection() throws IOException {
+        SdkHttpClient client = ApacheHttpClient.builder()
+                                               .dnsResolver(resolver)
+                                               .buildWithDefaults(AttributeMap.builder()
+                                                                              .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                              .build());
+
+        assertThat(execute(client, "https", mockServer.httpsPort())).isEqualTo(200);
+        assertThat(execute(client, "https", mockServer.httpsPort())).isEqualTo(200);
+        assertThat(resolver.events()).containsExactly("resolve " + HOST, "opened " + HOST + "/127.0.0.1");
+
+        client.close();
+        assertThat(resolver.events()).endsWith("closed " + HOST + "/127.0.0.1");
+    }
+
+    @Test
+    public void connectionRefused_reportsFailedConnection() throws IOException {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+
+        try (SdkHttpClient client = ApacheHttpClient.builder().dnsResolver(resolver).build()) {
+            assertThatThrownBy(() -> execute(client, "http", closedPort)).isInstanceOf(IOException.class);
+        }
+        assertThat(resolver.events()).containsExactly("resolve " + HOST, "failed " + HOST + "/127.0.0.1");
+    }
+
+    private static int execute(SdkHttpClient client, String protocol, int port) throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create(protocol + "://" + HOST + ":" + port + "/"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        if (response.responseBody().isPresent()) {
+            try (InputStream body = response.responseBody().get()) {
+                while (body.read() != -1) {
+                }
+            }
+        }
+        return response.httpResponse().statusCode();
+    }
+
+    private static final class StandInResolver implements SdkDnsResolver {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            events.add("resolve " + host);
+            return new InetAddress[] {InetAddress.getByAddress(host, new byte[] {127, 0, 0, 1})};
+        }
+
+        @Override
+        public void connectionFailed(String host, InetAddress address) {
+            events.add("failed " + host + "/" + address.getHostAddress());
+        }
+
+        @Override
+        public void connectionOpened(String host, InetAddress address) {
+            events.add("opened " + host + "/" + address.getHostAddress());
+        }
+
+        @Override
+        public void connectionClosed(String host, InetAddress address) {
+            events.add("closed " + host + "/" + address.getHostAddress());
+        }
+
+        private List<String> events() {
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+    }
+}
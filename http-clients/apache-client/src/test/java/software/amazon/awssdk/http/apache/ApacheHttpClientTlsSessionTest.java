@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class ApacheHttpClientTlsSessionTest {
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    private final SdkHttpClient client = ApacheHttpClient.builder()
+                                                         .buildWithDefaults(AttributeMap.builder()
+                                                                                        .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                                                                                        .build());
+
+    @After
+    public void teardown() {
+        client.close();
+    }
+
+    @Test
+    public void newConnection_reportsTlsHandshake() throws IOException {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        MetricCollection metrics = execute();
+
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME)).hasSize(1);
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME).get(0)).isGreaterThan(Duration.ZERO);
+        assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(false);
+    }
+
+    @Test
+    public void pooledConnection_doesNotReportTlsHandshake() throws IOException {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        execute();
+
+        MetricCollection metrics = execute();
+
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME)).isEmpty();
+        assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).isEmpty();
+    }
+
+    @Test
+    public void replacedConnection_resumesTlsSession() throws IOException {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withHeader("Connection", "close")));
+        execute();
+
+        MetricCollection metrics = execute();
+
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME)).hasSize(1);
+        assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(true);
+    }
+
+    private MetricCollection execute() throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://localhost:" + mockServer.httpsPort() + "/"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        MetricCollector collector = MetricCollector.create("ApiCallAttempt");
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                               .request(request)
+                                                                               .metricCollector(collector)
+                                                                               .build())
+                                             .call();
+        if (response.responseBody().isPresent()) {
+            try (InputStream body = response.responseBody().get()) {
+                while (body.read() != -1) {
+                }
+            }
+        }
+        return collector.collect();
+    }
+}
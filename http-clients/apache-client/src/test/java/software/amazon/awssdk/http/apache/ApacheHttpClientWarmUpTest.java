@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class ApacheHttpClientWarmUpTest {
+    private static final String HOST = "warm-up-test.example.com";
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    private final CountingResolver resolver = new CountingResolver();
+    private SdkHttpClient client;
+
+    @Before
+    public void setup() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+    }
+
+    @After
+    public void teardown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    public void warmUp_https_opensConnectionsThatRequestsReuse() throws IOException {
+        client = ApacheHttpClient.builder()
+                                 .dnsResolver(resolver)
+                                 .buildWithDefaults(AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, Boolean.TRUE).build());
+        MetricCollector collector = MetricCollector.create("WarmUp");
+
+        client.warmUp(endpoint("https", mockServer.httpsPort()), 4, collector).join();
+
+        assertThat(resolver.openedConnections()).isEqualTo(4);
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("Apache");
+        assertThat(metrics.metricValues(HttpMetric.WARMED_UP_CONNECTIONS)).containsExactly(4);
+        assertThat(metrics.metricValues(HttpMetric.CONNECTION_WARM_UP_TIME).get(0)).isGreaterThan(Duration.ZERO);
+
+        assertThat(execute(client, "https", mockServer.httpsPort())).isEqualTo(200);
+        assertThat(resolver.openedConnections()).isEqualTo(4);
+    }
+
+    @Test
+    public void warmUp_moreConnectionsThanMaxConnections_opensMaxConnections() {
+        client = ApacheHttpClient.builder().dnsResolver(resolver).maxConnections(2).build();
+        MetricCollector collector = MetricCollector.create("WarmUp");
+
+        client.warmUp(endpoint("http", mockServer.port()), 10, collector).join();
+
+        assertThat(resolver.openedConnections()).isEqualTo(2);
+        assertThat(collector.collect().metricValues(HttpMetric.WARMED_UP_CONNECTIONS)).containsExactly(2);
+    }
+
+    @Test
+    public void warmUp_moreConnectionsThanConcurrentConnects_opensAllConnections() {
+        client = ApacheHttpClient.builder().dnsResolver(resolver).maxConnections(20).build();
+        MetricCollector collector = MetricCollector.create("WarmUp");
+
+        client.warmUp(endpoint("http", mockServer.port()), 20, collector).join();
+
+        assertThat(resolver.openedConnections()).isEqualTo(20);
+        assertThat(collector.collect().metricValues(HttpMetric.WARMED_UP_CONNECTIONS)).containsExactly(20);
+    }
+
+    @Test
+    public void warmUp_connectionRefused_completesExceptionally() throws IOException {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+        client = ApacheHttpClient.builder().dnsResolver(resolver).build();
+
+        assertThatThrownBy(() -> client.warmUp(endpoint("http", closedPort), 2).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IOException.class);
+        assertThat(resolver.failedConnections()).isEqualTo(2);
+    }
+
+    private static URI endpoint(String protocol, int port) {
+        return URI.create(protocol + "://" + HOST + ":" + port);
+    }
+
+    private static int execute(SdkHttpClient client, String protocol, int port) throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create(protocol + "://" + HOST + ":" + port + "/"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        if (response.responseBody().isPresent()) {
+            try (InputStream body = response.responseBody().get()) {
+                while (body.read() != -1) {
+                }
+            }
+        }
+        return response.httpResponse().statusCode();
+    }
+
+    private static final class CountingResolver implements SdkDnsResolver {
+        private final AtomicInteger openedConnections = new AtomicInteger();
+        private final AtomicInteger failedConnections = new AtomicInteger();
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            return new InetAddress[] {InetAddress.getByAddress(host, new byte[] {127, 0, 0, 1})};
+        }
+
+        @Override
+        public void connectionFailed(String host, InetAddress address) {
+            failedConnections.incrementAndGet();
+        }
+
+        @Override
+        public void connectionOpened(String host, InetAddress address) {
+            openedConnections.incrementAndGet();
+        }
+
+        private int openedConnections() {
+            return openedConnections.get();
+        }
+
+        private int failedConnections() {
+            return failedConnections.get();
+        }
+    }
+}
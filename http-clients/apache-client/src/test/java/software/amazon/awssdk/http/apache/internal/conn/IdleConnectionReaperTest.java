@@ -15,24 +15,27 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -40,12 +43,11 @@ import java.util.concurrent.TimeUnit;
  */
 @RunWith(MockitoJUnitRunner.class)
 public class IdleConnectionReaperTest {
+    private static final long MIN_REAP_PERIOD = 50;
     private static final long SLEEP_PERIOD = 250;
 
-    private final Map<HttpClientConnectionManager, Long> connectionManagers = new HashMap<>();
-
     @Mock
-    public ExecutorService executorService;
+    public ScheduledExecutorService executorService;
 
     @Mock
     public HttpClientConnectionManager connectionManager;
@@ -54,14 +56,33 @@ public class IdleConnectionReaperTest {
 
     @Before
     public void methodSetup() {
-        this.connectionManagers.clear();
-        idleConnectionReaper = new IdleConnectionReaper(connectionManagers, () -> executorService, SLEEP_PERIOD);
+        idleConnectionReaper = new IdleConnectionReaper(() -> executorService, MIN_REAP_PERIOD, SLEEP_PERIOD);
     }
 
     @Test
     public void setsUpExecutorIfManagerNotPreviouslyRegistered() {
         idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
-        verify(executorService).execute(any(Runnable.class));
+        verify(executorService).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void schedulesReapsAtMostOnceEveryMaxIdleTime() {
+        idleConnectionReaper.registerConnectionManager(connectionManager, 100L);
+        verify(executorService).scheduleWithFixedDelay(any(Runnable.class), eq(100L), eq(100L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void schedulesReapsAtMostOnceEveryMinReapPeriod() {
+        idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
+        verify(executorService).scheduleWithFixedDelay(any(Runnable.class), eq(MIN_REAP_PERIOD), eq(MIN_REAP_PERIOD),
+                                                       eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void schedulesReapsAtLeastOnceEverySleepPeriod() {
+        idleConnectionReaper.registerConnectionManager(connectionManager, SLEEP_PERIOD * 10);
+        verify(executorService).scheduleWithFixedDelay(any(Runnable.class), eq(SLEEP_PERIOD), eq(SLEEP_PERIOD),
+                                                       eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
@@ -82,16 +103,31 @@ public class IdleConnectionReaperTest {
 
     @Test(timeout = 1000L)
     public void testReapsConnections() throws InterruptedException {
-        IdleConnectionReaper reaper = new IdleConnectionReaper(new HashMap<>(),
-                                                               Executors::newSingleThreadExecutor,
+        IdleConnectionReaper reaper = new IdleConnectionReaper(Executors::newSingleThreadScheduledExecutor, MIN_REAP_PERIOD,
                                                                SLEEP_PERIOD);
         final long idleTime = 1L;
         reaper.registerConnectionManager(connectionManager, idleTime);
         try {
             Thread.sleep(SLEEP_PERIOD * 2);
+            verify(connectionManager, atLeastOnce()).closeExpiredConnections();
             verify(connectionManager, atLeastOnce()).closeIdleConnections(eq(idleTime), eq(TimeUnit.MILLISECONDS));
         } finally {
             reaper.deregisterConnectionManager(connectionManager);
         }
     }
+
+    @Test(timeout = 1000L)
+    public void countsReapedConnections() throws InterruptedException {
+        PoolingHttpClientConnectionManager poolingManager = mock(PoolingHttpClientConnectionManager.class);
+        when(poolingManager.getTotalStats()).thenReturn(new PoolStats(0, 0, 5, 10), new PoolStats(0, 0, 2, 10));
+        IdleConnectionReaper reaper = new IdleConnectionReaper(Executors::newSingleThreadScheduledExecutor, MIN_REAP_PERIOD,
+                                                               SLEEP_PERIOD);
+        reaper.registerConnectionManager(poolingManager, SLEEP_PERIOD);
+        try {
+            Thread.sleep(SLEEP_PERIOD * 2);
+            assertThat(reaper.reapedConnections(poolingManager)).isEqualTo(3);
+        } finally {
+            reaper.deregisterConnectionManager(poolingManager);
+        }
+    }
 }
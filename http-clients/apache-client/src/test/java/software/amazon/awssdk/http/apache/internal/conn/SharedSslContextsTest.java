@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLContext;
+import org.junit.Test;
+
+public class SharedSslContextsTest {
+    private final AtomicInteger createdContexts = new AtomicInteger();
+
+    @Test
+    public void get_sameSettings_returnsSameContext() {
+        SSLContext first = SharedSslContexts.get(17, Duration.ofMinutes(17), this::newSslContext);
+        SSLContext second = SharedSslContexts.get(17, Duration.ofMinutes(17), this::newSslContext);
+
+        assertThat(second).isSameAs(first);
+        assertThat(createdContexts).hasValue(1);
+    }
+
+    @Test
+    public void get_differentSettings_returnsDifferentContexts() {
+        SSLContext first = SharedSslContexts.get(18, Duration.ofMinutes(18), this::newSslContext);
+        SSLContext second = SharedSslContexts.get(18, Duration.ofMinutes(19), this::newSslContext);
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void get_tlsSystemPropertiesChanged_returnsDifferentContexts() {
+        SSLContext first = SharedSslContexts.get(21, Duration.ofMinutes(21), this::newSslContext);
+        System.setProperty("javax.net.ssl.trustStoreType", "JKS");
+        try {
+            SSLContext second = SharedSslContexts.get(21, Duration.ofMinutes(21), this::newSslContext);
+
+            assertThat(second).isNotSameAs(first);
+        } finally {
+            System.clearProperty("javax.net.ssl.trustStoreType");
+        }
+    }
+
+    @Test
+    public void get_configuresClientSessionCache() {
+        SSLContext sslContext = SharedSslContexts.get(20, Duration.ofMinutes(20), this::newSslContext);
+
+        assertThat(sslContext.getClientSessionContext().getSessionCacheSize()).isEqualTo(20);
+        assertThat(sslContext.getClientSessionContext().getSessionTimeout()).isEqualTo(20 * 60);
+    }
+
+    private SSLContext newSslContext() {
+        createdContexts.incrementAndGet();
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            return sslContext;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
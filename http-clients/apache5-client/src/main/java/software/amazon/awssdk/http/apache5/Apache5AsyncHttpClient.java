@@ -0,0 +1,500 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.reactive.ReactiveResponseConsumer;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.apache5.internal.ContentPublisherEntityProducer;
+import software.amazon.awssdk.http.apache5.internal.PoolMetrics;
+import software.amazon.awssdk.http.apache5.internal.RequestAdapter;
+import software.amazon.awssdk.http.apache5.internal.ResponseAdapter;
+import software.amazon.awssdk.http.apache5.internal.ServerErrorConnectionReuseStrategy;
+import software.amazon.awssdk.http.apache5.internal.TlsConfiguration;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the asynchronous client of Apache HttpClient 5 to communicate
+ * with the service.
+ *
+ * <p>Over HTTP/1.1, the client keeps a pool of connections per route, like {@link Apache5HttpClient}. Over HTTP/2, the
+ * requests to a route are multiplexed over a single connection. The request and response bodies are adapted between the
+ * reactive streams publishers of the SDK and the data channels of Apache, and the buffers of the request body are written to
+ * the connection without copying them.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class Apache5AsyncHttpClient implements SdkAsyncHttpClient {
+
+    public static final String CLIENT_NAME = "Apache5Async";
+
+    private final Protocol protocol;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient httpClient;
+
+    private Apache5AsyncHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.protocol = options.get(SdkHttpConfigurationOption.PROTOCOL);
+        TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+                                                          .setSslContext(TlsConfiguration.sslContext(options))
+                                                          .setHostnameVerifier(TlsConfiguration.hostnameVerifier(options))
+                                                          .build();
+        switch (protocol) {
+            case HTTP1_1:
+                this.connectionManager = createConnectionManager(builder, options, tlsStrategy);
+                this.httpClient = createHttp1Client(connectionManager, options);
+                break;
+            case HTTP2:
+                this.connectionManager = null;
+                this.httpClient = createHttp2Client(tlsStrategy, options);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported protocol: " + protocol);
+        }
+        httpClient.start();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link Apache5AsyncHttpClient} with the default properties
+     *
+     * @return an {@link Apache5AsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    private static PoolingAsyncClientConnectionManager createConnectionManager(DefaultBuilder builder,
+                                                                               AttributeMap options,
+                                                                               TlsStrategy tlsStrategy) {
+        int maxConnections = options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                                                         .setTlsStrategy(tlsStrategy)
+                                                         .setPoolConcurrencyPolicy(builder.poolConcurrencyPolicy)
+                                                         .setMaxConnTotal(maxConnections)
+                                                         .setMaxConnPerRoute(maxConnections)
+                                                         .setConnectionTimeToLive(RequestAdapter.timeValue(
+                                                             options.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE)))
+                                                         .build();
+    }
+
+    private static CloseableHttpAsyncClient createHttp1Client(PoolingAsyncClientConnectionManager connectionManager,
+                                                              AttributeMap options) {
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                                                         .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                                                         .setConnectionManager(connectionManager)
+                                                         .setDefaultRequestConfig(RequestAdapter.requestConfig(options))
+                                                         .setConnectionReuseStrategy(
+                                                             ServerErrorConnectionReuseStrategy.INSTANCE)
+                                                         .disableRedirectHandling()
+                                                         .disableAutomaticRetries()
+                                                         .disableCookieManagement()
+                                                         .disableAuthCaching();
+
+        if (useIdleConnectionReaper(options)) {
+            builder.evictExpiredConnections()
+                   .evictIdleConnections(RequestAdapter.timeValue(
+                       options.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT)));
+        }
+
+        return builder.build();
+    }
+
+    private static CloseableHttpAsyncClient createHttp2Client(TlsStrategy tlsStrategy, AttributeMap options) {
+        RequestConfig requestConfig = RequestAdapter.requestConfig(options);
+        H2AsyncClientBuilder builder = HttpAsyncClients.customHttp2()
+                                                       .setTlsStrategy(tlsStrategy)
+                                                       .setH2Config(H2Config.custom().setPushEnabled(false).build())
+                                                       .setDefaultRequestConfig(requestConfig)
+                                                       .disableRedirectHandling()
+                                                       .disableAutomaticRetries()
+                                                       .disableCookieManagement()
+                                                       .disableAuthCaching();
+
+        if (useIdleConnectionReaper(options)) {
+            builder.evictIdleConnections(RequestAdapter.timeValue(
+                options.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT)));
+        }
+
+        return builder.build();
+    }
+
+    private static boolean useIdleConnectionReaper(AttributeMap options) {
+        return Boolean.TRUE.equals(options.get(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS));
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        // The response consumer calls the response handler once the headers of the response are received, and the callback
+        // of the request is called once its body has been received.
+        ReactiveResponseConsumer responseConsumer =
+            new ReactiveResponseConsumer(new ResponseCallback(responseHandler, metricCollector));
+        Future<Void> responseFuture = httpClient.execute(toRequestProducer(request), responseConsumer,
+                                                         new ExecuteCallback(responseHandler, executeFuture));
+
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    private BasicRequestProducer toRequestProducer(AsyncExecuteRequest request) {
+        SdkHttpRequest sdkRequest = request.request();
+        BasicHttpRequest apacheRequest = new BasicHttpRequest(sdkRequest.method().name(), sdkRequest.getUri());
+        RequestAdapter.addHeaders(apacheRequest, sdkRequest, protocol == Protocol.HTTP2);
+
+        SdkHttpContentPublisher content = request.requestContentPublisher();
+        long contentLength = content.contentLength().orElseGet(() -> RequestAdapter.contentLength(sdkRequest));
+        AsyncEntityProducer entityProducer = RequestAdapter.hasContent(sdkRequest, contentLength)
+                                             ? new ContentPublisherEntityProducer(content, contentLength)
+                                             : null;
+        return new BasicRequestProducer(apacheRequest, entityProducer);
+    }
+
+    @Override
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    /**
+     * Completes the future of a request once the body of its response has been received, or fails it and its response handler.
+     */
+    private static final class ExecuteCallback implements FutureCallback<Void> {
+        private final SdkAsyncHttpResponseHandler responseHandler;
+        private final CompletableFuture<Void> executeFuture;
+
+        private ExecuteCallback(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture) {
+            this.responseHandler = responseHandler;
+            this.executeFuture = executeFuture;
+        }
+
+        @Override
+        public void completed(Void result) {
+            executeFuture.complete(null);
+        }
+
+        @Override
+        public void failed(Exception error) {
+            try {
+                responseHandler.onError(error);
+            } finally {
+                executeFuture.completeExceptionally(error);
+            }
+        }
+
+        @Override
+        public void cancelled() {
+            failed(new CancellationException("The request was cancelled."));
+        }
+    }
+
+    /**
+     * Passes the headers and the body publisher of a response to the response handler of its request, and reports the
+     * statistics of the connection pool once a connection has been leased for the request. The failures of the request are
+     * reported to the handler by the callback of the request instead.
+     */
+    private final class ResponseCallback implements FutureCallback<Message<HttpResponse, Publisher<ByteBuffer>>> {
+        private final SdkAsyncHttpResponseHandler responseHandler;
+        private final MetricCollector metricCollector;
+
+        private ResponseCallback(SdkAsyncHttpResponseHandler responseHandler, MetricCollector metricCollector) {
+            this.responseHandler = responseHandler;
+            this.metricCollector = metricCollector;
+        }
+
+        @Override
+        public void completed(Message<HttpResponse, Publisher<ByteBuffer>> response) {
+            if (connectionManager != null) {
+                PoolMetrics.publish(metricCollector, connectionManager);
+            }
+            responseHandler.onHeaders(ResponseAdapter.adapt(response.getHead()));
+            responseHandler.onStream(response.getBody());
+        }
+
+        @Override
+        public void failed(Exception error) {
+        }
+
+        @Override
+        public void cancelled() {
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkAsyncHttpClient} that uses the asynchronous client of Apache HttpClient 5. A
+     * builder can be created via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkAsyncHttpClient httpClient = Apache5AsyncHttpClient.builder()
+     * .protocol(Protocol.HTTP2)
+     * .readTimeout(Duration.ofSeconds(10))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<Apache5AsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for data to be transferred over an established, open connection before the connection is
+         * timed out. A duration of 0 means infinity, and is not recommended.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait when acquiring a connection from the pool before giving up and timing out.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * The maximum number of HTTP/1.1 connections allowed in the connection pool, and to each route. Over HTTP/2, the
+         * requests to a route share a single connection.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * The maximum amount of time that an HTTP/1.1 connection should be allowed to remain open, regardless of usage
+         * frequency.
+         */
+        Builder connectionTimeToLive(Duration connectionTimeToLive);
+
+        /**
+         * Configure the maximum amount of time that a connection should be allowed to remain open while idle.
+         */
+        Builder connectionMaxIdleTime(Duration maxIdleConnectionTimeout);
+
+        /**
+         * Configure whether the idle connections in the connection pool should be closed asynchronously.
+         * <p>
+         * When enabled, connections left idling for longer than {@link #connectionMaxIdleTime(Duration)} will be
+         * closed. This will not close connections currently in use. By default, this is enabled.
+         */
+        Builder useIdleConnectionReaper(Boolean useConnectionReaper);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
+         *
+         * @param protocol Protocol to use.
+         * @return This builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * How the HTTP/1.1 connection pool enforces its limits. See
+         * {@link Apache5HttpClient.Builder#poolConcurrencyPolicy(PoolConcurrencyPolicy)}.
+         */
+        Builder poolConcurrencyPolicy(PoolConcurrencyPolicy poolConcurrencyPolicy);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private PoolConcurrencyPolicy poolConcurrencyPolicy = PoolConcurrencyPolicy.STRICT;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            Validate.isNotNegative(readTimeout, "readTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isNotNegative(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            Validate.isPositive(connectionAcquisitionTimeout, "connectionAcquisitionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConcurrency);
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder connectionTimeToLive(Duration connectionTimeToLive) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE, connectionTimeToLive);
+            return this;
+        }
+
+        public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+            connectionTimeToLive(connectionTimeToLive);
+        }
+
+        @Override
+        public Builder connectionMaxIdleTime(Duration maxIdleConnectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, maxIdleConnectionTimeout);
+            return this;
+        }
+
+        public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            connectionMaxIdleTime(connectionMaxIdleTime);
+        }
+
+        @Override
+        public Builder useIdleConnectionReaper(Boolean useIdleConnectionReaper) {
+            standardOptions.put(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS, useIdleConnectionReaper);
+            return this;
+        }
+
+        public void setUseIdleConnectionReaper(Boolean useIdleConnectionReaper) {
+            useIdleConnectionReaper(useIdleConnectionReaper);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder poolConcurrencyPolicy(PoolConcurrencyPolicy poolConcurrencyPolicy) {
+            this.poolConcurrencyPolicy = Validate.paramNotNull(poolConcurrencyPolicy, "poolConcurrencyPolicy");
+            return this;
+        }
+
+        public void setPoolConcurrencyPolicy(PoolConcurrencyPolicy poolConcurrencyPolicy) {
+            poolConcurrencyPolicy(poolConcurrencyPolicy);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new Apache5AsyncHttpClient(this, standardOptions.build()
+                                                                   .merge(serviceDefaults)
+                                                                   .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
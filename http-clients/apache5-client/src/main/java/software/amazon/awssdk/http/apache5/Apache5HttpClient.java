@@ -0,0 +1,388 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.apache5.internal.ContentStreamProviderEntity;
+import software.amazon.awssdk.http.apache5.internal.PoolMetrics;
+import software.amazon.awssdk.http.apache5.internal.RequestAdapter;
+import software.amazon.awssdk.http.apache5.internal.ResponseAdapter;
+import software.amazon.awssdk.http.apache5.internal.ServerErrorConnectionReuseStrategy;
+import software.amazon.awssdk.http.apache5.internal.TlsConfiguration;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the classic client of Apache HttpClient 5 to communicate with the
+ * service. It keeps a pool of connections per route, streams the content of the requests without buffering it, and lets the
+ * pools trade the strictness of their limits for less contention with a {@link PoolConcurrencyPolicy}.
+ *
+ * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for the implementation on Apache HttpClient 4.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class Apache5HttpClient implements SdkHttpClient {
+
+    public static final String CLIENT_NAME = "Apache5";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    private Apache5HttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.connectionManager = createConnectionManager(builder, options);
+        this.httpClient = createClient(connectionManager, options);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link Apache5HttpClient} with the default properties
+     *
+     * @return an {@link Apache5HttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    private static PoolingHttpClientConnectionManager createConnectionManager(DefaultBuilder builder, AttributeMap options) {
+        int maxConnections = options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        SSLConnectionSocketFactory sslSocketFactory =
+            new SSLConnectionSocketFactory(TlsConfiguration.sslContext(options), TlsConfiguration.hostnameVerifier(options));
+        SocketConfig socketConfig =
+            SocketConfig.custom()
+                        .setSoTimeout(RequestAdapter.timeout(options.get(SdkHttpConfigurationOption.READ_TIMEOUT)))
+                        .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                                                        .setSSLSocketFactory(sslSocketFactory)
+                                                        .setDefaultSocketConfig(socketConfig)
+                                                        .setPoolConcurrencyPolicy(builder.poolConcurrencyPolicy)
+                                                        .setMaxConnTotal(maxConnections)
+                                                        .setMaxConnPerRoute(maxConnections)
+                                                        .setConnectionTimeToLive(RequestAdapter.timeValue(
+                                                            options.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE)))
+                                                        .build();
+    }
+
+    private static CloseableHttpClient createClient(PoolingHttpClientConnectionManager connectionManager,
+                                                    AttributeMap options) {
+        HttpClientBuilder builder = HttpClients.custom()
+                                               .setConnectionManager(connectionManager)
+                                               .setDefaultRequestConfig(RequestAdapter.requestConfig(options))
+                                               .setConnectionReuseStrategy(ServerErrorConnectionReuseStrategy.INSTANCE)
+                                               // SDK handles decompression
+                                               .disableContentCompression()
+                                               .disableRedirectHandling()
+                                               .disableAutomaticRetries()
+                                               .disableCookieManagement()
+                                               .disableAuthCaching()
+                                               // SDK will set the user agent header in the pipeline
+                                               .disableDefaultUserAgent();
+
+        if (Boolean.TRUE.equals(options.get(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS))) {
+            builder.evictExpiredConnections()
+                   .evictIdleConnections(RequestAdapter.timeValue(
+                       options.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT)));
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+        HttpUriRequestBase apacheRequest = toApacheRequest(request);
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() throws IOException {
+                HttpExecuteResponse executeResponse = execute(apacheRequest);
+                PoolMetrics.publish(metricCollector, connectionManager);
+                return executeResponse;
+            }
+
+            @Override
+            public void abort() {
+                apacheRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private HttpUriRequestBase toApacheRequest(HttpExecuteRequest request) {
+        SdkHttpRequest sdkRequest = request.httpRequest();
+        HttpUriRequestBase apacheRequest = new HttpUriRequestBase(sdkRequest.method().name(), sdkRequest.getUri());
+        RequestAdapter.addHeaders(apacheRequest, sdkRequest, false);
+
+        long contentLength = RequestAdapter.contentLength(sdkRequest);
+        request.contentStreamProvider()
+               .filter(provider -> RequestAdapter.hasContent(sdkRequest, contentLength))
+               .ifPresent(provider -> apacheRequest.setEntity(new ContentStreamProviderEntity(provider, contentLength)));
+        return apacheRequest;
+    }
+
+    private HttpExecuteResponse execute(HttpUriRequestBase apacheRequest) throws IOException {
+        CloseableHttpResponse response = httpClient.execute(apacheRequest);
+        HttpEntity entity = response.getEntity();
+
+        // The connection is released to the pool once the body of the response is read or closed
+        AbortableInputStream responseBody = entity != null ? AbortableInputStream.create(entity.getContent(),
+                                                                                         apacheRequest::cancel)
+                                                           : null;
+        if (responseBody == null) {
+            response.close();
+        }
+
+        return HttpExecuteResponse.builder()
+                                  .response(ResponseAdapter.adapt(response))
+                                  .responseBody(responseBody)
+                                  .build();
+    }
+
+    /**
+     * Builder for creating an instance of {@link SdkHttpClient}. The factory can be configured through the builder {@link
+     * #builder()}, once built it can create a {@link SdkHttpClient} via {@link #build()} or can be passed to the SDK
+     * client builders directly to have the SDK create and manage the HTTP client. See documentation on the service's respective
+     * client builder for more information on configuring the HTTP layer.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = Apache5HttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .poolConcurrencyPolicy(PoolConcurrencyPolicy.LAX)
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<Apache5HttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for data to be transferred over an established, open connection before the connection is
+         * timed out. A duration of 0 means infinity, and is not recommended.
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait when acquiring a connection from the pool before giving up and timing out.
+         * @param connectionAcquisitionTimeout the timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * The maximum number of connections allowed in the connection pool, and to each route. Each built HTTP client has its
+         * own private connection pool.
+         */
+        Builder maxConnections(Integer maxConnections);
+
+        /**
+         * The maximum amount of time that a connection should be allowed to remain open, regardless of usage frequency.
+         */
+        Builder connectionTimeToLive(Duration connectionTimeToLive);
+
+        /**
+         * Configure the maximum amount of time that a connection should be allowed to remain open while idle.
+         */
+        Builder connectionMaxIdleTime(Duration maxIdleConnectionTimeout);
+
+        /**
+         * Configure whether the idle connections in the connection pool should be closed asynchronously.
+         * <p>
+         * When enabled, connections left idling for longer than {@link #connectionMaxIdleTime(Duration)} will be
+         * closed. This will not close connections currently in use. By default, this is enabled.
+         */
+        Builder useIdleConnectionReaper(Boolean useConnectionReaper);
+
+        /**
+         * How the connection pool enforces its limits. {@link PoolConcurrencyPolicy#STRICT}, the default, never opens more
+         * connections than {@link #maxConnections(Integer)}, at the cost of a lock shared by all the routes of the pool.
+         * {@link PoolConcurrencyPolicy#LAX} only locks the pool of the route of a request and only enforces the maximum number
+         * of connections per route, which reduces the contention between the threads that send requests to different routes.
+         */
+        Builder poolConcurrencyPolicy(PoolConcurrencyPolicy poolConcurrencyPolicy);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private PoolConcurrencyPolicy poolConcurrencyPolicy = PoolConcurrencyPolicy.STRICT;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            Validate.isPositive(connectionAcquisitionTimeout, "connectionAcquisitionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder maxConnections(Integer maxConnections) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConnections);
+            return this;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            maxConnections(maxConnections);
+        }
+
+        @Override
+        public Builder connectionTimeToLive(Duration connectionTimeToLive) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE, connectionTimeToLive);
+            return this;
+        }
+
+        public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+            connectionTimeToLive(connectionTimeToLive);
+        }
+
+        @Override
+        public Builder connectionMaxIdleTime(Duration maxIdleConnectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, maxIdleConnectionTimeout);
+            return this;
+        }
+
+        public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            connectionMaxIdleTime(connectionMaxIdleTime);
+        }
+
+        @Override
+        public Builder useIdleConnectionReaper(Boolean useIdleConnectionReaper) {
+            standardOptions.put(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS, useIdleConnectionReaper);
+            return this;
+        }
+
+        public void setUseIdleConnectionReaper(Boolean useIdleConnectionReaper) {
+            useIdleConnectionReaper(useIdleConnectionReaper);
+        }
+
+        @Override
+        public Builder poolConcurrencyPolicy(PoolConcurrencyPolicy poolConcurrencyPolicy) {
+            this.poolConcurrencyPolicy = Validate.paramNotNull(poolConcurrencyPolicy, "poolConcurrencyPolicy");
+            return this;
+        }
+
+        public void setPoolConcurrencyPolicy(PoolConcurrencyPolicy poolConcurrencyPolicy) {
+            poolConcurrencyPolicy(poolConcurrencyPolicy);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new Apache5HttpClient(this, standardOptions.build()
+                                                              .merge(serviceDefaults)
+                                                              .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
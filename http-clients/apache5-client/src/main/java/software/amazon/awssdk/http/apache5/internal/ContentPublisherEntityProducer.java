@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.reactive.ReactiveEntityProducer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * An entity producer that writes the buffers of the content publisher of a request to the connection, without copying them.
+ * <p>
+ * The HTTP/1.1 encoder of a content of known length completes itself once all the content is written, and fails the request
+ * if it is written to afterwards, even with an empty buffer, so this producer skips the empty buffers of the publisher. The
+ * stream of the request is still ended once the publisher completes, because the exchange, and with it the lease of its
+ * connection, only completes once it is.
+ */
+@SdkInternalApi
+public final class ContentPublisherEntityProducer implements AsyncEntityProducer {
+    private final ReactiveEntityProducer delegate;
+    private DataStreamChannel channel;
+
+    /**
+     * @param contentPublisher The publisher of the content.
+     * @param contentLength The length of the content, or -1 if it is unknown.
+     */
+    public ContentPublisherEntityProducer(SdkHttpContentPublisher contentPublisher, long contentLength) {
+        // The Content-Type header of the request is copied from the SDK request with the other headers
+        this.delegate = new ReactiveEntityProducer(contentPublisher, contentLength, null, null);
+    }
+
+    @Override
+    public void produce(DataStreamChannel dataStreamChannel) throws IOException {
+        // The delegate keeps the channel it is first given, so that it can request more output once the publisher signals
+        // more content
+        if (channel == null) {
+            channel = new NonEmptyWriteChannel(dataStreamChannel);
+        }
+        delegate.produce(channel);
+    }
+
+    @Override
+    public int available() {
+        return delegate.available();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return delegate.isRepeatable();
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        delegate.failed(cause);
+    }
+
+    @Override
+    public long getContentLength() {
+        return delegate.getContentLength();
+    }
+
+    @Override
+    public String getContentType() {
+        return delegate.getContentType();
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return delegate.getContentEncoding();
+    }
+
+    @Override
+    public boolean isChunked() {
+        return delegate.isChunked();
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+        return delegate.getTrailerNames();
+    }
+
+    @Override
+    public void releaseResources() {
+        delegate.releaseResources();
+    }
+
+    /**
+     * Skips the empty buffers written to the channel. The channel is only used from the I/O thread of its connection.
+     */
+    private static final class NonEmptyWriteChannel implements DataStreamChannel {
+        private final DataStreamChannel delegateChannel;
+
+        private NonEmptyWriteChannel(DataStreamChannel delegateChannel) {
+            this.delegateChannel = delegateChannel;
+        }
+
+        @Override
+        public void requestOutput() {
+            delegateChannel.requestOutput();
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return src.hasRemaining() ? delegateChannel.write(src) : 0;
+        }
+
+        @Override
+        public void endStream() throws IOException {
+            delegateChannel.endStream();
+        }
+
+        @Override
+        public void endStream(List<? extends Header> trailers) throws IOException {
+            delegateChannel.endStream(trailers);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * An entity that streams the content of a request from its {@link ContentStreamProvider} to the connection, without
+ * buffering it. Unlike the Apache 4 client, which buffers the content of unknown length to compute its Content-Length,
+ * this content is sent in chunks when its length is unknown.
+ */
+@SdkInternalApi
+public final class ContentStreamProviderEntity extends AbstractHttpEntity {
+    private final ContentStreamProvider contentStreamProvider;
+    private final long contentLength;
+
+    /**
+     * @param contentStreamProvider The provider of the content.
+     * @param contentLength The length of the content, or -1 if it is unknown.
+     */
+    public ContentStreamProviderEntity(ContentStreamProvider contentStreamProvider, long contentLength) {
+        // The Content-Type header of the request is copied from the SDK request with the other headers
+        super((String) null, null, contentLength < 0);
+        this.contentStreamProvider = contentStreamProvider;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * The content is repeatable, since each call to {@link #getContent()} returns a new stream of the provider.
+     */
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return contentStreamProvider.newStream();
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (InputStream content = getContent()) {
+            IoUtils.copy(content, outputStream);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        // The streams of the provider are closed once they are written
+    }
+}
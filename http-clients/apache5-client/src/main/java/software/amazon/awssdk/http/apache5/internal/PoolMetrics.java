@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+/**
+ * Reports the statistics of the connection pool of an Apache 5 client to the metric collector of a request.
+ */
+@SdkInternalApi
+public final class PoolMetrics {
+    private PoolMetrics() {
+    }
+
+    public static void publish(MetricCollector metricCollector, ConnPoolControl<?> pool) {
+        if (metricCollector instanceof NoOpMetricCollector) {
+            return;
+        }
+        PoolStats totalStats = pool.getTotalStats();
+        metricCollector.reportMetric(MAX_CONCURRENCY, totalStats.getMax());
+        metricCollector.reportMetric(AVAILABLE_CONCURRENCY, totalStats.getAvailable());
+        metricCollector.reportMetric(LEASED_CONCURRENCY, totalStats.getLeased());
+        metricCollector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, totalStats.getPending());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Header;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Adapts the requests of the SDK to the requests of the Apache 5 clients.
+ */
+@SdkInternalApi
+public final class RequestAdapter {
+    /**
+     * The headers that the Apache 5 clients fill in themselves, from the entity and the URI of the request. They complain if
+     * the Content-Length or Transfer-Encoding headers are already present.
+     */
+    private static final Set<String> IGNORE_HEADERS = caseInsensitiveSet(Header.CONTENT_LENGTH, Header.TRANSFER_ENCODING,
+                                                                         Header.HOST);
+
+    /**
+     * The connection-specific headers, which are not allowed in HTTP/2 requests.
+     */
+    private static final Set<String> HTTP2_IGNORE_HEADERS = caseInsensitiveSet(Header.CONNECTION, "Keep-Alive",
+                                                                               "Proxy-Connection", "Upgrade");
+
+    private RequestAdapter() {
+    }
+
+    /**
+     * Copy the headers of the SDK request to the Apache request, leaving out the ones that the Apache clients set themselves
+     * and, for HTTP/2 requests, the connection-specific ones.
+     */
+    public static void addHeaders(HttpRequest apacheRequest, SdkHttpRequest request, boolean http2) {
+        request.headers().forEach((name, values) -> {
+            if (!IGNORE_HEADERS.contains(name) && !(http2 && HTTP2_IGNORE_HEADERS.contains(name))) {
+                values.forEach(value -> apacheRequest.addHeader(name, value));
+            }
+        });
+    }
+
+    /**
+     * The length of the content of the request, from its Content-Length header, or -1 if it is unknown and the content is
+     * sent in chunks.
+     */
+    public static long contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(Header.CONTENT_LENGTH).map(Long::parseLong).orElse(-1L);
+    }
+
+    /**
+     * Whether the content of the request should be sent. Like the Apache 4 client, the content of the requests whose method
+     * does not expect one is only sent when it is not empty.
+     */
+    public static boolean hasContent(SdkHttpRequest request, long contentLength) {
+        SdkHttpMethod method = request.method();
+        return method == SdkHttpMethod.PATCH || method == SdkHttpMethod.POST || method == SdkHttpMethod.PUT || contentLength > 0;
+    }
+
+    /**
+     * Create the default {@link RequestConfig} of the requests of a client from its options. Redirects and content
+     * compression are disabled, since the SDK handles them itself.
+     */
+    public static RequestConfig requestConfig(AttributeMap options) {
+        return RequestConfig.custom()
+                            .setConnectTimeout(timeout(options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT)))
+                            .setConnectionRequestTimeout(
+                                timeout(options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT)))
+                            .setResponseTimeout(timeout(options.get(SdkHttpConfigurationOption.READ_TIMEOUT)))
+                            .setConnectionKeepAlive(
+                                timeValue(options.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT)))
+                            .setRedirectsEnabled(false)
+                            .setContentCompressionEnabled(false)
+                            .build();
+    }
+
+    /**
+     * Convert an SDK timeout to an Apache timeout. A duration of 0 means infinity for both.
+     */
+    public static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    /**
+     * Convert an SDK duration to an Apache time value.
+     */
+    public static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+
+    private static Set<String> caseInsensitiveSet(String... values) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Collections.addAll(set, values);
+        return Collections.unmodifiableSet(set);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import java.util.stream.Stream;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Adapts the responses of the Apache 5 clients to the responses of the SDK.
+ */
+@SdkInternalApi
+public final class ResponseAdapter {
+    private ResponseAdapter() {
+    }
+
+    public static SdkHttpResponse adapt(HttpResponse response) {
+        return SdkHttpResponse.builder()
+                              .statusCode(response.getCode())
+                              .statusText(response.getReasonPhrase())
+                              .headers(Stream.of(response.getHeaders())
+                                             .collect(groupingBy(Header::getName, mapping(Header::getValue, toList()))))
+                              .build();
+    }
+}
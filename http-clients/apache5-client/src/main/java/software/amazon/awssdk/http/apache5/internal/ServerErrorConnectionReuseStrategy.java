@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal;
+
+import org.apache.hc.core5.http.ConnectionReuseStrategy;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link ConnectionReuseStrategy} that closes the connections that received a 5xx response, like the Netty client does, so
+ * that the next requests are sent to another host behind the endpoint instead of the one that failed. The other connections
+ * are kept alive according to the {@link DefaultConnectionReuseStrategy}.
+ */
+@SdkInternalApi
+public final class ServerErrorConnectionReuseStrategy implements ConnectionReuseStrategy {
+    public static final ServerErrorConnectionReuseStrategy INSTANCE = new ServerErrorConnectionReuseStrategy();
+
+    private ServerErrorConnectionReuseStrategy() {
+    }
+
+    @Override
+    public boolean keepAlive(HttpRequest request, HttpResponse response, HttpContext context) {
+        return response.getCode() < HttpStatus.SC_SERVER_ERROR
+               && DefaultConnectionReuseStrategy.INSTANCE.keepAlive(request, response, context);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5.internal;
+
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.NumericUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates the {@link SSLContext} and {@link HostnameVerifier} of the Apache 5 clients from the SDK HTTP configuration options.
+ */
+@SdkInternalApi
+public final class TlsConfiguration {
+    private static final Logger log = Logger.loggerFor(TlsConfiguration.class);
+
+    private TlsConfiguration() {
+    }
+
+    /**
+     * Create an {@link SSLContext} with the key and trust managers of the given options. The client session cache of the
+     * context is sized with {@link SdkHttpConfigurationOption#TLS_SESSION_CACHE_SIZE} and
+     * {@link SdkHttpConfigurationOption#TLS_SESSION_TIMEOUT}, so that new connections to a host resume the TLS sessions of
+     * the previous ones.
+     */
+    public static SSLContext sslContext(AttributeMap options) {
+        TlsTrustManagersProvider trustManagersProvider = options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
+        boolean trustAllCertificates = options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES);
+        Validate.isTrue(trustManagersProvider == null || !trustAllCertificates,
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (trustManagersProvider != null) {
+            trustManagers = trustManagersProvider.trustManagers();
+        }
+
+        if (trustAllCertificates) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider keyManagersProvider = options.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = keyManagersProvider.keyManagers();
+
+        SSLContext context;
+        try {
+            context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            throw new RuntimeException(ex.getMessage(), ex);
+        }
+
+        SSLSessionContext sessionContext = context.getClientSessionContext();
+        sessionContext.setSessionCacheSize(options.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE));
+        Duration sessionTimeout = options.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+        sessionContext.setSessionTimeout(NumericUtils.saturatedCast(sessionTimeout.getSeconds()));
+        return context;
+    }
+
+    /**
+     * The verifier of the host name of the servers, which accepts any host name when the certificates of the servers are not
+     * verified either.
+     */
+    public static HostnameVerifier hostnameVerifier(AttributeMap options) {
+        return options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES) ? NoopHostnameVerifier.INSTANCE
+                                                                              : new DefaultHostnameVerifier();
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing.
+     */
+    private static final class TrustAllManager implements X509TrustManager {
+
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a client certificate: " + x509Certificates[0].getSubjectDN());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a server certificate: " + x509Certificates[0].getSubjectDN());
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AsyncResponseBuilder;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * Tests the HTTP/2 client against an HTTP/2 server over cleartext, which the client connects to with prior knowledge.
+ */
+public class Apache5AsyncHttpClientH2Test {
+    private final Set<SocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    private HttpAsyncServer server;
+    private int port;
+    private SdkAsyncHttpClient client;
+
+    @Before
+    public void setup() throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+                                  .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                                  .register("*", new EchoHandler())
+                                  .create();
+        server.start();
+        ListenerEndpoint endpoint = server.listen(new InetSocketAddress(0)).get(5, TimeUnit.SECONDS);
+        port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+
+        client = Apache5AsyncHttpClient.builder().protocol(Protocol.HTTP2).build();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void concurrentRequests_areMultiplexedOverOneConnection() throws Exception {
+        List<RecordingResponseHandler> recorders = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            recorders.add(recorder);
+            futures.add(client.execute(postRequest("body-" + i, recorder)));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(recorders.get(i).responses().get(0).statusCode()).isEqualTo(200);
+            assertThat(recorders.get(i).fullResponseAsString()).isEqualTo("body-" + i);
+        }
+        assertThat(clientAddresses).hasSize(1);
+    }
+
+    @Test
+    public void connectionSpecificHeaders_areNotSent() throws Exception {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(URI.create("http://localhost:" + port))
+                                               .method(SdkHttpMethod.GET)
+                                               .putHeader("Host", "localhost")
+                                               .putHeader("Connection", "keep-alive")
+                                               .build();
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(contentPublisher(""))
+                                          .responseHandler(recorder)
+                                          .build())
+              .get(5, TimeUnit.SECONDS);
+
+        assertThat(recorder.responses().get(0).statusCode()).isEqualTo(200);
+    }
+
+    private AsyncExecuteRequest postRequest(String body, RecordingResponseHandler recorder) {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(URI.create("http://localhost:" + port))
+                                               .method(SdkHttpMethod.POST)
+                                               .putHeader("Host", "localhost")
+                                               .putHeader("Content-Length", Integer.toString(body.length()))
+                                               .build();
+        return AsyncExecuteRequest.builder()
+                                  .request(request)
+                                  .requestContentPublisher(contentPublisher(body))
+                                  .responseHandler(recorder)
+                                  .build();
+    }
+
+    private static SdkHttpContentPublisher contentPublisher(String content) {
+        return new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of((long) content.length());
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+                Flowable.just(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8))).subscribe(subscriber);
+            }
+        };
+    }
+
+    /**
+     * Responds with the body of the request, and records the address of the client connection it was received on.
+     */
+    private final class EchoHandler implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+        @Override
+        public BasicRequestConsumer<String> prepare(HttpRequest request,
+                                                    EntityDetails entityDetails,
+                                                    HttpContext context) {
+            return new BasicRequestConsumer<>(new StringAsyncEntityConsumer());
+        }
+
+        @Override
+        public void handle(Message<HttpRequest, String> request,
+                           ResponseTrigger responseTrigger,
+                           HttpContext context) throws HttpException, IOException {
+            clientAddresses.add(HttpCoreContext.adapt(context).getEndpointDetails().getRemoteAddress());
+            String body = request.getBody() != null ? request.getBody() : "";
+            responseTrigger.submitResponse(AsyncResponseBuilder.create(200).setEntity(body).build(), context);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache5;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.HttpTestUtils.createProvider;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.reactivex.Flowable;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.http.HttpTestUtils;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+public class Apache5AsyncHttpClientWireMockTest {
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private SdkAsyncHttpClient client;
+
+    @Before
+    public void setup() {
+        client = Apache5AsyncHttpClient.create();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void postWithBody_sendsBodyAndReceivesResponse() throws Exception {
+        String requestBody = RandomStringUtils.randomAlphabetic(5000);
+        String responseBody = RandomStringUtils.randomAlphabetic(100_000);
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Some-Header", "With Value")
+                                                                         .withBody(responseBody)));
+
+        RecordingResponseHandler recorder = execute(SdkHttpMethod.POST, contentPublisher(requestBody), requestBody.length());
+        recorder.completeFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(recorder.responses()).hasSize(1);
+        assertThat(recorder.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(recorder.responses().get(0).firstMatchingHeader("Some-Header")).contains("With Value");
+        assertThat(recorder.fullResponseAsString()).isEqualTo(responseBody);
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", equalTo("5000"))
+                                                              .withHeader("User-Agent", equalTo("hello-world!"))
+                                                              .withRequestBody(equalTo(requestBody)));
+    }
+
+    @Test
+    public void postWithBodyOfUnknownLength_sendsBodyInChunks() throws Exception {
+        String requestBody = RandomStringUtils.randomAlphabetic(5000);
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(uri)
+                                               .method(SdkHttpMethod.POST)
+                                               .putHeader("Host", uri.getHost())
+                                               .build();
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(contentPublisher(requestBody, Optional.empty()))
+                                          .responseHandler(recorder)
+                                          .build())
+              .get(5, TimeUnit.SECONDS);
+
+        assertThat(recorder.fullResponseAsString()).isEqualTo("hello");
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withHeader("Transfer-Encoding", equalTo("chunked"))
+                                                              .withoutHeader("Content-Length")
+                                                              .withRequestBody(equalTo(requestBody)));
+    }
+
+    @Test
+    public void laxPoolConcurrencyPolicy_sendsRequests() throws Exception {
+        client.close();
+        client = Apache5AsyncHttpClient.builder().poolConcurrencyPolicy(PoolConcurrencyPolicy.LAX).build();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+
+        for (int i = 0; i < 3; i++) {
+            RecordingResponseHandler recorder = execute(SdkHttpMethod.GET, createProvider(""), 0);
+            recorder.completeFuture().get(5, TimeUnit.SECONDS);
+            assertThat(recorder.fullResponseAsString()).isEqualTo("hello");
+        }
+    }
+
+    @Test
+    public void sequentialRequests_reuseConnectionsOfPool() throws Exception {
+        client.close();
+        client = Apache5AsyncHttpClient.builder().maxConcurrency(1).build();
+        String requestBody = RandomStringUtils.randomAlphabetic(100);
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody("hello")));
+
+        for (int i = 0; i < 3; i++) {
+            RecordingResponseHandler recorder = execute(SdkHttpMethod.POST, contentPublisher(requestBody),
+                                                        requestBody.length());
+            recorder.completeFuture().get(5, TimeUnit.SECONDS);
+            assertThat(recorder.fullResponseAsString()).isEqualTo("hello");
+        }
+    }
+
+    @Test
+    public void serverError_completesWithResponse() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(500).withBody("error")));
+
+        RecordingResponseHandler recorder = execute(SdkHttpMethod.GET, createProvider(""), 0);
+        recorder.completeFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(recorder.responses().get(0).statusCode()).isEqualTo(500);
+        assertThat(recorder.fullResponseAsString()).isEqualTo("error");
+    }
+
+    @Test
+    public void connectionRefused_failsRequest() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(URI.create("http://localhost:" + port))
+                                               .method(SdkHttpMethod.GET)
+                                               .build();
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+
+        assertThatThrownBy(() -> client.execute(AsyncExecuteRequest.builder()
+                                                                    .request(request)
+                                                                    .requestContentPublisher(createProvider(""))
+                                                                    .responseHandler(recorder)
+                                                                    .build())
+                                       .get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(ConnectException.class);
+        assertThatThrownBy(() -> recorder.completeFuture().join()).hasCauseInstanceOf(ConnectException.class);
+    }
+
+    private static SdkHttpContentPublisher contentPublisher(String content) {
+        return contentPublisher(content, Optional.of((long) content.length()));
+    }
+
+    /**
+     * A publisher of the given content in chunks of 1000 characters, which can be subscribed to more than once.
+     */
+    private static SdkHttpContentPublisher contentPublisher(String content, Optional<Long> contentLength) {
+        Flowable<ByteBuffer> chunks = Flowable.fromIterable(HttpTestUtils.splitStringBySize(content))
+                                              .map(chunk -> ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        return new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return contentLength;
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+                chunks.subscribe(subscriber);
+            }
+        };
+    }
+
+    private RecordingResponseHandler execute(SdkHttpMethod method, SdkHttpContentPublisher content, int contentLength)
+            throws Exception {
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(uri)
+                                               .method(method)
+                                               .putHeader("Host", uri.getHost())
+                                               .putHeader("User-Agent", "hello-world!")
+                                               .putHeader("Content-Length", Integer.toString(contentLength))
+                                               .build();
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(content)
+                                          .responseHandler(recorder)
+                                          .build())
+              .get(5, TimeUnit.SECONDS);
+        return recorder;
+    }
+}
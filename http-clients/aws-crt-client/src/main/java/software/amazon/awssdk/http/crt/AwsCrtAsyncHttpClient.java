@@ -41,6 +41,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.crt.internal.CrtRequestContext;
 import software.amazon.awssdk.http.crt.internal.CrtRequestExecutor;
+import software.amazon.awssdk.http.crt.internal.ResponseBufferPool;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -72,6 +73,7 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
     private final long maxConnectionIdleInMilliseconds;
     private final int readBufferSize;
     private final int maxConnectionsPerEndpoint;
+    private final ResponseBufferPool responseBufferPool;
     private boolean isClosed = false;
 
     private AwsCrtAsyncHttpClient(DefaultBuilder builder, AttributeMap config) {
@@ -96,6 +98,9 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
             this.monitoringOptions = revolveHttpMonitoringOptions(builder.connectionHealthChecksConfiguration);
             this.maxConnectionIdleInMilliseconds = config.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
             this.proxyOptions = buildProxyOptions(builder.proxyConfiguration);
+            this.responseBufferPool = Boolean.TRUE.equals(builder.pooledResponseBuffers)
+                                      ? new ResponseBufferPool(readBufferSize)
+                                      : null;
         }
     }
 
@@ -236,6 +241,7 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
             CrtRequestContext context = CrtRequestContext.builder()
                                                          .crtConnPool(crtConnPool)
                                                          .readBufferSize(readBufferSize)
+                                                         .responseBufferPool(responseBufferPool)
                                                          .request(asyncRequest)
                                                          .build();
 
@@ -288,6 +294,30 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder readBufferSize(int readBufferSize);
 
+        /**
+         * Configures whether response bodies are delivered in pooled direct buffers, rather than in the heap buffer the CRT
+         * creates for every chunk of data read from the socket. Each chunk is copied into the pool as soon as it is read, so
+         * the heap buffers are short-lived even when the subscriber falls behind, instead of being retained until the
+         * subscriber reads them. This reduces the heap that large downloads hold on to, and the garbage that survives into
+         * the old generation. The pool is shared by all the requests of the client, and holds up to
+         * {@link #readBufferSize(int)} bytes. When all of its buffers are in use, response bodies are delivered in heap
+         * buffers.
+         *
+         * <p>A pooled buffer is reused once the subscriber of the response body has returned from {@code onNext()} and
+         * requested more data, or once it cancels the subscription. This must only be enabled if the response body
+         * subscribers do not use a buffer after requesting more data, which is the case for the SDK's own response
+         * transformers, such as {@code AsyncResponseTransformer.toFile()}. The buffers a subscriber still holds when the
+         * response completes are never reused, because it may still be writing them, and are left to the garbage collector
+         * instead. Subscribers that request all the data up front keep their buffers until the response completes, so large
+         * responses to them are mostly delivered in heap buffers, and their pooled buffers are not reused.
+         *
+         * <p>By default, this is disabled.
+         *
+         * @param pooledResponseBuffers Whether to deliver response bodies in pooled buffers
+         * @return The builder of the method chaining.
+         */
+        Builder pooledResponseBuffers(Boolean pooledResponseBuffers);
+
         /**
          * Sets the http proxy configuration to use for this client.
          * @param proxyConfiguration The http proxy configuration to use
@@ -347,6 +377,7 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
         private int readBufferSize = DEFAULT_STREAM_WINDOW_SIZE;
         private ProxyConfiguration proxyConfiguration;
         private ConnectionHealthChecksConfiguration connectionHealthChecksConfiguration;
+        private Boolean pooledResponseBuffers;
 
         private DefaultBuilder() {
         }
@@ -387,6 +418,12 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
             return this;
         }
 
+        @Override
+        public Builder pooledResponseBuffers(Boolean pooledResponseBuffers) {
+            this.pooledResponseBuffers = pooledResponseBuffers;
+            return this;
+        }
+
         @Override
         public Builder proxyConfiguration(ProxyConfiguration proxyConfiguration) {
             this.proxyConfiguration = proxyConfiguration;
@@ -45,22 +45,26 @@ public final class AwsCrtAsyncHttpStreamAdapter implements HttpStreamResponseHan
     private final SdkHttpResponse.Builder respBuilder = SdkHttpResponse.builder();
     private final int windowSize;
     private final AwsCrtRequestBodySubscriber requestBodySubscriber;
+    private final ResponseBufferPool responseBufferPool;
     private AwsCrtResponseBodyPublisher respBodyPublisher = null;
 
     public AwsCrtAsyncHttpStreamAdapter(HttpClientConnection connection, CompletableFuture<Void> responseComplete,
-                                        AsyncExecuteRequest sdkRequest, int windowSize) {
+                                        AsyncExecuteRequest sdkRequest, int windowSize,
+                                        ResponseBufferPool responseBufferPool) {
         this.connection = Validate.notNull(connection, "HttpConnection is null");
         this.responseComplete = Validate.notNull(responseComplete, "reqComplete Future is null");
         this.sdkRequest = Validate.notNull(sdkRequest, "AsyncExecuteRequest Future is null");
         this.windowSize = Validate.isPositive(windowSize, "windowSize is <= 0");
         this.requestBodySubscriber = new AwsCrtRequestBodySubscriber(windowSize);
+        this.responseBufferPool = responseBufferPool;
 
         sdkRequest.requestContentPublisher().subscribe(requestBodySubscriber);
     }
 
     private void initRespBodyPublisherIfNeeded(HttpStream stream) {
         if (respBodyPublisher == null) {
-            respBodyPublisher = new AwsCrtResponseBodyPublisher(connection, stream, responseComplete, windowSize);
+            respBodyPublisher = new AwsCrtResponseBodyPublisher(connection, stream, responseComplete, windowSize,
+                                                                responseBufferPool);
         }
     }
 
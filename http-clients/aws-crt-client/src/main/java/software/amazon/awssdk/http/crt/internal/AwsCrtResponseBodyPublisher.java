@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.crt.internal;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -36,6 +37,12 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * Adapts an AWS Common Runtime Response Body stream from CrtHttpStreamHandler to a Publisher<ByteBuffer>
+ *
+ * <p>If a {@link ResponseBufferPool} is given, the body chunks received from the CRT are copied into direct buffers from the
+ * pool, and delivered to the Subscriber as read-only views. A pooled buffer is returned to the pool once the Subscriber has
+ * returned from {@code onNext()} and requested more data, or once the subscription is cancelled. The Subscriber may still be
+ * using the buffers it was last given once the subscription is complete, for example to finish an asynchronous write, so
+ * those are discarded from the pool rather than reused.
  */
 @SdkInternalApi
 public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer> {
@@ -54,8 +61,11 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
     private final AtomicInteger mutualRecursionDepth = new AtomicInteger(0);
     private final AtomicInteger queuedBytes = new AtomicInteger(0);
     private final AtomicReference<Subscriber<? super ByteBuffer>> subscriberRef = new AtomicReference<>(null);
-    private final Queue<byte[]> queuedBuffers = new ConcurrentLinkedQueue<>();
+    private final Queue<ByteBuffer> queuedBuffers = new ConcurrentLinkedQueue<>();
     private final AtomicReference<Throwable> error = new AtomicReference<>(null);
+    private final ResponseBufferPool bufferPool;
+    // Pooled buffers that have been delivered to the Subscriber, but not released yet. Guarded by this.
+    private final Queue<ByteBuffer> deliveredBuffers = new ArrayDeque<>();
 
     /**
      * Adapts a streaming AWS CRT Http Response Body to a Publisher<ByteBuffer>
@@ -65,6 +75,21 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
      */
     public AwsCrtResponseBodyPublisher(HttpClientConnection connection, HttpStream stream,
                                        CompletableFuture<Void> responseComplete, int windowSize) {
+        this(connection, stream, responseComplete, windowSize, null);
+    }
+
+    /**
+     * Adapts a streaming AWS CRT Http Response Body to a Publisher<ByteBuffer>, delivering the body in buffers from the
+     * given pool.
+     * @param stream The AWS CRT Http Stream for this Response
+     * @param windowSize The max allowed bytes to be queued. The sum of the sizes of all queued ByteBuffers should
+     *                   never exceed this value.
+     * @param bufferPool The pool to copy the body into, or null to deliver the body in the arrays received from the CRT.
+     */
+    public AwsCrtResponseBodyPublisher(HttpClientConnection connection, HttpStream stream,
+                                       CompletableFuture<Void> responseComplete, int windowSize,
+                                       ResponseBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
         this.connection = Validate.notNull(connection, "HttpConnection must not be null");
         this.stream = Validate.notNull(stream, "Stream must not be null");
         this.responseComplete = Validate.notNull(responseComplete, "ResponseComplete future must not be null");
@@ -116,7 +141,12 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
             return;
         }
 
-        queuedBuffers.add(buffer);
+        if (bufferPool == null || buffer.length == 0) {
+            queuedBuffers.add(ByteBuffer.wrap(buffer));
+        } else if (!queuePooledCopies(buffer)) {
+            stream.incrementWindow(buffer.length);
+            return;
+        }
         int totalBytesQueued = queuedBytes.addAndGet(buffer.length);
 
         if (totalBytesQueued > windowSize) {
@@ -125,6 +155,90 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
         }
     }
 
+    /**
+     * Copies a Buffer into Buffers from the pool, so the Buffer received from the CRT can be garbage collected straight away,
+     * and queues them. If the pool runs out of Buffers, the rest of the Buffer is queued as is.
+     *
+     * <p>This is synchronized with {@link #releaseAllBuffers()} and {@link #releaseUndeliveredBuffers()}, so that no pooled
+     * Buffer is queued after the queue has been released. Returns false, without queueing anything, if the subscription was
+     * cancelled or completed in the meantime.
+     */
+    private synchronized boolean queuePooledCopies(byte[] buffer) {
+        if (isCancelled.get() || isSubscriptionComplete.get()) {
+            return false;
+        }
+
+        int offset = 0;
+        while (offset < buffer.length) {
+            ByteBuffer pooledBuffer = bufferPool.acquire();
+            if (pooledBuffer == null) {
+                queuedBuffers.add(ByteBuffer.wrap(buffer, offset, buffer.length - offset));
+                return true;
+            }
+
+            int length = Math.min(pooledBuffer.remaining(), buffer.length - offset);
+            pooledBuffer.put(buffer, offset, length);
+            pooledBuffer.flip();
+            queuedBuffers.add(pooledBuffer);
+            offset += length;
+        }
+        return true;
+    }
+
+    /**
+     * Only pooled buffers are direct, the CRT delivers the body in heap arrays.
+     */
+    private boolean isPooled(ByteBuffer buffer) {
+        return bufferPool != null && buffer.isDirect();
+    }
+
+    /**
+     * Returns the pooled buffers that the Subscriber is done with to the pool.
+     */
+    private synchronized void releaseDeliveredBuffers() {
+        ByteBuffer buffer;
+        while ((buffer = deliveredBuffers.poll()) != null) {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * Returns all pooled buffers, delivered or still queued, to the pool once the subscription is cancelled.
+     */
+    private synchronized void releaseAllBuffers() {
+        if (bufferPool == null) {
+            return;
+        }
+
+        releaseDeliveredBuffers();
+        releaseQueuedBuffers();
+    }
+
+    /**
+     * Returns the pooled buffers that were never delivered to the pool once the subscription is complete. The delivered
+     * buffers are discarded, because the Subscriber may still be using them.
+     */
+    private synchronized void releaseUndeliveredBuffers() {
+        if (bufferPool == null) {
+            return;
+        }
+
+        ByteBuffer buffer;
+        while ((buffer = deliveredBuffers.poll()) != null) {
+            bufferPool.discard(buffer);
+        }
+        releaseQueuedBuffers();
+    }
+
+    private void releaseQueuedBuffers() {
+        ByteBuffer buffer;
+        while ((buffer = queuedBuffers.poll()) != null) {
+            if (isPooled(buffer)) {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+
     /**
      * Function called by Response Body Subscribers to request more Response Body buffers.
      * @param n The number of buffers requested.
@@ -132,6 +246,11 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
     protected void request(long n) {
         Validate.inclusiveBetween(1, Long.MAX_VALUE, n, "request");
 
+        if (bufferPool != null) {
+            // By requesting more data, the Subscriber signals it's done with the buffers it returned from onNext() with.
+            releaseDeliveredBuffers();
+        }
+
         // Check for overflow of outstanding Requests, and clamp to LONG_MAX.
         long outstandingReqs;
         if (n > (Long.MAX_VALUE - outstandingRequests.get())) {
@@ -162,6 +281,7 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
          * when onCancel() is called.
          */
         subscriberRef.set(null);
+        releaseAllBuffers();
     }
 
     private synchronized void releaseNativeResources() {
@@ -219,6 +339,8 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
             }
             responseComplete.complete(null);
         }
+
+        releaseUndeliveredBuffers();
     }
 
     /**
@@ -251,10 +373,10 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
                 int totalAmountTransferred = 0;
 
                 while (outstandingRequests.get() > 0 && !queuedBuffers.isEmpty()) {
-                    byte[] buffer = queuedBuffers.poll();
+                    ByteBuffer buffer = queuedBuffers.poll();
                     outstandingRequests.getAndUpdate(DECREMENT_IF_GREATER_THAN_ZERO);
-                    int amount = buffer.length;
-                    publishWithoutMutualRecursion(subscriberRef.get(), ByteBuffer.wrap(buffer));
+                    int amount = buffer.remaining();
+                    publishWithoutMutualRecursion(subscriberRef.get(), buffer);
                     totalAmountTransferred += amount;
                 }
 
@@ -297,13 +419,35 @@ public final class AwsCrtResponseBodyPublisher implements Publisher<ByteBuffer>
              */
             int depth = mutualRecursionDepth.getAndIncrement();
             if (depth == 0) {
-                subscriber.onNext(buffer);
+                if (isPooled(buffer)) {
+                    publishPooledBuffer(subscriber, buffer);
+                } else {
+                    subscriber.onNext(buffer);
+                }
             }
         } finally {
             mutualRecursionDepth.decrementAndGet();
         }
     }
 
+    /**
+     * Publishes a read-only view of a pooled buffer, so the Subscriber can't write to it, and keeps the buffer until the
+     * Subscriber is done with it.
+     */
+    private void publishPooledBuffer(Subscriber<? super ByteBuffer> subscriber, ByteBuffer buffer) {
+        try {
+            subscriber.onNext(buffer.asReadOnlyBuffer());
+        } finally {
+            if (isCancelled.get()) {
+                bufferPool.release(buffer);
+            } else if (isSubscriptionComplete.get()) {
+                bufferPool.discard(buffer);
+            } else {
+                deliveredBuffers.add(buffer);
+            }
+        }
+    }
+
     static class AwsCrtResponseBodySubscription implements Subscription {
         private final AwsCrtResponseBodyPublisher publisher;
 
@@ -24,11 +24,13 @@ public final class CrtRequestContext {
     private final AsyncExecuteRequest request;
     private final int readBufferSize;
     private final HttpClientConnectionManager crtConnPool;
+    private final ResponseBufferPool responseBufferPool;
 
     private CrtRequestContext(Builder builder) {
         this.request = builder.request;
         this.readBufferSize = builder.readBufferSize;
         this.crtConnPool = builder.crtConnPool;
+        this.responseBufferPool = builder.responseBufferPool;
     }
 
     public static Builder builder() {
@@ -47,10 +49,15 @@ public final class CrtRequestContext {
         return crtConnPool;
     }
 
+    public ResponseBufferPool responseBufferPool() {
+        return responseBufferPool;
+    }
+
     public static class Builder {
         private AsyncExecuteRequest request;
         private int readBufferSize;
         private HttpClientConnectionManager crtConnPool;
+        private ResponseBufferPool responseBufferPool;
 
         private Builder() {
         }
@@ -70,6 +77,11 @@ public final class CrtRequestContext {
             return this;
         }
 
+        public Builder responseBufferPool(ResponseBufferPool responseBufferPool) {
+            this.responseBufferPool = responseBufferPool;
+            return this;
+        }
+
         public CrtRequestContext build() {
             return new CrtRequestContext(this);
         }
@@ -59,7 +59,8 @@ public final class CrtRequestExecutor {
             }
 
             AwsCrtAsyncHttpStreamAdapter crtToSdkAdapter =
-                new AwsCrtAsyncHttpStreamAdapter(crtConn, requestFuture, asyncRequest, executionContext.readBufferSize());
+                new AwsCrtAsyncHttpStreamAdapter(crtConn, requestFuture, asyncRequest, executionContext.readBufferSize(),
+                                                 executionContext.responseBufferPool());
             HttpRequest crtRequest = toCrtRequest(asyncRequest, crtToSdkAdapter);
             // Submit the Request on this Connection
             invokeSafely(() -> {
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.crt.internal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded pool of direct buffers that response body chunks are copied into, shared by all the requests of a client.
+ * <p>
+ * Buffers are allocated lazily, up to a total of {@code maxPooledBytes}. Once that many have been allocated,
+ * {@link #acquire()} returns null until a buffer is released, and callers fall back to heap buffers. Acquiring and releasing
+ * a buffer does not allocate.
+ */
+@SdkInternalApi
+public final class ResponseBufferPool {
+    /**
+     * The size of each pooled buffer, which is the maximum payload of a TLS record and so the usual size of the body chunks
+     * delivered by the CRT.
+     */
+    static final int BUFFER_SIZE = 16 * 1024;
+
+    private final int maxBuffers;
+    private final BlockingQueue<ByteBuffer> availableBuffers;
+    private final AtomicInteger allocatedBuffers = new AtomicInteger(0);
+
+    public ResponseBufferPool(int maxPooledBytes) {
+        Validate.isPositive(maxPooledBytes, "maxPooledBytes");
+        this.maxBuffers = Math.max(1, maxPooledBytes / BUFFER_SIZE);
+        this.availableBuffers = new ArrayBlockingQueue<>(maxBuffers);
+    }
+
+    /**
+     * Takes a cleared buffer of {@link #BUFFER_SIZE} bytes from the pool, allocating one if the pool has not reached its bound.
+     *
+     * @return The buffer, or null if all the buffers of the pool are in use.
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = availableBuffers.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        int allocated;
+        do {
+            allocated = allocatedBuffers.get();
+            if (allocated >= maxBuffers) {
+                return null;
+            }
+        } while (!allocatedBuffers.compareAndSet(allocated, allocated + 1));
+
+        return ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a buffer taken with {@link #acquire()} to the pool. The buffer must not be used by the caller afterwards.
+     */
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        if (!availableBuffers.offer(buffer)) {
+            // The pool is already full, which can only happen if a buffer is released twice. Let it be garbage collected
+            // rather than grow the pool beyond its bound.
+            return;
+        }
+    }
+
+    /**
+     * Gives up a buffer taken with {@link #acquire()} that may still be in use, so that it is left to the garbage collector
+     * instead of being reused, and another buffer can be allocated in its place.
+     */
+    public void discard(ByteBuffer buffer) {
+        allocatedBuffers.decrementAndGet();
+    }
+
+    int allocatedBuffers() {
+        return allocatedBuffers.get();
+    }
+
+    int availableBuffers() {
+        return availableBuffers.size();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.crt.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.crt.http.HttpClientConnection;
+import software.amazon.awssdk.crt.http.HttpStream;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class AwsCrtResponseBodyPublisherTest {
+    private static final int WINDOW_SIZE = 1024 * 1024;
+
+    private ResponseBufferPool pool;
+    private AwsCrtResponseBodyPublisher publisher;
+
+    @Before
+    public void setup() {
+        pool = new ResponseBufferPool(4 * ResponseBufferPool.BUFFER_SIZE);
+        publisher = new AwsCrtResponseBodyPublisher(mock(HttpClientConnection.class), mock(HttpStream.class),
+                                                    new CompletableFuture<>(), WINDOW_SIZE, pool);
+    }
+
+    @Test
+    public void pooled_deliversReadOnlyDirectCopies_splitIntoPoolBuffers() {
+        byte[] chunk = randomBytes(ResponseBufferPool.BUFFER_SIZE + 100);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.queueBuffer(chunk);
+        publisher.setQueueComplete();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.buffers).hasSize(2);
+        assertThat(subscriber.buffers).allMatch(b -> b.isDirect() && b.isReadOnly());
+        assertThat(subscriber.content.toByteArray()).isEqualTo(chunk);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void pooled_buffersAreReleasedWhenSubscriberRequestsMore() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.queueBuffer(randomBytes(100));
+        publisher.queueBuffer(randomBytes(100));
+        subscriber.subscription.request(1);
+        assertThat(pool.allocatedBuffers()).isEqualTo(2);
+        assertThat(pool.availableBuffers()).isEqualTo(0);
+
+        subscriber.subscription.request(1);
+        assertThat(pool.availableBuffers()).isEqualTo(1);
+
+        publisher.setQueueComplete();
+        publisher.publishToSubscribers();
+        assertThat(subscriber.completed).isTrue();
+        assertThat(pool.allocatedBuffers()).isEqualTo(1);
+        assertThat(pool.availableBuffers()).isEqualTo(1);
+    }
+
+    @Test
+    public void pooled_complete_discardsDeliveredBuffersInsteadOfReusingThem() {
+        byte[] chunk = randomBytes(100);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.queueBuffer(chunk);
+        publisher.setQueueComplete();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(pool.allocatedBuffers()).isEqualTo(0);
+
+        // A subscriber can still be writing the last buffers it was given once it is complete, as the file transformer does,
+        // so they must not be refilled by the next response
+        AwsCrtResponseBodyPublisher nextPublisher =
+            new AwsCrtResponseBodyPublisher(mock(HttpClientConnection.class), mock(HttpStream.class),
+                                            new CompletableFuture<>(), WINDOW_SIZE, pool);
+        RecordingSubscriber nextSubscriber = new RecordingSubscriber();
+        nextPublisher.subscribe(nextSubscriber);
+        byte[] nextChunk = new byte[100];
+        Arrays.fill(nextChunk, (byte) 1);
+        nextPublisher.queueBuffer(nextChunk);
+        nextSubscriber.subscription.request(1);
+
+        assertThat(nextSubscriber.content.toByteArray()).isEqualTo(nextChunk);
+        assertThat(BinaryUtils.copyBytesFrom(subscriber.buffers.get(0))).isEqualTo(chunk);
+    }
+
+    @Test
+    public void pooled_poolExhausted_fallsBackToHeapBuffers() {
+        byte[] chunk = randomBytes(5 * ResponseBufferPool.BUFFER_SIZE);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.queueBuffer(chunk);
+        publisher.setQueueComplete();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.buffers).hasSize(5);
+        assertThat(subscriber.buffers.get(4).isDirect()).isFalse();
+        assertThat(subscriber.content.toByteArray()).isEqualTo(chunk);
+        assertThat(pool.allocatedBuffers()).isEqualTo(0);
+        assertThat(pool.availableBuffers()).isEqualTo(0);
+    }
+
+    @Test
+    public void pooled_cancel_releasesQueuedBuffers() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.queueBuffer(randomBytes(100));
+        publisher.queueBuffer(randomBytes(100));
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        assertThat(subscriber.buffers).hasSize(1);
+        assertThat(pool.availableBuffers()).isEqualTo(2);
+    }
+
+    @Test
+    public void pooled_queuedWhileCancelled_returnsAllBuffersToPool() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 100; i++) {
+                pool = new ResponseBufferPool(4 * ResponseBufferPool.BUFFER_SIZE);
+                publisher = new AwsCrtResponseBodyPublisher(mock(HttpClientConnection.class), mock(HttpStream.class),
+                                                            new CompletableFuture<>(), WINDOW_SIZE, pool);
+                RecordingSubscriber subscriber = new RecordingSubscriber();
+                publisher.subscribe(subscriber);
+
+                Future<?> queueing = executor.submit(() -> {
+                    for (int j = 0; j < 4; j++) {
+                        publisher.queueBuffer(randomBytes(100));
+                    }
+                });
+                subscriber.subscription.cancel();
+                queueing.get();
+
+                assertThat(pool.availableBuffers()).isEqualTo(pool.allocatedBuffers());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void pooled_queuedAfterCancel_opensWindowWithoutUsingPool() {
+        HttpStream stream = mock(HttpStream.class);
+        publisher = new AwsCrtResponseBodyPublisher(mock(HttpClientConnection.class), stream, new CompletableFuture<>(),
+                                                    WINDOW_SIZE, pool);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        publisher.queueBuffer(randomBytes(100));
+
+        verify(stream).incrementWindow(100);
+        assertThat(pool.allocatedBuffers()).isEqualTo(0);
+    }
+
+    @Test
+    public void notPooled_deliversArraysFromCrt() {
+        publisher = new AwsCrtResponseBodyPublisher(mock(HttpClientConnection.class), mock(HttpStream.class),
+                                                    new CompletableFuture<>(), WINDOW_SIZE);
+        byte[] chunk = randomBytes(100);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.queueBuffer(chunk);
+        publisher.setQueueComplete();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.buffers).hasSize(1);
+        assertThat(subscriber.buffers.get(0).array()).isSameAs(chunk);
+        assertThat(pool.allocatedBuffers()).isEqualTo(0);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(0).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Records the buffers it receives, and copies their content as a subscriber that is done with them after onNext would.
+     */
+    private static final class RecordingSubscriber implements Subscriber<ByteBuffer> {
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private Subscription subscription;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            buffers.add(buffer);
+            byte[] bytes = BinaryUtils.copyBytesFrom(buffer);
+            content.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.jdk.internal.FlowAdapters;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.RequestAdapter;
+import software.amazon.awssdk.http.jdk.internal.ResponseAdapter;
+import software.amazon.awssdk.http.jdk.internal.ResponseBodyPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} of the JDK, available from Java 11, to
+ * communicate with the service. It has no dependencies other than the JDK, which makes it quicker to start than the Netty
+ * client, and supports HTTP/2.
+ *
+ * <p>The request and response bodies are adapted between the reactive streams publishers of the SDK and the
+ * {@link Flow} publishers of the JDK, without copying.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final String CLIENT_NAME = "JdkAsyncHttpClient";
+
+    private final HttpClient httpClient;
+    private final RequestAdapter requestAdapter;
+
+    private JdkAsyncHttpClient(AttributeMap options, Executor executor) {
+        this.httpClient = JdkHttpClientFactory.createHttpClient(options, executor);
+        this.requestAdapter = new RequestAdapter(options.get(SdkHttpConfigurationOption.READ_TIMEOUT));
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkAsyncHttpClient} with the default properties
+     *
+     * @return an {@link JdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        request.metricCollector().ifPresent(c -> c.reportMetric(HTTP_CLIENT_NAME, clientName()));
+
+        BodyPublisher body = RequestAdapter.bodyPublisher(request.request(),
+                                                          request.requestContentPublisher().contentLength(),
+                                                          FlowAdapters.toFlowPublisher(request.requestContentPublisher()));
+        HttpRequest httpRequest = requestAdapter.adapt(request.request(), body);
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(httpRequest, responseInfo -> {
+                responseHandler.onHeaders(ResponseAdapter.adapt(responseInfo.statusCode(), responseInfo.headers()));
+                return BodySubscribers.ofPublisher();
+            });
+
+        // The response is complete once its headers have been received, and the future of the request once its body has been
+        // received.
+        responseFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                try {
+                    responseHandler.onError(cause);
+                } finally {
+                    executeFuture.completeExceptionally(cause);
+                }
+            } else {
+                responseHandler.onStream(new ResponseBodyPublisher(response.body(), executeFuture));
+            }
+        });
+
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close. The JDK client releases its connections and threads once it is no longer referenced.
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    /**
+     * A builder for an instance of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} of the JDK. A builder can be
+     * created via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkAsyncHttpClient httpClient = JdkAsyncHttpClient.builder()
+     * .readTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the headers of a response once a request has been sent, before timing out. A duration
+         * of 0 means infinity, and is not recommended.
+         * <p>
+         * The JDK client does not time out reading the body of the response.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
+         *
+         * @param protocol Protocol to use.
+         * @return This builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The executor the JDK client uses to send requests, receive responses and call the response handlers. By default, the
+         * JDK client creates a cached thread pool for each client.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            Validate.isNotNegative(readTimeout, "readTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isNotNegative(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(standardOptions.build()
+                                                         .merge(serviceDefaults)
+                                                         .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                          executor);
+        }
+    }
+}
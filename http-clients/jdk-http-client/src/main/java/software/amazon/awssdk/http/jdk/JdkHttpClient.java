@@ -0,0 +1,293 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.RequestAdapter;
+import software.amazon.awssdk.http.jdk.internal.ResponseAdapter;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK, available from Java 11, to
+ * communicate with the service. Like the URL connection client, it has no dependencies other than the JDK, but it keeps a
+ * pool of connections and supports HTTP/2.
+ *
+ * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkHttpClient implements SdkHttpClient {
+    private static final String CLIENT_NAME = "JdkHttpClient";
+
+    private final HttpClient httpClient;
+    private final RequestAdapter requestAdapter;
+
+    private JdkHttpClient(AttributeMap options, Executor executor) {
+        this.httpClient = JdkHttpClientFactory.createHttpClient(options, executor);
+        this.requestAdapter = new RequestAdapter(options.get(SdkHttpConfigurationOption.READ_TIMEOUT));
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} with the default properties
+     *
+     * @return an {@link JdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        request.metricCollector().ifPresent(c -> c.reportMetric(HTTP_CLIENT_NAME, clientName()));
+
+        BodyPublisher body = request.contentStreamProvider()
+                                    .map(provider -> BodyPublishers.ofInputStream(provider::newStream))
+                                    .map(publisher -> RequestAdapter.bodyPublisher(request.httpRequest(), Optional.empty(),
+                                                                                   publisher))
+                                    .orElseGet(BodyPublishers::noBody);
+        return new RequestCallable(httpClient, requestAdapter.adapt(request.httpRequest(), body));
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close. The JDK client releases its connections and threads once it is no longer referenced.
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private static final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpClient httpClient;
+        private final HttpRequest request;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile InputStream responseBody;
+
+        private RequestCallable(HttpClient httpClient, HttpRequest request) {
+            this.httpClient = httpClient;
+            this.request = request;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            // The request is sent asynchronously, so that it can be aborted while waiting for the response.
+            responseFuture = httpClient.sendAsync(request, BodyHandlers.ofInputStream());
+            HttpResponse<InputStream> response = awaitResponse();
+
+            InputStream body = response.body();
+            if (SdkHttpMethod.HEAD.name().equals(request.method())) {
+                IoUtils.closeQuietly(body, null);
+                body = null;
+            }
+            responseBody = body;
+
+            return HttpExecuteResponse.builder()
+                                      .response(ResponseAdapter.adapt(response.statusCode(), response.headers()))
+                                      .responseBody(body != null ? AbortableInputStream.create(body) : null)
+                                      .build();
+        }
+
+        private HttpResponse<InputStream> awaitResponse() throws IOException {
+            try {
+                return responseFuture.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                responseFuture.cancel(true);
+                throw new InterruptedIOException("Interrupted while waiting for the response.");
+            } catch (CancellationException e) {
+                throw new IOException("The request was aborted.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                while (cause instanceof CompletionException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        @Override
+        public void abort() {
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+            InputStream body = responseBody;
+            if (body != null) {
+                IoUtils.closeQuietly(body, null);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JdkHttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the headers of a response once a request has been sent, before timing out. A duration
+         * of 0 means infinity, and is not recommended.
+         * <p>
+         * The JDK client does not time out reading the body of the response.
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The executor the JDK client uses to send requests and receive responses. By default, the JDK client creates a
+         * cached thread pool for each client.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(standardOptions.build()
+                                                    .merge(serviceDefaults)
+                                                    .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                     executor);
+        }
+    }
+}
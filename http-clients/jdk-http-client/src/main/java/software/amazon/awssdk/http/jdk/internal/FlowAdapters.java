@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.util.concurrent.Flow;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Adapters between the reactive streams interfaces used by the SDK and the equivalent {@link Flow} interfaces used by the JDK
+ * client. The adapters only forward the signals, as both specifications have the same rules.
+ */
+@SdkInternalApi
+public final class FlowAdapters {
+    private FlowAdapters() {
+    }
+
+    /**
+     * Adapt a reactive streams publisher to a {@link Flow.Publisher}.
+     */
+    public static <T> Flow.Publisher<T> toFlowPublisher(Publisher<T> publisher) {
+        return subscriber -> publisher.subscribe(new SubscriberFromFlow<>(subscriber));
+    }
+
+    /**
+     * Adapt a reactive streams subscriber to a {@link Flow.Subscriber}.
+     */
+    public static <T> Flow.Subscriber<T> toFlowSubscriber(Subscriber<T> subscriber) {
+        return new FlowSubscriber<>(subscriber);
+    }
+
+    /**
+     * A reactive streams subscriber that forwards to a {@link Flow.Subscriber}.
+     */
+    private static final class SubscriberFromFlow<T> implements Subscriber<T> {
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private SubscriberFromFlow(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * A {@link Flow.Subscriber} that forwards to a reactive streams subscriber.
+     */
+    private static final class FlowSubscriber<T> implements Flow.Subscriber<T> {
+        private final Subscriber<T> subscriber;
+
+        private FlowSubscriber(Subscriber<T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Flow;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Header;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Adapts an {@link SdkHttpRequest} to the {@link HttpRequest} of the JDK client.
+ */
+@SdkInternalApi
+public final class RequestAdapter {
+    private static final Logger log = Logger.loggerFor(RequestAdapter.class);
+
+    /**
+     * The headers that the JDK client sets itself, and does not allow to be set on a request or would send twice. The JDK
+     * client sends the same values as the SDK for the ones that are signed: the host of the URI and the length of the body.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.add(Header.CONNECTION);
+        RESTRICTED_HEADERS.add(Header.CONTENT_LENGTH);
+        RESTRICTED_HEADERS.add("Date");
+        RESTRICTED_HEADERS.add("Expect");
+        RESTRICTED_HEADERS.add("From");
+        RESTRICTED_HEADERS.add(Header.HOST);
+        RESTRICTED_HEADERS.add(Header.TRANSFER_ENCODING);
+        RESTRICTED_HEADERS.add("Upgrade");
+        RESTRICTED_HEADERS.add("Via");
+        RESTRICTED_HEADERS.add("Warning");
+    }
+
+    private final Duration readTimeout;
+
+    public RequestAdapter(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Adapt the given request, which is sent with the given body.
+     */
+    public HttpRequest adapt(SdkHttpRequest request, BodyPublisher body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), body);
+
+        request.headers().forEach((name, values) -> {
+            if (RESTRICTED_HEADERS.contains(name)) {
+                log.debug(() -> "Not sending the " + name + " header, which is set by the JDK HTTP client.");
+            } else {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        if (request.firstMatchingHeader("Expect").filter("100-continue"::equalsIgnoreCase).isPresent()) {
+            builder.expectContinue(true);
+        }
+
+        // The JDK client times out a request when its response headers are not received in time, which is the closest
+        // equivalent of a read timeout.
+        if (JdkHttpClientFactory.isPositive(readTimeout)) {
+            builder.timeout(readTimeout);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Create the body publisher for a request, sending the given publisher with the length of the Content-Length header of
+     * the request if it has one, or of the content otherwise.
+     *
+     * @param request The request sent with the body.
+     * @param contentLength The length of the content, if known.
+     * @param publisher The publisher of the content, used when the request has a body.
+     */
+    public static BodyPublisher bodyPublisher(SdkHttpRequest request, Optional<Long> contentLength,
+                                              Flow.Publisher<ByteBuffer> publisher) {
+        Optional<Long> length = request.firstMatchingHeader(Header.CONTENT_LENGTH).map(Long::parseLong);
+        if (!length.isPresent()) {
+            length = contentLength;
+        }
+
+        if (!length.isPresent()) {
+            return BodyPublishers.fromPublisher(publisher);
+        }
+        if (length.get() == 0) {
+            return BodyPublishers.noBody();
+        }
+        return BodyPublishers.fromPublisher(publisher, length.get());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpHeaders;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Adapts the response of the JDK client to an {@link SdkHttpResponse}.
+ */
+@SdkInternalApi
+public final class ResponseAdapter {
+    private ResponseAdapter() {
+    }
+
+    /**
+     * Adapt the status and headers of a response. The JDK client does not expose the reason phrase of the status line, so
+     * the response has no status text.
+     */
+    public static SdkHttpResponse adapt(int statusCode, HttpHeaders headers) {
+        return SdkHttpResponse.builder()
+                              .statusCode(statusCode)
+                              .headers(headers.map())
+                              .build();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Publishes the body of a response received by the JDK client, which the JDK publishes as lists of buffers, one buffer at a
+ * time, and completes the future of the request when the body has been received.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private final Flow.Publisher<List<ByteBuffer>> body;
+    private final CompletableFuture<Void> executeFuture;
+
+    public ResponseBodyPublisher(Flow.Publisher<List<ByteBuffer>> body, CompletableFuture<Void> executeFuture) {
+        this.body = body;
+        this.executeFuture = executeFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        Subscriber<ByteBuffer> completingSubscriber = new CompletingSubscriber(subscriber, executeFuture);
+        body.subscribe(FlowAdapters.toFlowSubscriber(new FlatteningSubscriber<>(completingSubscriber)));
+    }
+
+    /**
+     * Completes the future of the request with the body, and forwards the completion of the body once.
+     */
+    private static final class CompletingSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+        private final CompletableFuture<Void> executeFuture;
+        private boolean done;
+
+        private CompletingSubscriber(Subscriber<? super ByteBuffer> subscriber, CompletableFuture<Void> executeFuture) {
+            super(subscriber);
+            this.executeFuture = executeFuture;
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            subscriber.onNext(buffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                super.onError(throwable);
+            } finally {
+                executeFuture.completeExceptionally(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                super.onComplete();
+            } finally {
+                executeFuture.complete(null);
+            }
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
@@ -46,6 +47,7 @@ import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolWarmer;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -54,9 +56,11 @@ import software.amazon.awssdk.http.nio.netty.internal.SdkChannelOptions;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
@@ -82,10 +86,11 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
     private final NettyConfiguration configuration;
+    private final Protocol protocol;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
-        Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
+        this.protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
         Http2Configuration http2Configuration = builder.http2Configuration;
@@ -103,6 +108,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
+                                             .dnsResolver(builder.dnsResolver)
                                              .build();
     }
 
@@ -113,6 +119,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.pools = pools;
         this.configuration = configuration;
+        this.protocol = Protocol.HTTP1_1;
     }
 
     @Override
@@ -122,6 +129,21 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new NettyRequestExecutor(ctx).execute();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When the client uses HTTP/2, a single connection is opened because requests are multiplexed over it.</p>
+     */
+    @Override
+    public CompletableFuture<Void> warmUp(URI endpoint, int connections, MetricCollector metricCollector) {
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+        int port = endpoint.getPort() != -1 ? endpoint.getPort() : SdkHttpUtils.standardPort(endpoint.getScheme());
+        URI poolKey = invokeSafely(() -> new URI(endpoint.getScheme(), null, endpoint.getHost(), port, null, null, null));
+        int channels = protocol == Protocol.HTTP2 ? Math.min(connections, 1)
+                                                  : Math.min(connections, configuration.maxConnections());
+        return new ChannelPoolWarmer(pools.get(poolKey), sdkEventLoopGroup.eventLoopGroup()).warmUp(channels, metricCollector);
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -431,6 +453,28 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider trustManagersProvider);
 
+        /**
+         * Configure the maximum number of TLS sessions that are cached, so that new connections to an endpoint can resume a
+         * TLS session instead of negotiating a new one. When the client uses the default TLS key and trust managers, the cache
+         * is shared with the other clients of the JVM that use the same SSL provider and cache settings.
+         * <p>
+         * By default, 1024 sessions are cached.
+         *
+         * @param tlsSessionCacheSize The maximum number of cached TLS sessions.
+         * @return The builder for method chaining.
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure how long a cached TLS session can be resumed after it was negotiated.
+         * <p>
+         * By default, TLS sessions can be resumed for an hour.
+         *
+         * @param tlsSessionTimeout The time a TLS session can be resumed for.
+         * @return The builder for method chaining.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
         /**
          * Set the HTTP/2 specific configuration for this client.
          * <p>
@@ -452,6 +496,19 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder for method chaining.
          */
         Builder http2Configuration(Consumer<Http2Configuration.Builder> http2ConfigurationBuilderConsumer);
+
+        /**
+         * Set the {@link SdkDnsResolver} that resolves the addresses of the hosts the client connects to. New connections
+         * connect to the first resolved address, and the resolver is told about each connection that is opened, closed or
+         * that failed, so that {@link software.amazon.awssdk.http.CachingDnsResolver} can spread the connections to a host
+         * across all its addresses.
+         * <p>
+         * By default, addresses are resolved by the JVM and not reported to any resolver.
+         *
+         * @param dnsResolver The DNS resolver.
+         * @return The builder for method chaining.
+         */
+        Builder dnsResolver(SdkDnsResolver dnsResolver);
     }
 
     /**
@@ -469,6 +526,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private Http2Configuration http2Configuration;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private SdkDnsResolver dnsResolver;
 
         private DefaultBuilder() {
         }
@@ -635,6 +693,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             proxyConfiguration(proxyConfiguration);
         }
 
+        @Override
+        public Builder dnsResolver(SdkDnsResolver dnsResolver) {
+            this.dnsResolver = dnsResolver;
+            return this;
+        }
+
+        public void setDnsResolver(SdkDnsResolver dnsResolver) {
+            dnsResolver(dnsResolver);
+        }
+
         @Override
         public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
             this.standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
@@ -655,6 +723,27 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isPositive(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public Builder http2Configuration(Http2Configuration http2Configuration) {
             this.http2Configuration = http2Configuration;
@@ -46,6 +46,8 @@ import javax.net.ssl.TrustManagerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
@@ -77,7 +79,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     // IMPORTANT: If the default bootstrap provider is changed, ensure that the new implementation is compliant with
     // DNS resolver testing in BootstrapProviderTest, specifically that no caching of hostname lookups is taking place.
     private static final Function<Builder, BootstrapProvider> DEFAULT_BOOTSTRAP_PROVIDER =
-        b -> new BootstrapProvider(b.sdkEventLoopGroup, b.configuration, b.sdkChannelOptions);
+        b -> new BootstrapProvider(b.sdkEventLoopGroup, b.configuration, b.sdkChannelOptions, b.dnsResolver);
 
     private final Map<URI, Boolean> shouldProxyForHostCache = new ConcurrentHashMap<>();
 
@@ -89,6 +91,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final int initialWindowSize;
     private final SslProvider sslProvider;
     private final ProxyConfiguration proxyConfiguration;
+    private final SdkDnsResolver dnsResolver;
     private final BootstrapProvider bootstrapProvider;
 
     private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
@@ -99,6 +102,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.initialWindowSize = builder.initialWindowSize;
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
+        this.dnsResolver = builder.dnsResolver;
         this.bootstrapProvider = createBootStrapProvider.apply(builder);
     }
 
@@ -137,16 +141,17 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
                                                                                         healthCheckPingPeriod,
                                                                                         channelPoolRef,
                                                                                         configuration,
-                                                                                        key);
+                                                                                        key,
+                                                                                        dnsResolver);
 
         BetterSimpleChannelPool tcpChannelPool;
         ChannelPool baseChannelPool;
         if (shouldUseProxyForHost(key)) {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER, dnsResolver);
             baseChannelPool = new Http1TunnelConnectionPool(bootstrap.config().group().next(), tcpChannelPool,
                                                             sslContext, proxyAddress(key), key, pipelineInitializer);
         } else {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer, dnsResolver);
             baseChannelPool = tcpChannelPool;
         }
 
@@ -269,12 +274,29 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return null;
         }
 
+        // Clients with the default key and trust managers share their TLS sessions with the other clients of the JVM
+        if (usesDefaultTlsManagers()) {
+            return SharedSslContexts.get(sslProvider, configuration.tlsSessionCacheSize(), configuration.tlsSessionTimeout(),
+                                         this::newSslContext);
+        }
+        return newSslContext();
+    }
+
+    private boolean usesDefaultTlsManagers() {
+        return configuration.tlsTrustManagersProvider() == null
+               && !configuration.trustAllCertificates()
+               && configuration.tlsKeyManagersProvider() instanceof SystemPropertyTlsKeyManagersProvider;
+    }
+
+    private SslContext newSslContext() {
         try {
             return SslContextBuilder.forClient()
                                     .sslProvider(sslProvider)
                                     .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
                                     .trustManager(getTrustManager())
                                     .keyManager(getKeyManager())
+                                    .sessionCacheSize(configuration.tlsSessionCacheSize())
+                                    .sessionTimeout(configuration.tlsSessionTimeout().getSeconds())
                                     .build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
@@ -319,6 +341,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private Duration healthCheckPingPeriod;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private SdkDnsResolver dnsResolver;
 
         private Builder() {
         }
@@ -368,6 +391,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder dnsResolver(SdkDnsResolver dnsResolver) {
+            this.dnsResolver = dnsResolver;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
@@ -16,21 +16,41 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
 
 /**
- * Extension of {@link SimpleChannelPool} to add an asynchronous close method
+ * Extension of {@link SimpleChannelPool} to add an asynchronous close method, and to fail over between the addresses of
+ * the remote host when a custom {@link SdkDnsResolver} is configured.
  */
 @SdkInternalApi
 public final class BetterSimpleChannelPool extends SimpleChannelPool {
     private final CompletableFuture<Boolean> closeFuture;
+    private final SdkDnsResolver dnsResolver;
 
     BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler) {
+        this(bootstrap, handler, null);
+    }
+
+    /**
+     * @param dnsResolver The custom DNS resolver to resolve the addresses to connect to with, or {@code null}.
+     */
+    BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler, SdkDnsResolver dnsResolver) {
         super(bootstrap, handler);
-        closeFuture = new CompletableFuture<>();
+        this.closeFuture = new CompletableFuture<>();
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    protected ChannelFuture connectChannel(Bootstrap bs) {
+        if (dnsResolver == null) {
+            return super.connectChannel(bs);
+        }
+        return DnsFailoverConnector.connect(bs, dnsResolver);
     }
 
     @Override
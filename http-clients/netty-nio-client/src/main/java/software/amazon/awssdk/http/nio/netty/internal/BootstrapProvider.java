@@ -19,26 +19,37 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
 import java.net.InetSocketAddress;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 
 /**
  * The primary purpose of this Bootstrap provider is to ensure that all Bootstraps created by it are 'unresolved'
  * InetSocketAddress. This is to prevent Netty from caching the resolved address of a host and then re-using it in
- * subsequent connection attempts, and instead deferring to the JVM to handle address resolution and caching.
+ * subsequent connection attempts, and instead deferring to the JVM, or to the {@link SdkDnsResolver} configured on the
+ * client, to handle address resolution and caching.
  */
 @SdkInternalApi
 public class BootstrapProvider {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final NettyConfiguration nettyConfiguration;
     private final SdkChannelOptions sdkChannelOptions;
+    private final SdkDnsAddressResolverGroup resolverGroup;
 
 
     BootstrapProvider(SdkEventLoopGroup sdkEventLoopGroup,
                       NettyConfiguration nettyConfiguration,
                       SdkChannelOptions sdkChannelOptions) {
+        this(sdkEventLoopGroup, nettyConfiguration, sdkChannelOptions, null);
+    }
+
+    BootstrapProvider(SdkEventLoopGroup sdkEventLoopGroup,
+                      NettyConfiguration nettyConfiguration,
+                      SdkChannelOptions sdkChannelOptions,
+                      SdkDnsResolver dnsResolver) {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.nettyConfiguration = nettyConfiguration;
         this.sdkChannelOptions = sdkChannelOptions;
+        this.resolverGroup = dnsResolver == null ? null : new SdkDnsAddressResolverGroup(dnsResolver);
     }
 
     /**
@@ -56,6 +67,9 @@ public class BootstrapProvider {
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, nettyConfiguration.connectTimeoutMillis())
                 .remoteAddress(InetSocketAddress.createUnresolved(host, port));
         sdkChannelOptions.channelOptions().forEach(bootstrap::option);
+        if (resolverGroup != null) {
+            bootstrap.resolver(resolverGroup);
+        }
 
         return bootstrap;
     }
@@ -21,6 +21,7 @@ import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2FrameStream;
 import io.netty.util.AttributeKey;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -70,6 +71,18 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<Http2FrameStream> HTTP2_FRAME_STREAM = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.http2FrameStream");
 
+    /**
+     * The duration of the TLS handshake of this connection, until a request reports it.
+     */
+    public static final AttributeKey<Duration> TLS_HANDSHAKE_TIME = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.tlsHandshakeTime");
+
+    /**
+     * Whether the TLS handshake of this connection resumed a cached TLS session.
+     */
+    public static final AttributeKey<Boolean> TLS_SESSION_RESUMED = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.tlsSessionResumed");
+
     /**
      * {@link AttributeKey} to keep track of whether we should close the connection after this request
      * has completed.
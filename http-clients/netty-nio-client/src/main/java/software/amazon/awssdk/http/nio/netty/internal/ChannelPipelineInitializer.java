@@ -48,6 +48,7 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkDnsResolver;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
@@ -66,6 +67,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
     private final URI poolKey;
+    private final DnsResolverReportingHandler dnsResolverReportingHandler;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
@@ -76,6 +78,23 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
                                       AtomicReference<ChannelPool> channelPoolRef,
                                       NettyConfiguration configuration,
                                       URI poolKey) {
+        this(protocol, sslCtx, sslProvider, clientMaxStreams, clientInitialWindowSize, healthCheckPingPeriod, channelPoolRef,
+             configuration, poolKey, null);
+    }
+
+    /**
+     * @param dnsResolver The custom DNS resolver to report the connections of the channels to, or {@code null}.
+     */
+    public ChannelPipelineInitializer(Protocol protocol,
+                                      SslContext sslCtx,
+                                      SslProvider sslProvider,
+                                      long clientMaxStreams,
+                                      int clientInitialWindowSize,
+                                      Duration healthCheckPingPeriod,
+                                      AtomicReference<ChannelPool> channelPoolRef,
+                                      NettyConfiguration configuration,
+                                      URI poolKey,
+                                      SdkDnsResolver dnsResolver) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
         this.sslProvider = sslProvider;
@@ -85,12 +104,19 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
         this.poolKey = poolKey;
+        this.dnsResolverReportingHandler = dnsResolver == null
+                                           ? null
+                                           : new DnsResolverReportingHandler(dnsResolver);
     }
 
     @Override
     public void channelCreated(Channel ch) {
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
+        if (dnsResolverReportingHandler != null && !ch.isActive()) {
+            pipeline.addLast(dnsResolverReportingHandler);
+        }
+
         if (sslCtx != null) {
 
             // Need to provide host and port to enable SNI
@@ -98,6 +124,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), poolKey.getHost(), poolKey.getPort());
             configureSslEngine(sslHandler.engine());
 
+            pipeline.addLast(new TlsHandshakeMetricsHandler());
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
@@ -114,12 +141,15 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             configureHttp11(ch, pipeline);
         }
 
-        if (configuration.reapIdleConnections()) {
-            pipeline.addLast(new IdleConnectionReaperHandler(configuration.idleTimeoutMillis()));
-        }
+        // HTTP/1.1 channels are reaped by the ConnectionReapingChannelPool of their channel pool
+        if (protocol == Protocol.HTTP2) {
+            if (configuration.reapIdleConnections()) {
+                pipeline.addLast(new IdleConnectionReaperHandler(configuration.idleTimeoutMillis()));
+            }
 
-        if (configuration.connectionTtlMillis() > 0) {
-            pipeline.addLast(new OldConnectionReaperHandler(configuration.connectionTtlMillis()));
+            if (configuration.connectionTtlMillis() > 0) {
+                pipeline.addLast(new OldConnectionReaperHandler(configuration.connectionTtlMillis()));
+            }
         }
 
         pipeline.addLast(FutureCancelHandler.getInstance());
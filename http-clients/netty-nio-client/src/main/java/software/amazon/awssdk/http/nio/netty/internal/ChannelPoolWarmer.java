@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_WARM_UP_TIME;
+import static software.amazon.awssdk.http.HttpMetric.WARMED_UP_CONNECTIONS;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Future;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Acquires channels from a channel pool in parallel, waits for their TLS handshakes, and releases them back to the pool
+ * once they are all established, so that the first requests to the endpoint of the pool find open channels.
+ *
+ * <p>The channels are held until all of them are established, otherwise the pool would hand the same idle channel to
+ * several of the acquisitions.</p>
+ */
+@SdkInternalApi
+public final class ChannelPoolWarmer {
+    private final SdkChannelPool pool;
+    private final EventLoopGroup eventLoopGroup;
+
+    public ChannelPoolWarmer(SdkChannelPool pool, EventLoopGroup eventLoopGroup) {
+        this.pool = pool;
+        this.eventLoopGroup = eventLoopGroup;
+    }
+
+    /**
+     * Acquire and release the given number of channels, and report the number of channels and the time it took to the
+     * metric collector.
+     */
+    public CompletableFuture<Void> warmUp(int channels, MetricCollector metricCollector) {
+        if (channels <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long start = System.nanoTime();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Channel>[] channelFutures = new CompletableFuture[channels];
+        for (int i = 0; i < channels; i++) {
+            channelFutures[i] = acquireEstablishedChannel();
+        }
+
+        return CompletableFuture.allOf(channelFutures).whenComplete((r, t) -> {
+            int warmedUpChannels = 0;
+            for (CompletableFuture<Channel> channelFuture : channelFutures) {
+                if (!channelFuture.isCompletedExceptionally()) {
+                    pool.release(channelFuture.join());
+                    warmedUpChannels++;
+                }
+            }
+            metricCollector.reportMetric(WARMED_UP_CONNECTIONS, warmedUpChannels);
+            metricCollector.reportMetric(CONNECTION_WARM_UP_TIME, Duration.ofNanos(System.nanoTime() - start));
+        });
+    }
+
+    private CompletableFuture<Channel> acquireEstablishedChannel() {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        pool.acquire(eventLoopGroup.next().newPromise()).addListener((Future<Channel> acquire) -> {
+            if (!acquire.isSuccess()) {
+                result.completeExceptionally(acquire.cause());
+                return;
+            }
+
+            Channel channel = acquire.getNow();
+            SslHandler sslHandler = sslHandler(channel);
+            if (sslHandler == null) {
+                result.complete(channel);
+                return;
+            }
+
+            sslHandler.handshakeFuture().addListener(handshake -> {
+                if (handshake.isSuccess()) {
+                    result.complete(channel);
+                } else {
+                    channel.close();
+                    pool.release(channel);
+                    result.completeExceptionally(handshake.cause());
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * The TLS handler of the channel, or of the connection that the channel is a stream of when using HTTP/2.
+     */
+    private static SslHandler sslHandler(Channel channel) {
+        SslHandler sslHandler = channel.pipeline().get(SslHandler.class);
+        if (sslHandler == null && channel.parent() != null) {
+            sslHandler = channel.parent().pipeline().get(SslHandler.class);
+        }
+        return sslHandler;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A channel pool implementation that closes the channels of an underlying channel pool that have been idle for longer than
+ * the maximum idle time, or that have reached their time to live.
+ *
+ * <p>Instead of scheduling timers on every channel, the idle and time-to-live deadlines of all the channels of the pool are
+ * kept in a single time-ordered set, and a single task is scheduled on the {@link #executor} for the earliest deadline. When
+ * it runs, the task reaps all the channels whose deadline has passed in one batch. Channels that are in use when they reach
+ * their time to live are closed when they are next released (via {@link ChannelAttributeKey#CLOSE_ON_RELEASE}).
+ */
+@SdkInternalApi
+public class ConnectionReapingChannelPool implements SdkChannelPool {
+    private static final Logger log = Logger.loggerFor(ConnectionReapingChannelPool.class);
+
+    /**
+     * The reaping state of a specific channel. This should only be accessed from the {@link #executor}.
+     */
+    private static final AttributeKey<ChannelState> CHANNEL_STATE =
+        NettyUtils.getOrCreateAttributeKey("ConnectionReapingChannelPool.CHANNEL_STATE");
+
+    private static final Comparator<Deadline> DEADLINE_ORDER = Comparator.comparingLong((Deadline d) -> d.deadlineNanos)
+                                                                          .thenComparingLong(d -> d.sequence);
+
+    /**
+     * The executor in which all updates to the {@link #deadlines} are performed, and in which the channels are reaped.
+     */
+    private final EventExecutor executor;
+
+    /**
+     * The delegate pool to which all acquire and release calls are delegated.
+     */
+    private final SdkChannelPool delegatePool;
+
+    /**
+     * The maximum time a channel can stay released to the pool, or -1 if idle channels are not reaped.
+     */
+    private final long maxIdleTimeNanos;
+
+    /**
+     * The maximum time a channel can live, or -1 if channels can live forever.
+     */
+    private final long timeToLiveNanos;
+
+    /**
+     * The idle and time-to-live deadlines of the open channels of the pool, earliest first. This should only be accessed from
+     * the {@link #executor}.
+     */
+    private final TreeSet<Deadline> deadlines = new TreeSet<>(DEADLINE_ORDER);
+
+    private long nextSequence = 0;
+    private ScheduledFuture<?> scheduledReap;
+    private long scheduledReapNanos;
+    private int reapedConnections = 0;
+    private boolean closed = false;
+
+    public ConnectionReapingChannelPool(EventExecutor executor, SdkChannelPool delegatePool, NettyConfiguration configuration) {
+        this.executor = executor;
+        this.delegatePool = delegatePool;
+        this.maxIdleTimeNanos = configuration.reapIdleConnections()
+                                ? TimeUnit.MILLISECONDS.toNanos(configuration.idleTimeoutMillis()) : -1;
+        this.timeToLiveNanos = configuration.connectionTtlMillis() > 0
+                               ? TimeUnit.MILLISECONDS.toNanos(configuration.connectionTtlMillis()) : -1;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return acquire(executor.newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        Future<Channel> acquirePromise = delegatePool.acquire(executor.newPromise());
+        acquirePromise.addListener(f -> {
+            Throwable failure = acquirePromise.cause();
+            if (failure != null) {
+                promise.setFailure(failure);
+            } else {
+                Channel channel = acquirePromise.getNow();
+                channelAcquired(channel);
+                promise.setSuccess(channel);
+            }
+        });
+
+        return promise;
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        channelReleased(channel);
+        return delegatePool.release(channel);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        channelReleased(channel);
+        return delegatePool.release(channel, promise);
+    }
+
+    @Override
+    public void close() {
+        doInEventLoop(executor, () -> {
+            closed = true;
+            cancelScheduledReap();
+            deadlines.clear();
+        });
+        delegatePool.close();
+    }
+
+    @Override
+    public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+        CompletableFuture<Void> delegateMetricResult = delegatePool.collectChannelPoolMetrics(metrics);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        doInEventLoop(executor, () -> {
+            metrics.reportMetric(HttpMetric.REAPED_CONNECTIONS, reapedConnections);
+            result.complete(null);
+        });
+        return CompletableFuture.allOf(result, delegateMetricResult);
+    }
+
+    /**
+     * Invoked when a channel is acquired. A channel seen for the first time starts its time to live, and an idle channel
+     * is no longer idle.
+     */
+    private void channelAcquired(Channel channel) {
+        doInEventLoop(executor, () -> {
+            ChannelState state = channel.attr(CHANNEL_STATE).get();
+
+            if (state == null) {
+                state = new ChannelState();
+                channel.attr(CHANNEL_STATE).set(state);
+                channel.closeFuture().addListener(f -> channelClosed(channel));
+                if (timeToLiveNanos >= 0) {
+                    state.timeToLiveDeadline = addDeadline(channel, DeadlineType.TIME_TO_LIVE, timeToLiveNanos);
+                }
+            } else {
+                removeDeadline(state.idleDeadline);
+                state.idleDeadline = null;
+            }
+            state.inUse = true;
+        });
+    }
+
+    /**
+     * Invoked when a channel is released, starting its idle time.
+     */
+    private void channelReleased(Channel channel) {
+        doInEventLoop(executor, () -> {
+            ChannelState state = channel.attr(CHANNEL_STATE).get();
+            if (state == null || state.closed || !channel.isOpen()) {
+                return;
+            }
+
+            state.inUse = false;
+            if (maxIdleTimeNanos >= 0 && state.idleDeadline == null) {
+                state.idleDeadline = addDeadline(channel, DeadlineType.IDLE, maxIdleTimeNanos);
+            }
+        });
+    }
+
+    /**
+     * Invoked when a channel is closed, forgetting its deadlines.
+     */
+    private void channelClosed(Channel channel) {
+        doInEventLoop(executor, () -> {
+            ChannelState state = channel.attr(CHANNEL_STATE).get();
+            state.closed = true;
+            removeDeadline(state.idleDeadline);
+            removeDeadline(state.timeToLiveDeadline);
+            state.idleDeadline = null;
+            state.timeToLiveDeadline = null;
+        });
+    }
+
+    private Deadline addDeadline(Channel channel, DeadlineType type, long delayNanos) {
+        Deadline deadline = new Deadline(channel, type, System.nanoTime() + delayNanos, nextSequence++);
+        deadlines.add(deadline);
+        scheduleReap();
+        return deadline;
+    }
+
+    private void removeDeadline(Deadline deadline) {
+        if (deadline != null) {
+            deadlines.remove(deadline);
+        }
+    }
+
+    /**
+     * Make sure a reap is scheduled for the earliest deadline. A reap that is already scheduled for an earlier time reschedules
+     * itself when it runs, so deadlines added after it don't need to reschedule it.
+     */
+    private void scheduleReap() {
+        if (closed || deadlines.isEmpty()) {
+            return;
+        }
+
+        long earliestDeadline = deadlines.first().deadlineNanos;
+        if (scheduledReap != null && scheduledReapNanos - earliestDeadline <= 0) {
+            return;
+        }
+
+        cancelScheduledReap();
+        scheduledReapNanos = earliestDeadline;
+        scheduledReap = executor.schedule(this::reap, earliestDeadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void cancelScheduledReap() {
+        if (scheduledReap != null) {
+            scheduledReap.cancel(false);
+            scheduledReap = null;
+        }
+    }
+
+    /**
+     * Reap all the channels whose deadline has passed, and schedule the next reap.
+     */
+    private void reap() {
+        scheduledReap = null;
+        long now = System.nanoTime();
+        int reaped = 0;
+
+        while (!deadlines.isEmpty() && deadlines.first().deadlineNanos - now <= 0) {
+            Deadline deadline = deadlines.pollFirst();
+            ChannelState state = deadline.channel.attr(CHANNEL_STATE).get();
+            if (deadline.type == DeadlineType.IDLE) {
+                state.idleDeadline = null;
+            } else {
+                state.timeToLiveDeadline = null;
+            }
+
+            if (reapChannel(deadline, state)) {
+                ++reaped;
+            }
+        }
+
+        if (reaped > 0) {
+            int reapedInBatch = reaped;
+            reapedConnections += reaped;
+            log.debug(() -> "Reaped " + reapedInBatch + " connections.");
+        }
+        scheduleReap();
+    }
+
+    private boolean reapChannel(Deadline deadline, ChannelState state) {
+        Channel channel = deadline.channel;
+        if (!channel.isOpen()) {
+            return false;
+        }
+
+        if (!state.inUse) {
+            log.debug(() -> "Closing unused connection (" + channel.id() + ") because it " + deadline.type.reason + ".");
+            channel.close();
+            return true;
+        }
+
+        if (deadline.type == DeadlineType.TIME_TO_LIVE) {
+            log.debug(() -> "Connection (" + channel.id() + ") will be closed during its next release, because it " +
+                            deadline.type.reason + ".");
+            channel.attr(ChannelAttributeKey.CLOSE_ON_RELEASE).set(true);
+            return true;
+        }
+        return false;
+    }
+
+    private enum DeadlineType {
+        IDLE("has been idle for longer than the maximum idle time"),
+        TIME_TO_LIVE("has reached its maximum time to live");
+
+        private final String reason;
+
+        DeadlineType(String reason) {
+            this.reason = reason;
+        }
+    }
+
+    private static final class Deadline {
+        private final Channel channel;
+        private final DeadlineType type;
+        private final long deadlineNanos;
+        private final long sequence;
+
+        private Deadline(Channel channel, DeadlineType type, long deadlineNanos, long sequence) {
+            this.channel = channel;
+            this.type = type;
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class ChannelState {
+        private Deadline idleDeadline;
+        private Deadline timeToLiveDeadline;
+        private boolean inUse;
+        private boolean closed;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.DefaultChannelPromise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Connects the channels of a bootstrap to the addresses that a {@link SdkDnsResolver} resolves for its remote host, trying
+ * the next address whenever a connection cannot be established. The bootstrap itself only connects to a single address.
+ * Each address gets the full connect timeout of the bootstrap.
+ */
+@SdkInternalApi
+public final class DnsFailoverConnector {
+    private DnsFailoverConnector() {
+    }
+
+    /**
+     * Connect a channel of the bootstrap to the first address of its remote host that accepts the connection. The returned
+     * future completes with the channel that connected, or with the failure of the first address, to which the failures of
+     * the other addresses are added as suppressed exceptions.
+     */
+    public static ChannelFuture connect(Bootstrap bootstrap, SdkDnsResolver dnsResolver) {
+        InetSocketAddress remoteAddress = (InetSocketAddress) bootstrap.config().remoteAddress();
+
+        List<InetSocketAddress> addresses;
+        try {
+            addresses = resolve(remoteAddress, dnsResolver);
+        } catch (UnknownHostException | RuntimeException e) {
+            // Let the resolver of the bootstrap fail the connection with the same failure.
+            return bootstrap.connect();
+        }
+
+        ChannelFuture firstAttempt = bootstrap.connect(addresses.get(0));
+        if (addresses.size() == 1) {
+            return firstAttempt;
+        }
+
+        FailoverConnectPromise promise = new FailoverConnectPromise(bootstrap, firstAttempt.channel(),
+                                                                    addresses.subList(1, addresses.size()).iterator());
+        firstAttempt.addListener(promise);
+        return promise;
+    }
+
+    /**
+     * Resolve the addresses of the remote host. They keep the name of the host, so that the connections made to them are
+     * reported to the resolver under that name.
+     */
+    private static List<InetSocketAddress> resolve(InetSocketAddress remoteAddress, SdkDnsResolver dnsResolver)
+            throws UnknownHostException {
+        String host = remoteAddress.getHostString();
+        InetAddress[] resolved = dnsResolver.resolve(host);
+        if (resolved.length == 0) {
+            throw new UnknownHostException(host);
+        }
+
+        List<InetSocketAddress> addresses = new ArrayList<>(resolved.length);
+        for (InetAddress address : resolved) {
+            InetAddress namedAddress = InetAddress.getByAddress(host, address.getAddress());
+            addresses.add(new InetSocketAddress(namedAddress, remoteAddress.getPort()));
+        }
+        return addresses;
+    }
+
+    /**
+     * A promise that is completed by the connection attempts to each address in turn. It reports the channel of the attempt
+     * that succeeded, rather than the channel it was created with.
+     */
+    private static final class FailoverConnectPromise extends DefaultChannelPromise implements ChannelFutureListener {
+        private final Bootstrap bootstrap;
+        private final Iterator<InetSocketAddress> remainingAddresses;
+        private volatile Channel channel;
+        private Throwable failure;
+
+        private FailoverConnectPromise(Bootstrap bootstrap, Channel firstChannel,
+                                       Iterator<InetSocketAddress> remainingAddresses) {
+            super(firstChannel, bootstrap.config().group().next());
+            this.bootstrap = bootstrap;
+            this.remainingAddresses = remainingAddresses;
+            this.channel = firstChannel;
+        }
+
+        @Override
+        public Channel channel() {
+            return channel;
+        }
+
+        /**
+         * Invoked when an attempt completes. Attempts run one after the other, so this is never invoked concurrently.
+         */
+        @Override
+        public void operationComplete(ChannelFuture attempt) {
+            if (attempt.isSuccess()) {
+                channel = attempt.channel();
+                if (!trySuccess()) {
+                    attempt.channel().close();
+                }
+                return;
+            }
+
+            if (failure == null) {
+                failure = attempt.cause();
+            } else if (failure != attempt.cause()) {
+                failure.addSuppressed(attempt.cause());
+            }
+
+            if (attempt.isCancelled() || isDone() || !remainingAddresses.hasNext()) {
+                tryFailure(failure);
+                return;
+            }
+
+            bootstrap.connect(remainingAddresses.next()).addListener(this);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Reports to a {@link SdkDnsResolver} whether the channel could connect to the address it resolved, and when the channel is
+ * closed. The connection is reported under the host name and address of the remote address that the channel actually
+ * connects to. The handler removes itself from the pipeline once the channel started to connect.
+ */
+@SdkInternalApi
+@ChannelHandler.Sharable
+public final class DnsResolverReportingHandler extends ChannelOutboundHandlerAdapter {
+    private final SdkDnsResolver dnsResolver;
+
+    public DnsResolverReportingHandler(SdkDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                        ChannelPromise promise) {
+        InetSocketAddress inetRemoteAddress = remoteAddress instanceof InetSocketAddress
+                                              ? (InetSocketAddress) remoteAddress
+                                              : null;
+        if (inetRemoteAddress != null && inetRemoteAddress.getAddress() != null) {
+            String host = inetRemoteAddress.getHostString();
+            InetAddress address = inetRemoteAddress.getAddress();
+            promise.addListener(f -> {
+                if (f.isSuccess()) {
+                    dnsResolver.connectionOpened(host, address);
+                    ctx.channel().closeFuture().addListener(c -> dnsResolver.connectionClosed(host, address));
+                } else if (!f.isCancelled()) {
+                    dnsResolver.connectionFailed(host, address);
+                }
+            });
+        }
+
+        ctx.connect(remoteAddress, localAddress, promise);
+        ctx.pipeline().remove(this);
+    }
+}
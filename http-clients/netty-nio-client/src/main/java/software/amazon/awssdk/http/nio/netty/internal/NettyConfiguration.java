@@ -22,6 +22,7 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
@@ -94,6 +95,14 @@ public final class NettyConfiguration {
         return configuration.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
     }
 
+    public int tlsSessionCacheSize() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+    }
+
+    public Duration tlsSessionTimeout() {
+        return configuration.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+    }
+
     public boolean trustAllCertificates() {
         return configuration.get(TRUST_ALL_CERTIFICATES);
     }
@@ -239,6 +239,7 @@ public final class NettyRequestExecutor {
                    ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
                    if (wireCall.isSuccess()) {
                        NettyRequestMetrics.publishHttp2StreamMetrics(context.metricCollector(), channel);
+                       NettyRequestMetrics.publishTlsHandshakeMetrics(context.metricCollector(), channel);
 
                        if (context.executeRequest().fullDuplex()) {
                            return;
@@ -18,9 +18,11 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2Stream;
+import java.time.Duration;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -53,6 +55,23 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish the TLS handshake metrics of the connection of the provided channel to the provided collector, if the
+     * connection was opened for this request. The metrics of a connection are only published by the first request that
+     * uses it.
+     */
+    public static void publishTlsHandshakeMetrics(MetricCollector metricCollector, Channel channel) {
+        Channel connection = channel.parent() == null ? channel : channel.parent();
+        Duration handshakeTime = connection.attr(ChannelAttributeKey.TLS_HANDSHAKE_TIME).getAndSet(null);
+        if (handshakeTime == null || !metricsAreEnabled(metricCollector)) {
+            return;
+        }
+
+        metricCollector.reportMetric(HttpMetric.TLS_HANDSHAKE_TIME, handshakeTime);
+        metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED,
+                                     Boolean.TRUE.equals(connection.attr(ChannelAttributeKey.TLS_SESSION_RESUMED).get()));
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkDnsResolver;
+
+/**
+ * Resolves the addresses of the bootstraps with a {@link SdkDnsResolver}. Like Netty's default resolver, the addresses
+ * are resolved on the event loop of the channel, and the channel connects to the first resolved address. The channel
+ * pools resolve all the addresses with {@link DnsFailoverConnector} and fail over between them, so they only connect
+ * through this resolver to report a host that could not be resolved.
+ */
+@SdkInternalApi
+public final class SdkDnsAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private final SdkDnsResolver dnsResolver;
+
+    public SdkDnsAddressResolverGroup(SdkDnsResolver dnsResolver) {
+        this.dnsResolver = dnsResolver;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new InetSocketAddressResolver(executor, new SdkDnsNameResolver(executor, dnsResolver));
+    }
+
+    private static final class SdkDnsNameResolver extends InetNameResolver {
+        private final SdkDnsResolver dnsResolver;
+
+        private SdkDnsNameResolver(EventExecutor executor, SdkDnsResolver dnsResolver) {
+            super(executor);
+            this.dnsResolver = dnsResolver;
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            try {
+                promise.setSuccess(dnsResolver.resolve(inetHost)[0]);
+            } catch (Exception e) {
+                promise.setFailure(e);
+            }
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            try {
+                promise.setSuccess(Arrays.asList(dnsResolver.resolve(inetHost)));
+            } catch (Exception e) {
+                promise.setFailure(e);
+            }
+        }
+    }
+}
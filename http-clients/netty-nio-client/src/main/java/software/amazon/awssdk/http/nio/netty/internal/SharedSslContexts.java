@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslProvider;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.internal.http.TlsContextSettings;
+import software.amazon.awssdk.utils.Pair;
+
+/**
+ * The {@link SslContext}s shared by the clients of the JVM that use the default TLS key and trust managers, so that a new
+ * channel can resume a TLS session negotiated by any channel to the same endpoint, even one of another client. The TLS
+ * sessions of an {@link SslContext} are cached by host and port.
+ */
+@SdkInternalApi
+public final class SharedSslContexts {
+    private static final Map<Pair<SslProvider, TlsContextSettings>, SslContext> SSL_CONTEXTS = new ConcurrentHashMap<>();
+
+    private SharedSslContexts() {
+    }
+
+    /**
+     * Return the shared {@link SslContext} with the given provider and session cache settings, creating it with the given
+     * factory if no client uses these settings yet.
+     */
+    public static SslContext get(SslProvider sslProvider,
+                                 int sessionCacheSize,
+                                 Duration sessionTimeout,
+                                 Supplier<SslContext> sslContextFactory) {
+        TlsContextSettings settings = TlsContextSettings.create(sessionCacheSize, sessionTimeout);
+        return SSL_CONTEXTS.computeIfAbsent(Pair.of(sslProvider, settings), key -> sslContextFactory.get());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
+import io.netty.handler.ssl.SslHandler;
+import java.time.Duration;
+import javax.net.ssl.SSLEngine;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Measures the TLS handshake of a new channel, from the moment the channel becomes active to the moment the {@link SslHandler}
+ * after this handler completes the handshake. The duration of the handshake, and whether it resumed a cached TLS session, are
+ * stored in the {@link ChannelAttributeKey#TLS_HANDSHAKE_TIME} and {@link ChannelAttributeKey#TLS_SESSION_RESUMED} attributes
+ * of the channel, for the first request on the channel to report them.
+ */
+@SdkInternalApi
+public final class TlsHandshakeMetricsHandler extends ChannelInboundHandlerAdapter {
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        // The SslHandler starts the handshake when the channel becomes active, so this has to run before it does
+        long startTimeMillis = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+        ctx.pipeline().remove(this);
+
+        if (sslHandler != null) {
+            Channel channel = ctx.channel();
+            sslHandler.handshakeFuture().addListener(handshake -> {
+                if (handshake.isSuccess()) {
+                    channel.attr(ChannelAttributeKey.TLS_HANDSHAKE_TIME).set(Duration.ofNanos(System.nanoTime() - startTime));
+                    channel.attr(ChannelAttributeKey.TLS_SESSION_RESUMED).set(isResumed(sslHandler.engine(), startTimeMillis));
+                }
+            });
+        }
+        ctx.fireChannelActive();
+    }
+
+    /**
+     * A resumed session was created by the handshake of an earlier channel.
+     */
+    private static boolean isResumed(SSLEngine engine, long startTimeMillis) {
+        long sessionCreationTime = engine.getSession().getCreationTime();
+        if (engine instanceof ReferenceCountedOpenSslEngine) {
+            // OpenSSL only records the creation time of a session in seconds
+            return sessionCreationTime < startTimeMillis - startTimeMillis % 1000;
+        }
+        return sessionCreationTime < startTimeMillis;
+    }
+}
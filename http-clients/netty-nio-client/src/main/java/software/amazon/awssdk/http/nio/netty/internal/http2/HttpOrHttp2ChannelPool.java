@@ -29,6 +29,7 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.ConnectionReapingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -140,7 +141,15 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                 closeAndRelease(newChannel, new IllegalStateException("Pool closed"));
             } else {
                 try {
-                    protocolImplPromise.setSuccess(configureProtocol(newChannel, protocol));
+                    BetterFixedChannelPool protocolPool = configureProtocol(protocol);
+                    // Give the channel back so it can be acquired again by the protocol pool. The acquires waiting for
+                    // the protocol are only handed the pool once the channel is back, otherwise they could open new
+                    // connections while it is still being released.
+                    delegatePool.release(newChannel).addListener(
+                        (GenericFutureListener<Future<Void>>) released -> doInEventLoop(eventLoop, () -> {
+                            protocolImpl = protocolPool;
+                            protocolImplPromise.setSuccess(protocolPool);
+                        }));
                 } catch (Throwable e) {
                     closeAndRelease(newChannel, e);
                 }
@@ -154,34 +163,33 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         protocolImplPromise.setFailure(e);
     }
 
-    private ChannelPool configureProtocol(Channel newChannel, Protocol protocol) {
+    private BetterFixedChannelPool configureProtocol(Protocol protocol) {
         if (Protocol.HTTP1_1 == protocol) {
             // For HTTP/1.1 we use a traditional channel pool without multiplexing
             SdkChannelPool idleConnectionMetricChannelPool = new IdleConnectionCountingChannelPool(eventLoop, delegatePool);
-            protocolImpl = BetterFixedChannelPool.builder()
-                                                 .channelPool(idleConnectionMetricChannelPool)
-                                                 .executor(eventLoop)
-                                                 .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
-                                                 .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
-                                                 .build();
+            SdkChannelPool reapingChannelPool = new ConnectionReapingChannelPool(eventLoop, idleConnectionMetricChannelPool,
+                                                                                 configuration);
+            return BetterFixedChannelPool.builder()
+                                         .channelPool(reapingChannelPool)
+                                         .executor(eventLoop)
+                                         .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                         .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
+                                         .maxConnections(maxConcurrency)
+                                         .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                         .build();
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
             SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
-            protocolImpl = BetterFixedChannelPool.builder()
-                                                 .channelPool(h2Pool)
-                                                 .executor(eventLoop)
-                                                 .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
-                                                 .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
-                                                 .build();
+            return BetterFixedChannelPool.builder()
+                                         .channelPool(h2Pool)
+                                         .executor(eventLoop)
+                                         .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                         .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
+                                         .maxConnections(maxConcurrency)
+                                         .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                         .build();
         }
-        // Give the channel back so it can be acquired again by protocolImpl
-        delegatePool.release(newChannel);
-        return protocolImpl;
     }
 
     @Override
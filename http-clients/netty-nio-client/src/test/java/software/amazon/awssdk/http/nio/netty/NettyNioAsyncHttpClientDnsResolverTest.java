@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class NettyNioAsyncHttpClientDnsResolverTest {
+    private static final String HOST = "dns-resolver-test.example.com";
+    private static final byte[] LOOPBACK = {127, 0, 0, 1};
+    private static final byte[] OTHER_LOOPBACK = {127, 0, 0, 2};
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().bindAddress("127.0.0.1")
+                                                                      .dynamicPort()
+                                                                      .dynamicHttpsPort());
+
+    private final StandInResolver resolver = new StandInResolver();
+
+    @Before
+    public void setup() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+    }
+
+    @Test
+    public void http_resolvesHostWithResolverAndReportsConnection() throws Exception {
+        SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder().dnsResolver(resolver).build();
+
+        execute(client, "http", mockServer.port()).get(5, TimeUnit.SECONDS);
+        assertThat(resolver.events()).containsExactly("resolve " + HOST, "opened " + HOST + "/127.0.0.1");
+
+        client.close();
+        assertEventuallyClosed();
+    }
+
+    @Test
+    public void https_resolvesHostWithResolverAndReportsConnection() throws Exception {
+        SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder()
+                                                           .dnsResolver(resolver)
+                                                           .buildWithDefaults(AttributeMap.builder()
+                                                                                          .put(SdkHttpConfigurationOption
+                                                                                                   .TRUST_ALL_CERTIFICATES,
+                                                                                               true)
+                                                                                          .build());
+
+        execute(client, "https", mockServer.httpsPort()).get(5, TimeUnit.SECONDS);
+        execute(client, "https", mockServer.httpsPort()).get(5, TimeUnit.SECONDS);
+        assertThat(resolver.events()).containsExactly("resolve " + HOST, "opened " + HOST + "/127.0.0.1");
+
+        client.close();
+        assertEventuallyClosed();
+    }
+
+    @Test
+    public void connectionRefused_reportsFailedConnection() throws Exception {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+
+        try (SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder().dnsResolver(resolver).build()) {
+            assertThatThrownBy(() -> execute(client, "http", closedPort).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+        }
+        assertThat(resolver.events()).containsExactly("resolve " + HOST, "failed " + HOST + "/127.0.0.1");
+    }
+
+    @Test
+    public void firstAddressRefused_failsOverToNextAddress() throws Exception {
+        resolver.addresses(OTHER_LOOPBACK, LOOPBACK);
+
+        try (SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder().dnsResolver(resolver).build()) {
+            execute(client, "http", mockServer.port()).get(5, TimeUnit.SECONDS);
+        }
+        assertThat(resolver.events()).startsWith("resolve " + HOST,
+                                                 "failed " + HOST + "/127.0.0.2",
+                                                 "opened " + HOST + "/127.0.0.1");
+    }
+
+    @Test
+    public void allAddressesRefused_reportsEachFailedConnection() throws Exception {
+        resolver.addresses(OTHER_LOOPBACK, LOOPBACK);
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+
+        try (SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder().dnsResolver(resolver).build()) {
+            assertThatThrownBy(() -> execute(client, "http", closedPort).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+        }
+        assertThat(resolver.events()).containsExactly("resolve " + HOST,
+                                                      "failed " + HOST + "/127.0.0.2",
+                                                      "failed " + HOST + "/127.0.0.1");
+    }
+
+    private void assertEventuallyClosed() throws InterruptedException {
+        for (int i = 0; i < 50 && !resolver.events().contains("closed " + HOST + "/127.0.0.1"); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(resolver.events()).endsWith("closed " + HOST + "/127.0.0.1");
+    }
+
+    private static CompletableFuture<Void> execute(SdkAsyncHttpClient client, String protocol, int port) {
+        URI uri = URI.create(protocol + "://" + HOST + ":" + port);
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(uri)
+                                                       .method(SdkHttpMethod.GET)
+                                                       .encodedPath("/")
+                                                       .putHeader("Host", uri.getHost())
+                                                       .build();
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        return client.execute(AsyncExecuteRequest.builder()
+                                                 .request(request)
+                                                 .requestContentPublisher(new EmptyPublisher())
+                                                 .responseHandler(recorder)
+                                                 .build())
+                     .thenCompose(r -> recorder.completeFuture);
+    }
+
+    private static final class EmptyPublisher implements SdkHttpContentPublisher {
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(0L);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    s.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    private static final class StandInResolver implements SdkDnsResolver {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private volatile byte[][] addresses = {LOOPBACK};
+
+        private void addresses(byte[]... addresses) {
+            this.addresses = addresses;
+        }
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            events.add("resolve " + host);
+            InetAddress[] resolved = new InetAddress[addresses.length];
+            for (int i = 0; i < addresses.length; i++) {
+                resolved[i] = InetAddress.getByAddress(host, addresses[i]);
+            }
+            return resolved;
+        }
+
+        @Override
+        public void connectionFailed(String host, InetAddress address) {
+            events.add("failed " + host + "/" + address.getHostAddress());
+        }
+
+        @Override
+        public void connectionOpened(String host, InetAddress address) {
+            events.add("opened " + host + "/" + address.getHostAddress());
+        }
+
+        @Override
+        public void connectionClosed(String host, InetAddress address) {
+            events.add("closed " + host + "/" + address.getHostAddress());
+        }
+
+        private List<String> events() {
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.netty.handler.ssl.SslProvider;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class NettyNioAsyncHttpClientTlsSessionTest {
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    private final SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder()
+                                                                     .sslProvider(SslProvider.JDK)
+                                                                     .buildWithDefaults(AttributeMap.builder()
+                                                                                                    .put(TRUST_ALL_CERTIFICATES,
+                                                                                                         Boolean.TRUE)
+                                                                                                    .build());
+
+    @After
+    public void teardown() {
+        client.close();
+    }
+
+    @Test
+    public void newConnection_reportsTlsHandshake() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        MetricCollection metrics = execute();
+
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME)).hasSize(1);
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME).get(0)).isGreaterThan(Duration.ZERO);
+        assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(false);
+    }
+
+    @Test
+    public void pooledConnection_doesNotReportTlsHandshake() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        execute();
+
+        MetricCollection metrics = execute();
+
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME)).isEmpty();
+        assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).isEmpty();
+    }
+
+    @Test
+    public void replacedConnection_resumesTlsSession() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withHeader("Connection", "close")));
+        execute();
+
+        MetricCollection metrics = execute();
+
+        assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_TIME)).hasSize(1);
+        assertThat(metrics.metricValues(HttpMetric.TLS_SESSION_RESUMED)).containsExactly(true);
+    }
+
+    private MetricCollection execute() throws Exception {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://localhost:" + mockServer.httpsPort()))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .encodedPath("/")
+                                                       .putHeader("Host", "localhost")
+                                                       .build();
+        MetricCollector collector = MetricCollector.create("ApiCallAttempt");
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(new EmptyPublisher())
+                                          .responseHandler(recorder)
+                                          .metricCollector(collector)
+                                          .build())
+              .thenCompose(r -> recorder.completeFuture)
+              .get(5, TimeUnit.SECONDS);
+        return collector.collect();
+    }
+
+    private static final class EmptyPublisher implements SdkHttpContentPublisher {
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(0L);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    s.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+}
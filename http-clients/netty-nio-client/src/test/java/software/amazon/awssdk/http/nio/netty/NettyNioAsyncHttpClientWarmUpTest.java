@@ -0,0 +1,191 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkDnsResolver;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class NettyNioAsyncHttpClientWarmUpTest {
+    private static final String HOST = "warm-up-test.example.com";
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    private final CountingResolver resolver = new CountingResolver();
+    private SdkAsyncHttpClient client;
+
+    @Before
+    public void setup() {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+    }
+
+    @After
+    public void teardown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    public void warmUp_https_opensConnectionsThatRequestsReuse() throws Exception {
+        client = NettyNioAsyncHttpClient.builder()
+                                        .dnsResolver(resolver)
+                                        .buildWithDefaults(AttributeMap.builder()
+                                                                       .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                       .build());
+        MetricCollector collector = MetricCollector.create("WarmUp");
+
+        client.warmUp(endpoint("https", mockServer.httpsPort()), 4, collector).get(5, TimeUnit.SECONDS);
+
+        assertThat(resolver.openedConnections()).isEqualTo(4);
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("NettyNio");
+        assertThat(metrics.metricValues(HttpMetric.WARMED_UP_CONNECTIONS)).containsExactly(4);
+        assertThat(metrics.metricValues(HttpMetric.CONNECTION_WARM_UP_TIME).get(0)).isGreaterThan(Duration.ZERO);
+
+        execute(client, "https", mockServer.httpsPort()).get(5, TimeUnit.SECONDS);
+        assertThat(resolver.openedConnections()).isEqualTo(4);
+    }
+
+    @Test
+    public void warmUp_moreConnectionsThanMaxConcurrency_opensMaxConcurrency() throws Exception {
+        client = NettyNioAsyncHttpClient.builder().dnsResolver(resolver).maxConcurrency(2).build();
+        MetricCollector collector = MetricCollector.create("WarmUp");
+
+        client.warmUp(endpoint("http", mockServer.port()), 10, collector).get(5, TimeUnit.SECONDS);
+
+        assertThat(resolver.openedConnections()).isEqualTo(2);
+        assertThat(collector.collect().metricValues(HttpMetric.WARMED_UP_CONNECTIONS)).containsExactly(2);
+    }
+
+    @Test
+    public void warmUp_connectionRefused_completesExceptionally() throws Exception {
+        int closedPort;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            closedPort = serverSocket.getLocalPort();
+        }
+        client = NettyNioAsyncHttpClient.builder().dnsResolver(resolver).build();
+
+        assertThatThrownBy(() -> client.warmUp(endpoint("http", closedPort), 2).get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class);
+        assertThat(resolver.failedConnections()).isPositive();
+    }
+
+    private static URI endpoint(String protocol, int port) {
+        return URI.create(protocol + "://" + HOST + ":" + port);
+    }
+
+    private static CompletableFuture<Void> execute(SdkAsyncHttpClient client, String protocol, int port) {
+        URI uri = endpoint(protocol, port);
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(uri)
+                                                       .method(SdkHttpMethod.GET)
+                                                       .encodedPath("/")
+                                                       .putHeader("Host", uri.getHost())
+                                                       .build();
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        return client.execute(AsyncExecuteRequest.builder()
+                                                 .request(request)
+                                                 .requestContentPublisher(new EmptyPublisher())
+                                                 .responseHandler(recorder)
+                                                 .build())
+                     .thenCompose(r -> recorder.completeFuture);
+    }
+
+    private static final class EmptyPublisher implements SdkHttpContentPublisher {
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(0L);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    s.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    private static final class CountingResolver implements SdkDnsResolver {
+        private final AtomicInteger openedConnections = new AtomicInteger();
+        private final AtomicInteger failedConnections = new AtomicInteger();
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            return new InetAddress[] {InetAddress.getByAddress(host, new byte[] {127, 0, 0, 1})};
+        }
+
+        @Override
+        public void connectionFailed(String host, InetAddress address) {
+            failedConnections.incrementAndGet();
+        }
+
+        @Override
+        public void connectionOpened(String host, InetAddress address) {
+            openedConnections.incrementAndGet();
+        }
+
+        private int openedConnections() {
+            return openedConnections.get();
+        }
+
+        private int failedConnections() {
+            return failedConnections.get();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class ConnectionReapingChannelPoolTest {
+    private static final Duration SHORT_DURATION = Duration.ofMillis(100);
+
+    private EventLoopGroup eventLoopGroup;
+    private SdkChannelPool delegatePool;
+
+    @Before
+    public void setup() {
+        delegatePool = mock(SdkChannelPool.class);
+        eventLoopGroup = new NioEventLoopGroup(4);
+        Mockito.when(delegatePool.acquire(any())).thenAnswer(a -> createSuccessfulAcquire());
+        Mockito.when(delegatePool.release(any())).thenAnswer((Answer<Future<Void>>) invocation -> {
+            Channel channel = invocation.getArgumentAt(0, Channel.class);
+            Promise<Void> result = channel.eventLoop().newPromise();
+            return result.setSuccess(null);
+        });
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @After
+    public void teardown() {
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    @Test(timeout = 5_000)
+    public void releasedChannel_isClosedAfterMaxIdleTime() throws InterruptedException {
+        ConnectionReapingChannelPool pool = reapingPool(SHORT_DURATION, null);
+
+        Channel channel = pool.acquire().await().getNow();
+        pool.release(channel).await();
+
+        awaitClosed(channel);
+        assertThat(getReapedConnections(pool)).isEqualTo(1);
+    }
+
+    @Test(timeout = 5_000)
+    public void acquiredChannel_isNotClosedForBeingIdle() throws InterruptedException {
+        ConnectionReapingChannelPool pool = reapingPool(SHORT_DURATION, null);
+
+        Channel channel = pool.acquire().await().getNow();
+
+        Thread.sleep(SHORT_DURATION.toMillis() * 3);
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test(timeout = 5_000)
+    public void reacquiredChannel_isNotClosedForBeingIdleBeforeItWasAcquired() throws InterruptedException {
+        Channel channel = createSuccessfulAcquire().getNow();
+        Mockito.when(delegatePool.acquire(any())).thenAnswer(a -> channel.eventLoop().newPromise().setSuccess(channel));
+        ConnectionReapingChannelPool pool = reapingPool(SHORT_DURATION, null);
+
+        pool.acquire().await();
+        pool.release(channel).await();
+        pool.acquire().await();
+
+        Thread.sleep(SHORT_DURATION.toMillis() * 3);
+        assertThat(channel.isOpen()).isTrue();
+        assertThat(getReapedConnections(pool)).isEqualTo(0);
+    }
+
+    @Test(timeout = 5_000)
+    public void unusedChannel_isClosedAfterTimeToLive() throws InterruptedException {
+        ConnectionReapingChannelPool pool = reapingPool(null, SHORT_DURATION);
+
+        Channel channel = pool.acquire().await().getNow();
+        pool.release(channel).await();
+
+        awaitClosed(channel);
+        assertThat(getReapedConnections(pool)).isEqualTo(1);
+    }
+
+    @Test(timeout = 5_000)
+    public void channelInUse_isClosedOnReleaseAfterTimeToLive() throws InterruptedException {
+        ConnectionReapingChannelPool pool = reapingPool(null, SHORT_DURATION);
+
+        Channel channel = pool.acquire().await().getNow();
+
+        Thread.sleep(SHORT_DURATION.toMillis() * 3);
+        assertThat(channel.isOpen()).isTrue();
+        assertThat(channel.attr(ChannelAttributeKey.CLOSE_ON_RELEASE).get()).isTrue();
+        assertThat(getReapedConnections(pool)).isEqualTo(1);
+    }
+
+    @Test(timeout = 5_000)
+    public void idleChannels_areReapedInBatches() throws InterruptedException {
+        ConnectionReapingChannelPool pool = reapingPool(SHORT_DURATION, null);
+
+        List<Channel> channels = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            channels.add(pool.acquire().await().getNow());
+        }
+        for (Channel channel : channels) {
+            pool.release(channel).await();
+        }
+
+        for (Channel channel : channels) {
+            awaitClosed(channel);
+        }
+        assertThat(getReapedConnections(pool)).isEqualTo(100);
+    }
+
+    @Test(timeout = 5_000)
+    public void closedPool_doesNotReapChannels() throws InterruptedException {
+        ConnectionReapingChannelPool pool = reapingPool(SHORT_DURATION, null);
+
+        Channel channel = pool.acquire().await().getNow();
+        pool.release(channel).await();
+        pool.close();
+
+        Thread.sleep(SHORT_DURATION.toMillis() * 3);
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    private ConnectionReapingChannelPool reapingPool(Duration maxIdleTime, Duration timeToLive) {
+        AttributeMap.Builder configuration = AttributeMap.builder()
+                                                         .put(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS, maxIdleTime != null)
+                                                         .put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT,
+                                                              maxIdleTime != null ? maxIdleTime : Duration.ZERO)
+                                                         .put(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE,
+                                                              timeToLive != null ? timeToLive : Duration.ZERO);
+        return new ConnectionReapingChannelPool(eventLoopGroup.next(), delegatePool, new NettyConfiguration(configuration.build()));
+    }
+
+    private static void awaitClosed(Channel channel) throws InterruptedException {
+        while (channel.isOpen()) {
+            Thread.sleep(10);
+        }
+    }
+
+    private int getReapedConnections(ConnectionReapingChannelPool pool) {
+        MetricCollector metricCollector = MetricCollector.create("test");
+        pool.collectChannelPoolMetrics(metricCollector).join();
+        return metricCollector.collect().metricValues(HttpMetric.REAPED_CONNECTIONS).get(0);
+    }
+
+    private Future<Channel> createSuccessfulAcquire() {
+        try {
+            EventLoop eventLoop = this.eventLoopGroup.next();
+
+            Promise<Channel> channelPromise = eventLoop.newPromise();
+            MockChannel channel = new MockChannel();
+            eventLoop.register(channel);
+            channelPromise.setSuccess(channel);
+
+            return channelPromise;
+        } catch (Exception e) {
+            throw new Error(e);
+        }
+    }
+}
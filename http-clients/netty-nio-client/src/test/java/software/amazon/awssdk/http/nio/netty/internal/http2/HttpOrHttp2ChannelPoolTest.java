@@ -16,10 +16,12 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
@@ -72,6 +74,7 @@ public class HttpOrHttp2ChannelPoolTest {
 
     @Before
     public void methodSetup() {
+        when(mockDelegatePool.release(any(Channel.class))).thenReturn(eventLoopGroup.next().newSucceededFuture(null));
         httpOrHttp2ChannelPool = new HttpOrHttp2ChannelPool(mockDelegatePool,
                                                             eventLoopGroup,
                                                             4,
@@ -79,6 +82,7 @@ public class HttpOrHttp2ChannelPoolTest {
                                                                     .put(CONNECTION_ACQUIRE_TIMEOUT, Duration.ofSeconds(1))
                                                                     .put(MAX_PENDING_CONNECTION_ACQUIRES, 5)
                                                                     .put(REAP_IDLE_CONNECTIONS, false)
+                                                                    .put(CONNECTION_TIME_TO_LIVE, Duration.ZERO)
                                                                     .build()));
     }
 
@@ -95,6 +99,8 @@ public class HttpOrHttp2ChannelPoolTest {
                                                             new NettyConfiguration(AttributeMap.builder()
                                                                                                .put(CONNECTION_ACQUIRE_TIMEOUT, Duration.ofSeconds(1))
                                                                                                .put(MAX_PENDING_CONNECTION_ACQUIRES, 0)
+                                                                                               .put(REAP_IDLE_CONNECTIONS, false)
+                                                                                               .put(CONNECTION_TIME_TO_LIVE, Duration.ZERO)
                                                                                                .build()));
 
         Promise<Channel> acquirePromise = eventLoopGroup.next().newPromise();
@@ -208,6 +214,32 @@ public class HttpOrHttp2ChannelPoolTest {
         }
     }
 
+    @Test(timeout = 5_000)
+    public void protocolConfigComplete_waitsForNegotiationChannelRelease() throws Exception {
+        Promise<Channel> acquirePromise = eventLoopGroup.next().newPromise();
+        when(mockDelegatePool.acquire()).thenReturn(acquirePromise);
+        Channel channel = new MockChannel();
+        Promise<Void> releasePromise = eventLoopGroup.next().newPromise();
+        when(mockDelegatePool.release(channel)).thenReturn(releasePromise);
+        when(mockDelegatePool.acquire(any(Promise.class))).thenAnswer(i -> i.getArgumentAt(0, Promise.class).setSuccess(channel));
+
+        // initiate the configuration
+        Future<Channel> acquire = httpOrHttp2ChannelPool.acquire();
+
+        eventLoopGroup.register(channel);
+        channel.attr(PROTOCOL_FUTURE).set(CompletableFuture.completedFuture(Protocol.HTTP1_1));
+        acquirePromise.setSuccess(channel);
+
+        Thread.sleep(500);
+
+        // the acquire waits until the channel that negotiated the protocol is back in the pool, so that it can reuse it
+        verify(mockDelegatePool).release(channel);
+        assertThat(acquire.isDone()).isFalse();
+
+        releasePromise.setSuccess(null);
+        assertThat(acquire.await().getNow()).isSameAs(channel);
+    }
+
     @Test(timeout = 5_000)
     public void incompleteProtocolFutureDelaysMetricsDelegationAndForwardsFailures() throws InterruptedException {
         Promise<Channel> acquirePromise = eventLoopGroup.next().newPromise();
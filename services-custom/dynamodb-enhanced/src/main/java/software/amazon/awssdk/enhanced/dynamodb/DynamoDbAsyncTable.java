@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.enhanced.dynamodb;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -23,6 +25,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
@@ -597,6 +600,60 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel, dividing it into {@link ParallelScanEnhancedRequest.Builder#totalSegments(Integer)}
+     * segments that are scanned concurrently. The pages of all segments are merged into a single {@link PagePublisher},
+     * in the order in which they are read rather than in the order of the table. At most
+     * {@link ParallelScanEnhancedRequest.Builder#maxConcurrentSegments(Integer)} segments are scanned at the same time,
+     * and a segment only reads its next page once its previous page has been delivered to the subscriber.
+     * <p>
+     * Each page reports the {@link Page#segment()} it was read from. By recording the {@link Page#lastEvaluatedKey()} of
+     * the last page consumed from every segment, a scan that failed part of the way can be resumed with
+     * {@link ParallelScanEnhancedRequest.Builder#exclusiveStartKeys(Map)} and
+     * {@link ParallelScanEnhancedRequest.Builder#completedSegments(Collection)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                     .totalSegments(16)
+     *                                                                                     .maxConcurrentSegments(8)
+     *                                                                                     .build());
+     * publisher.subscribe(page -> export(page.items(), page.segment(), page.lastEvaluatedKey()));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan each of them.
+     * @return a publisher {@link PagePublisher} with the paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table in parallel, dividing it into segments that are scanned concurrently. The pages of all segments
+     * are merged into a single {@link PagePublisher}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(16));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and
+     * how to scan each of them.
+     * @return a publisher {@link PagePublisher} with the paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
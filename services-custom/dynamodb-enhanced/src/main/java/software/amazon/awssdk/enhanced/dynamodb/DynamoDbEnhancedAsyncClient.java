@@ -26,6 +26,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -33,6 +35,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 
 /**
@@ -257,6 +260,74 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Puts and/or deletes an arbitrary number of items in one or more tables by issuing as many BatchWriteItem calls as
+     * needed. The request contains a stream of {@link WriteBatch}es, each of any size, and the enhanced client takes care
+     * of the bookkeeping that a single {@link #batchWriteItem(BatchWriteItemEnhancedRequest)} call leaves to the caller:
+     * <ul>
+     *     <li>The actions of all write batches are regrouped into BatchWriteItem calls of at most 25 actions.</li>
+     *     <li>A bounded number of calls are in flight at the same time, and write batches are only requested from the
+     *     publisher as capacity becomes available.</li>
+     *     <li>Actions returned as unprocessed are resubmitted after a backoff delay, until they succeed or the maximum
+     *     number of attempts is reached.</li>
+     *     <li>DynamoDB rejects a BatchWriteItem call with more than one action for the same item, so when an action
+     *     targets an item that already has an action waiting to be sent, the later action replaces the earlier one. An
+     *     action for an item whose earlier action has already been sent waits until the earlier action has been processed
+     *     or given up on, so actions on the same item are applied in the order they were published.</li>
+     * </ul>
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined
+     * in the {@link BulkWriteItemsEnhancedRequest}.
+     * <p>
+     * <b>Partial updates</b><br>Each delete or put call is atomic, but the operation as a whole is not. Actions that were
+     * still unprocessed after the maximum number of attempts can be retrieved through the result, see
+     * {@link BulkWriteResult}, which also reports the throughput of the bulk write. If a BatchWriteItem call fails, no new
+     * calls are made and the returned future is completed exceptionally; some actions may already have been written.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult bulkResult = enhancedClient.bulkWriteItems(
+     *     BulkWriteItemsEnhancedRequest.builder()
+     *                                  .writeBatches(Arrays.asList(
+     *                                      WriteBatch.builder(FirstItem.class)
+     *                                                .mappedTableResource(firstItemTable)
+     *                                                .addPutItem(item1)
+     *                                                .addPutItem(item2)
+     *                                                .build(),
+     *                                      WriteBatch.builder(SecondItem.class)
+     *                                                .mappedTableResource(secondItemTable)
+     *                                                .addDeleteItem(key3)
+     *                                                .build()))
+     *                                  .maxConcurrentRequests(16)
+     *                                  .build()).join();
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkWriteItemsEnhancedRequest} containing the write batches to write.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing any unprocessed requests.
+     */
+    default CompletableFuture<BulkWriteResult> bulkWriteItems(BulkWriteItemsEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes an arbitrary number of items in one or more tables by issuing as many BatchWriteItem calls as
+     * needed.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkWriteItemsEnhancedRequest#builder()}.
+     *
+     * @see #bulkWriteItems(BulkWriteItemsEnhancedRequest)
+     * @param requestConsumer a {@link Consumer} of {@link BulkWriteItemsEnhancedRequest.Builder} containing the write batches
+     * to write.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing any unprocessed requests.
+     */
+    default CompletableFuture<BulkWriteResult> bulkWriteItems(Consumer<BulkWriteItemsEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of up to 25 get requests, each containing a table reference and a
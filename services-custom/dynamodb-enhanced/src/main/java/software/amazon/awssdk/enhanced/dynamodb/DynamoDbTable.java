@@ -15,6 +15,9 @@
 
 package software.amazon.awssdk.enhanced.dynamodb;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
@@ -23,12 +26,14 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * Synchronous interface for running commands against an object that is linked to a specific DynamoDb table resource
@@ -583,6 +588,64 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel, dividing it into {@link ParallelScanEnhancedRequest.Builder#totalSegments(Integer)}
+     * segments that are scanned concurrently. The pages of all segments are merged into a single {@link PageIterable},
+     * in the order in which they are read rather than in the order of the table. At most
+     * {@link ParallelScanEnhancedRequest.Builder#maxConcurrentSegments(Integer)} segments are scanned at the same time,
+     * and a segment only reads its next page once its previous page has been consumed.
+     * <p>
+     * Segments are scanned on the threads of {@link ParallelScanEnhancedRequest.Builder#executor(Executor)}, or on
+     * dedicated daemon threads if no executor is given. The iterators of the returned iterable are
+     * {@link SdkAutoCloseable}; closing one that is abandoned before it is exhausted stops the scan of its segments.
+     * <p>
+     * Each page reports the {@link Page#segment()} it was read from. By recording the {@link Page#lastEvaluatedKey()} of
+     * the last page consumed from every segment, a scan that failed part of the way can be resumed with
+     * {@link ParallelScanEnhancedRequest.Builder#exclusiveStartKeys(Map)} and
+     * {@link ParallelScanEnhancedRequest.Builder#completedSegments(Collection)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                 .totalSegments(16)
+     *                                                                                 .maxConcurrentSegments(8)
+     *                                                                                 .build());
+     * results.forEach(page -> export(page.items(), page.segment(), page.lastEvaluatedKey()));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan each of them.
+     * @return an iterable {@link PageIterable} with the paginated results of all segments (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table in parallel, dividing it into segments that are scanned concurrently. The pages of all segments
+     * are merged into a single {@link PageIterable}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(16));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and
+     * how to scan each of them.
+     * @return an iterable {@link PageIterable} with the paginated results of all segments (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -168,4 +168,13 @@ public final class EnhancedClientUtils {
     public static boolean isNullAttributeValue(AttributeValue attributeValue) {
         return attributeValue.nul() != null && attributeValue.nul();
     }
+
+    /**
+     * Returns the initial capacity of a {@link java.util.HashMap} that holds the given number of entries without being resized.
+     * @param expectedSize The number of entries the map will hold.
+     * @return The initial capacity to create the map with.
+     */
+    public static int mapCapacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
 }
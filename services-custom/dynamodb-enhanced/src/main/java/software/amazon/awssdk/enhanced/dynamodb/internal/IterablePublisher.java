@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A publisher that emits the elements of an {@link Iterable}. Each subscriber gets a new iterator, which is only advanced
+ * on the provided executor, so that a lazily computed or blocking iterable does not run on the thread that requests
+ * elements, such as a thread completing an SDK response.
+ */
+@SdkInternalApi
+public final class IterablePublisher<T> implements SdkPublisher<T> {
+    private final Iterable<T> iterable;
+    private final Executor executor;
+
+    public IterablePublisher(Iterable<T> iterable, Executor executor) {
+        this.iterable = Validate.paramNotNull(iterable, "iterable");
+        this.executor = Validate.paramNotNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Iterator<T> iterator;
+        try {
+            iterator = iterable.iterator();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(new NoopSubscription());
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterator, executor));
+    }
+
+    private static final class IteratorSubscription<T> implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final Iterator<T> iterator;
+        private final Executor executor;
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * Ensures a single emission task runs at a time. It is also incremented when the subscriber requests more from
+         * within onNext, in which case the running task continues rather than a new one being started.
+         */
+        private final AtomicInteger emitting = new AtomicInteger();
+
+        private volatile boolean done;
+
+        private IteratorSubscription(Subscriber<? super T> subscriber, Iterator<T> iterator, Executor executor) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("Demand must be positive, but was " + n));
+                return;
+            }
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            if (emitting.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this::emit);
+            } catch (RuntimeException e) {
+                done = true;
+                subscriber.onError(e);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void emit() {
+            do {
+                try {
+                    while (!done && demand.get() > 0) {
+                        if (!iterator.hasNext()) {
+                            done = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        demand.decrementAndGet();
+                        subscriber.onNext(iterator.next());
+                    }
+                } catch (RuntimeException e) {
+                    done = true;
+                    subscriber.onError(e);
+                    return;
+                }
+            } while (emitting.decrementAndGet() != 0);
+        }
+    }
+
+    private static final class NoopSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
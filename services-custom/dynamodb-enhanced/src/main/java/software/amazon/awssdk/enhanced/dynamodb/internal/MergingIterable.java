@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * An iterable that merges the elements of several iterables, which are iterated concurrently, in the order in which they
+ * are produced.
+ * <p>
+ * Each iterator runs {@code maxConcurrency} workers on the given executor, or on daemon threads of its own if no executor is
+ * given. Every worker iterates one source at a time, taking the next source when the current one is exhausted. Elements are
+ * handed over through a queue of {@code maxConcurrency} elements, so a worker blocks until the consumer catches up. If a
+ * source throws, the other workers stop and the exception is thrown to the consumer.
+ * <p>
+ * The iterators are {@link SdkAutoCloseable}: closing an iterator before it is exhausted stops its workers, interrupting
+ * them if they run on threads of its own. Workers also stop if the iterator is abandoned without being closed and garbage
+ * collected.
+ */
+@SdkInternalApi
+public final class MergingIterable<T> implements SdkIterable<T> {
+    private static final long OFFER_TIMEOUT_MILLIS = 500;
+
+    private final List<? extends Iterable<? extends T>> sources;
+    private final int maxConcurrency;
+    private final Executor executor;
+
+    public MergingIterable(List<? extends Iterable<? extends T>> sources, int maxConcurrency, Executor executor) {
+        this.sources = sources;
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        int workers = Math.min(maxConcurrency, sources.size());
+
+        ExecutorService ownedExecutor = null;
+        Executor workerExecutor = executor;
+        if (workerExecutor == null && workers > 0) {
+            ownedExecutor = Executors.newFixedThreadPool(workers,
+                                                         new ThreadFactoryBuilder().threadNamePrefix("dynamodb-enhanced-scan")
+                                                                                   .daemonThreads(true)
+                                                                                   .build());
+            workerExecutor = ownedExecutor;
+        }
+
+        MergingIterator<T> iterator = new MergingIterator<>(workers, ownedExecutor);
+        Worker<T> worker = new Worker<>(sources, iterator.queue, new WeakReference<>(iterator));
+        for (int i = 0; i < workers; i++) {
+            workerExecutor.execute(worker);
+        }
+
+        if (ownedExecutor != null) {
+            // Let the threads exit once the workers are done.
+            ownedExecutor.shutdown();
+        }
+
+        return iterator;
+    }
+
+    /**
+     * The work done by each worker thread of an iteration. All workers share the index of the next source to iterate.
+     */
+    private static final class Worker<T> implements Runnable {
+        private final List<? extends Iterable<? extends T>> sources;
+        private final BlockingQueue<Object> queue;
+        private final WeakReference<MergingIterator<T>> consumer;
+        private final AtomicInteger nextSource = new AtomicInteger();
+
+        private Worker(List<? extends Iterable<? extends T>> sources,
+                       BlockingQueue<Object> queue,
+                       WeakReference<MergingIterator<T>> consumer) {
+            this.sources = sources;
+            this.queue = queue;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void run() {
+            try {
+                int source;
+                while (!consumerStopped() && (source = nextSource.getAndIncrement()) < sources.size()) {
+                    for (T element : sources.get(source)) {
+                        if (!hand(element)) {
+                            return;
+                        }
+                    }
+                }
+                hand(Signal.WORKER_DONE);
+            } catch (RuntimeException | Error e) {
+                nextSource.set(sources.size());
+                hand(new Failure(e));
+            }
+        }
+
+        /**
+         * Hand an element over to the consumer, waiting for space in the queue. Returns false if the consumer is gone,
+         * closed or has failed and the worker should stop.
+         */
+        private boolean hand(Object element) {
+            try {
+                do {
+                    if (consumerStopped()) {
+                        return false;
+                    }
+                } while (!queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private boolean consumerStopped() {
+            MergingIterator<T> iterator = consumer.get();
+            return iterator == null || iterator.stopped;
+        }
+    }
+
+    private static final class MergingIterator<T> implements Iterator<T>, SdkAutoCloseable {
+        private final BlockingQueue<Object> queue;
+        private final ExecutorService ownedExecutor;
+        private int runningWorkers;
+        private Object next;
+        private volatile boolean stopped;
+
+        private MergingIterator(int workers, ExecutorService ownedExecutor) {
+            this.queue = new ArrayBlockingQueue<>(Math.max(workers, 1));
+            this.ownedExecutor = ownedExecutor;
+            this.runningWorkers = workers;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && runningWorkers > 0) {
+                Object element;
+                try {
+                    element = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw AbortedException.builder().message("Parallel iteration was interrupted.").cause(e).build();
+                }
+
+                if (element == Signal.WORKER_DONE) {
+                    runningWorkers--;
+                } else if (element instanceof Failure) {
+                    stopped = true;
+                    runningWorkers = 0;
+                    Throwable cause = ((Failure) element).cause;
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new IllegalStateException(cause);
+                } else {
+                    next = element;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = (T) next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * Stop the workers and release the elements they have handed over but that have not been consumed.
+         */
+        @Override
+        public void close() {
+            stopped = true;
+            runningWorkers = 0;
+            next = null;
+            queue.clear();
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private enum Signal {
+        WORKER_DONE
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
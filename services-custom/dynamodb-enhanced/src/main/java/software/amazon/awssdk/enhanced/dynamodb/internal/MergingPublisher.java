@@ -0,0 +1,292 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+/**
+ * A publisher that merges the elements of several publishers, in the order in which they arrive.
+ * <p>
+ * At most {@code maxConcurrency} of the sources are subscribed to at the same time; the next source is subscribed to when
+ * one completes. Each subscribed source is asked for a single element at a time, and only asked for the next one once its
+ * previous element has been delivered downstream, so at most {@code maxConcurrency} elements are buffered. If any source
+ * fails, the other sources are cancelled and the error is delivered downstream.
+ */
+@SdkInternalApi
+public final class MergingPublisher<T> implements SdkPublisher<T> {
+    private final List<? extends Publisher<? extends T>> sources;
+    private final int maxConcurrency;
+
+    public MergingPublisher(List<? extends Publisher<? extends T>> sources, int maxConcurrency) {
+        this.sources = sources;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new MergeSubscription<>(subscriber, sources, maxConcurrency));
+    }
+
+    private static final class MergeSubscription<T> implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final List<? extends Publisher<? extends T>> sources;
+        private final int maxConcurrency;
+
+        private final Object lock = new Object();
+        private final Queue<Element<T>> ready = new ArrayDeque<>();
+        private final Set<SourceSubscriber<T>> activeSources = new HashSet<>();
+
+        private long demand;
+        private int nextSource;
+        private boolean started;
+        private boolean emitting;
+        private boolean missed;
+        private boolean terminated;
+        private Throwable error;
+
+        private MergeSubscription(Subscriber<? super T> subscriber,
+                                  List<? extends Publisher<? extends T>> sources,
+                                  int maxConcurrency) {
+            this.subscriber = subscriber;
+            this.sources = sources;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void request(long n) {
+            boolean start = false;
+            synchronized (lock) {
+                if (terminated) {
+                    return;
+                }
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Demand must be positive, but was " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    start = !started;
+                    started = true;
+                }
+            }
+
+            if (start) {
+                subscribeToSources(null);
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            List<SourceSubscriber<T>> toCancel;
+            synchronized (lock) {
+                terminated = true;
+                ready.clear();
+                toCancel = new ArrayList<>(activeSources);
+                activeSources.clear();
+            }
+            toCancel.forEach(SourceSubscriber::cancel);
+        }
+
+        /**
+         * Subscribe to as many of the remaining sources as the concurrency limit allows, after removing the given
+         * completed source from the active ones.
+         */
+        private void subscribeToSources(SourceSubscriber<T> completedSource) {
+            List<SourceSubscriber<T>> toSubscribe = new ArrayList<>();
+            List<Publisher<? extends T>> publishers = new ArrayList<>();
+            synchronized (lock) {
+                if (completedSource != null) {
+                    activeSources.remove(completedSource);
+                }
+                while (!terminated && activeSources.size() < maxConcurrency && nextSource < sources.size()) {
+                    SourceSubscriber<T> source = new SourceSubscriber<>(this);
+                    activeSources.add(source);
+                    toSubscribe.add(source);
+                    publishers.add(sources.get(nextSource++));
+                }
+            }
+
+            for (int i = 0; i < toSubscribe.size(); i++) {
+                publishers.get(i).subscribe(toSubscribe.get(i));
+            }
+
+            drain();
+        }
+
+        private void onSourceNext(SourceSubscriber<T> source, T element) {
+            synchronized (lock) {
+                if (terminated) {
+                    return;
+                }
+                ready.add(new Element<>(source, element));
+            }
+            drain();
+        }
+
+        private void onSourceError(Throwable t) {
+            synchronized (lock) {
+                if (terminated || error != null) {
+                    return;
+                }
+                error = t;
+            }
+            drain();
+        }
+
+        /**
+         * Deliver buffered elements while there is demand, and complete or fail the subscription once all sources are done
+         * or one of them failed. Only one thread delivers at a time; a thread that finds another one delivering leaves it
+         * to that thread to pick up the new state.
+         */
+        private void drain() {
+            synchronized (lock) {
+                if (emitting) {
+                    missed = true;
+                    return;
+                }
+                emitting = true;
+            }
+
+            while (true) {
+                Element<T> element = null;
+                Throwable failure = null;
+                boolean complete = false;
+                List<SourceSubscriber<T>> toCancel = null;
+
+                synchronized (lock) {
+                    if (terminated) {
+                        emitting = false;
+                        return;
+                    }
+
+                    if (error != null) {
+                        terminated = true;
+                        failure = error;
+                        ready.clear();
+                        toCancel = new ArrayList<>(activeSources);
+                        activeSources.clear();
+                    } else if (demand > 0 && !ready.isEmpty()) {
+                        element = ready.poll();
+                        demand--;
+                    } else if (ready.isEmpty() && activeSources.isEmpty() && nextSource == sources.size() && started) {
+                        terminated = true;
+                        complete = true;
+                    } else if (missed) {
+                        missed = false;
+                        continue;
+                    } else {
+                        emitting = false;
+                        return;
+                    }
+                }
+
+                if (failure != null) {
+                    toCancel.forEach(SourceSubscriber::cancel);
+                    subscriber.onError(failure);
+                    return;
+                }
+
+                if (complete) {
+                    subscriber.onComplete();
+                    return;
+                }
+
+                subscriber.onNext(element.value);
+                element.source.requestNext();
+            }
+        }
+    }
+
+    private static final class SourceSubscriber<T> implements Subscriber<T> {
+        private final MergeSubscription<T> parent;
+        private Subscription subscription;
+        private boolean cancelled;
+
+        private SourceSubscriber(MergeSubscription<T> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            boolean cancel;
+            synchronized (this) {
+                cancel = cancelled || subscription != null;
+                if (subscription == null) {
+                    subscription = s;
+                }
+            }
+            if (cancel) {
+                s.cancel();
+            } else {
+                s.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            parent.onSourceNext(this, t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.onSourceError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.subscribeToSources(this);
+        }
+
+        private void requestNext() {
+            Subscription s;
+            synchronized (this) {
+                s = subscription;
+            }
+            s.request(1);
+        }
+
+        private void cancel() {
+            Subscription s;
+            synchronized (this) {
+                cancelled = true;
+                s = subscription;
+            }
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+
+    private static final class Element<T> {
+        private final SourceSubscriber<T> source;
+        private final T value;
+
+        private Element(SourceSubscriber<T> source, T value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+}
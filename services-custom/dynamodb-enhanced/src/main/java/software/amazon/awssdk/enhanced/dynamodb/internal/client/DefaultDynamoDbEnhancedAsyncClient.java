@@ -27,12 +27,15 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BulkWriteItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactWriteItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -86,6 +89,21 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public CompletableFuture<BulkWriteResult> bulkWriteItems(BulkWriteItemsEnhancedRequest request) {
+        BulkWriteItemsOperation operation = BulkWriteItemsOperation.create(request);
+        return operation.executeAsync(dynamoDbClient);
+    }
+
+    @Override
+    public CompletableFuture<BulkWriteResult> bulkWriteItems(
+        Consumer<BulkWriteItemsEnhancedRequest.Builder> requestConsumer) {
+
+        BulkWriteItemsEnhancedRequest.Builder builder = BulkWriteItemsEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkWriteItems(builder.build());
+    }
+
     @Override
     public CompletableFuture<List<Document>> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 
 /**
  * A cache that can store lazily initialized MetaTableSchema objects used by the TableSchema creation classes to
@@ -38,6 +39,19 @@ public class MetaTableSchemaCache {
         return Optional.ofNullable((MetaTableSchema<T>) cacheMap().get(mappedClass));
     }
 
+    /**
+     * Returns the concrete {@link TableSchema} of every class in this cache that has been initialized.
+     */
+    public Map<Class<?>, TableSchema<?>> initializedTableSchemas() {
+        Map<Class<?>, TableSchema<?>> tableSchemas = new HashMap<>();
+        cacheMap().forEach((mappedClass, metaTableSchema) -> {
+            if (metaTableSchema.isInitialized()) {
+                tableSchemas.put(mappedClass, metaTableSchema.concreteTableSchema());
+            }
+        });
+        return tableSchemas;
+    }
+
     private Map<Class<?>, MetaTableSchema<?>> cacheMap() {
         return this.cacheMap;
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * A JVM-wide cache of the fully built {@link TableSchema} of annotated classes, so that the schema of a class, and of the
+ * classes nested in it, is only introspected once. It is safe to use from multiple threads.
+ * <p>
+ * The converters of an annotated class are declared by its annotations, so the class alone identifies its schema. Schemas
+ * are attached to their class with a {@link ClassValue}, which does not stop the class loader of the class from being
+ * unloaded.
+ */
+@SdkInternalApi
+@SuppressWarnings("unchecked")
+public final class SharedTableSchemaCache {
+    private static final ClassValue<AtomicReference<TableSchema<?>>> CACHE =
+        new ClassValue<AtomicReference<TableSchema<?>>>() {
+            @Override
+            protected AtomicReference<TableSchema<?>> computeValue(Class<?> type) {
+                return new AtomicReference<>();
+            }
+        };
+
+    private SharedTableSchemaCache() {
+    }
+
+    /**
+     * Returns the cached schema of the given class, if there is one of the given type.
+     */
+    public static <T, S extends TableSchema<T>> Optional<S> get(Class<T> mappedClass, Class<?> tableSchemaType) {
+        TableSchema<?> tableSchema = CACHE.get(mappedClass).get();
+        return tableSchemaType.isInstance(tableSchema) ? Optional.of((S) tableSchema) : Optional.empty();
+    }
+
+    /**
+     * Caches every schema built with the given {@link MetaTableSchemaCache}. This must only be called once all of them
+     * have been initialized, so that a schema is never shared while it still references one that is being built. A class
+     * keeps the schema that was cached first when several threads build it at the same time.
+     */
+    public static void putAll(MetaTableSchemaCache metaTableSchemaCache) {
+        metaTableSchemaCache.initializedTableSchemas()
+                            .forEach((mappedClass, tableSchema) -> CACHE.get(mappedClass).compareAndSet(null, tableSchema));
+    }
+}
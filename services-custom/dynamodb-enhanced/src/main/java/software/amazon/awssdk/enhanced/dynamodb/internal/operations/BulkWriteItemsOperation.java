@@ -0,0 +1,358 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.ConcurrentWorkSubscriber;
+
+/**
+ * Writes a stream of {@link WriteBatch}es as a sequence of batchWriteItem calls.
+ * <p>
+ * Unlike {@link BatchWriteItemOperation}, which sends exactly one call, this operation regroups the actions of all batches
+ * into calls of at most {@value #MAX_ITEMS_PER_REQUEST} actions, keeps up to {@code maxConcurrentRequests} calls in
+ * flight, and resubmits unprocessed actions after a backoff delay.
+ */
+@SdkInternalApi
+public final class BulkWriteItemsOperation {
+    private static final Logger log = Logger.loggerFor(BulkWriteItemsOperation.class);
+
+    /**
+     * The maximum number of actions DynamoDB accepts in a single batchWriteItem call.
+     */
+    private static final int MAX_ITEMS_PER_REQUEST = 25;
+
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+
+    private final BulkWriteItemsEnhancedRequest request;
+    private final int maxConcurrentRequests;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+
+    private BulkWriteItemsOperation(BulkWriteItemsEnhancedRequest request) {
+        this.request = request;
+        Validate.paramNotNull(request.writeBatches(), "writeBatches");
+        this.maxConcurrentRequests = Validate.isPositive(request.maxConcurrentRequests() == null
+                                                         ? DEFAULT_MAX_CONCURRENT_REQUESTS
+                                                         : request.maxConcurrentRequests(),
+                                                         "maxConcurrentRequests");
+        this.maxAttempts = Validate.isPositive(request.maxAttempts() == null ? DEFAULT_MAX_ATTEMPTS : request.maxAttempts(),
+                                               "maxAttempts");
+        this.backoffStrategy = request.backoffStrategy() == null ? BackoffStrategy.defaultThrottlingStrategy()
+                                                                 : request.backoffStrategy();
+    }
+
+    public static BulkWriteItemsOperation create(BulkWriteItemsEnhancedRequest request) {
+        return new BulkWriteItemsOperation(request);
+    }
+
+    public CompletableFuture<BulkWriteResult> executeAsync(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        CompletableFuture<BulkWriteResult> result = new CompletableFuture<>();
+        BulkWriteSubscriber subscriber = new BulkWriteSubscriber(dynamoDbAsyncClient, result);
+
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                subscriber.fail(t);
+            }
+        });
+
+        request.writeBatches().subscribe(subscriber);
+        return result;
+    }
+
+    /**
+     * Buffers the actions of incoming write batches and sends them as batchWriteItem calls.
+     * <p>
+     * Demand is only signalled upstream while fewer than {@code 25 * maxConcurrentRequests} actions are waiting to be sent,
+     * so the number of actions held in memory is bounded regardless of how fast write batches can be produced. A call that
+     * returns unprocessed actions keeps its concurrency slot while it backs off, which slows the bulk write down when
+     * DynamoDB is throttling it.
+     * <p>
+     * DynamoDB rejects a call with more than one action for the same item, so an action for an item that already has an
+     * action waiting to be sent replaces that action. An action for an item whose earlier action has been sent is held back
+     * until the earlier action has been processed or given up on, including while it backs off to be resubmitted, so that
+     * a resubmitted action never overwrites a later one.
+     */
+    private final class BulkWriteSubscriber extends ConcurrentWorkSubscriber<WriteBatch, List<PendingWrite>> {
+        private final DynamoDbAsyncClient dynamoDbAsyncClient;
+        private final CompletableFuture<BulkWriteResult> future;
+        private final long startNanos = System.nanoTime();
+
+        private final Queue<PendingWrite> pendingWrites = new ArrayDeque<>();
+        private final Map<List<Object>, PendingWrite> pendingWritesByItem = new HashMap<>();
+        private final Set<List<Object>> inFlightItems = ConcurrentHashMap.newKeySet();
+        private final Map<String, List<WriteRequest>> unprocessedRequests = new LinkedHashMap<>();
+
+        private final AtomicLong writtenItemCount = new AtomicLong();
+        private final AtomicLong retriedItemCount = new AtomicLong();
+        private final AtomicLong requestCount = new AtomicLong();
+
+        private BulkWriteSubscriber(DynamoDbAsyncClient dynamoDbAsyncClient, CompletableFuture<BulkWriteResult> future) {
+            super(maxConcurrentRequests);
+            this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+            this.future = future;
+        }
+
+        @Override
+        protected void bufferLocked(WriteBatch writeBatch) {
+            Collection<String> primaryKeys = writeBatch.primaryKeys();
+            for (WriteRequest writeRequest : writeBatch.writeRequests()) {
+                List<Object> item = itemOf(writeBatch.tableName(), primaryKeys, writeRequest);
+                PendingWrite pendingWrite = item == null ? null : pendingWritesByItem.get(item);
+                if (pendingWrite != null) {
+                    pendingWrite.writeRequest = writeRequest;
+                } else {
+                    pendingWrite = new PendingWrite(writeBatch.tableName(), writeRequest, item);
+                    pendingWrites.add(pendingWrite);
+                    if (item != null) {
+                        pendingWritesByItem.put(item, pendingWrite);
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected List<PendingWrite> pollWorkLocked() {
+            if (pendingWrites.size() < MAX_ITEMS_PER_REQUEST && (!isUpstreamDoneLocked() || pendingWrites.isEmpty())) {
+                return null;
+            }
+
+            List<PendingWrite> writes = new ArrayList<>(MAX_ITEMS_PER_REQUEST);
+            Iterator<PendingWrite> iterator = pendingWrites.iterator();
+            while (writes.size() < MAX_ITEMS_PER_REQUEST && iterator.hasNext()) {
+                PendingWrite write = iterator.next();
+                if (write.item != null) {
+                    if (!inFlightItems.add(write.item)) {
+                        continue;
+                    }
+                    pendingWritesByItem.remove(write.item);
+                }
+                iterator.remove();
+                writes.add(write);
+            }
+            return writes.isEmpty() ? null : writes;
+        }
+
+        @Override
+        protected boolean hasBufferedWorkLocked() {
+            return !pendingWrites.isEmpty();
+        }
+
+        @Override
+        protected boolean canBufferMoreLocked() {
+            return pendingWrites.size() < MAX_ITEMS_PER_REQUEST * maxConcurrentRequests;
+        }
+
+        @Override
+        protected void discardBufferLocked() {
+            pendingWrites.clear();
+            pendingWritesByItem.clear();
+        }
+
+        @Override
+        protected void startWork(List<PendingWrite> writes) {
+            send(writes, 1);
+        }
+
+        @Override
+        protected void onAllWorkDone() {
+            BulkWriteResult result;
+            synchronized (unprocessedRequests) {
+                result = BulkWriteResult.builder()
+                                        .unprocessedRequests(unprocessedRequests)
+                                        .writtenItemCount(writtenItemCount.get())
+                                        .retriedItemCount(retriedItemCount.get())
+                                        .requestCount(requestCount.get())
+                                        .duration(Duration.ofNanos(System.nanoTime() - startNanos))
+                                        .build();
+            }
+            future.complete(result);
+        }
+
+        @Override
+        protected void onFailure(Throwable cause) {
+            future.completeExceptionally(cause);
+        }
+
+        private void send(List<PendingWrite> writes, int attempt) {
+            Map<String, List<WriteRequest>> requestItems = new LinkedHashMap<>();
+            writes.forEach(w -> requestItems.computeIfAbsent(w.tableName, ignored -> new ArrayList<>()).add(w.writeRequest));
+
+            if (isTerminated()) {
+                return;
+            }
+            requestCount.incrementAndGet();
+
+            CompletableFuture<BatchWriteItemResponse> response;
+            try {
+                response = dynamoDbAsyncClient.batchWriteItem(BatchWriteItemRequest.builder()
+                                                                                   .requestItems(requestItems)
+                                                                                   .build());
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+
+            response.whenComplete((r, error) -> {
+                if (error != null) {
+                    fail(error);
+                } else {
+                    onResponse(writes, r.unprocessedItems(), attempt);
+                }
+            });
+        }
+
+        private void onResponse(List<PendingWrite> writes, Map<String, List<WriteRequest>> unprocessedItems, int attempt) {
+            Set<List<Object>> unprocessedActions = new HashSet<>();
+            unprocessedItems.forEach((tableName, writeRequests) -> writeRequests.forEach(
+                writeRequest -> unprocessedActions.add(Arrays.asList(tableName, writeRequest))));
+
+            List<PendingWrite> unprocessed = new ArrayList<>();
+            for (PendingWrite write : writes) {
+                if (unprocessedActions.contains(Arrays.asList(write.tableName, write.writeRequest))) {
+                    unprocessed.add(write);
+                } else {
+                    release(write);
+                }
+            }
+
+            writtenItemCount.addAndGet(writes.size() - unprocessed.size());
+
+            if (unprocessed.isEmpty() || attempt >= maxAttempts) {
+                synchronized (unprocessedRequests) {
+                    unprocessed.forEach(w -> unprocessedRequests.computeIfAbsent(w.tableName, ignored -> new ArrayList<>())
+                                                                .add(w.writeRequest));
+                }
+                unprocessed.forEach(this::release);
+                workDone();
+                return;
+            }
+
+            retriedItemCount.addAndGet(unprocessed.size());
+            Duration delay = backoffStrategy.computeDelayBeforeNextRetry(RetryPolicyContext.builder()
+                                                                                           .retriesAttempted(attempt - 1)
+                                                                                           .build());
+            log.debug(() -> "Resubmitting " + unprocessed.size() + " unprocessed items after " + delay.toMillis() + " ms.");
+            try {
+                scheduler().schedule(() -> send(unprocessed, attempt + 1), delay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Allows the next action for the item of a write that will not be resubmitted to be sent. A held back action is
+         * picked up the next time work is polled, at the latest when the call that sent this write reports it is done.
+         */
+        private void release(PendingWrite write) {
+            if (write.item != null) {
+                inFlightItems.remove(write.item);
+            }
+        }
+
+        private ScheduledExecutorService scheduler() {
+            return request.scheduledExecutorService() != null ? request.scheduledExecutorService() : SharedScheduler.INSTANCE;
+        }
+    }
+
+    /**
+     * Identifies the item an action applies to by its table and primary key, or returns null if the primary key of the
+     * item is not known.
+     */
+    private static List<Object> itemOf(String tableName, Collection<String> primaryKeys, WriteRequest writeRequest) {
+        Map<String, AttributeValue> key;
+        if (writeRequest.deleteRequest() != null) {
+            key = writeRequest.deleteRequest().key();
+        } else if (writeRequest.putRequest() != null && !primaryKeys.isEmpty()) {
+            Map<String, AttributeValue> item = writeRequest.putRequest().item();
+            key = new HashMap<>();
+            for (String primaryKey : primaryKeys) {
+                AttributeValue value = item.get(primaryKey);
+                if (value == null) {
+                    return null;
+                }
+                key.put(primaryKey, value);
+            }
+        } else {
+            return null;
+        }
+        return Arrays.asList(tableName, key);
+    }
+
+    private static final class PendingWrite {
+        private final String tableName;
+        private final List<Object> item;
+        private WriteRequest writeRequest;
+
+        private PendingWrite(String tableName, WriteRequest writeRequest, List<Object> item) {
+            this.tableName = tableName;
+            this.writeRequest = writeRequest;
+            this.item = item;
+        }
+    }
+
+    /**
+     * The scheduler used to resubmit unprocessed actions when the request does not provide one. It is shared by all bulk
+     * writes, and its thread is only kept alive while actions are waiting to be resubmitted.
+     */
+    private static final class SharedScheduler {
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("dynamodb-enhanced-bulk-write")
+                                                                             .daemonThreads(true)
+                                                                             .build());
+            executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+            executor.allowCoreThreadTimeOut(true);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
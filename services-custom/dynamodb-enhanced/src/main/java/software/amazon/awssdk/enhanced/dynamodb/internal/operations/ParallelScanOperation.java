@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.MergingIterable;
+import software.amazon.awssdk.enhanced.dynamodb.internal.MergingPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.internal.TransformIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Scans the segments of a table concurrently, each one with a {@link ScanOperation}, and merges their pages into a single
+ * stream. Every page is tagged with the segment it was read from.
+ */
+@SdkInternalApi
+public class ParallelScanOperation<T> {
+    /**
+     * The maximum number of segments supported by DynamoDB.
+     */
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+    private static final int DEFAULT_MAX_CONCURRENT_SEGMENTS = 4;
+
+    private final ParallelScanEnhancedRequest request;
+    private final int maxConcurrentSegments;
+
+    private ParallelScanOperation(ParallelScanEnhancedRequest request) {
+        this.request = request;
+
+        Integer totalSegments = Validate.paramNotNull(request.totalSegments(), "totalSegments");
+        Validate.isTrue(totalSegments > 0 && totalSegments <= MAX_TOTAL_SEGMENTS,
+                        "totalSegments must be between 1 and %s, but was %s.", MAX_TOTAL_SEGMENTS, totalSegments);
+
+        ScanEnhancedRequest scanRequest = request.scanRequest();
+        if (scanRequest != null) {
+            Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                            "The scan request of a parallel scan must not define an exclusive start key; use "
+                            + "exclusiveStartKeys to resume the scan of individual segments.");
+            Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                            "The scan request of a parallel scan must not define a segment.");
+        }
+
+        validateSegments(request.exclusiveStartKeys() != null ? request.exclusiveStartKeys().keySet() : null,
+                         totalSegments, "exclusiveStartKeys");
+        validateSegments(request.completedSegments(), totalSegments, "completedSegments");
+
+        this.maxConcurrentSegments =
+            Validate.isPositive(request.maxConcurrentSegments() != null ? request.maxConcurrentSegments()
+                                                                        : Math.min(DEFAULT_MAX_CONCURRENT_SEGMENTS,
+                                                                                   totalSegments),
+                                "maxConcurrentSegments");
+    }
+
+    public static <T> ParallelScanOperation<T> create(ParallelScanEnhancedRequest request) {
+        return new ParallelScanOperation<>(request);
+    }
+
+    public PageIterable<T> executeOnPrimaryIndex(TableSchema<T> tableSchema,
+                                                 String tableName,
+                                                 DynamoDbEnhancedClientExtension extension,
+                                                 DynamoDbClient dynamoDbClient) {
+        List<SdkIterable<Page<T>>> segments = segmentSources((segment, segmentRequest) -> {
+            SdkIterable<Page<T>> pages = ScanOperation.<T>create(segmentRequest)
+                                                      .executeOnPrimaryIndex(tableSchema, tableName, extension,
+                                                                             dynamoDbClient);
+            return TransformIterable.of(pages, page -> tagWithSegment(page, segment));
+        });
+
+        return PageIterable.create(new MergingIterable<>(segments, maxConcurrentSegments, request.executor()));
+    }
+
+    public PagePublisher<T> executeOnPrimaryIndexAsync(TableSchema<T> tableSchema,
+                                                       String tableName,
+                                                       DynamoDbEnhancedClientExtension extension,
+                                                       DynamoDbAsyncClient dynamoDbAsyncClient) {
+        List<SdkPublisher<Page<T>>> segments = segmentSources((segment, segmentRequest) -> {
+            SdkPublisher<Page<T>> pages = ScanOperation.<T>create(segmentRequest)
+                                                       .executeOnPrimaryIndexAsync(tableSchema, tableName, extension,
+                                                                                   dynamoDbAsyncClient);
+            return pages.map(page -> tagWithSegment(page, segment));
+        });
+
+        return PagePublisher.create(new MergingPublisher<>(segments, maxConcurrentSegments));
+    }
+
+    /**
+     * Returns the source of each segment that has not been completed yet, ordered by segment. The scan request and the
+     * source of a segment are only created when the segment is about to be scanned, so a scan of many segments doesn't hold
+     * one request per segment.
+     */
+    <S> List<S> segmentSources(BiFunction<Integer, ScanEnhancedRequest, S> scanSegment) {
+        int[] completedSegments = request.completedSegments() != null
+                                  ? request.completedSegments().stream().mapToInt(Integer::intValue).sorted().toArray()
+                                  : new int[0];
+        int pendingSegments = request.totalSegments() - completedSegments.length;
+
+        return new AbstractList<S>() {
+            @Override
+            public S get(int index) {
+                if (index < 0 || index >= pendingSegments) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + pendingSegments);
+                }
+                int segment = index;
+                for (int completedSegment : completedSegments) {
+                    if (completedSegment > segment) {
+                        break;
+                    }
+                    segment++;
+                }
+                return scanSegment.apply(segment, segmentRequest(segment));
+            }
+
+            @Override
+            public int size() {
+                return pendingSegments;
+            }
+        };
+    }
+
+    /**
+     * Returns the scan request of the given segment.
+     */
+    ScanEnhancedRequest segmentRequest(int segment) {
+        ScanEnhancedRequest scanRequest = request.scanRequest() != null ? request.scanRequest()
+                                                                        : ScanEnhancedRequest.builder().build();
+        Map<String, AttributeValue> exclusiveStartKey =
+            request.exclusiveStartKeys() != null ? request.exclusiveStartKeys().get(segment) : null;
+
+        return scanRequest.toBuilder()
+                          .segment(segment)
+                          .totalSegments(request.totalSegments())
+                          .exclusiveStartKey(exclusiveStartKey)
+                          .build();
+    }
+
+    private static <T> Page<T> tagWithSegment(Page<T> page, int segment) {
+        return Page.create(page.items(), page.lastEvaluatedKey(), segment);
+    }
+
+    private static void validateSegments(Set<Integer> segments, int totalSegments, String paramName) {
+        if (segments == null) {
+            return;
+        }
+        segments.forEach(segment -> Validate.isTrue(segment != null && segment >= 0 && segment < totalSegments,
+                                                    "%s contains segment %s, but segments must be between 0 and %s.",
+                                                    paramName, segment, totalSegments - 1));
+    }
+}
@@ -86,6 +86,8 @@ public class ScanOperation<T> implements PaginatedTableOperation<T, ScanRequest,
             .limit(this.request.limit())
             .exclusiveStartKey(this.request.exclusiveStartKey())
             .consistentRead(this.request.consistentRead())
+            .segment(this.request.segment())
+            .totalSegments(this.request.totalSegments())
             .expressionAttributeValues(expressionValues)
             .expressionAttributeNames(expressionNames)
             .projectionExpression(projectionExpression);
@@ -16,16 +16,17 @@
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
 import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.mapCapacity;
 import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.readAndTransformSingleItem;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
@@ -50,11 +51,9 @@ public class UpdateItemOperation<T>
     implements TableOperation<T, UpdateItemRequest, UpdateItemResponse, T>,
                TransactableWriteOperation<T> {
 
-    private static final Function<String, String> EXPRESSION_VALUE_KEY_MAPPER =
-        key -> ":AMZN_MAPPED_" + EnhancedClientUtils.cleanAttributeName(key);
+    private static final String EXPRESSION_VALUE_KEY_PREFIX = ":AMZN_MAPPED_";
 
-    private static final Function<String, String> EXPRESSION_KEY_MAPPER =
-        key -> "#AMZN_MAPPED_" + EnhancedClientUtils.cleanAttributeName(key);
+    private static final String EXPRESSION_KEY_PREFIX = "#AMZN_MAPPED_";
 
     private final UpdateItemEnhancedRequest<T> request;
 
@@ -91,19 +90,23 @@ public class UpdateItemOperation<T>
 
         Collection<String> primaryKeys = tableSchema.tableMetadata().primaryKeys();
 
-        Map<String, AttributeValue> keyAttributeValues = itemMap.entrySet().stream()
-            .filter(entry -> primaryKeys.contains(entry.getKey()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        // Split the item into its key and the attributes to update in a single pass
+        Map<String, AttributeValue> keyAttributeValues = new HashMap<>(mapCapacity(primaryKeys.size()));
+        Map<String, AttributeValue> filteredAttributeValues = new LinkedHashMap<>(mapCapacity(itemMap.size()));
+
+        for (Map.Entry<String, AttributeValue> entry : itemMap.entrySet()) {
+            if (primaryKeys.contains(entry.getKey())) {
+                keyAttributeValues.put(entry.getKey(), entry.getValue());
+            } else {
+                filteredAttributeValues.put(entry.getKey(), entry.getValue());
+            }
+        }
 
         UpdateItemRequest.Builder requestBuilder = UpdateItemRequest.builder()
             .tableName(operationContext.tableName())
             .key(keyAttributeValues)
             .returnValues(ReturnValue.ALL_NEW);
 
-        Map<String, AttributeValue> filteredAttributeValues = itemMap.entrySet().stream()
-            .filter(entry -> !primaryKeys.contains(entry.getKey()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
         requestBuilder = addExpressionsIfExist(transformation, filteredAttributeValues, requestBuilder);
 
         return requestBuilder.build();
@@ -158,43 +161,39 @@ public class UpdateItemOperation<T>
     }
 
     private static Expression generateUpdateExpression(Map<String, AttributeValue> attributeValuesToUpdate) {
-        // Sort the updates into 'SET' or 'REMOVE' based on null value
-        List<String> updateSetActions = new ArrayList<>();
-        List<String> updateRemoveActions = new ArrayList<>();
+        // Sort the updates into 'SET' or 'REMOVE' based on null value, building the expression and its names and values
+        // in a single pass over the attributes
+        StringBuilder updateSetActions = new StringBuilder();
+        StringBuilder updateRemoveActions = new StringBuilder();
+        Map<String, AttributeValue> expressionAttributeValues =
+            new HashMap<>(mapCapacity(attributeValuesToUpdate.size()));
+        Map<String, String> expressionAttributeNames = new HashMap<>(mapCapacity(attributeValuesToUpdate.size()));
 
         attributeValuesToUpdate.forEach((key, value) -> {
+            String cleanedKey = EnhancedClientUtils.cleanAttributeName(key);
+            String nameToken = EXPRESSION_KEY_PREFIX + cleanedKey;
+            String previousKey = expressionAttributeNames.put(nameToken, key);
+            if (previousKey != null) {
+                throw new IllegalStateException(String.format("Attributes '%s' and '%s' cannot both be updated as they map "
+                                                              + "to the same expression name '%s'.",
+                                                              previousKey, key, nameToken));
+            }
+
             if (!isNullAttributeValue(value)) {
-                updateSetActions.add(EXPRESSION_KEY_MAPPER.apply(key) + " = " + EXPRESSION_VALUE_KEY_MAPPER.apply(key));
+                String valueToken = EXPRESSION_VALUE_KEY_PREFIX + cleanedKey;
+                expressionAttributeValues.put(valueToken, value);
+                appendAction(updateSetActions, "SET ").append(nameToken).append(" = ").append(valueToken);
             } else {
-                updateRemoveActions.add(EXPRESSION_KEY_MAPPER.apply(key));
+                appendAction(updateRemoveActions, "REMOVE ").append(nameToken);
             }
         });
 
         // Combine the expressions
-        List<String> updateActions = new ArrayList<>();
-
-        if (!updateSetActions.isEmpty()) {
-            updateActions.add("SET " + String.join(", ", updateSetActions));
-        }
-
-        if (!updateRemoveActions.isEmpty()) {
-            updateActions.add("REMOVE " + String.join(", ", updateRemoveActions));
+        if (updateSetActions.length() > 0 && updateRemoveActions.length() > 0) {
+            updateSetActions.append(' ');
         }
 
-        String updateExpression = String.join(" ", updateActions);
-
-        Map<String, AttributeValue> expressionAttributeValues =
-            attributeValuesToUpdate.entrySet()
-                                   .stream()
-                                   .filter(entry -> !isNullAttributeValue(entry.getValue()))
-                                   .collect(Collectors.toMap(
-                                       entry -> EXPRESSION_VALUE_KEY_MAPPER.apply(entry.getKey()),
-                                       Map.Entry::getValue));
-
-        Map<String, String> expressionAttributeNames =
-            attributeValuesToUpdate.keySet()
-                                   .stream()
-                                   .collect(Collectors.toMap(EXPRESSION_KEY_MAPPER, key -> key));
+        String updateExpression = updateSetActions.append(updateRemoveActions).toString();
 
         return Expression.builder()
                          .expression(updateExpression)
@@ -203,6 +202,10 @@ public class UpdateItemOperation<T>
                          .build();
     }
 
+    private static StringBuilder appendAction(StringBuilder actions, String actionKeyword) {
+        return actions.append(actions.length() == 0 ? actionKeyword : ", ");
+    }
+
     private UpdateItemRequest.Builder addExpressionsIfExist(WriteModification transformation,
                                                             Map<String, AttributeValue> filteredAttributeValues,
                                                             UpdateItemRequest.Builder requestBuilder) {
@@ -220,19 +223,19 @@ public class UpdateItemOperation<T>
 
         /* Merge in conditional expression from extension WriteModification if applicable */
         if (transformation != null && transformation.additionalConditionalExpression() != null) {
-            expressionNames =
-                Expression.joinNames(expressionNames,
-                                     transformation.additionalConditionalExpression().expressionNames());
-            expressionValues =
-                Expression.joinValues(expressionValues,
-                                      transformation.additionalConditionalExpression().expressionValues());
+            expressionNames = join(expressionNames, transformation.additionalConditionalExpression().expressionNames(),
+                                   Expression::joinNames);
+            expressionValues = join(expressionValues, transformation.additionalConditionalExpression().expressionValues(),
+                                    Expression::joinValues);
             conditionExpressionString = transformation.additionalConditionalExpression().expression();
         }
 
         /* Merge in conditional expression from specified 'conditionExpression' if applicable */
         if (this.request.conditionExpression() != null) {
-            expressionNames = Expression.joinNames(expressionNames, this.request.conditionExpression().expressionNames());
-            expressionValues = Expression.joinValues(expressionValues, this.request.conditionExpression().expressionValues());
+            expressionNames = join(expressionNames, this.request.conditionExpression().expressionNames(),
+                                   Expression::joinNames);
+            expressionValues = join(expressionValues, this.request.conditionExpression().expressionValues(),
+                                    Expression::joinValues);
             conditionExpressionString = Expression.joinExpressions(conditionExpressionString,
                                                                    this.request.conditionExpression().expression(), " AND ");
         }
@@ -249,4 +252,21 @@ public class UpdateItemOperation<T>
         return requestBuilder.conditionExpression(conditionExpressionString);
     }
 
+    /**
+     * Joins two maps of expression names or values with the given joiner, unless either is empty, in which case the other is
+     * used as is without being copied. The result is only passed to the request builder, which copies it.
+     */
+    private static <T> Map<String, T> join(Map<String, T> first, Map<String, T> second,
+                                           BinaryOperator<Map<String, T>> joiner) {
+        if (first == null || first.isEmpty()) {
+            return second;
+        }
+
+        if (second == null || second.isEmpty()) {
+            return first;
+        }
+
+        return joiner.apply(first, second);
+    }
+
 }
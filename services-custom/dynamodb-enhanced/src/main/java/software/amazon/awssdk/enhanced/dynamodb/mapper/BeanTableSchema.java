@@ -46,6 +46,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.BeanAttributeSet
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchemaCache;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.SharedTableSchemaCache;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
@@ -101,12 +102,23 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
     /**
      * Scans a bean class and builds a {@link BeanTableSchema} from it that can be used with the
      * {@link DynamoDbEnhancedClient}.
+     * The schema of a class is only built once, and then shared by every call and every thread.
      * @param beanClass The bean class to build the table schema from.
      * @param <T> The bean class type.
      * @return An initialized {@link BeanTableSchema}
      */
     public static <T> BeanTableSchema<T> create(Class<T> beanClass) {
-        return create(beanClass, new MetaTableSchemaCache());
+        Optional<BeanTableSchema<T>> cachedTableSchema = SharedTableSchemaCache.get(beanClass, BeanTableSchema.class);
+        if (cachedTableSchema.isPresent()) {
+            return cachedTableSchema.get();
+        }
+
+        MetaTableSchemaCache metaTableSchemaCache = new MetaTableSchemaCache();
+        BeanTableSchema<T> newTableSchema = create(beanClass, metaTableSchemaCache);
+
+        // Every schema of the chain is initialized by now, so they can all be shared
+        SharedTableSchemaCache.putAll(metaTableSchemaCache);
+        return newTableSchema;
     }
 
     private static <T> BeanTableSchema<T> create(Class<T> beanClass, MetaTableSchemaCache metaTableSchemaCache) {
@@ -136,8 +148,14 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
             return metaTableSchema.get();
         }
 
+        // Otherwise: use the schema that has already been built for this class by another chain, if any
+        Optional<BeanTableSchema<T>> cachedTableSchema = SharedTableSchemaCache.get(beanClass, BeanTableSchema.class);
+        if (cachedTableSchema.isPresent()) {
+            return cachedTableSchema.get();
+        }
+
         // Otherwise: cache doesn't know about this class; create a new one from scratch
-        return create(beanClass);
+        return create(beanClass, metaTableSchemaCache);
 
     }
 
@@ -46,6 +46,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchemaCache;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectConstructor;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.ObjectGetterMethod;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.SharedTableSchemaCache;
 import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.StaticGetterMethod;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.BeanTableSchemaAttributeTag;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
@@ -101,12 +102,24 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
     /**
      * Scans an immutable class and builds an {@link ImmutableTableSchema} from it that can be used with the
      * {@link DynamoDbEnhancedClient}.
+     * The schema of a class is only built once, and then shared by every call and every thread.
      * @param immutableClass The annotated immutable class to build the table schema from.
      * @param <T> The immutable class type.
      * @return An initialized {@link ImmutableTableSchema}
      */
     public static <T> ImmutableTableSchema<T> create(Class<T> immutableClass) {
-        return create(immutableClass, new MetaTableSchemaCache());
+        Optional<ImmutableTableSchema<T>> cachedTableSchema =
+            SharedTableSchemaCache.get(immutableClass, ImmutableTableSchema.class);
+        if (cachedTableSchema.isPresent()) {
+            return cachedTableSchema.get();
+        }
+
+        MetaTableSchemaCache metaTableSchemaCache = new MetaTableSchemaCache();
+        ImmutableTableSchema<T> newTableSchema = create(immutableClass, metaTableSchemaCache);
+
+        // Every schema of the chain is initialized by now, so they can all be shared
+        SharedTableSchemaCache.putAll(metaTableSchemaCache);
+        return newTableSchema;
     }
 
     private static <T> ImmutableTableSchema<T> create(Class<T> immutableClass,
@@ -137,6 +150,13 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
             return metaTableSchema.get();
         }
 
+        // Otherwise: use the schema that has already been built for this class by another chain, if any
+        Optional<ImmutableTableSchema<T>> cachedTableSchema =
+            SharedTableSchemaCache.get(immutableClass, ImmutableTableSchema.class);
+        if (cachedTableSchema.isPresent()) {
+            return cachedTableSchema.get();
+        }
+
         // Otherwise: cache doesn't know about this class; create a new one from scratch
         return create(immutableClass, metaTableSchemaCache);
 
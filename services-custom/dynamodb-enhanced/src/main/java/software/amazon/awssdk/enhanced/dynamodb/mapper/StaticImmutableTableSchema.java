@@ -17,6 +17,7 @@ package software.amazon.awssdk.enhanced.dynamodb.mapper;
 
 import static java.util.Collections.unmodifiableMap;
 import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.mapCapacity;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -83,6 +84,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
     private final EnhancedType<T> itemType;
     private final AttributeConverterProvider attributeConverterProvider;
     private final Map<String, FlattenedMapper<T, B, ?>> indexedFlattenedMappers;
+    private final List<FlattenedMapper<T, B, ?>> flattenedMappers;
     private final List<String> attributeNames;
     
     private static class FlattenedMapper<T, B, T1> {
@@ -203,6 +205,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         this.indexedMappers = Collections.unmodifiableMap(mutableIndexedMappers);
         this.attributeNames = Collections.unmodifiableList(new ArrayList<>(mutableAttributeNames));
         this.indexedFlattenedMappers = Collections.unmodifiableMap(mutableFlattenedMappers);
+        this.flattenedMappers = Collections.unmodifiableList(new ArrayList<>(builder.flattenedMappers));
         this.newBuilderSupplier = builder.newBuilderSupplier;
         this.buildItemFunction = builder.buildItemFunction;
         this.tableMetadata = tableMetadataBuilder.build();
@@ -483,20 +486,21 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
     @Override
     public Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
-        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>(mapCapacity(attributeNames.size()));
 
-        attributeMappers.forEach(attributeMapper -> {
+        for (ResolvedImmutableAttribute<T, B> attributeMapper : attributeMappers) {
             String attributeKey = attributeMapper.attributeName();
             AttributeValue attributeValue = attributeMapper.attributeGetterMethod().apply(item);
 
             if (!ignoreNulls || !isNullAttributeValue(attributeValue)) {
                 attributeValueMap.put(attributeKey, attributeValue);
             }
-        });
+        }
 
-        indexedFlattenedMappers.forEach((name, flattenedMapper) -> {
+        // Each flattened mapper is visited once, rather than once for every attribute it contributes
+        for (FlattenedMapper<T, B, ?> flattenedMapper : flattenedMappers) {
             attributeValueMap.putAll(flattenedMapper.itemToMap(item, ignoreNulls));
-        });
+        }
 
         return unmodifiableMap(attributeValueMap);
     }
@@ -0,0 +1,263 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.internal.IterablePublisher;
+
+/**
+ * Defines parameters used for the bulkWriteItems() operation (such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItems(BulkWriteItemsEnhancedRequest)}).
+ * <p>
+ * A request is a stream of {@link WriteBatch}es, each one holding any number of put and delete actions for one table.
+ * The actions of all batches are regrouped into batchWriteItem calls of at most 25 actions each, which may mix tables,
+ * and a bounded number of calls are sent concurrently. Actions that DynamoDB returns as unprocessed are resubmitted
+ * after a backoff delay.
+ * <p>
+ * Several actions on the same item are applied in the order they are published: an action is never sent while an
+ * earlier action on the same item is in flight or waiting to be resubmitted.
+ */
+@SdkPublicApi
+public final class BulkWriteItemsEnhancedRequest {
+
+    private final Publisher<WriteBatch> writeBatches;
+    private final Integer maxConcurrentRequests;
+    private final Integer maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private BulkWriteItemsEnhancedRequest(Builder builder) {
+        this.writeBatches = builder.writeBatches;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.maxAttempts = builder.maxAttempts;
+        this.backoffStrategy = builder.backoffStrategy;
+        this.scheduledExecutorService = builder.scheduledExecutorService;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return new Builder().writeBatches(writeBatches)
+                            .maxConcurrentRequests(maxConcurrentRequests)
+                            .maxAttempts(maxAttempts)
+                            .backoffStrategy(backoffStrategy)
+                            .scheduledExecutorService(scheduledExecutorService);
+    }
+
+    /**
+     * Returns the publisher of {@link WriteBatch}es to write.
+     */
+    public Publisher<WriteBatch> writeBatches() {
+        return writeBatches;
+    }
+
+    /**
+     * Returns the maximum number of batchWriteItem calls in flight at the same time, if set.
+     */
+    public Integer maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Returns the maximum number of times an action is submitted before it is reported as unprocessed, if set.
+     */
+    public Integer maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the strategy used to delay resubmitting unprocessed actions, if set.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    /**
+     * Returns the executor used to schedule resubmitting unprocessed actions, if set.
+     */
+    public ScheduledExecutorService scheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteItemsEnhancedRequest that = (BulkWriteItemsEnhancedRequest) o;
+
+        if (writeBatches != null ? !writeBatches.equals(that.writeBatches) : that.writeBatches != null) {
+            return false;
+        }
+        if (maxConcurrentRequests != null ? !maxConcurrentRequests.equals(that.maxConcurrentRequests)
+                                          : that.maxConcurrentRequests != null) {
+            return false;
+        }
+        if (maxAttempts != null ? !maxAttempts.equals(that.maxAttempts) : that.maxAttempts != null) {
+            return false;
+        }
+        if (backoffStrategy != null ? !backoffStrategy.equals(that.backoffStrategy) : that.backoffStrategy != null) {
+            return false;
+        }
+        return scheduledExecutorService != null ? scheduledExecutorService.equals(that.scheduledExecutorService)
+                                                : that.scheduledExecutorService == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = writeBatches != null ? writeBatches.hashCode() : 0;
+        result = 31 * result + (maxConcurrentRequests != null ? maxConcurrentRequests.hashCode() : 0);
+        result = 31 * result + (maxAttempts != null ? maxAttempts.hashCode() : 0);
+        result = 31 * result + (backoffStrategy != null ? backoffStrategy.hashCode() : 0);
+        result = 31 * result + (scheduledExecutorService != null ? scheduledExecutorService.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * A valid builder must define the write batches to write.
+     */
+    public static final class Builder {
+        private Publisher<WriteBatch> writeBatches;
+        private Integer maxConcurrentRequests;
+        private Integer maxAttempts;
+        private BackoffStrategy backoffStrategy;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the publisher of write batches to write. Batches are only requested from the publisher while fewer than
+         * {@code 25 * maxConcurrentRequests} actions are waiting to be sent, so large data sets can be streamed without
+         * being held in memory.
+         *
+         * @param writeBatches a publisher of {@link WriteBatch}
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Publisher<WriteBatch> writeBatches) {
+            this.writeBatches = writeBatches;
+            return this;
+        }
+
+        /**
+         * Sets the write batches to write. The iterable is iterated once, on the calling thread, when this method is
+         * invoked, so it should hold batches that are already in memory. Use
+         * {@link #writeBatches(Iterable, Executor)} to stream batches from a large or lazily computed iterable.
+         *
+         * @param writeBatches an iterable of {@link WriteBatch}
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Iterable<WriteBatch> writeBatches) {
+            if (writeBatches == null) {
+                this.writeBatches = null;
+                return this;
+            }
+            List<WriteBatch> batches = new ArrayList<>();
+            writeBatches.forEach(batches::add);
+            this.writeBatches = new IterablePublisher<>(batches, Runnable::run);
+            return this;
+        }
+
+        /**
+         * Sets the write batches to write. The iterable is iterated lazily, as batches are needed, and only on the provided
+         * executor, so an iterable that computes or reads its batches on demand never runs on the threads that complete
+         * batchWriteItem calls. The executor is not shut down by the operation.
+         *
+         * @param writeBatches an iterable of {@link WriteBatch}
+         * @param executor the executor that iterates {@code writeBatches}
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Iterable<WriteBatch> writeBatches, Executor executor) {
+            this.writeBatches = writeBatches != null ? new IterablePublisher<>(writeBatches, executor) : null;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batchWriteItem calls in flight at the same time. Defaults to 8.
+         *
+         * @param maxConcurrentRequests the maximum number of concurrent calls
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentRequests(Integer maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times an action is submitted before it is given up on and reported as unprocessed
+         * in the {@link BulkWriteResult}. This is in addition to the retries performed by the DynamoDB client's own retry
+         * policy for each individual call. Defaults to 10.
+         *
+         * @param maxAttempts the maximum number of attempts per action
+         * @return a builder of this type
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the strategy used to compute the delay before unprocessed actions are resubmitted. Defaults to
+         * {@link BackoffStrategy#defaultThrottlingStrategy()}, as unprocessed actions usually indicate that the
+         * table's provisioned throughput was exceeded.
+         *
+         * @param backoffStrategy the backoff strategy
+         * @return a builder of this type
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to schedule resubmitting unprocessed actions. The executor is not shut down by the
+         * operation. If not set, a scheduler shared by all bulk writes is used, whose single daemon thread only runs while
+         * actions are waiting to be resubmitted.
+         *
+         * @param scheduledExecutorService the executor
+         * @return a builder of this type
+         */
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public BulkWriteItemsEnhancedRequest build() {
+            return new BulkWriteItemsEnhancedRequest(this);
+        }
+    }
+}
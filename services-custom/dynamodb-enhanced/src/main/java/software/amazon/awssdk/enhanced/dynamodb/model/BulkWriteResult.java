@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Defines the result of the bulkWriteItems() operation, such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItems(BulkWriteItemsEnhancedRequest)}. The result describes the actions
+ * that were still unprocessed after the maximum number of attempts, and the throughput of the bulk write.
+ * <ul>
+ *     <li>Use the {@link #unprocessedPutItemsForTable(MappedTableResource)} method once for each table present in the request
+ *  to get any unprocessed items from a put action on that table.</li>
+ *     <li>Use the {@link #unprocessedDeleteItemsForTable(MappedTableResource)} method once for each table present in the request
+ *  to get any unprocessed items from a delete action on that table.</li>
+ * </ul>
+ */
+@SdkPublicApi
+public final class BulkWriteResult {
+    private final BatchWriteResult unprocessedRequests;
+    private final long writtenItemCount;
+    private final long retriedItemCount;
+    private final long requestCount;
+    private final Duration duration;
+
+    private BulkWriteResult(Builder builder) {
+        this.unprocessedRequests = BatchWriteResult.builder().unprocessedRequests(builder.unprocessedRequests).build();
+        this.writtenItemCount = builder.writtenItemCount;
+        this.retriedItemCount = builder.retriedItemCount;
+        this.requestCount = builder.requestCount;
+        this.duration = builder.duration;
+    }
+
+    /**
+     * Creates a newly initialized builder for a result object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieve any unprocessed put action items belonging to the supplied table from the result.
+     * Call this method once for each table present in the bulk request.
+     *
+     * @param mappedTable the table to retrieve unprocessed items for
+     * @param <T> the type of the table items
+     * @return a list of items
+     */
+    public <T> List<T> unprocessedPutItemsForTable(MappedTableResource<T> mappedTable) {
+        return unprocessedRequests.unprocessedPutItemsForTable(mappedTable);
+    }
+
+    /**
+     * Retrieve any unprocessed delete action keys belonging to the supplied table from the result.
+     * Call this method once for each table present in the bulk request.
+     *
+     * @param mappedTable the table to retrieve unprocessed items for.
+     * @return a list of keys that were not processed as part of the bulk request.
+     */
+    public List<Key> unprocessedDeleteItemsForTable(MappedTableResource<?> mappedTable) {
+        return unprocessedRequests.unprocessedDeleteItemsForTable(mappedTable);
+    }
+
+    /**
+     * Returns the number of put and delete actions that were processed by DynamoDB.
+     */
+    public long writtenItemCount() {
+        return writtenItemCount;
+    }
+
+    /**
+     * Returns the number of times an action was resubmitted because DynamoDB returned it as unprocessed.
+     */
+    public long retriedItemCount() {
+        return retriedItemCount;
+    }
+
+    /**
+     * Returns the number of batchWriteItem calls made.
+     */
+    public long requestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the time taken by the bulk write, from subscribing to the write batches until the last call completed.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the average number of actions processed per second over the duration of the bulk write.
+     */
+    public double itemsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : writtenItemCount * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteResult(writtenItemCount=" + writtenItemCount
+               + ", retriedItemCount=" + retriedItemCount
+               + ", requestCount=" + requestCount
+               + ", duration=" + duration + ")";
+    }
+
+    /**
+     * A builder that is used to create a result with the desired parameters.
+     */
+    public static final class Builder {
+        private Map<String, List<WriteRequest>> unprocessedRequests = Collections.emptyMap();
+        private long writtenItemCount;
+        private long retriedItemCount;
+        private long requestCount;
+        private Duration duration = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a map of unprocessed requests to this result object.
+         *
+         * @param unprocessedRequests the map of table to write request representing the unprocessed requests
+         * @return a builder of this type
+         */
+        public Builder unprocessedRequests(Map<String, List<WriteRequest>> unprocessedRequests) {
+            this.unprocessedRequests = unprocessedRequests;
+            return this;
+        }
+
+        public Builder writtenItemCount(long writtenItemCount) {
+            this.writtenItemCount = writtenItemCount;
+            return this;
+        }
+
+        public Builder retriedItemCount(long retriedItemCount) {
+            this.retriedItemCount = retriedItemCount;
+            return this;
+        }
+
+        public Builder requestCount(long requestCount) {
+            this.requestCount = requestCount;
+            return this;
+        }
+
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public BulkWriteResult build() {
+            return new BulkWriteResult(this);
+        }
+    }
+}
@@ -30,10 +30,12 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 public final class Page<T> {
     private final List<T> items;
     private final Map<String, AttributeValue> lastEvaluatedKey;
+    private final Integer segment;
 
-    private Page(List<T> items, Map<String, AttributeValue> lastEvaluatedKey) {
+    private Page(List<T> items, Map<String, AttributeValue> lastEvaluatedKey, Integer segment) {
         this.items = items;
         this.lastEvaluatedKey = lastEvaluatedKey;
+        this.segment = segment;
     }
 
     /**
@@ -44,7 +46,19 @@ public final class Page<T> {
      * @return A newly constructed {@link Page} object.
      */
     public static <T> Page<T> create(List<T> items, Map<String, AttributeValue> lastEvaluatedKey) {
-        return new Page<>(items, lastEvaluatedKey);
+        return new Page<>(items, lastEvaluatedKey, null);
+    }
+
+    /**
+     * Static constructor for a page of results of a segment of a parallel scan.
+     * @param items A list of items to store for the page.
+     * @param lastEvaluatedKey A 'lastEvaluatedKey' to store for the page.
+     * @param segment The segment of the parallel scan the page was read from.
+     * @param <T> The modelled type of the object that has been read.
+     * @return A newly constructed {@link Page} object.
+     */
+    public static <T> Page<T> create(List<T> items, Map<String, AttributeValue> lastEvaluatedKey, Integer segment) {
+        return new Page<>(items, lastEvaluatedKey, segment);
     }
 
     /**
@@ -55,7 +69,7 @@ public final class Page<T> {
      * @return A newly constructed {@link Page} object.
      */
     public static <T> Page<T> create(List<T> items) {
-        return new Page<>(items, null);
+        return new Page<>(items, null, null);
     }
 
     /**
@@ -75,6 +89,16 @@ public final class Page<T> {
         return lastEvaluatedKey;
     }
 
+    /**
+     * Returns the segment of a parallel scan this page was read from. Together with {@link #lastEvaluatedKey()} this is
+     * the progress of that segment: the segment can be resumed by passing the key to
+     * {@link ParallelScanEnhancedRequest.Builder#exclusiveStartKeys(Map)}, or, if the key is null, the segment is complete.
+     * @return The segment the page was read from, or null if the page is not the result of a parallel scan.
+     */
+    public Integer segment() {
+        return segment;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -89,6 +113,9 @@ public final class Page<T> {
         if (items != null ? ! items.equals(page.items) : page.items != null) {
             return false;
         }
+        if (segment != null ? ! segment.equals(page.segment) : page.segment != null) {
+            return false;
+        }
         return lastEvaluatedKey != null ? lastEvaluatedKey.equals(page.lastEvaluatedKey) : page.lastEvaluatedKey == null;
     }
 
@@ -96,6 +123,7 @@ public final class Page<T> {
     public int hashCode() {
         int result = items != null ? items.hashCode() : 0;
         result = 31 * result + (lastEvaluatedKey != null ? lastEvaluatedKey.hashCode() : 0);
+        result = 31 * result + (segment != null ? segment.hashCode() : 0);
         return result;
     }
 }
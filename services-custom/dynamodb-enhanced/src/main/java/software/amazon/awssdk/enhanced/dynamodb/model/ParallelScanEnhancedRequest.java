@@ -0,0 +1,280 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Defines parameters used for the parallelScan() operation (such as
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * A parallel scan divides the table into {@link Builder#totalSegments(Integer)} segments and scans a bounded number of them
+ * concurrently. The pages of all segments are merged into a single stream, in the order in which they are read. Each page
+ * is tagged with the {@link Page#segment()} it was read from, so that the progress of every segment can be recorded while
+ * the pages are consumed. A scan that did not complete can then be resumed by passing the last evaluated key of each
+ * unfinished segment to {@link Builder#exclusiveStartKeys(Map)}, and the finished segments to
+ * {@link Builder#completedSegments(Collection)}.
+ * <p>
+ * Only the total number of segments is required.
+ */
+@SdkPublicApi
+public final class ParallelScanEnhancedRequest {
+
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrentSegments;
+    private final Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys;
+    private final Set<Integer> completedSegments;
+    private final Executor executor;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest;
+        this.totalSegments = builder.totalSegments;
+        this.maxConcurrentSegments = builder.maxConcurrentSegments;
+        this.exclusiveStartKeys = builder.exclusiveStartKeys != null
+                ? Collections.unmodifiableMap(builder.exclusiveStartKeys)
+                : null;
+        this.completedSegments = builder.completedSegments != null
+                ? Collections.unmodifiableSet(builder.completedSegments)
+                : null;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return new Builder().scanRequest(scanRequest)
+                            .totalSegments(totalSegments)
+                            .maxConcurrentSegments(maxConcurrentSegments)
+                            .exclusiveStartKeys(exclusiveStartKeys)
+                            .completedSegments(completedSegments)
+                            .executor(executor);
+    }
+
+    /**
+     * Returns the scan parameters applied to every segment, or null if none were set.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments scanned at the same time, if set.
+     */
+    public Integer maxConcurrentSegments() {
+        return maxConcurrentSegments;
+    }
+
+    /**
+     * Returns the key after which each segment is resumed, keyed by segment, or null if the scan is not resumed.
+     */
+    public Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys() {
+        return exclusiveStartKeys;
+    }
+
+    /**
+     * Returns the segments that are skipped because they have already been scanned, or null if none were set.
+     */
+    public Set<Integer> completedSegments() {
+        return completedSegments;
+    }
+
+    /**
+     * Returns the executor used to scan segments with the synchronous client, if set.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (scanRequest != null ? !scanRequest.equals(that.scanRequest) : that.scanRequest != null) {
+            return false;
+        }
+        if (totalSegments != null ? !totalSegments.equals(that.totalSegments) : that.totalSegments != null) {
+            return false;
+        }
+        if (maxConcurrentSegments != null ? !maxConcurrentSegments.equals(that.maxConcurrentSegments)
+                                          : that.maxConcurrentSegments != null) {
+            return false;
+        }
+        if (exclusiveStartKeys != null ? !exclusiveStartKeys.equals(that.exclusiveStartKeys)
+                                       : that.exclusiveStartKeys != null) {
+            return false;
+        }
+        if (completedSegments != null ? !completedSegments.equals(that.completedSegments)
+                                      : that.completedSegments != null) {
+            return false;
+        }
+        return executor != null ? executor.equals(that.executor) : that.executor == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest != null ? scanRequest.hashCode() : 0;
+        result = 31 * result + (totalSegments != null ? totalSegments.hashCode() : 0);
+        result = 31 * result + (maxConcurrentSegments != null ? maxConcurrentSegments.hashCode() : 0);
+        result = 31 * result + (exclusiveStartKeys != null ? exclusiveStartKeys.hashCode() : 0);
+        result = 31 * result + (completedSegments != null ? completedSegments.hashCode() : 0);
+        result = 31 * result + (executor != null ? executor.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * A valid builder must define the total number of segments.
+     */
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrentSegments;
+        private Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys;
+        private Set<Integer> completedSegments;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the scan parameters, such as the filter expression or projection, applied to every segment. The request
+         * must not define an exclusive start key or a segment; use {@link #exclusiveStartKeys(Map)} to resume a scan.
+         *
+         * @param scanRequest the parameters of the scan of each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * Sets the scan parameters, such as the filter expression or projection, applied to every segment.
+         * <p>
+         * This is a convenience which creates an instance of the {@link ScanEnhancedRequest.Builder} avoiding the need
+         * to create one manually via {@link ScanEnhancedRequest#builder()}.
+         *
+         * @see #scanRequest(ScanEnhancedRequest)
+         * @param scanRequest a consumer of {@link ScanEnhancedRequest.Builder}
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * Sets the number of segments the table is divided into. A resumed scan must use the same number of segments
+         * as the scan it resumes.
+         *
+         * @param totalSegments the total number of segments
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of segments scanned at the same time. Each segment being scanned has at most one page
+         * being read or waiting to be consumed, so this bounds both the load put on the table and the number of pages
+         * held in memory. Defaults to 4, or the total number of segments if that is lower.
+         *
+         * @param maxConcurrentSegments the maximum number of concurrently scanned segments
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentSegments(Integer maxConcurrentSegments) {
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            return this;
+        }
+
+        /**
+         * Sets the key after which the scan of each listed segment starts, as returned by {@link Page#lastEvaluatedKey()}
+         * for the last page consumed from that segment. Segments that are not listed are scanned from the start.
+         *
+         * @param exclusiveStartKeys the exclusive start key of each segment to resume, keyed by segment
+         * @return a builder of this type
+         */
+        public Builder exclusiveStartKeys(Map<Integer, Map<String, AttributeValue>> exclusiveStartKeys) {
+            this.exclusiveStartKeys = exclusiveStartKeys != null ? new HashMap<>(exclusiveStartKeys) : null;
+            return this;
+        }
+
+        /**
+         * Sets the segments that have already been scanned completely, that is, for which a page with a null
+         * {@link Page#lastEvaluatedKey()} was consumed. These segments are not scanned again.
+         *
+         * @param completedSegments the segments to skip
+         * @return a builder of this type
+         */
+        public Builder completedSegments(Collection<Integer> completedSegments) {
+            this.completedSegments = completedSegments != null ? new HashSet<>(completedSegments) : null;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the scan of each segment when using the synchronous client; it is not used by the
+         * asynchronous client. The executor is not shut down by the operation. If not set, a daemon thread is created for
+         * each concurrently scanned segment for the duration of the iteration.
+         *
+         * @param executor the executor
+         * @return a builder of this type
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
@@ -41,6 +41,8 @@ public final class ScanEnhancedRequest {
     private final Boolean consistentRead;
     private final Expression filterExpression;
     private final List<String> attributesToProject;
+    private final Integer segment;
+    private final Integer totalSegments;
 
     private ScanEnhancedRequest(Builder builder) {
         this.exclusiveStartKey = builder.exclusiveStartKey;
@@ -50,6 +52,8 @@ public final class ScanEnhancedRequest {
         this.attributesToProject = builder.attributesToProject != null
                 ? Collections.unmodifiableList(builder.attributesToProject)
                 : null;
+        this.segment = builder.segment;
+        this.totalSegments = builder.totalSegments;
     }
 
     /**
@@ -67,7 +71,9 @@ public final class ScanEnhancedRequest {
                         .limit(limit)
                         .consistentRead(consistentRead)
                         .filterExpression(filterExpression)
-                        .attributesToProject(attributesToProject);
+                        .attributesToProject(attributesToProject)
+                        .segment(segment)
+                        .totalSegments(totalSegments);
     }
 
     /**
@@ -105,6 +111,21 @@ public final class ScanEnhancedRequest {
         return attributesToProject;
     }
 
+    /**
+     * Returns the segment of the table to scan, or null if the whole table is scanned.
+     */
+    public Integer segment() {
+        return segment;
+    }
+
+    /**
+     * Returns the total number of segments the table is divided into for a parallel scan, or null if the whole table is
+     * scanned.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -132,6 +153,12 @@ public final class ScanEnhancedRequest {
         ) {
             return false;
         }
+        if (segment != null ? ! segment.equals(scan.segment) : scan.segment != null) {
+            return false;
+        }
+        if (totalSegments != null ? ! totalSegments.equals(scan.totalSegments) : scan.totalSegments != null) {
+            return false;
+        }
         return filterExpression != null ? filterExpression.equals(scan.filterExpression) : scan.filterExpression == null;
     }
 
@@ -142,6 +169,8 @@ public final class ScanEnhancedRequest {
         result = 31 * result + (consistentRead != null ? consistentRead.hashCode() : 0);
         result = 31 * result + (filterExpression != null ? filterExpression.hashCode() : 0);
         result = 31 * result + (attributesToProject != null ? attributesToProject.hashCode() : 0);
+        result = 31 * result + (segment != null ? segment.hashCode() : 0);
+        result = 31 * result + (totalSegments != null ? totalSegments.hashCode() : 0);
         return result;
     }
 
@@ -154,6 +183,8 @@ public final class ScanEnhancedRequest {
         private Boolean consistentRead;
         private Expression filterExpression;
         private List<String> attributesToProject;
+        private Integer segment;
+        private Integer totalSegments;
 
         private Builder() {
         }
@@ -284,6 +315,34 @@ public final class ScanEnhancedRequest {
             return this;
         }
 
+        /**
+         * For a parallel scan, identifies the segment of the table to be scanned by this request. Segments are numbered
+         * from zero to {@code totalSegments - 1} and must be used together with {@link #totalSegments(Integer)}.
+         * <p>
+         * Each segment can be scanned independently, by a different thread or process. To scan all segments concurrently
+         * and consume the results as a single stream of pages, see
+         * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)}.
+         *
+         * @param segment the segment to scan
+         * @return a builder of this type
+         */
+        public Builder segment(Integer segment) {
+            this.segment = segment;
+            return this;
+        }
+
+        /**
+         * For a parallel scan, the number of segments the table is divided into. Must be used together with
+         * {@link #segment(Integer)}.
+         *
+         * @param totalSegments the total number of segments
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
         public ScanEnhancedRequest build() {
             return new ScanEnhancedRequest(this);
         }
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUt
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -44,8 +45,10 @@ import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 public final class WriteBatch {
     private final String tableName;
     private final List<WriteRequest> writeRequests;
+    private final MappedTableResource<?> mappedTableResource;
 
     private WriteBatch(BuilderImpl<?> builder) {
+        this.mappedTableResource = builder.mappedTableResource;
         this.tableName = builder.mappedTableResource != null ? builder.mappedTableResource.tableName() : null;
         this.writeRequests = getItemsFromSupplier(builder.itemSupplierList);
     }
@@ -75,6 +78,15 @@ public final class WriteBatch {
         return writeRequests;
     }
 
+    /**
+     * Returns the names of the attributes that make up the primary key of the table associated with this batch, or an empty
+     * collection if no table is associated with it.
+     */
+    public Collection<String> primaryKeys() {
+        return mappedTableResource != null ? mappedTableResource.tableSchema().tableMetadata().primaryKeys()
+                                           : Collections.emptyList();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
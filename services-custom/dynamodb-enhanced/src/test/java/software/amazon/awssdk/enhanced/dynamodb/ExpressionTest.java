@@ -17,8 +17,11 @@ package software.amazon.awssdk.enhanced.dynamodb;
 
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Rule;
@@ -68,6 +71,21 @@ public class ExpressionTest {
         assertThat(result, hasEntry("four", "4"));
     }
 
+    @Test
+    public void joinNames_otherSideEmpty_returnsUnmodifiableCopy() {
+        Map<String, String> names = new HashMap<>();
+        names.put("one", "1");
+
+        Map<String, String> result = Expression.joinNames(Collections.emptyMap(), names);
+        names.put("two", "2");
+
+        assertThat(result, not(sameInstance(names)));
+        assertThat(result.size(), is(1));
+        assertThat(result, hasEntry("one", "1"));
+        exception.expect(UnsupportedOperationException.class);
+        result.put("three", "3");
+    }
+
     @Test
     public void joinNames_conflictingKey() {
         Map<String, String> names1 = new HashMap<>();
@@ -100,6 +118,28 @@ public class ExpressionTest {
         assertThat(result, hasEntry("four", EnhancedAttributeValue.fromString("4").toAttributeValue()));
     }
 
+    @Test
+    public void joinValues_emptyAndNull_returnsEmptyMap() {
+        Map<String, AttributeValue> values = Collections.emptyMap();
+
+        assertThat(Expression.joinValues(values, null), sameInstance(values));
+        assertThat(Expression.joinValues(null, values), sameInstance(values));
+    }
+
+    @Test
+    public void joinValues_otherSideEmpty_returnsUnmodifiableCopy() {
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put("one", EnhancedAttributeValue.fromString("1").toAttributeValue());
+
+        Map<String, AttributeValue> result = Expression.joinValues(values, Collections.emptyMap());
+        values.put("two", EnhancedAttributeValue.fromString("2").toAttributeValue());
+
+        assertThat(result, not(sameInstance(values)));
+        assertThat(result.size(), is(1));
+        exception.expect(UnsupportedOperationException.class);
+        result.put("three", EnhancedAttributeValue.fromString("3").toAttributeValue());
+    }
+
     @Test
     public void joinValues_conflictingKey() {
         Map<String, AttributeValue> values1 = new HashMap<>();
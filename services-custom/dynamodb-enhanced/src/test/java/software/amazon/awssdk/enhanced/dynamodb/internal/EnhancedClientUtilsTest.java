@@ -64,4 +64,12 @@ public class EnhancedClientUtilsTest {
         
         assertThat(result).isEqualTo("a_b_c_d_e_f");
     }
+
+    @Test
+    public void mapCapacity_holdsExpectedSizeWithoutResizing() {
+        assertThat(EnhancedClientUtils.mapCapacity(0)).isEqualTo(1);
+        assertThat(EnhancedClientUtils.mapCapacity(3)).isEqualTo(5);
+        assertThat(EnhancedClientUtils.mapCapacity(12) * 0.75f).isGreaterThanOrEqualTo(12);
+        assertThat(EnhancedClientUtils.mapCapacity(100) * 0.75f).isGreaterThanOrEqualTo(100);
+    }
 }
\ No newline at end of file
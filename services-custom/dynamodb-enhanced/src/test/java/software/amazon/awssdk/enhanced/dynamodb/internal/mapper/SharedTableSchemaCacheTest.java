@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.RecursiveRecordBean;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.RecursiveRecordImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
+
+public class SharedTableSchemaCacheTest {
+    @Test
+    public void createBean_returnsCachedSchema() {
+        BeanTableSchema<SimpleBean> tableSchema = BeanTableSchema.create(SimpleBean.class);
+
+        assertThat(BeanTableSchema.create(SimpleBean.class)).isSameAs(tableSchema);
+        assertThat(SharedTableSchemaCache.get(SimpleBean.class, BeanTableSchema.class)).hasValue(tableSchema);
+    }
+
+    @Test
+    public void createBean_cachesNestedSchemas() {
+        BeanTableSchema<RecursiveRecordBean> tableSchema = BeanTableSchema.create(RecursiveRecordBean.class);
+
+        Optional<ImmutableTableSchema<RecursiveRecordImmutable>> nestedTableSchema =
+            SharedTableSchemaCache.get(RecursiveRecordImmutable.class, ImmutableTableSchema.class);
+        assertThat(nestedTableSchema).isPresent();
+        assertThat(ImmutableTableSchema.create(RecursiveRecordImmutable.class)).isSameAs(nestedTableSchema.get());
+        assertThat(SharedTableSchemaCache.get(RecursiveRecordBean.class, BeanTableSchema.class)).hasValue(tableSchema);
+    }
+
+    @Test
+    public void get_schemaOfOtherType_isNotPresent() {
+        BeanTableSchema.create(SimpleBean.class);
+
+        assertThat(SharedTableSchemaCache.get(SimpleBean.class, ImmutableTableSchema.class)).isNotPresent();
+    }
+
+    @Test
+    public void get_classNotInCache_isNotPresent() {
+        assertThat(SharedTableSchemaCache.get(FakeItem.class, BeanTableSchema.class)).isNotPresent();
+    }
+
+    @Test
+    public void createBean_concurrently_returnsUsableSchemas() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Callable<TableSchema<RecursiveRecordBean>> createTableSchema =
+                () -> BeanTableSchema.create(RecursiveRecordBean.class);
+
+            Future<TableSchema<RecursiveRecordBean>>[] futures = new Future[32];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(createTableSchema);
+            }
+
+            for (Future<TableSchema<RecursiveRecordBean>> future : futures) {
+                assertThat(future.get().attributeNames()).contains("recursiveRecordImmutable");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
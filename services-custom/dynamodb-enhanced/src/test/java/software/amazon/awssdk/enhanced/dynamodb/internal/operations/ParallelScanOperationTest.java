@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ParallelScanOperationTest {
+    private static final Map<String, AttributeValue> START_KEY =
+        Collections.singletonMap("id", AttributeValue.builder().s("id-value").build());
+
+    @Test
+    public void segmentSources_skipsCompletedSegments() {
+        ParallelScanOperation<Object> operation =
+            ParallelScanOperation.create(ParallelScanEnhancedRequest.builder()
+                                                                    .totalSegments(7)
+                                                                    .completedSegments(Arrays.asList(5, 0, 2))
+                                                                    .build());
+
+        List<Integer> segments = operation.segmentSources((segment, request) -> request.segment());
+
+        assertThat(segments.size(), is(4));
+        assertThat(segments, contains(1, 3, 4, 6));
+    }
+
+    @Test
+    public void segmentSources_onlyCreatesTheSourcesThatAreRetrieved() {
+        ParallelScanOperation<Object> operation =
+            ParallelScanOperation.create(ParallelScanEnhancedRequest.builder().totalSegments(1_000_000).build());
+        int[] createdSources = new int[1];
+
+        List<Integer> segments = operation.segmentSources((segment, request) -> {
+            createdSources[0]++;
+            return segment;
+        });
+
+        assertThat(segments.size(), is(1_000_000));
+        assertThat(createdSources[0], is(0));
+        assertThat(segments.get(999_999), is(999_999));
+        assertThat(createdSources[0], is(1));
+    }
+
+    @Test
+    public void segmentRequest_appliesTheSegmentAndItsExclusiveStartKey() {
+        ParallelScanOperation<Object> operation =
+            ParallelScanOperation.create(ParallelScanEnhancedRequest.builder()
+                                                                    .totalSegments(3)
+                                                                    .scanRequest(r -> r.limit(5))
+                                                                    .exclusiveStartKeys(Collections.singletonMap(1,
+                                                                                                                 START_KEY))
+                                                                    .build());
+
+        ScanEnhancedRequest resumed = operation.segmentRequest(1);
+        ScanEnhancedRequest fresh = operation.segmentRequest(2);
+
+        assertThat(resumed.segment(), is(1));
+        assertThat(resumed.totalSegments(), is(3));
+        assertThat(resumed.limit(), is(5));
+        assertThat(resumed.exclusiveStartKey(), is(START_KEY));
+        assertThat(fresh.exclusiveStartKey(), is(nullValue()));
+    }
+}
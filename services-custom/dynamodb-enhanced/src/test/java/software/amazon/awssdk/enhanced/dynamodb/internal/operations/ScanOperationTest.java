@@ -190,6 +190,24 @@ public class ScanOperationTest {
         assertThat(request, is(expectedRequest));
     }
 
+    @Test
+    public void generateRequest_segment() {
+        ScanOperation<FakeItem> operation = ScanOperation.create(ScanEnhancedRequest.builder()
+                                                                                    .segment(2)
+                                                                                    .totalSegments(8)
+                                                                                    .build());
+        ScanRequest request = operation.generateRequest(FakeItem.getTableSchema(),
+                                                        PRIMARY_CONTEXT,
+                                                        null);
+
+        ScanRequest expectedRequest = ScanRequest.builder()
+                                                 .tableName(TABLE_NAME)
+                                                 .segment(2)
+                                                 .totalSegments(8)
+                                                 .build();
+        assertThat(request, is(expectedRequest));
+    }
+
     @Test
     public void generateRequest_projectionExpression() {
         ScanOperation<FakeItem> operation = ScanOperation.create(
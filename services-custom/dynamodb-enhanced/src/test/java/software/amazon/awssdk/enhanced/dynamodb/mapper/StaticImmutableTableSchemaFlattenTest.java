@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -179,6 +180,41 @@ public class StaticImmutableTableSchemaFlattenTest {
         assertThat(record).isEqualTo(TEST_RECORD);
     }
 
+    @Test
+    public void itemToMap_readsEachFlattenedObjectOnce() {
+        AtomicInteger child1Reads = new AtomicInteger();
+        TableSchema<ImmutableRecord> tableSchema =
+            TableSchema.builder(ImmutableRecord.class, ImmutableRecord.Builder.class)
+                       .newItemBuilder(ImmutableRecord::builder, ImmutableRecord.Builder::build)
+                       .addAttribute(String.class, a -> a.name("id")
+                                                         .getter(ImmutableRecord::id)
+                                                         .setter(ImmutableRecord.Builder::id)
+                                                         .tags(primaryPartitionKey()))
+                       .flatten(childTableSchema2a,
+                                r -> {
+                                    child1Reads.incrementAndGet();
+                                    return r.getChild1();
+                                },
+                                ImmutableRecord.Builder::child1)
+                       .build();
+
+        Map<String, AttributeValue> result = tableSchema.itemToMap(TEST_RECORD, false);
+
+        assertThat(result).containsOnlyKeys("id", "attribute2a", "attribute3a", "attribute3b");
+        assertThat(child1Reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void mapToItem_noFlattenedAttributes() {
+        Map<String, AttributeValue> itemMap = new HashMap<>();
+        itemMap.put("id", AttributeValue.builder().s("id123").build());
+        itemMap.put("attribute1", AttributeValue.builder().s("1").build());
+
+        ImmutableRecord record = immutableTableSchema.mapToItem(itemMap);
+
+        assertThat(record).isEqualTo(ImmutableRecord.builder().id("id123").attribute1("1").build());
+    }
+
     @Test
     public void attributeNames() {
         Collection<String> result = immutableTableSchema.attributeNames();
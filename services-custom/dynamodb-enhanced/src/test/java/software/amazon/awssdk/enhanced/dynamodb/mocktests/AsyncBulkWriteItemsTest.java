@@ -0,0 +1,345 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mocktests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mocktests.BatchGetTestUtils.Record;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncBulkWriteItemsTest {
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    @Mock
+    private ScheduledExecutorService mockScheduledExecutorService;
+
+    private final List<BatchWriteItemRequest> sentRequests = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<Record> table;
+    private DynamoDbAsyncTable<Record> otherTable;
+
+    @Before
+    public void setup() {
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                    .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                    .build();
+        StaticTableSchema<Record> tableSchema = StaticTableSchema.builder(Record.class)
+                                                                 .newItemSupplier(Record::new)
+                                                                 .addAttribute(Integer.class,
+                                                                               a -> a.name("id")
+                                                                                     .getter(Record::getId)
+                                                                                     .setter(Record::setId)
+                                                                                     .tags(primaryPartitionKey()))
+                                                                 .build();
+        table = enhancedClient.table("table", tableSchema);
+        otherTable = enhancedClient.table("other-table", tableSchema);
+    }
+
+    @Test
+    public void bulkWrite_splitsActionsIntoBatchesOf25() {
+        respondWith(request -> response(Collections.emptyMap()));
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(Collections.singletonList(
+            putBatch(table, 0, 60)))).join();
+
+        assertThat(sentRequests).extracting(AsyncBulkWriteItemsTest::actionCount).containsExactly(25, 25, 10);
+        assertThat(result.writtenItemCount()).isEqualTo(60);
+        assertThat(result.requestCount()).isEqualTo(3);
+        assertThat(result.retriedItemCount()).isZero();
+        assertThat(result.unprocessedPutItemsForTable(table)).isEmpty();
+    }
+
+    @Test
+    public void bulkWrite_mixesTablesWithinABatch() {
+        respondWith(request -> response(Collections.emptyMap()));
+
+        List<WriteBatch> batches = Arrays.asList(putBatch(table, 0, 10), putBatch(otherTable, 10, 10));
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(batches)).join();
+
+        assertThat(sentRequests).hasSize(1);
+        assertThat(sentRequests.get(0).requestItems().keySet()).containsExactlyInAnyOrder("table", "other-table");
+        assertThat(result.writtenItemCount()).isEqualTo(20);
+    }
+
+    @Test
+    public void bulkWrite_actionsForTheSameItem_laterActionReplacesEarlierOne() {
+        respondWith(request -> response(Collections.emptyMap()));
+
+        WriteBatch batch = WriteBatch.builder(Record.class)
+                                     .mappedTableResource(table)
+                                     .addPutItem(new Record().setId(1))
+                                     .addPutItem(new Record().setId(2))
+                                     .addDeleteItem(Key.builder().partitionValue(1).build())
+                                     .build();
+        List<WriteBatch> batches = Arrays.asList(batch, putBatch(otherTable, 1, 1));
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(batches)).join();
+
+        assertThat(sentRequests).hasSize(1);
+        List<WriteRequest> tableWrites = sentRequests.get(0).requestItems().get("table");
+        assertThat(tableWrites).hasSize(2);
+        assertThat(tableWrites.get(0).deleteRequest().key().get("id").n()).isEqualTo("1");
+        assertThat(tableWrites.get(1).putRequest().item().get("id").n()).isEqualTo("2");
+        assertThat(sentRequests.get(0).requestItems().get("other-table")).hasSize(1);
+        assertThat(result.writtenItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void bulkWrite_unprocessedItems_areResubmitted() {
+        respondWith(request -> {
+            if (sentRequests.size() == 1) {
+                List<WriteRequest> writes = request.requestItems().get("table");
+                return response(Collections.singletonMap("table", writes.subList(0, 3)));
+            }
+            return response(Collections.emptyMap());
+        });
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(Collections.singletonList(
+            putBatch(table, 0, 10))).backoffStrategy(BackoffStrategy.none())).join();
+
+        assertThat(sentRequests).extracting(AsyncBulkWriteItemsTest::actionCount).containsExactly(10, 3);
+        assertThat(result.writtenItemCount()).isEqualTo(10);
+        assertThat(result.retriedItemCount()).isEqualTo(3);
+        assertThat(result.requestCount()).isEqualTo(2);
+        assertThat(result.unprocessedPutItemsForTable(table)).isEmpty();
+    }
+
+    @Test
+    public void bulkWrite_sameItemWrittenTwice_firstWriteUnprocessed_secondWriteWaitsForItsRetry() {
+        respondWith(request -> new CompletableFuture<>());
+        List<Runnable> scheduledRetries = new CopyOnWriteArrayList<>();
+        when(mockScheduledExecutorService.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> {
+                scheduledRetries.add(invocation.getArgument(0));
+                return null;
+            });
+
+        WriteBatch deleteFirstItem = WriteBatch.builder(Record.class)
+                                               .mappedTableResource(table)
+                                               .addDeleteItem(Key.builder().partitionValue(0).build())
+                                               .build();
+        List<WriteBatch> batches = Arrays.asList(putBatch(table, 0, 25), deleteFirstItem);
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItems(r -> r.writeBatches(batches)
+                                                .backoffStrategy(BackoffStrategy.none())
+                                                .scheduledExecutorService(mockScheduledExecutorService));
+
+        assertThat(sentRequests).hasSize(1);
+        WriteRequest firstPut = sentRequests.get(0).requestItems().get("table").get(0);
+        assertThat(firstPut.putRequest().item().get("id").n()).isEqualTo("0");
+
+        responses.get(0).complete(responseOf(Collections.singletonMap("table", Collections.singletonList(firstPut))));
+        assertThat(sentRequests).hasSize(1);
+        assertThat(scheduledRetries).hasSize(1);
+
+        scheduledRetries.get(0).run();
+        assertThat(sentRequests).hasSize(2);
+        assertThat(sentRequests.get(1).requestItems().get("table")).containsExactly(firstPut);
+
+        responses.get(1).complete(responseOf(Collections.emptyMap()));
+        assertThat(sentRequests).hasSize(3);
+        List<WriteRequest> lastWrites = sentRequests.get(2).requestItems().get("table");
+        assertThat(lastWrites).hasSize(1);
+        assertThat(lastWrites.get(0).deleteRequest().key().get("id").n()).isEqualTo("0");
+
+        responses.get(2).complete(responseOf(Collections.emptyMap()));
+        assertThat(result.join().writtenItemCount()).isEqualTo(26);
+        assertThat(result.join().retriedItemCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void bulkWrite_unprocessedAfterMaxAttempts_areReported() {
+        respondWith(request -> response(Collections.singletonMap(
+            "table", request.requestItems().get("table").stream()
+                            .filter(w -> w.deleteRequest() != null)
+                            .collect(Collectors.toList()))));
+
+        WriteBatch batch = WriteBatch.builder(Record.class)
+                                     .mappedTableResource(table)
+                                     .addPutItem(new Record().setId(1))
+                                     .addDeleteItem(Key.builder().partitionValue(2).build())
+                                     .build();
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(Collections.singletonList(batch))
+                                                                     .maxAttempts(3)
+                                                                     .backoffStrategy(BackoffStrategy.none())).join();
+
+        assertThat(sentRequests).hasSize(3);
+        assertThat(result.writtenItemCount()).isEqualTo(1);
+        assertThat(result.retriedItemCount()).isEqualTo(2);
+        assertThat(result.unprocessedPutItemsForTable(table)).isEmpty();
+        assertThat(result.unprocessedDeleteItemsForTable(table)).containsExactly(Key.builder().partitionValue(2).build());
+    }
+
+    @Test
+    public void bulkWrite_limitsConcurrentRequests() {
+        respondWith(request -> new CompletableFuture<>());
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItems(r -> r.writeBatches(Collections.singletonList(putBatch(table, 0, 100)))
+                                                .maxConcurrentRequests(2));
+
+        assertThat(sentRequests).hasSize(2);
+
+        responses.get(0).complete(responseOf(Collections.emptyMap()));
+        assertThat(sentRequests).hasSize(3);
+
+        for (int i = 1; i < 4; i++) {
+            responses.get(i).complete(responseOf(Collections.emptyMap()));
+        }
+
+        assertThat(result.join().writtenItemCount()).isEqualTo(100);
+        assertThat(sentRequests).hasSize(4);
+    }
+
+    @Test
+    public void bulkWrite_requestFails_futureCompletesExceptionally() {
+        respondWith(request -> {
+            CompletableFuture<BatchWriteItemResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(DynamoDbException.builder().message("boom").build());
+            return failed;
+        });
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItems(r -> r.writeBatches(Collections.singletonList(putBatch(table, 0, 100)))
+                                                .maxConcurrentRequests(1));
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(DynamoDbException.class);
+        assertThat(sentRequests).hasSize(1);
+    }
+
+    @Test
+    public void bulkWrite_iterableWithExecutor_isOnlyIteratedOnTheExecutor() {
+        respondWith(request -> new CompletableFuture<>());
+
+        List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        Executor executor = tasks::add;
+        AtomicBoolean runningTask = new AtomicBoolean();
+        List<Boolean> iteratedInTask = new CopyOnWriteArrayList<>();
+        Iterable<WriteBatch> batches = () -> new Iterator<WriteBatch>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                iteratedInTask.add(runningTask.get());
+                return next < 3;
+            }
+
+            @Override
+            public WriteBatch next() {
+                iteratedInTask.add(runningTask.get());
+                return putBatch(table, 25 * next++, 25);
+            }
+        };
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItems(r -> r.writeBatches(batches, executor).maxConcurrentRequests(1));
+
+        while (!result.isDone()) {
+            runningTask.set(true);
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+            runningTask.set(false);
+            responses.forEach(response -> response.complete(responseOf(Collections.emptyMap())));
+        }
+
+        assertThat(result.join().writtenItemCount()).isEqualTo(75);
+        assertThat(sentRequests).hasSize(3);
+        assertThat(iteratedInTask).isNotEmpty().containsOnly(true);
+    }
+
+    @Test
+    public void bulkWrite_noBatches_completesWithoutRequests() {
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(Collections.emptyList())).join();
+
+        assertThat(result.writtenItemCount()).isZero();
+        assertThat(result.requestCount()).isZero();
+    }
+
+    private void respondWith(Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> responder) {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            sentRequests.add(request);
+            CompletableFuture<BatchWriteItemResponse> response = responder.apply(request);
+            responses.add(response);
+            return response;
+        });
+    }
+
+    private static CompletableFuture<BatchWriteItemResponse> response(Map<String, List<WriteRequest>> unprocessed) {
+        return CompletableFuture.completedFuture(responseOf(unprocessed));
+    }
+
+    private static BatchWriteItemResponse responseOf(Map<String, List<WriteRequest>> unprocessed) {
+        return BatchWriteItemResponse.builder().unprocessedItems(unprocessed).build();
+    }
+
+    private static WriteBatch putBatch(DynamoDbAsyncTable<Record> table, int firstId, int count) {
+        WriteBatch.Builder<Record> builder = WriteBatch.builder(Record.class).mappedTableResource(table);
+        IntStream.range(firstId, firstId + count).forEach(id -> builder.addPutItem(new Record().setId(id)));
+        return builder.build();
+    }
+
+    private static int actionCount(BatchWriteItemRequest request) {
+        return request.requestItems().values().stream().mapToInt(List::size).sum();
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mocktests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mocktests.BatchGetTestUtils.Record;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanPublisher;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Each segment of the fake table holds {@link #PAGES_PER_SEGMENT} pages of two items. The item ids encode the segment,
+ * page and position of an item, so that it can be checked which pages were read.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ParallelScanTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    @Mock
+    private DynamoDbClient mockDynamoDbClient;
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private final List<ScanRequest> sentRequests = new CopyOnWriteArrayList<>();
+
+    private DynamoDbTable<Record> table;
+    private DynamoDbAsyncTable<Record> asyncTable;
+
+    @Before
+    public void setup() {
+        StaticTableSchema<Record> tableSchema = StaticTableSchema.builder(Record.class)
+                                                                 .newItemSupplier(Record::new)
+                                                                 .addAttribute(Integer.class,
+                                                                               a -> a.name("id")
+                                                                                     .getter(Record::getId)
+                                                                                     .setter(Record::setId)
+                                                                                     .tags(primaryPartitionKey()))
+                                                                 .build();
+        table = DynamoDbEnhancedClient.builder()
+                                      .dynamoDbClient(mockDynamoDbClient)
+                                      .build()
+                                      .table("table", tableSchema);
+        asyncTable = DynamoDbEnhancedAsyncClient.builder()
+                                                .dynamoDbClient(mockDynamoDbAsyncClient)
+                                                .build()
+                                                .table("table", tableSchema);
+    }
+
+    @Test
+    public void parallelScan_returnsThePagesOfAllSegments_taggedWithTheirSegment() {
+        stubSyncScan(-1);
+
+        List<Page<Record>> pages = new ArrayList<>();
+        table.parallelScan(r -> r.totalSegments(4).maxConcurrentSegments(2)).forEach(pages::add);
+
+        assertThat(pages).hasSize(4 * PAGES_PER_SEGMENT);
+        pages.forEach(page -> assertThat(page.items()).allMatch(item -> item.getId() / 100 == page.segment()));
+        assertThat(itemIds(pages)).containsOnlyElementsOf(allItemIds(0, 1, 2, 3)).hasSize(4 * PAGES_PER_SEGMENT * 2);
+        assertThat(sentRequests).allMatch(request -> request.totalSegments() == 4);
+        assertThat(lastPageOfEachSegment(pages)).hasSize(4).allMatch(page -> page.lastEvaluatedKey() == null);
+    }
+
+    @Test
+    public void parallelScan_resumesFromTheProgressOfEachSegment() {
+        stubSyncScan(-1);
+
+        Map<String, AttributeValue> afterFirstPage = keyOf(itemId(1, 0, 1));
+        List<Page<Record>> pages = new ArrayList<>();
+        table.parallelScan(r -> r.totalSegments(3)
+                                 .completedSegments(Collections.singletonList(0))
+                                 .exclusiveStartKeys(Collections.singletonMap(1, afterFirstPage)))
+             .forEach(pages::add);
+
+        List<Integer> expectedIds = allItemIds(1, 2);
+        expectedIds.removeIf(id -> id / 10 == 10);
+        assertThat(itemIds(pages)).containsOnlyElementsOf(expectedIds).hasSize(expectedIds.size());
+        assertThat(sentRequests).extracting(ScanRequest::segment).doesNotContain(0);
+        assertThat(sentRequests).filteredOn(request -> request.segment() == 1)
+                                .first()
+                                .satisfies(request -> assertThat(request.exclusiveStartKey()).isEqualTo(afterFirstPage));
+    }
+
+    @Test
+    public void parallelScan_segmentFails_throwsTheError() {
+        stubSyncScan(2);
+
+        assertThatThrownBy(() -> table.parallelScan(r -> r.totalSegments(4)).forEach(page -> { }))
+            .isInstanceOf(DynamoDbException.class);
+    }
+
+    @Test
+    public void parallelScan_iteratorClosed_stopsScanning() throws InterruptedException {
+        stubSyncScan(-1);
+
+        Iterator<Page<Record>> pages = table.parallelScan(r -> r.totalSegments(1_000_000).maxConcurrentSegments(1))
+                                            .iterator();
+        assertThat(pages.next().segment()).isEqualTo(0);
+
+        ((SdkAutoCloseable) pages).close();
+        // A worker may complete the page it was reading when the iterator was closed.
+        Thread.sleep(1_000);
+        int requestsAfterClose = sentRequests.size();
+        Thread.sleep(1_000);
+
+        assertThat(sentRequests).hasSize(requestsAfterClose);
+        assertThat(requestsAfterClose).isLessThanOrEqualTo(PAGES_PER_SEGMENT + 1);
+        assertThat(pages.hasNext()).isFalse();
+    }
+
+    @Test
+    public void parallelScan_invalidSegments_throwsIllegalArgumentException() {
+        assertThatThrownBy(() -> table.parallelScan(r -> r.totalSegments(2)
+                                                          .completedSegments(Collections.singletonList(2))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.parallelScan(r -> r.totalSegments(2)
+                                                          .scanRequest(s -> s.exclusiveStartKey(keyOf(1)))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void asyncParallelScan_returnsThePagesOfAllSegments_taggedWithTheirSegment() {
+        stubAsyncScan();
+
+        List<Page<Record>> pages = new CopyOnWriteArrayList<>();
+        asyncTable.parallelScan(r -> r.totalSegments(5).maxConcurrentSegments(2)).subscribe(pages::add).join();
+
+        assertThat(pages).hasSize(5 * PAGES_PER_SEGMENT);
+        pages.forEach(page -> assertThat(page.items()).allMatch(item -> item.getId() / 100 == page.segment()));
+        assertThat(itemIds(pages)).containsOnlyElementsOf(allItemIds(0, 1, 2, 3, 4)).hasSize(5 * PAGES_PER_SEGMENT * 2);
+    }
+
+    @Test
+    public void asyncParallelScan_scansAtMostMaxConcurrentSegmentsAtATime() {
+        List<CompletableFuture<ScanResponse>> pendingResponses = new CopyOnWriteArrayList<>();
+        stubAsyncScan(request -> {
+            CompletableFuture<ScanResponse> response = new CompletableFuture<>();
+            pendingResponses.add(response);
+            return response;
+        });
+
+        CompletableFuture<Void> done = asyncTable.parallelScan(r -> r.totalSegments(5).maxConcurrentSegments(2))
+                                                 .subscribe(page -> { });
+
+        assertThat(pendingResponses).hasSize(2);
+
+        int completedResponses = 0;
+        while (!pendingResponses.isEmpty()) {
+            assertThat(pendingResponses.size()).isLessThanOrEqualTo(2);
+            pendingResponses.remove(0).complete(responseFor(sentRequests.get(completedResponses++)));
+        }
+
+        assertThat(completedResponses).isEqualTo(5 * PAGES_PER_SEGMENT);
+        assertThat(done).isCompleted();
+    }
+
+    @Test
+    public void asyncParallelScan_onlyReadsAheadOnePagePerSegment() {
+        stubAsyncScan();
+
+        List<Page<Record>> pages = new ArrayList<>();
+        asyncTable.parallelScan(r -> r.totalSegments(2)).subscribe(new Subscriber<Page<Record>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Page<Record> page) {
+                pages.add(page);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(pages).hasSize(1);
+        // The first page of each segment, and the page following the one that was delivered.
+        assertThat(sentRequests).hasSize(3);
+    }
+
+    @Test
+    public void asyncParallelScan_segmentFails_failsTheScan() {
+        stubAsyncScan(request -> {
+            if (request.segment() == 1) {
+                CompletableFuture<ScanResponse> failure = new CompletableFuture<>();
+                failure.completeExceptionally(DynamoDbException.builder().message("boom").build());
+                return failure;
+            }
+            return CompletableFuture.completedFuture(responseFor(request));
+        });
+
+        CompletableFuture<Void> done = asyncTable.parallelScan(r -> r.totalSegments(3)).subscribe(page -> { });
+
+        assertThatThrownBy(done::join).hasCauseInstanceOf(DynamoDbException.class);
+    }
+
+    private void stubSyncScan(int failingSegment) {
+        when(mockDynamoDbClient.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(invocation -> new ScanIterable(mockDynamoDbClient, invocation.getArgument(0)));
+        when(mockDynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            sentRequests.add(request);
+            if (request.segment() == failingSegment) {
+                throw DynamoDbException.builder().message("boom").build();
+            }
+            return responseFor(request);
+        });
+    }
+
+    private void stubAsyncScan() {
+        stubAsyncScan(request -> CompletableFuture.completedFuture(responseFor(request)));
+    }
+
+    private void stubAsyncScan(Function<ScanRequest, CompletableFuture<ScanResponse>> responder) {
+        when(mockDynamoDbAsyncClient.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(invocation -> new ScanPublisher(mockDynamoDbAsyncClient, invocation.getArgument(0)));
+        when(mockDynamoDbAsyncClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            sentRequests.add(request);
+            return responder.apply(request);
+        });
+    }
+
+    /**
+     * Returns the page of the requested segment that follows the exclusive start key of the request.
+     */
+    private static ScanResponse responseFor(ScanRequest request) {
+        int segment = request.segment();
+        int page = request.hasExclusiveStartKey()
+                   ? Integer.parseInt(request.exclusiveStartKey().get("id").n()) % 100 / 10 + 1
+                   : 0;
+
+        ScanResponse.Builder response = ScanResponse.builder()
+                                                    .items(keyOf(itemId(segment, page, 0)), keyOf(itemId(segment, page, 1)));
+        if (page < PAGES_PER_SEGMENT - 1) {
+            response.lastEvaluatedKey(keyOf(itemId(segment, page, 1)));
+        }
+        return response.build();
+    }
+
+    private static int itemId(int segment, int page, int position) {
+        return segment * 100 + page * 10 + position;
+    }
+
+    private static Map<String, AttributeValue> keyOf(int id) {
+        return Collections.singletonMap("id", AttributeValue.builder().n(Integer.toString(id)).build());
+    }
+
+    private static List<Integer> allItemIds(int... segments) {
+        List<Integer> ids = new ArrayList<>();
+        for (int segment : segments) {
+            IntStream.range(0, PAGES_PER_SEGMENT).forEach(page -> {
+                ids.add(itemId(segment, page, 0));
+                ids.add(itemId(segment, page, 1));
+            });
+        }
+        return ids;
+    }
+
+    private static List<Integer> itemIds(List<Page<Record>> pages) {
+        return pages.stream().flatMap(page -> page.items().stream()).map(Record::getId).collect(Collectors.toList());
+    }
+
+    private static List<Page<Record>> lastPageOfEachSegment(List<Page<Record>> pages) {
+        return pages.stream()
+                    .collect(Collectors.groupingBy(Page::segment))
+                    .values()
+                    .stream()
+                    .map(segmentPages -> segmentPages.get(segmentPages.size() - 1))
+                    .collect(Collectors.toList());
+    }
+}
@@ -18,7 +18,6 @@ package software.amazon.awssdk.services.s3.checksums;
 import static java.lang.Math.toIntExact;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -26,7 +25,6 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 @SdkInternalApi
 public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffer> {
@@ -78,14 +76,16 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
+            int length = byteBuffer.remaining();
 
             if (lengthRead < strippedLength) {
-                int toUpdate = (int) Math.min(strippedLength - lengthRead, buf.length);
+                int toUpdate = (int) Math.min(strippedLength - lengthRead, length);
 
-                sdkChecksum.update(buf, 0, toUpdate);
+                ByteBuffer content = byteBuffer.duplicate();
+                content.limit(content.position() + toUpdate);
+                sdkChecksum.update(content);
             }
-            lengthRead += buf.length;
+            lengthRead += length;
 
             if (lengthRead >= strippedLength) {
                 // Incoming buffer contains at least a bit of the checksum
@@ -103,12 +103,18 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
                 //                                |           <--- bufChecksumOffset
                 //                            |<->|           <--- streamChecksumOffset
                 int cksumBytesSoFar = toIntExact(lengthRead - strippedLength);
-                int bufChecksumOffset = (buf.length > cksumBytesSoFar) ? (buf.length - cksumBytesSoFar) : 0;
-                int streamChecksumOffset = (buf.length > cksumBytesSoFar) ? 0 : (cksumBytesSoFar - buf.length);
-                int cksumBytes = Math.min(cksumBytesSoFar, buf.length);
-                System.arraycopy(buf, bufChecksumOffset, streamChecksum, streamChecksumOffset, cksumBytes);
-                if (buf.length > cksumBytesSoFar) {
-                    wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - cksumBytesSoFar)));
+                int bufChecksumOffset = (length > cksumBytesSoFar) ? (length - cksumBytesSoFar) : 0;
+                int streamChecksumOffset = (length > cksumBytesSoFar) ? 0 : (cksumBytesSoFar - length);
+                int cksumBytes = Math.min(cksumBytesSoFar, length);
+
+                ByteBuffer checksum = byteBuffer.duplicate();
+                checksum.position(checksum.position() + bufChecksumOffset);
+                checksum.get(streamChecksum, streamChecksumOffset, cksumBytes);
+
+                if (length > cksumBytesSoFar) {
+                    ByteBuffer content = byteBuffer.duplicate();
+                    content.limit(content.position() + length - cksumBytesSoFar);
+                    wrapped.onNext(content.slice());
                 } else {
                     // Always be sure to satisfy the wrapped publisher's demand.
                     wrapped.onNext(ByteBuffer.allocate(0));
@@ -161,8 +167,9 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
-            wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - CHECKSUM_SIZE)));
+            ByteBuffer content = byteBuffer.duplicate();
+            content.limit(content.limit() - CHECKSUM_SIZE);
+            wrapped.onNext(content.slice());
         }
 
         @Override
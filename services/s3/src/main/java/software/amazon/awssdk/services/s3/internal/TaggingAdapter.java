@@ -42,16 +42,16 @@ public final class TaggingAdapter implements TypeAdapter<Tagging, String> {
         Tagging taggingClone = tagging.toBuilder().build();
 
         Tag firstTag = taggingClone.tagSet().get(0);
-        tagBuilder.append(SdkHttpUtils.urlEncode(firstTag.key()));
+        SdkHttpUtils.appendUrlEncoded(tagBuilder, firstTag.key());
         tagBuilder.append("=");
-        tagBuilder.append(SdkHttpUtils.urlEncode(firstTag.value()));
+        SdkHttpUtils.appendUrlEncoded(tagBuilder, firstTag.value());
 
         for (int i = 1; i < taggingClone.tagSet().size(); i++) {
             Tag t = taggingClone.tagSet().get(i);
             tagBuilder.append("&");
-            tagBuilder.append(SdkHttpUtils.urlEncode(t.key()));
+            SdkHttpUtils.appendUrlEncoded(tagBuilder, t.key());
             tagBuilder.append("=");
-            tagBuilder.append(SdkHttpUtils.urlEncode(t.value()));
+            SdkHttpUtils.appendUrlEncoded(tagBuilder, t.value());
         }
 
         return tagBuilder.toString();
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.multipart.S3MultipartUploader;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default implementation of {@link S3MultipartUploader}.
+ */
+@SdkInternalApi
+public final class DefaultS3MultipartUploader implements S3MultipartUploader {
+    private static final long MIN_PART_SIZE_IN_BYTES = 5L * 1024 * 1024;
+    private static final long DEFAULT_PART_SIZE_IN_BYTES = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_CONCURRENT_PARTS = 4;
+    private static final int DEFAULT_MAX_PART_ATTEMPTS = 3;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final int partSizeInBytes;
+    private final int maxConcurrentParts;
+    private final int maxPartAttempts;
+
+    private DefaultS3MultipartUploader(Builder builder) {
+        this.s3AsyncClient = Validate.paramNotNull(builder.s3AsyncClient, "s3AsyncClient");
+        long partSize = builder.partSizeInBytes == null ? DEFAULT_PART_SIZE_IN_BYTES : builder.partSizeInBytes;
+        Validate.isTrue(partSize >= MIN_PART_SIZE_IN_BYTES, "partSizeInBytes must be at least %s.", MIN_PART_SIZE_IN_BYTES);
+        Validate.isTrue(partSize <= Integer.MAX_VALUE, "partSizeInBytes must not exceed %s.", Integer.MAX_VALUE);
+        this.partSizeInBytes = (int) partSize;
+        this.maxConcurrentParts = Validate.isPositive(builder.maxConcurrentParts == null ? DEFAULT_MAX_CONCURRENT_PARTS
+                                                                                         : builder.maxConcurrentParts,
+                                                      "maxConcurrentParts");
+        this.maxPartAttempts = Validate.isPositive(builder.maxPartAttempts == null ? DEFAULT_MAX_PART_ATTEMPTS
+                                                                                   : builder.maxPartAttempts,
+                                                   "maxPartAttempts");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> upload(CreateMultipartUploadRequest createMultipartUploadRequest,
+                                                                     AsyncRequestBody requestBody) {
+        Validate.paramNotNull(createMultipartUploadRequest, "createMultipartUploadRequest");
+        Validate.paramNotNull(requestBody, "requestBody");
+
+        CompletableFuture<CompleteMultipartUploadResponse> result = new CompletableFuture<>();
+
+        s3AsyncClient.createMultipartUpload(createMultipartUploadRequest).whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+
+            MultipartUploadSubscriber subscriber =
+                new MultipartUploadSubscriber(s3AsyncClient, createMultipartUploadRequest, response.uploadId(),
+                                              partSizeInBytes, maxConcurrentParts, maxPartAttempts, result);
+
+            if (result.isCancelled()) {
+                // The upload was cancelled while it was being created. Abort it without reading the body, so that it does
+                // not linger and keep being billed.
+                subscriber.fail(new CancellationException("The multipart upload was cancelled."));
+                return;
+            }
+
+            result.whenComplete((r, t) -> {
+                if (result.isCancelled()) {
+                    subscriber.fail(new CancellationException("The multipart upload was cancelled."));
+                }
+            });
+
+            requestBody.subscribe(subscriber);
+        });
+
+        return result;
+    }
+
+    public static final class Builder implements S3MultipartUploader.Builder {
+        private S3AsyncClient s3AsyncClient;
+        private Long partSizeInBytes;
+        private Integer maxConcurrentParts;
+        private Integer maxPartAttempts;
+
+        private Builder() {
+        }
+
+        @Override
+        public Builder s3AsyncClient(S3AsyncClient s3AsyncClient) {
+            this.s3AsyncClient = s3AsyncClient;
+            return this;
+        }
+
+        @Override
+        public Builder partSizeInBytes(long partSizeInBytes) {
+            this.partSizeInBytes = partSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentParts(int maxConcurrentParts) {
+            this.maxConcurrentParts = maxConcurrentParts;
+            return this;
+        }
+
+        @Override
+        public Builder maxPartAttempts(int maxPartAttempts) {
+            this.maxPartAttempts = maxPartAttempts;
+            return this;
+        }
+
+        @Override
+        public S3MultipartUploader build() {
+            return new DefaultS3MultipartUploader(this);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.checksums.Md5Checksum;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.ByteArrayAsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.ConcurrentWorkSubscriber;
+
+/**
+ * Splits the content of a request body into parts and uploads them as parts of an already initiated multipart upload.
+ * <p/>
+ * Demand is only signalled upstream while fewer than {@code maxConcurrentParts} parts are buffered or being uploaded,
+ * so the amount of content held in memory is bounded regardless of how fast the body can be read. Once the body has
+ * been fully consumed and every part has been uploaded the upload is completed. On any failure the subscription is
+ * cancelled and the upload is aborted.
+ */
+@SdkInternalApi
+final class MultipartUploadSubscriber extends ConcurrentWorkSubscriber<ByteBuffer, MultipartUploadSubscriber.Part> {
+    private static final Logger log = Logger.loggerFor(MultipartUploadSubscriber.class);
+
+    /**
+     * The maximum number of parts allowed by S3 in a single multipart upload.
+     */
+    private static final int MAX_PARTS = 10_000;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final CreateMultipartUploadRequest createMultipartUploadRequest;
+    private final String uploadId;
+    private final int partSizeInBytes;
+    private final int maxConcurrentParts;
+    private final int maxPartAttempts;
+    private final CompletableFuture<CompleteMultipartUploadResponse> future;
+
+    private final Queue<byte[]> pendingParts = new ArrayDeque<>();
+    private final Queue<CompletedPart> completedParts = new ConcurrentLinkedQueue<>();
+
+    private ByteBuffer unbufferedContent;
+    private ByteBuffer currentPart;
+    private int nextPartNumber = 1;
+    private boolean lastPartBuffered;
+
+    MultipartUploadSubscriber(S3AsyncClient s3AsyncClient,
+                              CreateMultipartUploadRequest createMultipartUploadRequest,
+                              String uploadId,
+                              int partSizeInBytes,
+                              int maxConcurrentParts,
+                              int maxPartAttempts,
+                              CompletableFuture<CompleteMultipartUploadResponse> future) {
+        super(maxConcurrentParts);
+        this.s3AsyncClient = s3AsyncClient;
+        this.createMultipartUploadRequest = createMultipartUploadRequest;
+        this.uploadId = uploadId;
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxConcurrentParts = maxConcurrentParts;
+        this.maxPartAttempts = maxPartAttempts;
+        this.future = future;
+    }
+
+    @Override
+    protected void bufferLocked(ByteBuffer byteBuffer) {
+        if (byteBuffer.hasRemaining()) {
+            unbufferedContent = byteBuffer.duplicate();
+        }
+    }
+
+    @Override
+    protected Part pollWorkLocked() {
+        bufferParts();
+        if (pendingParts.isEmpty()) {
+            return null;
+        }
+        if (nextPartNumber > MAX_PARTS) {
+            throw SdkClientException.create("The content requires more than " + MAX_PARTS + " parts of "
+                                            + partSizeInBytes + " bytes. Increase the part size.");
+        }
+        return new Part(nextPartNumber++, pendingParts.poll());
+    }
+
+    @Override
+    protected boolean hasBufferedWorkLocked() {
+        return !lastPartBuffered || !pendingParts.isEmpty();
+    }
+
+    @Override
+    protected boolean canBufferMoreLocked() {
+        return unbufferedContent == null && workInFlightLocked() + pendingParts.size() < maxConcurrentParts;
+    }
+
+    @Override
+    protected void discardBufferLocked() {
+        pendingParts.clear();
+        unbufferedContent = null;
+        currentPart = null;
+    }
+
+    @Override
+    protected void startWork(Part part) {
+        SdkChecksum checksum = new Md5Checksum();
+        checksum.update(part.data, 0, part.data.length);
+        uploadPart(part, BinaryUtils.toBase64(checksum.getChecksumBytes()), 1);
+    }
+
+    @Override
+    protected void onAllWorkDone() {
+        completeUpload();
+    }
+
+    @Override
+    protected void onFailure(Throwable cause) {
+        abort(cause);
+    }
+
+    /**
+     * Copy the content received from the body into parts, starting a new part only while fewer than
+     * {@code maxConcurrentParts} parts are buffered or being uploaded. The rest of a large buffer is kept until parts
+     * complete, rather than being split into an unbounded number of parts. Must be called with the lock held.
+     */
+    private void bufferParts() {
+        while (unbufferedContent != null
+               && (currentPart != null || workInFlightLocked() + pendingParts.size() < maxConcurrentParts)) {
+            if (currentPart == null) {
+                currentPart = ByteBuffer.allocate(partSizeInBytes);
+            }
+
+            int bytesToCopy = Math.min(currentPart.remaining(), unbufferedContent.remaining());
+            ByteBuffer chunk = unbufferedContent.duplicate();
+            chunk.limit(chunk.position() + bytesToCopy);
+            currentPart.put(chunk);
+            unbufferedContent.position(unbufferedContent.position() + bytesToCopy);
+
+            if (!currentPart.hasRemaining()) {
+                pendingParts.add(currentPart.array());
+                currentPart = null;
+            }
+            if (!unbufferedContent.hasRemaining()) {
+                unbufferedContent = null;
+            }
+        }
+
+        if (isUpstreamDoneLocked() && unbufferedContent == null && !lastPartBuffered) {
+            lastPartBuffered = true;
+            if (currentPart != null) {
+                pendingParts.add(Arrays.copyOf(currentPart.array(), currentPart.position()));
+                currentPart = null;
+            } else if (nextPartNumber == 1 && pendingParts.isEmpty()) {
+                // S3 requires at least one part, so an empty body is uploaded as a single empty part.
+                pendingParts.add(new byte[0]);
+            }
+        }
+    }
+
+    private void uploadPart(Part part, String contentMd5, int attempt) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                                                     .bucket(createMultipartUploadRequest.bucket())
+                                                     .key(createMultipartUploadRequest.key())
+                                                     .uploadId(uploadId)
+                                                     .partNumber(part.partNumber)
+                                                     .contentLength((long) part.data.length)
+                                                     .contentMD5(contentMd5)
+                                                     .sseCustomerAlgorithm(createMultipartUploadRequest.sseCustomerAlgorithm())
+                                                     .sseCustomerKey(createMultipartUploadRequest.sseCustomerKey())
+                                                     .sseCustomerKeyMD5(createMultipartUploadRequest.sseCustomerKeyMD5())
+                                                     .requestPayer(createMultipartUploadRequest.requestPayerAsString())
+                                                     .expectedBucketOwner(createMultipartUploadRequest.expectedBucketOwner())
+                                                     .build();
+
+        s3AsyncClient.uploadPart(request, ByteArrayAsyncRequestBody.wrap(part.data)).whenComplete((response, error) -> {
+            if (error == null) {
+                onPartUploaded(CompletedPart.builder().partNumber(part.partNumber).eTag(response.eTag()).build());
+            } else if (attempt < maxPartAttempts && !isTerminated()) {
+                log.debug(() -> "Retrying part " + part.partNumber + " of upload " + uploadId + " after attempt " + attempt
+                                + " failed.", error);
+                uploadPart(part, contentMd5, attempt + 1);
+            } else {
+                fail(error);
+            }
+        });
+    }
+
+    private void onPartUploaded(CompletedPart completedPart) {
+        completedParts.add(completedPart);
+        workDone();
+    }
+
+    private void completeUpload() {
+        List<CompletedPart> parts = new ArrayList<>(completedParts);
+        parts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+        s3AsyncClient.completeMultipartUpload(r -> r.bucket(createMultipartUploadRequest.bucket())
+                                                    .key(createMultipartUploadRequest.key())
+                                                    .uploadId(uploadId)
+                                                    .requestPayer(createMultipartUploadRequest.requestPayerAsString())
+                                                    .expectedBucketOwner(createMultipartUploadRequest.expectedBucketOwner())
+                                                    .multipartUpload(u -> u.parts(parts)))
+                     .whenComplete((response, error) -> {
+                         if (error != null) {
+                             abort(error);
+                         } else {
+                             future.complete(response);
+                         }
+                     });
+    }
+
+    private void abort(Throwable cause) {
+        log.debug(() -> "Aborting multipart upload " + uploadId + ".", cause);
+        s3AsyncClient.abortMultipartUpload(r -> r.bucket(createMultipartUploadRequest.bucket())
+                                                 .key(createMultipartUploadRequest.key())
+                                                 .uploadId(uploadId)
+                                                 .requestPayer(createMultipartUploadRequest.requestPayerAsString())
+                                                 .expectedBucketOwner(createMultipartUploadRequest.expectedBucketOwner()))
+                     .whenComplete((r, abortError) -> {
+                         if (abortError != null) {
+                             cause.addSuppressed(abortError);
+                         }
+                         future.completeExceptionally(cause);
+                     });
+    }
+
+    static final class Part {
+        private final int partNumber;
+        private final byte[] data;
+
+        private Part(int partNumber, byte[] data) {
+            this.partNumber = partNumber;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.DefaultS3MultipartUploader;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+
+/**
+ * Uploads an object to Amazon S3 using the multipart upload API.
+ * <p/>
+ * The content is split into parts of {@link Builder#partSizeInBytes(long)} bytes which are uploaded concurrently, with
+ * at most {@link Builder#maxConcurrentParts(int)} parts buffered or in flight at any time. Each part is sent with a
+ * {@code Content-MD5} header so that S3 rejects corrupted parts, and a failed part is resubmitted up to
+ * {@link Builder#maxPartAttempts(int)} times. When all parts have been uploaded the upload is completed; if any part
+ * cannot be uploaded the upload is aborted so that no orphaned parts are left behind.
+ * <p/>
+ * The uploader does not own the {@link S3AsyncClient} it is given, and it is the caller's responsibility to close the
+ * client when it is no longer needed.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     S3AsyncClient s3 = S3AsyncClient.create();
+ *     S3MultipartUploader uploader = S3MultipartUploader.builder()
+ *                                                       .s3AsyncClient(s3)
+ *                                                       .partSizeInBytes(16 * 1024 * 1024)
+ *                                                       .maxConcurrentParts(8)
+ *                                                       .build();
+ *
+ *     CompleteMultipartUploadResponse response =
+ *         uploader.upload(r -> r.bucket("my-bucket").key("my-key"), Paths.get("large-file.bin")).join();
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public interface S3MultipartUploader {
+    /**
+     * Create an {@link S3MultipartUploader.Builder} that can be used to configure and create a
+     * {@link S3MultipartUploader}.
+     */
+    static Builder builder() {
+        return DefaultS3MultipartUploader.builder();
+    }
+
+    /**
+     * Upload the contents of the provided {@link AsyncRequestBody} as a multipart upload.
+     * <p/>
+     * The multipart upload is initiated with the provided {@link CreateMultipartUploadRequest}. Parts are uploaded to
+     * the same bucket and key, carrying over the server-side encryption customer key and request payer settings of
+     * that request.
+     *
+     * @param createMultipartUploadRequest The request used to initiate the multipart upload.
+     * @param requestBody The content to upload.
+     * @return A future that is completed with the response of the {@code CompleteMultipartUpload} call.
+     */
+    CompletableFuture<CompleteMultipartUploadResponse> upload(CreateMultipartUploadRequest createMultipartUploadRequest,
+                                                              AsyncRequestBody requestBody);
+
+    /**
+     * Upload the contents of the provided {@link AsyncRequestBody} as a multipart upload.
+     * <p/>
+     * This is a convenience which creates an instance of the {@link CreateMultipartUploadRequest.Builder} avoiding
+     * the need to create one manually via {@link CreateMultipartUploadRequest#builder()}.
+     *
+     * @see #upload(CreateMultipartUploadRequest, AsyncRequestBody)
+     */
+    default CompletableFuture<CompleteMultipartUploadResponse> upload(
+        Consumer<CreateMultipartUploadRequest.Builder> createMultipartUploadRequest, AsyncRequestBody requestBody) {
+        return upload(CreateMultipartUploadRequest.builder().applyMutation(createMultipartUploadRequest).build(),
+                      requestBody);
+    }
+
+    /**
+     * Upload the contents of the file at the provided {@link Path} as a multipart upload.
+     *
+     * @see #upload(CreateMultipartUploadRequest, AsyncRequestBody)
+     */
+    default CompletableFuture<CompleteMultipartUploadResponse> upload(CreateMultipartUploadRequest createMultipartUploadRequest,
+                                                                      Path path) {
+        return upload(createMultipartUploadRequest, AsyncRequestBody.fromFile(path));
+    }
+
+    /**
+     * Upload the contents of the file at the provided {@link Path} as a multipart upload.
+     * <p/>
+     * This is a convenience which creates an instance of the {@link CreateMultipartUploadRequest.Builder} avoiding
+     * the need to create one manually via {@link CreateMultipartUploadRequest#builder()}.
+     *
+     * @see #upload(CreateMultipartUploadRequest, AsyncRequestBody)
+     */
+    default CompletableFuture<CompleteMultipartUploadResponse> upload(
+        Consumer<CreateMultipartUploadRequest.Builder> createMultipartUploadRequest, Path path) {
+        return upload(CreateMultipartUploadRequest.builder().applyMutation(createMultipartUploadRequest).build(), path);
+    }
+
+    /**
+     * A builder for creating {@link S3MultipartUploader}s.
+     */
+    interface Builder {
+        /**
+         * The {@link S3AsyncClient} used to make the multipart upload calls. This is required.
+         *
+         * @return this Builder
+         */
+        Builder s3AsyncClient(S3AsyncClient s3AsyncClient);
+
+        /**
+         * The size of each part, except the last one which may be smaller. S3 requires parts other than the last to be
+         * at least 5 MiB, so smaller sizes are rejected when the uploader is built. Defaults to 8 MiB.
+         *
+         * @return this Builder
+         */
+        Builder partSizeInBytes(long partSizeInBytes);
+
+        /**
+         * The maximum number of parts that are buffered in memory or being uploaded at any time. This bounds both the
+         * upload concurrency and the memory used by an upload to roughly {@code (maxConcurrentParts + 1) * partSize}.
+         * Defaults to 4.
+         *
+         * @return this Builder
+         */
+        Builder maxConcurrentParts(int maxConcurrentParts);
+
+        /**
+         * The maximum number of times each part is submitted before the upload is aborted. This is in addition to the
+         * retries performed by the client's own retry policy for each individual {@code UploadPart} call. Defaults to
+         * 3.
+         *
+         * @return this Builder
+         */
+        Builder maxPartAttempts(int maxPartAttempts);
+
+        S3MultipartUploader build();
+    }
+}
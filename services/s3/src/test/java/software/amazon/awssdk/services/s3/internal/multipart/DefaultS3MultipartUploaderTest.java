@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+
+public class DefaultS3MultipartUploaderTest {
+    private S3AsyncClient s3AsyncClient;
+    private CompletableFuture<CreateMultipartUploadResponse> createUpload;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        s3AsyncClient = mock(S3AsyncClient.class);
+        createUpload = new CompletableFuture<>();
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(createUpload);
+        when(s3AsyncClient.abortMultipartUpload(any(Consumer.class)))
+            .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void upload_cancelledBeforeUploadIsCreated_abortsUploadWithoutReadingBody() {
+        AsyncRequestBody requestBody = mock(AsyncRequestBody.class);
+        CompletableFuture<CompleteMultipartUploadResponse> result =
+            DefaultS3MultipartUploader.builder()
+                                      .s3AsyncClient(s3AsyncClient)
+                                      .build()
+                                      .upload(CreateMultipartUploadRequest.builder().bucket("bucket").key("key").build(),
+                                              requestBody);
+
+        result.cancel(true);
+        createUpload.complete(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+
+        ArgumentCaptor<Consumer> abortRequest = ArgumentCaptor.forClass(Consumer.class);
+        verify(s3AsyncClient).abortMultipartUpload(abortRequest.capture());
+        AbortMultipartUploadRequest.Builder abort = AbortMultipartUploadRequest.builder();
+        abortRequest.getValue().accept(abort);
+        assertThat(abort.build().bucket()).isEqualTo("bucket");
+        assertThat(abort.build().key()).isEqualTo("key");
+        assertThat(abort.build().uploadId()).isEqualTo("upload-id");
+        verify(requestBody, never()).subscribe(any(Subscriber.class));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+public class MultipartUploadSubscriberTest {
+    private static final int PART_SIZE = 16;
+    private static final int MAX_CONCURRENT_PARTS = 2;
+
+    private final List<CompletableFuture<UploadPartResponse>> partUploads = new ArrayList<>();
+    private S3AsyncClient s3AsyncClient;
+    private Subscription subscription;
+    private MultipartUploadSubscriber subscriber;
+
+    @Before
+    public void setup() {
+        s3AsyncClient = mock(S3AsyncClient.class);
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            CompletableFuture<UploadPartResponse> partUpload = new CompletableFuture<>();
+            partUploads.add(partUpload);
+            return partUpload;
+        });
+        subscription = mock(Subscription.class);
+        subscriber = new MultipartUploadSubscriber(s3AsyncClient,
+                                                   CreateMultipartUploadRequest.builder().bucket("bucket").key("key").build(),
+                                                   "upload-id",
+                                                   PART_SIZE,
+                                                   MAX_CONCURRENT_PARTS,
+                                                   1,
+                                                   new CompletableFuture<CompleteMultipartUploadResponse>());
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Test
+    public void onNext_partsWithinWindow_areUploadedConcurrently() {
+        subscriber.onNext(ByteBuffer.wrap(new byte[PART_SIZE]));
+        subscriber.onNext(ByteBuffer.wrap(new byte[PART_SIZE]));
+
+        // Both parts are in flight before either completes
+        assertThat(partUploads).hasSize(MAX_CONCURRENT_PARTS);
+        assertThat(partUploads.stream().noneMatch(CompletableFuture::isDone)).isTrue();
+        verify(subscription, times(2)).request(1);
+    }
+
+    @Test
+    public void onNext_bufferLargerThanWindow_onlySplitsPartsWithinWindow() {
+        verify(subscription, times(1)).request(1);
+
+        subscriber.onNext(ByteBuffer.wrap(new byte[PART_SIZE * 6]));
+        assertThat(partUploads).hasSize(MAX_CONCURRENT_PARTS);
+
+        // Each completed part makes room for the next part of the same buffer, without requesting more content
+        for (int part = 1; part <= 4; part++) {
+            partUploads.get(part - 1).complete(UploadPartResponse.builder().eTag("etag-" + part).build());
+            assertThat(partUploads).hasSize(MAX_CONCURRENT_PARTS + part);
+            verify(subscription, times(1)).request(1);
+        }
+
+        // Once the buffer is fully split, more content is requested as soon as the window has room
+        partUploads.get(4).complete(UploadPartResponse.builder().eTag("etag-5").build());
+        verify(subscription, times(2)).request(1);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class S3MultipartUploaderTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final String UPLOAD_ID = "upload-id";
+    private static final String OBJECT_PATH = "/" + BUCKET + "/" + KEY;
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(0);
+
+    private S3AsyncClient s3AsyncClient;
+
+    @Before
+    public void setup() {
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid",
+                                                                                                                      "skid")))
+                                     .region(Region.US_WEST_2)
+                                     .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
+                                     .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                                     .overrideConfiguration(o -> o.retryPolicy(RetryPolicy.none()))
+                                     .build();
+
+        stubFor(post(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploads", equalTo(""))
+                                                 .willReturn(aResponse().withStatus(200).withBody(
+                                                     "<InitiateMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + KEY
+                                                     + "</Key><UploadId>" + UPLOAD_ID + "</UploadId>"
+                                                     + "</InitiateMultipartUploadResult>")));
+        stubFor(post(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploadId", equalTo(UPLOAD_ID))
+                                                 .willReturn(aResponse().withStatus(200).withBody(
+                                                     "<CompleteMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + KEY
+                                                     + "</Key><ETag>\"etag-3\"</ETag></CompleteMultipartUploadResult>")));
+        stubFor(delete(urlPathEqualTo(OBJECT_PATH)).willReturn(aResponse().withStatus(204)));
+    }
+
+    @After
+    public void tearDown() {
+        s3AsyncClient.close();
+    }
+
+    @Test
+    public void upload_requestBody_uploadsPartsInOrderWithChecksums() {
+        stubUploadPart();
+        byte[] content = randomBytes(PART_SIZE * 2 + 100);
+
+        CompleteMultipartUploadResponse response =
+            uploader(2).upload(r -> r.bucket(BUCKET).key(KEY), AsyncRequestBody.fromBytes(content)).join();
+
+        assertThat(response.eTag()).isEqualTo("\"etag-3\"");
+        assertPartsUploaded(content);
+        verify(postRequestedFor(urlPathEqualTo(OBJECT_PATH))
+                   .withQueryParam("uploadId", equalTo(UPLOAD_ID))
+                   .withRequestBody(containing("<PartNumber>1</PartNumber>"))
+                   .withRequestBody(containing("<PartNumber>3</PartNumber>")));
+    }
+
+    @Test
+    public void upload_path_uploadsFileContent() throws IOException {
+        stubUploadPart();
+        byte[] content = randomBytes(PART_SIZE * 3);
+        Path file = Files.createTempFile(S3MultipartUploaderTest.class.getSimpleName(), ".bin");
+        try {
+            Files.write(file, content);
+
+            uploader(2).upload(r -> r.bucket(BUCKET).key(KEY), file).join();
+
+            assertPartsUploaded(content);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void upload_emptyBody_uploadsSingleEmptyPart() {
+        stubUploadPart();
+
+        uploader(2).upload(r -> r.bucket(BUCKET).key(KEY), AsyncRequestBody.empty()).join();
+
+        assertPartsUploaded(new byte[0]);
+    }
+
+    @Test
+    public void upload_partFailsOnce_partIsRetried() {
+        stubFor(put(urlPathEqualTo(OBJECT_PATH)).inScenario("retry")
+                                                .whenScenarioStateIs(STARTED)
+                                                .willReturn(aResponse().withStatus(500))
+                                                .willSetStateTo("failed"));
+        stubFor(put(urlPathEqualTo(OBJECT_PATH)).inScenario("retry")
+                                                .whenScenarioStateIs("failed")
+                                                .willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+        byte[] content = randomBytes(PART_SIZE / 2);
+
+        uploader(1).upload(r -> r.bucket(BUCKET).key(KEY), AsyncRequestBody.fromBytes(content)).join();
+
+        verify(2, putRequestedFor(urlPathEqualTo(OBJECT_PATH)));
+        verify(0, deleteRequestedFor(urlPathEqualTo(OBJECT_PATH)));
+    }
+
+    @Test
+    public void upload_partKeepsFailing_uploadIsAborted() {
+        stubFor(put(urlPathEqualTo(OBJECT_PATH)).willReturn(aResponse().withStatus(500)));
+        byte[] content = randomBytes(PART_SIZE / 2);
+
+        assertThatThrownBy(() -> uploader(1).upload(r -> r.bucket(BUCKET).key(KEY), AsyncRequestBody.fromBytes(content))
+                                            .join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(S3Exception.class);
+
+        verify(3, putRequestedFor(urlPathEqualTo(OBJECT_PATH)));
+        verify(deleteRequestedFor(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploadId", equalTo(UPLOAD_ID)));
+        verify(0, postRequestedFor(urlPathEqualTo(OBJECT_PATH)).withQueryParam("uploadId", equalTo(UPLOAD_ID)));
+    }
+
+    @Test
+    public void build_partSizeBelowMinimum_throws() {
+        assertThatThrownBy(() -> S3MultipartUploader.builder()
+                                                    .s3AsyncClient(s3AsyncClient)
+                                                    .partSizeInBytes(PART_SIZE - 1)
+                                                    .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("partSizeInBytes");
+    }
+
+    private S3MultipartUploader uploader(int maxConcurrentParts) {
+        return S3MultipartUploader.builder()
+                                  .s3AsyncClient(s3AsyncClient)
+                                  .partSizeInBytes(PART_SIZE)
+                                  .maxConcurrentParts(maxConcurrentParts)
+                                  .build();
+    }
+
+    private static void stubUploadPart() {
+        stubFor(put(urlPathEqualTo(OBJECT_PATH)).willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+    }
+
+    private static void assertPartsUploaded(byte[] content) {
+        List<LoggedRequest> parts = findAll(putRequestedFor(urlPathEqualTo(OBJECT_PATH)))
+            .stream()
+            .sorted((a, b) -> Integer.compare(partNumber(a), partNumber(b)))
+            .collect(Collectors.toList());
+
+        int expectedParts = Math.max(1, (content.length + PART_SIZE - 1) / PART_SIZE);
+        assertThat(parts).hasSize(expectedParts);
+
+        for (int i = 0; i < parts.size(); i++) {
+            LoggedRequest part = parts.get(i);
+            byte[] expected = Arrays.copyOfRange(content, i * PART_SIZE, Math.min(content.length, (i + 1) * PART_SIZE));
+            assertThat(partNumber(part)).isEqualTo(i + 1);
+            assertThat(part.queryParameter("uploadId").firstValue()).isEqualTo(UPLOAD_ID);
+            assertThat(part.getBody()).isEqualTo(expected);
+            assertThat(part.getHeader("Content-MD5")).isEqualTo(Md5Utils.md5AsBase64(expected));
+        }
+    }
+
+    private static int partNumber(LoggedRequest request) {
+        return Integer.parseInt(request.queryParameter("partNumber").firstValue());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
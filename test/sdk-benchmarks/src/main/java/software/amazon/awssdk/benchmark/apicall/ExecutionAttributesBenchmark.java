@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
+import software.amazon.awssdk.awscore.AwsExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Benchmark for populating the execution attributes of an API call and reading them from the stages and interceptors of
+ * the request pipeline. Run with the GC profiler to compare the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutionAttributesBenchmark {
+
+    private static final ExecutionAttribute<?>[] READ_ATTRIBUTES = {
+        SdkExecutionAttribute.SERVICE_NAME, SdkExecutionAttribute.OPERATION_NAME, SdkExecutionAttribute.CLIENT_TYPE,
+        AwsSignerExecutionAttribute.SIGNING_REGION, AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME,
+        AwsSignerExecutionAttribute.SIGNER_DOUBLE_URL_ENCODE, AwsExecutionAttribute.AWS_REGION, SdkExecutionAttribute.TIME_OFFSET
+    };
+
+    private final ExecutionAttributes populated = populate();
+
+    @Benchmark
+    public ExecutionAttributes populateAttributes() {
+        return populate();
+    }
+
+    @Benchmark
+    public void readAttributes(Blackhole blackhole) {
+        for (ExecutionAttribute<?> attribute : READ_ATTRIBUTES) {
+            blackhole.consume(populated.getAttribute(attribute));
+        }
+    }
+
+    private static ExecutionAttributes populate() {
+        return new ExecutionAttributes()
+            .putAttribute(SdkExecutionAttribute.SERVICE_NAME, "DynamoDB")
+            .putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetItem")
+            .putAttribute(SdkExecutionAttribute.CLIENT_TYPE, null)
+            .putAttribute(SdkExecutionAttribute.TIME_OFFSET, 0)
+            .putAttribute(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN, false)
+            .putAttribute(AwsSignerExecutionAttribute.SIGNING_REGION, Region.US_WEST_2)
+            .putAttribute(AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME, "dynamodb")
+            .putAttribute(AwsSignerExecutionAttribute.SIGNER_DOUBLE_URL_ENCODE, true)
+            .putAttribute(AwsExecutionAttribute.AWS_REGION, Region.US_WEST_2);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ExecutionAttributesBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
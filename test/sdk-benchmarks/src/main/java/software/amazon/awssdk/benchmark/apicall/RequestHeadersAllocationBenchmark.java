@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_JSON_BODY;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_ALL_TYPES_REQUEST;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_BODY;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+
+/**
+ * Benchmark for the allocation of the headers and query parameters of a request, which every stage and interceptor of the
+ * request pipeline rebuilds with {@code toBuilder()}. Run with the GC profiler and compare {@code gc.alloc.rate.norm}, the
+ * number of bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestHeadersAllocationBenchmark {
+
+    private static final String[] PIPELINE_HEADERS = {"User-Agent", "amz-sdk-invocation-id", "amz-sdk-request",
+                                                      "Content-Length", "X-Amz-Date", "X-Amz-Content-Sha256",
+                                                      "x-amz-security-token", "Authorization"};
+
+    private SdkHttpFullRequest marshalledRequest;
+    private ProtocolRestJsonClient client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        marshalledRequest = SdkHttpFullRequest.builder()
+                                              .method(SdkHttpMethod.POST)
+                                              .protocol("https")
+                                              .host("dynamodb.us-west-2.amazonaws.com")
+                                              .encodedPath("/")
+                                              .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                              .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                              .putRawQueryParameter("foo", "bar")
+                                              .build();
+        client = ProtocolRestJsonClient.builder()
+                                       .httpClient(new MockHttpClient(JSON_BODY, ERROR_JSON_BODY))
+                                       .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    /**
+     * Add the headers of the request pipeline one stage at a time, like the user agent, retry, signing and interceptor
+     * stages do.
+     */
+    @Benchmark
+    public SdkHttpFullRequest addHeadersStageByStage() {
+        SdkHttpFullRequest request = marshalledRequest;
+        for (String header : PIPELINE_HEADERS) {
+            request = request.toBuilder().putHeader(header, "value").build();
+        }
+        return request;
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest rebuildWithoutModification() {
+        return marshalledRequest.toBuilder().build();
+    }
+
+    @Benchmark
+    public void apiCall(Blackhole blackhole) {
+        blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(RequestHeadersAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.benchmark.utils.S3MultipartUploadServlet;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.S3MultipartUploader;
+
+/**
+ * Benchmark for the throughput of {@link S3MultipartUploader} uploading a file to a local mock server through the Netty
+ * client, with varying numbers of concurrent parts. Run with the GC profiler to compare the bytes allocated per upload.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class S3MultipartUploadBenchmark {
+
+    private static final int PART_SIZE_IN_BYTES = 8 * 1024 * 1024;
+
+    @Param({"67108864"})
+    private int contentLength;
+
+    @Param({"1", "4", "8"})
+    private int maxConcurrentParts;
+
+    private MockServer mockServer;
+    private S3AsyncClient client;
+    private S3MultipartUploader uploader;
+    private Path content;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer(new S3MultipartUploadServlet());
+        mockServer.start();
+
+        client = S3AsyncClient.builder()
+                              .endpointOverride(mockServer.getHttpUri())
+                              .region(Region.US_WEST_2)
+                              .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid",
+                                                                                                               "skid")))
+                              .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                              .httpClientBuilder(NettyNioAsyncHttpClient.builder())
+                              .build();
+
+        uploader = S3MultipartUploader.builder()
+                                      .s3AsyncClient(client)
+                                      .partSizeInBytes(PART_SIZE_IN_BYTES)
+                                      .maxConcurrentParts(maxConcurrentParts)
+                                      .build();
+
+        content = createContent(contentLength);
+
+        // Making sure the upload actually succeeds
+        upload();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+        mockServer.stop();
+        Files.deleteIfExists(content);
+    }
+
+    @Benchmark
+    public void upload(Blackhole blackhole) {
+        blackhole.consume(upload());
+    }
+
+    private Object upload() {
+        return uploader.upload(r -> r.bucket("benchmark-bucket").key("benchmark-key"), content).join();
+    }
+
+    private static Path createContent(int contentLength) throws IOException {
+        Path path = Files.createTempFile(S3MultipartUploadBenchmark.class.getSimpleName(), ".bin");
+        byte[] chunk = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(path)) {
+            for (int written = 0; written < contentLength; written += chunk.length) {
+                out.write(chunk, 0, Math.min(chunk.length, contentLength - written));
+            }
+        }
+        return path;
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(S3MultipartUploadBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
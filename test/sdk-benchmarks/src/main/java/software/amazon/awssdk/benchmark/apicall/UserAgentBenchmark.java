@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.util.ClientUserAgent;
+
+/**
+ * Benchmark for resolving the User-Agent header of a request, with and without the API names that paginators and high
+ * level libraries add to their requests. Run with the GC profiler to compare the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserAgentBenchmark {
+
+    private static final List<ApiName> PAGINATOR_API_NAMES =
+        Collections.singletonList(ApiName.builder().name("PAGINATED").version("2.0").build());
+
+    private final ClientUserAgent clientUserAgent =
+        ClientUserAgent.create(SdkClientConfiguration.builder()
+                                                     .option(SdkAdvancedClientOption.USER_AGENT_SUFFIX, "my-application")
+                                                     .option(SdkClientOption.CLIENT_TYPE, ClientType.SYNC)
+                                                     .build());
+
+    @Benchmark
+    public String userAgent() {
+        return clientUserAgent.userAgent(Collections.emptyList());
+    }
+
+    @Benchmark
+    public String userAgentWithApiNames() {
+        return clientUserAgent.userAgent(PAGINATOR_API_NAMES);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(UserAgentBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
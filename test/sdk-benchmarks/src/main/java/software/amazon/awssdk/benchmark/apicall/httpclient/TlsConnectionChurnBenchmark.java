@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.apicall.httpclient;
+
+import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
+
+import io.netty.handler.ssl.SslProvider;
+import java.net.URI;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Benchmark for the cost of connection churn against a local TLS mock server. Every request asks the server to close its
+ * connection, so each call opens a new connection and negotiates TLS.
+ * <p>
+ * Calls alternate between two host names of the mock server. With a TLS session cache of a single session, each host evicts
+ * the session of the other and every handshake is a full one. With the default cache size, new connections resume the
+ * cached TLS session of their host.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TlsConnectionChurnBenchmark {
+
+    @Param({"apache", "netty"})
+    private String httpClient;
+
+    @Param({"1", "1024"})
+    private int tlsSessionCacheSize;
+
+    private MockServer mockServer;
+    private SdkHttpClient syncHttpClient;
+    private SdkAsyncHttpClient asyncHttpClient;
+    private ProtocolRestJsonClient[] syncClients;
+    private ProtocolRestJsonAsyncClient[] asyncClients;
+    private int nextClient;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+
+        URI localhost = mockServer.getHttpsUri();
+        URI loopback = URI.create("https://127.0.0.1:" + localhost.getPort());
+        AttributeMap trustAll = trustAllTlsAttributeMapBuilder().build();
+
+        if ("apache".equals(httpClient)) {
+            syncHttpClient = ApacheHttpClient.builder()
+                                             .tlsSessionCacheSize(tlsSessionCacheSize)
+                                             .buildWithDefaults(trustAll);
+            syncClients = new ProtocolRestJsonClient[] {syncClient(localhost), syncClient(loopback)};
+        } else {
+            // The OpenSSL engine of this Netty version does not resume client sessions
+            asyncHttpClient = NettyNioAsyncHttpClient.builder()
+                                                     .sslProvider(SslProvider.JDK)
+                                                     .tlsSessionCacheSize(tlsSessionCacheSize)
+                                                     .buildWithDefaults(trustAll);
+            asyncClients = new ProtocolRestJsonAsyncClient[] {asyncClient(localhost), asyncClient(loopback)};
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (syncClients != null) {
+            for (ProtocolRestJsonClient client : syncClients) {
+                client.close();
+            }
+            syncHttpClient.close();
+        }
+        if (asyncClients != null) {
+            for (ProtocolRestJsonAsyncClient client : asyncClients) {
+                client.close();
+            }
+            asyncHttpClient.close();
+        }
+        mockServer.stop();
+    }
+
+    @Benchmark
+    public void newConnectionApiCall(Blackhole blackhole) {
+        nextClient = (nextClient + 1) % 2;
+        if (syncClients != null) {
+            blackhole.consume(syncClients[nextClient].allTypes());
+        } else {
+            blackhole.consume(asyncClients[nextClient].allTypes().join());
+        }
+    }
+
+    private ProtocolRestJsonClient syncClient(URI endpoint) {
+        return ProtocolRestJsonClient.builder()
+                                     .endpointOverride(endpoint)
+                                     .httpClient(syncHttpClient)
+                                     .overrideConfiguration(o -> o.putHeader("Connection", "close"))
+                                     .build();
+    }
+
+    private ProtocolRestJsonAsyncClient asyncClient(URI endpoint) {
+        return ProtocolRestJsonAsyncClient.builder()
+                                          .endpointOverride(endpoint)
+                                          .httpClient(asyncHttpClient)
+                                          .overrideConfiguration(o -> o.putHeader("Connection", "close"))
+                                          .build();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(TlsConnectionChurnBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.httpclient.async;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.benchmark.utils.BenchmarkUtils;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+
+/**
+ * Measures the memory allocated by the async HTTP clients to download a large response body over plain HTTP from a local
+ * server, including the AWS CRT client with and without pooled response buffers.
+ * <p>
+ * The body is consumed one buffer at a time, as {@code AsyncResponseTransformer.toFile()} does. Run with the
+ * {@link GCProfiler}, as {@link #main(String...)} does, to see the bytes allocated per download ({@code gc.alloc.rate.norm})
+ * and the number of collections ({@code gc.count}). The CRT creates a heap array for every chunk it reads, pooled or not;
+ * pooling copies the chunk out straight away, so the arrays do not outlive the read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class ResponseBodyAllocationBenchmark {
+
+    @Param({"netty", "crt", "crt-pooled"})
+    private String httpClient;
+
+    @Param({"64"})
+    private int objectSizeInMiB;
+
+    private Server server;
+    private SdkAsyncHttpClient sdkHttpClient;
+    private SdkHttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        byte[] object = new byte[objectSizeInMiB * 1024 * 1024];
+        new Random(0).nextBytes(object);
+
+        int port = BenchmarkUtils.getUnusedPort();
+        server = new Server();
+        ServerConnector connector = new ServerConnector(server);
+        connector.setPort(port);
+        server.addConnector(connector);
+        ServletContextHandler context = new ServletContextHandler(server, "/");
+        context.addServlet(new ServletHolder(new ObjectServlet(object)), "/*");
+        server.setHandler(context);
+        server.start();
+
+        switch (httpClient) {
+            case "netty":
+                sdkHttpClient = NettyNioAsyncHttpClient.create();
+                break;
+            case "crt":
+                sdkHttpClient = AwsCrtAsyncHttpClient.builder().build();
+                break;
+            case "crt-pooled":
+                sdkHttpClient = AwsCrtAsyncHttpClient.builder().pooledResponseBuffers(true).build();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown HTTP client: " + httpClient);
+        }
+
+        request = SdkHttpRequest.builder()
+                                .method(SdkHttpMethod.GET)
+                                .uri(URI.create("http://localhost:" + port + "/object"))
+                                .putHeader("Host", "localhost:" + port)
+                                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sdkHttpClient.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public long download() {
+        DrainingResponseHandler responseHandler = new DrainingResponseHandler();
+        sdkHttpClient.execute(AsyncExecuteRequest.builder()
+                                                 .request(request)
+                                                 .requestContentPublisher(new EmptyContentPublisher())
+                                                 .responseHandler(responseHandler)
+                                                 .build());
+        return responseHandler.bytesRead.join();
+    }
+
+    private static final class ObjectServlet extends HttpServlet {
+        private final byte[] object;
+
+        private ObjectServlet(byte[] object) {
+            this.object = object;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.setStatus(200);
+            response.setContentType("application/octet-stream");
+            response.setContentLength(object.length);
+            response.getOutputStream().write(object);
+        }
+    }
+
+    /**
+     * Reads each buffer of the body before requesting the next one, and completes with the number of bytes read.
+     */
+    private static final class DrainingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final CompletableFuture<Long> bytesRead = new CompletableFuture<>();
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                private Subscription subscription;
+                private long total;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(ByteBuffer buffer) {
+                    while (buffer.hasRemaining()) {
+                        total += buffer.get();
+                    }
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    bytesRead.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    bytesRead.complete(total);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            bytesRead.completeExceptionally(error);
+        }
+    }
+
+    private static final class EmptyContentPublisher implements SdkHttpContentPublisher {
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(0L);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onComplete();
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ResponseBodyAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
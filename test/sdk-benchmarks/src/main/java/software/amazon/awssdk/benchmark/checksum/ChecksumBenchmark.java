@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.checksums.Crc32CChecksum;
+import software.amazon.awssdk.core.checksums.Crc32Checksum;
+import software.amazon.awssdk.core.checksums.Md5Checksum;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.checksums.Sha1Checksum;
+import software.amazon.awssdk.core.checksums.Sha256Checksum;
+
+/**
+ * Compares the throughput of the {@link SdkChecksum} implementations over large payloads held in heap and direct buffers.
+ * <p>
+ * To avoid needing a multi-gigabyte heap, a payload of {@code payloadSizeInMiB} is simulated by checksumming the same
+ * {@value #CHUNK_SIZE_IN_MIB} MiB buffer repeatedly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChecksumBenchmark {
+    private static final int CHUNK_SIZE_IN_MIB = 64;
+
+    @Param({"64", "1024"})
+    private int payloadSizeInMiB;
+
+    @Param({"HEAP", "DIRECT"})
+    private BufferType bufferType;
+
+    @Param({"CRC32", "CRC32C", "MD5", "SHA1", "SHA256"})
+    private Algorithm algorithm;
+
+    private ByteBuffer chunk;
+
+    private int chunks;
+
+    @Setup
+    public void setup() {
+        byte[] data = new byte[CHUNK_SIZE_IN_MIB * 1024 * 1024];
+        new Random(0).nextBytes(data);
+
+        chunk = bufferType.allocate(data.length);
+        chunk.put(data);
+        chunk.flip();
+
+        chunks = payloadSizeInMiB / CHUNK_SIZE_IN_MIB;
+    }
+
+    @Benchmark
+    public byte[] checksum() {
+        SdkChecksum checksum = algorithm.create();
+        for (int i = 0; i < chunks; i++) {
+            checksum.update(chunk.duplicate());
+        }
+        return checksum.getChecksumBytes();
+    }
+
+    public enum BufferType {
+        HEAP {
+            @Override
+            ByteBuffer allocate(int capacity) {
+                return ByteBuffer.allocate(capacity);
+            }
+        },
+        DIRECT {
+            @Override
+            ByteBuffer allocate(int capacity) {
+                return ByteBuffer.allocateDirect(capacity);
+            }
+        };
+
+        abstract ByteBuffer allocate(int capacity);
+    }
+
+    public enum Algorithm {
+        CRC32(Crc32Checksum::new),
+        CRC32C(Crc32CChecksum::new),
+        MD5(Md5Checksum::new),
+        SHA1(Sha1Checksum::new),
+        SHA256(Sha256Checksum::new);
+
+        private final Supplier<SdkChecksum> constructor;
+
+        Algorithm(Supplier<SdkChecksum> constructor) {
+            this.constructor = constructor;
+        }
+
+        SdkChecksum create() {
+            return constructor.get();
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ChecksumBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
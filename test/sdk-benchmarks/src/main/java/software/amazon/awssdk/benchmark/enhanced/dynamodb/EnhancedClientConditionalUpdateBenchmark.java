@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.Collections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+/**
+ * Measures the client-side cost of a conditional update with the enhanced client, where only the values of the item and
+ * of the condition change from one call to the next. Run with {@code -prof gc} to also measure the allocation per call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedClientConditionalUpdateBenchmark {
+    private static final V2ItemFactory ITEM_FACTORY = new V2ItemFactory();
+
+    @Benchmark
+    public Object conditionalUpdate(TestState s) {
+        Expression condition = Expression.builder()
+                                         .expression("#a = :expected")
+                                         .expressionNames(Collections.singletonMap("#a", "stringAttr"))
+                                         .expressionValues(Collections.singletonMap(":expected", s.expectedValue))
+                                         .build();
+
+        return s.table.updateItem(UpdateItemEnhancedRequest.builder(s.testItem.itemClass)
+                                                           .item(s.item)
+                                                           .conditionExpression(condition)
+                                                           .build());
+    }
+
+    @State(Scope.Benchmark)
+    public static class TestState {
+        @Param({"SMALL", "HUGE", "HUGE_FLAT"})
+        private TestItem testItem;
+
+        private DynamoDbTable table;
+        private Object item;
+        private AttributeValue expectedValue;
+
+        @Setup
+        public void setup(Blackhole bh) {
+            UpdateItemResponse response = UpdateItemResponse.builder().attributes(testItem.tableSchema.itemToMap(
+                testItem.item, false)).build();
+
+            DynamoDbEnhancedClient ddbEnh = DynamoDbEnhancedClient.builder()
+                    .dynamoDbClient(new V2TestDynamoDbUpdateItemClient(bh, response))
+                    .build();
+
+            table = ddbEnh.table(testItem.name(), testItem.tableSchema);
+            item = testItem.item;
+            expectedValue = AttributeValue.builder().s("expected").build();
+        }
+    }
+
+    public enum TestItem {
+        SMALL(ItemFactory.SmallBean.class, ITEM_FACTORY.smallBean(), V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA),
+        HUGE(ItemFactory.HugeBean.class, ITEM_FACTORY.hugeBean(), V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA),
+        HUGE_FLAT(ItemFactory.HugeBeanFlat.class, ITEM_FACTORY.hugeBeanFlat(), V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA)
+        ;
+
+        private final Class itemClass;
+        private final Object item;
+        private final TableSchema tableSchema;
+
+        TestItem(Class<?> itemClass, Object item, TableSchema<?> tableSchema) {
+            this.itemClass = itemClass;
+            this.item = item;
+            this.tableSchema = tableSchema;
+        }
+    }
+}
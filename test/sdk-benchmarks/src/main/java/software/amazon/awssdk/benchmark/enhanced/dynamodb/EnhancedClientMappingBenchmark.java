@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Measures the cost of mapping items to and from attribute value maps with a {@link TableSchema}, without any of the
+ * request handling of the enhanced client.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedClientMappingBenchmark {
+    private static final V2ItemFactory ITEM_FACTORY = new V2ItemFactory();
+
+    @Benchmark
+    public Object mapToItem(TestState s) {
+        return s.tableSchema.mapToItem(s.attributeValues);
+    }
+
+    @Benchmark
+    public Object itemToMap(TestState s) {
+        return s.tableSchema.itemToMap(s.item, true);
+    }
+
+    @State(Scope.Benchmark)
+    public static class TestState {
+        @Param({"TINY", "SMALL", "HUGE", "HUGE_FLAT"})
+        private TestItem testItem;
+
+        private TableSchema<Object> tableSchema;
+        private Map<String, AttributeValue> attributeValues;
+        private Object item;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setup() {
+            tableSchema = (TableSchema<Object>) testItem.tableSchema;
+            attributeValues = testItem.attributeValues.get();
+            item = testItem.item.get();
+        }
+    }
+
+    public enum TestItem {
+        TINY(ITEM_FACTORY::tiny, ITEM_FACTORY::tinyBean, V2ItemFactory.TINY_BEAN_TABLE_SCHEMA),
+        SMALL(ITEM_FACTORY::small, ITEM_FACTORY::smallBean, V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA),
+        HUGE(ITEM_FACTORY::huge, ITEM_FACTORY::hugeBean, V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA),
+        HUGE_FLAT(ITEM_FACTORY::hugeFlat, ITEM_FACTORY::hugeBeanFlat, V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA)
+        ;
+
+        private final Supplier<Map<String, AttributeValue>> attributeValues;
+        private final Supplier<Object> item;
+        private final TableSchema<?> tableSchema;
+
+        TestItem(Supplier<Map<String, AttributeValue>> attributeValues, Supplier<Object> item,
+                 TableSchema<?> tableSchema) {
+            this.attributeValues = attributeValues;
+            this.item = item;
+            this.tableSchema = tableSchema;
+        }
+    }
+}
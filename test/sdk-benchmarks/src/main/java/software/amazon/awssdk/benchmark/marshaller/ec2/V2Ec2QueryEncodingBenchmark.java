@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.ec2;
+
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
+import software.amazon.awssdk.services.ec2.transform.RunInstancesRequestMarshaller;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * Benchmark for percent-encoding the query parameters of marshalled EC2 RunInstances requests, which the query protocol
+ * sends as a form body and the signer encodes again to build the canonical request.
+ */
+public class V2Ec2QueryEncodingBenchmark {
+
+    private static final RunInstancesRequestMarshaller RUN_INSTANCES_REQUEST_MARSHALLER =
+        new RunInstancesRequestMarshaller(AwsEc2ProtocolFactory.builder().build());
+
+    @Benchmark
+    public Object encodeFormBody(EncodingState s) {
+        return SdkHttpUtils.encodeAndFlattenFormData(s.getParameters());
+    }
+
+    @Benchmark
+    public Object encodeQueryString(EncodingState s) {
+        return SdkHttpUtils.encodeAndFlattenQueryParameters(s.getParameters());
+    }
+
+    @Benchmark
+    public Object encodeEachParameter(EncodingState s) {
+        return SdkHttpUtils.encodeQueryParameters(s.getParameters());
+    }
+
+    @State(Scope.Benchmark)
+    public static class EncodingState {
+        @Param({"TINY", "SMALL", "HUGE"})
+        private V2Ec2MarshallerBenchmark.TestItem testItem;
+
+        private Map<String, List<String>> parameters;
+
+        @Setup
+        public void setup() {
+            parameters = RUN_INSTANCES_REQUEST_MARSHALLER.marshall(testItem.getValue()).rawQueryParameters();
+        }
+
+        public Map<String, List<String>> getParameters() {
+            return parameters;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.transformer;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOperationResponse;
+
+/**
+ * Measures the time and memory taken by {@link AsyncResponseTransformer#toBytes()} to collect a response body, with and
+ * without a {@code Content-Length} header.
+ * <p>
+ * The body is delivered in chunks of {@code chunkSizeInKiB}, as an HTTP client would. Run with the {@link GCProfiler}, as
+ * {@link #main(String...)} does, to see the bytes allocated per operation ({@code gc.alloc.rate.norm}); ideally this is
+ * close to the size of the object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ByteArrayAsyncResponseTransformerBenchmark {
+
+    @Param({"5", "50"})
+    private int objectSizeInMiB;
+
+    @Param({"16"})
+    private int chunkSizeInKiB;
+
+    @Param({"true", "false"})
+    private boolean contentLengthKnown;
+
+    private ByteBuffer[] chunks;
+
+    private StreamingOutputOperationResponse response;
+
+    @Setup
+    public void setup() {
+        byte[] object = new byte[objectSizeInMiB * 1024 * 1024];
+        new Random(0).nextBytes(object);
+
+        int chunkSize = chunkSizeInKiB * 1024;
+        chunks = new ByteBuffer[(object.length + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < chunks.length; i++) {
+            int offset = i * chunkSize;
+            chunks[i] = ByteBuffer.wrap(object, offset, Math.min(chunkSize, object.length - offset)).slice();
+        }
+
+        SdkHttpResponse.Builder httpResponse = SdkHttpResponse.builder().statusCode(200);
+        if (contentLengthKnown) {
+            httpResponse.putHeader("Content-Length", Integer.toString(object.length));
+        }
+        response = (StreamingOutputOperationResponse) StreamingOutputOperationResponse.builder()
+                                                                                      .sdkHttpResponse(httpResponse.build())
+                                                                                      .build();
+    }
+
+    @Benchmark
+    public ResponseBytes<StreamingOutputOperationResponse> toBytes() {
+        AsyncResponseTransformer<StreamingOutputOperationResponse, ResponseBytes<StreamingOutputOperationResponse>>
+            transformer = AsyncResponseTransformer.toBytes();
+
+        CompletableFuture<ResponseBytes<StreamingOutputOperationResponse>> result = transformer.prepare();
+        transformer.onResponse(response);
+        transformer.onStream(new ChunkPublisher(chunks));
+        return result.join();
+    }
+
+    /**
+     * Publishes the chunks on the subscribing thread, ignoring demand, which {@code toBytes()} requests without bound.
+     */
+    private static final class ChunkPublisher implements SdkPublisher<ByteBuffer> {
+        private final ByteBuffer[] chunks;
+
+        private ChunkPublisher(ByteBuffer[] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            for (ByteBuffer chunk : chunks) {
+                subscriber.onNext(chunk.duplicate());
+            }
+            subscriber.onComplete();
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ByteArrayAsyncResponseTransformerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
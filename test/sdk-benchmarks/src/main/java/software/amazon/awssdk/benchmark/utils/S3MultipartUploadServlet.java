@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Answers the calls of an S3 multipart upload: initiates the upload, accepts and discards the uploaded parts and
+ * completes the upload.
+ */
+public class S3MultipartUploadServlet extends HttpServlet {
+
+    private static final String INITIATE_RESPONSE =
+        "<InitiateMultipartUploadResult><Bucket>benchmark-bucket</Bucket><Key>benchmark-key</Key>"
+        + "<UploadId>benchmark-upload-id</UploadId></InitiateMultipartUploadResult>";
+
+    private static final String COMPLETE_RESPONSE =
+        "<CompleteMultipartUploadResult><Bucket>benchmark-bucket</Bucket><Key>benchmark-key</Key>"
+        + "<ETag>\"benchmark-etag\"</ETag></CompleteMultipartUploadResult>";
+
+    @Override
+    public void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        drain(request);
+        String query = request.getQueryString();
+        writeXml(response, query != null && query.contains("uploads") ? INITIATE_RESPONSE : COMPLETE_RESPONSE);
+    }
+
+    @Override
+    public void doPut(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        drain(request);
+        response.setStatus(HttpStatus.OK_200);
+        response.setHeader("ETag", "\"benchmark-part-etag\"");
+        response.setContentLength(0);
+    }
+
+    private static void drain(HttpServletRequest request) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        InputStream content = request.getInputStream();
+        while (content.read(buffer) != -1) {
+            // Discard the content, only the transfer is of interest.
+        }
+    }
+
+    private static void writeXml(HttpServletResponse response, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType("application/xml");
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+}
@@ -38,7 +38,11 @@ public enum JavaSystemSetting implements SystemSetting {
 
     SSL_KEY_STORE("javax.net.ssl.keyStore"),
     SSL_KEY_STORE_PASSWORD("javax.net.ssl.keyStorePassword"),
-    SSL_KEY_STORE_TYPE("javax.net.ssl.keyStoreType")
+    SSL_KEY_STORE_TYPE("javax.net.ssl.keyStoreType"),
+
+    SSL_TRUST_STORE("javax.net.ssl.trustStore"),
+    SSL_TRUST_STORE_PASSWORD("javax.net.ssl.trustStorePassword"),
+    SSL_TRUST_STORE_TYPE("javax.net.ssl.trustStoreType")
     ;
 
     private final String systemProperty;
@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link Subscriber} that turns the elements it receives into units of work that run concurrently, such as the parts of
+ * a multipart upload or the calls of a bulk write.
+ * <p>
+ * At most {@code maxConcurrency} units of work run at a time. Elements are requested from upstream one at a time, and
+ * only while {@link #canBufferMoreLocked()} allows it, so the content held in memory is bounded regardless of how fast
+ * the publisher produces elements. Once the upstream has completed and all work has finished, {@link #onAllWorkDone()}
+ * is invoked. The first failure, whether signalled by the upstream or reported with {@link #fail(Throwable)}, terminates
+ * the subscriber and is passed to {@link #onFailure(Throwable)}.
+ * <p>
+ * The methods whose names end in {@code Locked} are invoked while holding a lock that guards all of the state of the
+ * subscriber, so subclasses can keep their buffers in plain collections. Work is started outside of the lock.
+ *
+ * @param <T> The type of the elements received from upstream
+ * @param <W> The type of a unit of work
+ */
+@SdkProtectedApi
+public abstract class ConcurrentWorkSubscriber<T, W> implements Subscriber<T> {
+    private final Object lock = new Object();
+    private final int maxConcurrency;
+
+    private Subscription subscription;
+    private int workInFlight;
+    private boolean outstandingDemand;
+    private boolean upstreamDone;
+    private boolean terminated;
+
+    protected ConcurrentWorkSubscriber(int maxConcurrency) {
+        this.maxConcurrency = Validate.isPositive(maxConcurrency, "maxConcurrency");
+    }
+
+    @Override
+    public final void onSubscribe(Subscription s) {
+        synchronized (lock) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            if (terminated) {
+                s.cancel();
+                return;
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public final void onNext(T element) {
+        synchronized (lock) {
+            outstandingDemand = false;
+            if (terminated) {
+                return;
+            }
+            bufferLocked(element);
+        }
+        drain();
+    }
+
+    @Override
+    public final void onError(Throwable t) {
+        terminate(t, false);
+    }
+
+    @Override
+    public final void onComplete() {
+        synchronized (lock) {
+            upstreamDone = true;
+        }
+        drain();
+    }
+
+    /**
+     * Terminate the subscriber with the provided failure, cancelling the upstream subscription. This does nothing if the
+     * subscriber has already terminated.
+     */
+    public final void fail(Throwable cause) {
+        terminate(cause, true);
+    }
+
+    /**
+     * Report that a unit of work passed to {@link #startWork(Object)} has finished, making room for the next one.
+     */
+    protected final void workDone() {
+        synchronized (lock) {
+            workInFlight--;
+        }
+        drain();
+    }
+
+    protected final boolean isTerminated() {
+        synchronized (lock) {
+            return terminated;
+        }
+    }
+
+    /**
+     * The number of units of work that have been started and have not finished yet. Must be called with the lock held,
+     * i.e. from one of the {@code Locked} methods.
+     */
+    protected final int workInFlightLocked() {
+        return workInFlight;
+    }
+
+    /**
+     * Whether all elements have been received from upstream. Must be called with the lock held, i.e. from one of the
+     * {@code Locked} methods.
+     */
+    protected final boolean isUpstreamDoneLocked() {
+        return upstreamDone;
+    }
+
+    /**
+     * Add an element received from upstream to the buffer.
+     */
+    protected abstract void bufferLocked(T element);
+
+    /**
+     * Take the next unit of work that is ready to start out of the buffer, or return null if there is none. Once the
+     * upstream has completed, the remaining content must be returned even if it does not fill a whole unit of work. A
+     * {@link RuntimeException} thrown by this method fails the subscriber.
+     */
+    protected abstract W pollWorkLocked();
+
+    /**
+     * Whether the buffer holds content that has not been returned by {@link #pollWorkLocked()} yet.
+     */
+    protected abstract boolean hasBufferedWorkLocked();
+
+    /**
+     * Whether another element may be requested from upstream.
+     */
+    protected abstract boolean canBufferMoreLocked();
+
+    /**
+     * Release the content of the buffer after the subscriber has failed.
+     */
+    protected void discardBufferLocked() {
+    }
+
+    /**
+     * Start a unit of work. {@link #workDone()} must be called when it finishes, or {@link #fail(Throwable)} if it fails.
+     */
+    protected abstract void startWork(W work);
+
+    /**
+     * Invoked once when the upstream has completed and all work has finished.
+     */
+    protected abstract void onAllWorkDone();
+
+    /**
+     * Invoked once when the subscriber terminates with a failure.
+     */
+    protected abstract void onFailure(Throwable cause);
+
+    /**
+     * Start as many units of work as the concurrency limit allows, then either signal more demand upstream or, if all
+     * elements have been received and all work has finished, complete.
+     */
+    private void drain() {
+        List<W> workToStart = new ArrayList<>();
+        boolean requestMore = false;
+        boolean complete = false;
+        RuntimeException failure = null;
+
+        synchronized (lock) {
+            if (terminated || subscription == null) {
+                return;
+            }
+
+            try {
+                W work;
+                while (workInFlight < maxConcurrency && (work = pollWorkLocked()) != null) {
+                    workInFlight++;
+                    workToStart.add(work);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+
+            if (failure == null) {
+                if (upstreamDone) {
+                    if (workInFlight == 0 && !hasBufferedWorkLocked()) {
+                        terminated = true;
+                        complete = true;
+                    }
+                } else if (!outstandingDemand && canBufferMoreLocked()) {
+                    outstandingDemand = true;
+                    requestMore = true;
+                }
+            }
+        }
+
+        if (failure != null) {
+            fail(failure);
+            return;
+        }
+
+        workToStart.forEach(this::startWork);
+
+        if (requestMore) {
+            subscription.request(1);
+        }
+
+        if (complete) {
+            onAllWorkDone();
+        }
+    }
+
+    private void terminate(Throwable cause, boolean cancelUpstream) {
+        Subscription toCancel;
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            discardBufferLocked();
+            toCancel = cancelUpstream ? subscription : null;
+        }
+
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+
+        onFailure(cause);
+    }
+}
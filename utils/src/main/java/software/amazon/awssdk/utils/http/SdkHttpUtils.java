@@ -15,8 +15,6 @@
 
 package software.amazon.awssdk.utils.http;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
-
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
@@ -43,14 +41,23 @@ import software.amazon.awssdk.utils.Validate;
 public final class SdkHttpUtils {
     private static final String DEFAULT_ENCODING = "UTF-8";
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     /**
-     * Characters that we need to fix up after URLEncoder.encode().
+     * The ASCII characters that are not percent-encoded by {@link #urlEncode(String)}: the unreserved characters of RFC 3986.
      */
-    private static final String[] ENCODED_CHARACTERS_WITH_SLASHES = new String[] {"+", "*", "%7E", "%2F"};
-    private static final String[] ENCODED_CHARACTERS_WITH_SLASHES_REPLACEMENTS = new String[] {"%20", "%2A", "~", "/"};
+    private static final boolean[] URL_SAFE_CHARACTERS = safeCharacters("-._~");
 
-    private static final String[] ENCODED_CHARACTERS_WITHOUT_SLASHES = new String[] {"+", "*", "%7E"};
-    private static final String[] ENCODED_CHARACTERS_WITHOUT_SLASHES_REPLACEMENTS = new String[] {"%20", "%2A", "~"};
+    /**
+     * The ASCII characters that are not percent-encoded by {@link #urlEncodeIgnoreSlashes(String)}.
+     */
+    private static final boolean[] URL_SAFE_CHARACTERS_WITH_SLASHES = safeCharacters("-._~/");
+
+    /**
+     * The ASCII characters that are not percent-encoded by {@link #formDataEncode(String)}, which are the ones that
+     * {@link URLEncoder} does not encode. Spaces are encoded as "+".
+     */
+    private static final boolean[] FORM_DATA_SAFE_CHARACTERS = safeCharacters("-._*");
 
     // List of headers that may appear only once in a request; i.e. is not a list of values.
     // Taken from https://github.com/apache/httpcomponents-client/blob/81c1bc4dc3ca5a3134c5c60e8beff08be2fd8792/httpclient5-cache/src/test/java/org/apache/hc/client5/http/impl/cache/HttpTestUtils.java#L69-L85 with modifications:
@@ -69,7 +76,7 @@ public final class SdkHttpUtils {
      * Encode a string according to RFC 3986: encoding for URI paths, query strings, etc.
      */
     public static String urlEncode(String value) {
-        return urlEncode(value, false);
+        return encode(value, URL_SAFE_CHARACTERS, false);
     }
 
     /**
@@ -77,14 +84,24 @@ public final class SdkHttpUtils {
      * without encoding the path separators.
      */
     public static String urlEncodeIgnoreSlashes(String value) {
-        return urlEncode(value, true);
+        return encode(value, URL_SAFE_CHARACTERS_WITH_SLASHES, false);
+    }
+
+    /**
+     * Encode a string according to RFC 3986, like {@link #urlEncode(String)}, and append it to the provided builder instead
+     * of creating a new string. Nothing is appended if the value is null.
+     */
+    public static void appendUrlEncoded(StringBuilder destination, String value) {
+        if (value != null) {
+            encode(destination, value, 0, URL_SAFE_CHARACTERS, false);
+        }
     }
 
     /**
      * Encode a string according to RFC 1630: encoding for form data.
      */
     public static String formDataEncode(String value) {
-        return value == null ? null : invokeSafely(() -> URLEncoder.encode(value, DEFAULT_ENCODING));
+        return encode(value, FORM_DATA_SAFE_CHARACTERS, true);
     }
 
     /**
@@ -140,31 +157,96 @@ public final class SdkHttpUtils {
         return result;
     }
 
+    private static boolean[] safeCharacters(String otherSafeCharacters) {
+        boolean[] safeCharacters = new boolean[128];
+        for (char c = 'a'; c <= 'z'; c++) {
+            safeCharacters[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            safeCharacters[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            safeCharacters[c] = true;
+        }
+        for (int i = 0; i < otherSafeCharacters.length(); i++) {
+            safeCharacters[otherSafeCharacters.charAt(i)] = true;
+        }
+        return safeCharacters;
+    }
+
     /**
-     * Encode a string for use in the path of a URL; uses URLEncoder.encode,
-     * (which encodes a string for use in the query portion of a URL), then
-     * applies some postfilters to fix things up per the RFC. Can optionally
-     * handle strings which are meant to encode a path (ie include '/'es
-     * which should NOT be escaped).
+     * Percent-encode the UTF-8 bytes of the characters of a value that are not safe, returning the value itself when none
+     * of its characters need to be encoded.
      *
      * @param value the value to encode
-     * @param ignoreSlashes  true if the value is intended to represent a path
+     * @param safeCharacters the ASCII characters that are not encoded
+     * @param spaceAsPlus true if spaces are encoded as "+" instead of "%20", as in form data
      * @return the encoded value
      */
-    private static String urlEncode(String value, boolean ignoreSlashes) {
+    private static String encode(String value, boolean[] safeCharacters, boolean spaceAsPlus) {
         if (value == null) {
             return null;
         }
 
-        String encoded = invokeSafely(() -> URLEncoder.encode(value, DEFAULT_ENCODING));
+        int length = value.length();
+        int firstUnsafe = 0;
+        while (firstUnsafe < length && isSafe(value.charAt(firstUnsafe), safeCharacters)) {
+            firstUnsafe++;
+        }
+        if (firstUnsafe == length) {
+            return value;
+        }
 
-        if (!ignoreSlashes) {
-            return StringUtils.replaceEach(encoded,
-                                           ENCODED_CHARACTERS_WITHOUT_SLASHES,
-                                           ENCODED_CHARACTERS_WITHOUT_SLASHES_REPLACEMENTS);
+        StringBuilder encoded = new StringBuilder(length + 16);
+        encoded.append(value, 0, firstUnsafe);
+        encode(encoded, value, firstUnsafe, safeCharacters, spaceAsPlus);
+        return encoded.toString();
+    }
+
+    /**
+     * Percent-encode a value from the given index in a single pass, appending it to the destination. Unpaired surrogates
+     * are encoded as "?", as {@link URLEncoder} does.
+     */
+    private static void encode(StringBuilder destination, String value, int start, boolean[] safeCharacters,
+                               boolean spaceAsPlus) {
+        int length = value.length();
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (safeCharacters[c]) {
+                    destination.append(c);
+                } else if (c == ' ' && spaceAsPlus) {
+                    destination.append('+');
+                } else {
+                    appendEncodedByte(destination, c);
+                }
+            } else if (c < 0x800) {
+                appendEncodedByte(destination, 0xC0 | (c >> 6));
+                appendEncodedByte(destination, 0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                appendEncodedByte(destination, 0xE0 | (c >> 12));
+                appendEncodedByte(destination, 0x80 | ((c >> 6) & 0x3F));
+                appendEncodedByte(destination, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendEncodedByte(destination, 0xF0 | (codePoint >> 18));
+                appendEncodedByte(destination, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendEncodedByte(destination, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendEncodedByte(destination, 0x80 | (codePoint & 0x3F));
+            } else {
+                appendEncodedByte(destination, '?');
+            }
         }
+    }
+
+    private static boolean isSafe(char c, boolean[] safeCharacters) {
+        return c < 0x80 && safeCharacters[c];
+    }
 
-        return StringUtils.replaceEach(encoded, ENCODED_CHARACTERS_WITH_SLASHES, ENCODED_CHARACTERS_WITH_SLASHES_REPLACEMENTS);
+    private static void appendEncodedByte(StringBuilder destination, int b) {
+        destination.append('%')
+                   .append(HEX_DIGITS[(b >> 4) & 0xF])
+                   .append(HEX_DIGITS[b & 0xF]);
     }
 
     /**
@@ -172,7 +254,7 @@ public final class SdkHttpUtils {
      * can be used as the query string in a URL. The result is not prepended with "?".
      */
     public static Optional<String> encodeAndFlattenQueryParameters(Map<String, List<String>> rawQueryParameters) {
-        return flattenQueryParameters(encodeQueryParameters(rawQueryParameters));
+        return encodeAndFlatten(rawQueryParameters, URL_SAFE_CHARACTERS, false);
     }
 
     /**
@@ -180,7 +262,47 @@ public final class SdkHttpUtils {
      * can be used as the body of a form data request.
      */
     public static Optional<String> encodeAndFlattenFormData(Map<String, List<String>> rawFormData) {
-        return flattenQueryParameters(encodeFormData(rawFormData));
+        return encodeAndFlatten(rawFormData, FORM_DATA_SAFE_CHARACTERS, true);
+    }
+
+    /**
+     * Encode and flatten the provided parameters in a single pass, without creating the encoded keys and values as separate
+     * strings. The result is the same as encoding them first and then calling {@link #flattenQueryParameters(Map)}.
+     */
+    private static Optional<String> encodeAndFlatten(Map<String, List<String>> rawParameters, boolean[] safeCharacters,
+                                                     boolean spaceAsPlus) {
+        Validate.notNull(rawParameters, "Map must not be null.");
+
+        if (rawParameters.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StringBuilder result = new StringBuilder();
+
+        for (Entry<String, List<String>> parameter : rawParameters.entrySet()) {
+            String key = parameter.getKey();
+            List<String> values = parameter.getValue();
+            if (values == null) {
+                continue;
+            }
+
+            for (String value : values) {
+                if (result.length() > 0) {
+                    result.append('&');
+                }
+                if (key != null) {
+                    encode(result, key, 0, safeCharacters, spaceAsPlus);
+                } else {
+                    // Matches flattenQueryParameters, which appends a null key as "null"
+                    result.append("null");
+                }
+                if (value != null) {
+                    result.append('=');
+                    encode(result, value, 0, safeCharacters, spaceAsPlus);
+                }
+            }
+        }
+        return Optional.of(result.toString());
     }
 
     /**
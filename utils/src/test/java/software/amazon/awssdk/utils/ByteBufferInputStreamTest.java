@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class ByteBufferInputStreamTest {
+
+    @Test
+    public void readsRemainingBytes_withoutModifyingBuffer() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap("__Testing__".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        buffer.limit(9);
+
+        assertThat(IoUtils.toUtf8String(new ByteBufferInputStream(buffer))).isEqualTo("Testing");
+        assertThat(buffer.position()).isEqualTo(2);
+        assertThat(buffer.limit()).isEqualTo(9);
+    }
+
+    @Test
+    public void directBuffer_singleByteReads() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3);
+        buffer.put(new byte[] {1, (byte) 0xFF, 3}).flip();
+        InputStream stream = new ByteBufferInputStream(buffer);
+
+        assertThat(stream.available()).isEqualTo(3);
+        assertThat(stream.read()).isEqualTo(1);
+        assertThat(stream.read()).isEqualTo(0xFF);
+        assertThat(stream.read()).isEqualTo(3);
+        assertThat(stream.read()).isEqualTo(-1);
+        assertThat(stream.read(new byte[1], 0, 1)).isEqualTo(-1);
+    }
+
+    @Test
+    public void skipAndReset() throws IOException {
+        InputStream stream = new ByteBufferInputStream(ByteBuffer.wrap("Testing".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(stream.skip(4)).isEqualTo(4);
+        stream.mark(0);
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("ing");
+        assertThat(stream.skip(1)).isEqualTo(0);
+        stream.reset();
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("ing");
+    }
+}
@@ -20,11 +20,13 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.net.URLEncoder;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.junit.Test;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
@@ -65,6 +67,45 @@ public class SdkHttpUtilsTest {
         assertThat(SdkHttpUtils.formDataEncode(encodedCharactersInput)).isEqualTo(encodedCharactersOutput);
     }
 
+    @Test
+    public void nonAsciiValuesEncodeAsUtf8() {
+        String value = "a\u00e9\u20ac\ud83d\ude00 b";
+
+        assertThat(SdkHttpUtils.urlEncode(value)).isEqualTo("a%C3%A9%E2%82%AC%F0%9F%98%80%20b");
+        assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes("/" + value)).isEqualTo("/a%C3%A9%E2%82%AC%F0%9F%98%80%20b");
+        assertThat(SdkHttpUtils.formDataEncode(value)).isEqualTo("a%C3%A9%E2%82%AC%F0%9F%98%80+b");
+    }
+
+    @Test
+    public void valuesEncodeLikeUrlEncoder() throws Exception {
+        Random random = new Random(0);
+        char[] interestingCharacters = {' ', '*', '+', '~', '/', '%', '\u00ff', '\u0800', '\ud800', '\udc00', '\uffff'};
+
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder value = new StringBuilder();
+            for (int j = random.nextInt(20); j > 0; j--) {
+                value.append(random.nextBoolean() ? (char) random.nextInt(0x10000)
+                                                  : interestingCharacters[random.nextInt(interestingCharacters.length)]);
+            }
+            String formEncoded = URLEncoder.encode(value.toString(), "UTF-8");
+            String urlEncoded = formEncoded.replace("+", "%20").replace("*", "%2A").replace("%7E", "~");
+
+            assertThat(SdkHttpUtils.formDataEncode(value.toString())).isEqualTo(formEncoded);
+            assertThat(SdkHttpUtils.urlEncode(value.toString())).isEqualTo(urlEncoded);
+            assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes(value.toString())).isEqualTo(urlEncoded.replace("%2F", "/"));
+        }
+    }
+
+    @Test
+    public void appendUrlEncodedAppendsToBuilder() {
+        StringBuilder builder = new StringBuilder("key=");
+
+        SdkHttpUtils.appendUrlEncoded(builder, "a b/c");
+        SdkHttpUtils.appendUrlEncoded(builder, null);
+
+        assertThat(builder.toString()).isEqualTo("key=a%20b%2Fc");
+    }
+
     @Test
     public void encodeFlattenBehavesCorrectly() {
         HashMap<String, List<String>> values = new LinkedHashMap<>();
@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.utils.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+public class ConcurrentWorkSubscriberTest {
+
+    private Subscription subscription;
+
+    private TestSubscriber subscriber;
+
+    @Before
+    public void setup() {
+        subscription = mock(Subscription.class);
+        subscriber = new TestSubscriber(2);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Test
+    public void onSubscribe_requestsOneElement() {
+        verify(subscription, times(1)).request(1);
+    }
+
+    @Test
+    public void onNext_startsWorkAndRequestsMore() {
+        subscriber.onNext(1);
+
+        assertThat(subscriber.started).containsExactly(1);
+        verify(subscription, times(2)).request(1);
+    }
+
+    @Test
+    public void onNext_concurrencyLimitReached_stopsRequesting() {
+        subscriber.onNext(1);
+        subscriber.onNext(2);
+        subscriber.onNext(3);
+
+        assertThat(subscriber.started).containsExactly(1, 2);
+        verify(subscription, times(3)).request(1);
+
+        subscriber.workDone();
+
+        assertThat(subscriber.started).containsExactly(1, 2, 3);
+        verify(subscription, times(4)).request(1);
+    }
+
+    @Test
+    public void onComplete_waitsForWorkInFlight() {
+        subscriber.onNext(1);
+        subscriber.onComplete();
+
+        assertThat(subscriber.allWorkDone).isFalse();
+
+        subscriber.workDone();
+
+        assertThat(subscriber.allWorkDone).isTrue();
+        assertThat(subscriber.failure).isNull();
+    }
+
+    @Test
+    public void fail_cancelsUpstreamAndReportsFailureOnce() {
+        RuntimeException cause = new RuntimeException("boom");
+        subscriber.onNext(1);
+
+        subscriber.fail(cause);
+        subscriber.fail(new RuntimeException("again"));
+        subscriber.workDone();
+
+        verify(subscription, times(1)).cancel();
+        assertThat(subscriber.failure).isSameAs(cause);
+        assertThat(subscriber.failures).isEqualTo(1);
+        assertThat(subscriber.allWorkDone).isFalse();
+    }
+
+    @Test
+    public void onError_reportsFailureWithoutCancellingUpstream() {
+        RuntimeException cause = new RuntimeException("boom");
+
+        subscriber.onError(cause);
+
+        verify(subscription, never()).cancel();
+        assertThat(subscriber.failure).isSameAs(cause);
+    }
+
+    @Test
+    public void pollWorkThrows_failsSubscriber() {
+        subscriber.onNext(-1);
+
+        verify(subscription, times(1)).cancel();
+        assertThat(subscriber.failure).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.started).isEmpty();
+    }
+
+    private static final class TestSubscriber extends ConcurrentWorkSubscriber<Integer, Integer> {
+        private final Deque<Integer> buffer = new ArrayDeque<>();
+        private final List<Integer> started = new ArrayList<>();
+        private boolean allWorkDone;
+        private Throwable failure;
+        private int failures;
+
+        private TestSubscriber(int maxConcurrency) {
+            super(maxConcurrency);
+        }
+
+        @Override
+        protected void bufferLocked(Integer element) {
+            buffer.add(element);
+        }
+
+        @Override
+        protected Integer pollWorkLocked() {
+            Integer next = buffer.poll();
+            if (next != null && next < 0) {
+                throw new IllegalArgumentException("Negative work: " + next);
+            }
+            return next;
+        }
+
+        @Override
+        protected boolean hasBufferedWorkLocked() {
+            return !buffer.isEmpty();
+        }
+
+        @Override
+        protected boolean canBufferMoreLocked() {
+            return buffer.isEmpty();
+        }
+
+        @Override
+        protected void startWork(Integer work) {
+            started.add(work);
+        }
+
+        @Override
+        protected void onAllWorkDone() {
+            allWorkDone = true;
+        }
+
+        @Override
+        protected void onFailure(Throwable cause) {
+            failure = cause;
+            failures++;
+        }
+    }
+}